@@ -0,0 +1,56 @@
+package com.shortener.url_shortener.global.util;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * short_code 난수 생성 처리량 비교
+ *
+ * - sharedSecureRandom: 모든 스레드가 SecureRandom 하나를 공유하고 문자마다 nextInt(62) (기존 방식)
+ * - threadLocalBuffer: 스레드별 버퍼에서 바이트를 꺼내 rejection sampling
+ *
+ * 실행: ./gradlew jmh -PjmhThreads=N, 1~64 스레드를 한 번에 비교하려면 main 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Base62RandomBenchmark {
+
+	private static final int LENGTH = 8;
+	private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+	private final Base62Encoder encoder = new Base62Encoder();
+	private final SecureRandom shared = new SecureRandom();
+
+	@Benchmark
+	public String sharedSecureRandom() {
+		return encoder.random(LENGTH, shared);
+	}
+
+	@Benchmark
+	public String threadLocalBuffer() {
+		return encoder.random(LENGTH);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		for (int threads : THREADS) {
+			new Runner(new OptionsBuilder()
+				.include(Base62RandomBenchmark.class.getSimpleName())
+				.threads(threads)
+				.forks(1)
+				.warmupIterations(3)
+				.measurementIterations(5)
+				.build()).run();
+		}
+	}
+}
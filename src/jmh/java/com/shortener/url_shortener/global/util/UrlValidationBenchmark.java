@@ -0,0 +1,51 @@
+package com.shortener.url_shortener.global.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * redirect URL 검증 비용 비교
+ *
+ * - uri: new URI(url) 후 scheme/host 확인 (기존 방식, 실패는 URISyntaxException)
+ * - singlePass: UrlValidator.validate (객체 생성 없이 한 번 훑음)
+ *
+ * 실행: ./gradlew jmh, 할당량까지 보려면 -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UrlValidationBenchmark {
+
+	@Param({
+		"https://www.example.com/products/12345?ref=newsletter&utm_source=mail",
+		"http://user:pw@[2001:db8::1]:8080/a/b/c",
+		"https://example.com/path with space"
+	})
+	private String url;
+
+	@Benchmark
+	public boolean uri() {
+		try {
+			URI uri = new URI(url);
+			String scheme = uri.getScheme();
+			return scheme != null && (scheme.equalsIgnoreCase("http") || scheme.equalsIgnoreCase("https"))
+				&& uri.getHost() != null;
+		} catch (URISyntaxException e) {
+			return false;
+		}
+	}
+
+	@Benchmark
+	public boolean singlePass() {
+		return UrlValidator.validate(url, 2048).isValid();
+	}
+}
@@ -0,0 +1,153 @@
+package com.shortener.url_shortener.domain.url.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.shortener.url_shortener.domain.url.ImportLinkFailure;
+import com.shortener.url_shortener.domain.url.ImportLinksRequest;
+import com.shortener.url_shortener.domain.url.ImportLinksResponse;
+import com.shortener.url_shortener.domain.url.ImportLinksSummary;
+import com.shortener.url_shortener.domain.url.LinkError;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchCreateResponse.Item;
+import com.shortener.url_shortener.domain.url.service.ShortUrlBatchService;
+import com.shortener.url_shortener.global.error.GrpcExceptionHandler;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ImportLinks 스트림 한 건의 상태
+ *
+ * Flow control:
+ * - 자동 request를 끄고 메시지를 하나 처리할 때마다 request(1)
+ * - 버퍼가 flushSize에 도달하면 저장이 끝날 때까지 다음 메시지를 요청하지 않음
+ *   (저장 속도보다 빠르게 보내는 클라이언트는 HTTP/2 flow control 윈도우에서 막힘)
+ *
+ * gRPC는 한 호출의 onNext/onCompleted를 순차적으로 호출하므로 별도 동기화 없음
+ */
+@Slf4j
+class ImportLinksStreamObserver implements StreamObserver<ImportLinksRequest> {
+
+	private final ShortUrlBatchService shortUrlBatchService;
+	private final GrpcExceptionHandler exceptionHandler;
+	private final ServerCallStreamObserver<ImportLinksResponse> responseObserver;
+	private final int flushSize;
+	private final long startedAt = System.currentTimeMillis();
+
+	private final List<String> buffer = new ArrayList<>();
+	private long bufferStartIndex;
+	private long received;
+	private long created;
+	private long deduped;
+	private long rejected;
+	private boolean failed;
+
+	ImportLinksStreamObserver(ShortUrlBatchService shortUrlBatchService, GrpcExceptionHandler exceptionHandler,
+		ServerCallStreamObserver<ImportLinksResponse> responseObserver, int flushSize) {
+		this.shortUrlBatchService = shortUrlBatchService;
+		this.exceptionHandler = exceptionHandler;
+		this.responseObserver = responseObserver;
+		this.flushSize = flushSize;
+	}
+
+	/**
+	 * 자동 request를 끄고 첫 메시지 요청
+	 * 서비스 메서드가 반환되기 전에 호출해야 함
+	 */
+	void start() {
+		responseObserver.disableAutoRequest();
+		responseObserver.request(1);
+	}
+
+	@Override
+	public void onNext(ImportLinksRequest request) {
+		if (failed) {
+			return;
+		}
+		try {
+			buffer.addAll(request.getRedirectUrlsList());
+			received += request.getRedirectUrlsCount();
+			if (buffer.size() >= flushSize) {
+				flush();
+			}
+			responseObserver.request(1);
+		} catch (Exception e) {
+			fail(e);
+		}
+	}
+
+	@Override
+	public void onError(Throwable t) {
+		log.warn("[gRPC] importLinks cancelled by client. received={}, created={}, error={}",
+			received, created, t.getMessage());
+		buffer.clear();
+	}
+
+	@Override
+	public void onCompleted() {
+		if (failed) {
+			return;
+		}
+		try {
+			flush();
+			long elapsedMillis = Math.max(1, System.currentTimeMillis() - startedAt);
+			responseObserver.onNext(ImportLinksResponse.newBuilder()
+				.setSummary(ImportLinksSummary.newBuilder()
+					.setReceived(received)
+					.setCreated(created)
+					.setDeduped(deduped)
+					.setRejected(rejected)
+					.setElapsedMillis(elapsedMillis)
+					.build())
+				.build());
+			responseObserver.onCompleted();
+			log.info("[gRPC] importLinks success: received={}, created={}, deduped={}, rejected={}, rowsPerSec={}",
+				received, created, deduped, rejected, created * 1000 / elapsedMillis);
+		} catch (Exception e) {
+			fail(e);
+		}
+	}
+
+	private void flush() {
+		if (buffer.isEmpty()) {
+			return;
+		}
+		List<Item> results = shortUrlBatchService.importLinks(buffer);
+		for (int i = 0; i < results.size(); i++) {
+			Item item = results.get(i);
+			if (!item.succeeded()) {
+				rejected++;
+				responseObserver.onNext(toFailure(bufferStartIndex + i, item));
+			} else if (Boolean.TRUE.equals(item.created())) {
+				created++;
+			} else {
+				deduped++;
+			}
+		}
+		bufferStartIndex += buffer.size();
+		buffer.clear();
+	}
+
+	private void fail(Exception e) {
+		failed = true;
+		buffer.clear();
+		log.error("[gRPC] importLinks error: received={}, created={}, error={}", received, created, e.getMessage());
+		Status status = exceptionHandler.convertToStatus(e);
+		responseObserver.onError(status.asRuntimeException());
+	}
+
+	private static ImportLinksResponse toFailure(long index, Item item) {
+		return ImportLinksResponse.newBuilder()
+			.setFailure(ImportLinkFailure.newBuilder()
+				.setIndex(index)
+				.setRedirectUrl(item.redirectUrl() == null ? "" : item.redirectUrl())
+				.setError(LinkError.newBuilder()
+					.setCode(item.errorCode().name())
+					.setMessage(item.message())
+					.build())
+				.build())
+			.build();
+	}
+}
@@ -6,16 +6,25 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.shortener.url_shortener.domain.url.dto.request.ShortUrlBatchCreateRequest;
+import com.shortener.url_shortener.domain.url.dto.request.ShortUrlBatchDeleteRequest;
 import com.shortener.url_shortener.domain.url.dto.request.ShortUrlCreateRequest;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchCreateResponse;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchDeleteResponse;
 import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.service.IdempotencyService;
+import com.shortener.url_shortener.domain.url.service.ShortUrlBatchService;
+import com.shortener.url_shortener.domain.url.service.ShortUrlCreator;
 import com.shortener.url_shortener.domain.url.service.ShortUrlService;
 
 import jakarta.validation.Valid;
@@ -28,12 +37,39 @@ import lombok.RequiredArgsConstructor;
 public class ShortUrlController {
 
 	private final ShortUrlService shortUrlService;
+	private final ShortUrlCreator shortUrlCreator;
+	private final ShortUrlBatchService shortUrlBatchService;
+	private final IdempotencyService idempotencyService;
 
+	/**
+	 * Idempotency-Key가 있으면 같은 키의 재시도에 처음 결과를 그대로 반환
+	 */
 	@PostMapping
 	@ResponseStatus(HttpStatus.CREATED)
-	public ShortUrlCreateResponse createLink(@Valid @RequestBody ShortUrlCreateRequest request) {
-		return shortUrlService.createLink(request.redirectUrl());
+	public ShortUrlCreateResponse createLink(@Valid @RequestBody ShortUrlCreateRequest request,
+		@RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+		if (idempotencyKey == null) {
+			return shortUrlCreator.createLink(request.redirectUrl());
+		}
+		return idempotencyService.createLink(idempotencyKey, request.redirectUrl(),
+			() -> shortUrlCreator.createLink(request.redirectUrl()));
+	}
+
+	/**
+	 * 일괄 생성 (항목별 성공/실패는 응답 본문에 요청 순서대로 포함)
+	 */
+	@PostMapping("/batch")
+	public ShortUrlBatchCreateResponse createLinks(@Valid @RequestBody ShortUrlBatchCreateRequest request) {
+		return shortUrlBatchService.createLinks(request.redirectUrls());
+	}
 
+	/**
+	 * 일괄 삭제 (항목별 found/실패는 응답 본문에 요청 순서대로 포함)
+	 * X-Api-Key 헤더 필요 (RestApiKeyInterceptor)
+	 */
+	@DeleteMapping
+	public ShortUrlBatchDeleteResponse deleteLinks(@Valid @RequestBody ShortUrlBatchDeleteRequest request) {
+		return shortUrlBatchService.deleteLinks(request.shortCodes());
 	}
 
 	@GetMapping("/{key}")
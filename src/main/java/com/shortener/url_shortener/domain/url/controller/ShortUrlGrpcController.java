@@ -2,16 +2,36 @@ package com.shortener.url_shortener.domain.url.controller;
 
 import net.devh.boot.grpc.server.service.GrpcService;
 
+import org.springframework.beans.factory.annotation.Value;
+
 import com.shortener.url_shortener.domain.url.CreateLinkRequest;
 import com.shortener.url_shortener.domain.url.CreateLinkResponse;
+import com.shortener.url_shortener.domain.url.CreateLinksRequest;
+import com.shortener.url_shortener.domain.url.CreateLinksResponse;
+import com.shortener.url_shortener.domain.url.CreateLinksResult;
 import com.shortener.url_shortener.domain.url.DeleteLinkRequest;
 import com.shortener.url_shortener.domain.url.DeleteLinkResponse;
+import com.shortener.url_shortener.domain.url.DeleteLinksRequest;
+import com.shortener.url_shortener.domain.url.DeleteLinksResponse;
+import com.shortener.url_shortener.domain.url.DeleteLinksResult;
+import com.shortener.url_shortener.domain.url.ImportLinksRequest;
+import com.shortener.url_shortener.domain.url.ImportLinksResponse;
+import com.shortener.url_shortener.domain.url.LinkError;
 import com.shortener.url_shortener.domain.url.UrlShortenerRpcGrpc;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchCreateResponse;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchDeleteResponse;
 import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.service.IdempotencyService;
+import com.shortener.url_shortener.domain.url.service.ShortUrlBatchService;
+import com.shortener.url_shortener.domain.url.service.ShortUrlCreator;
 import com.shortener.url_shortener.domain.url.service.ShortUrlService;
+import com.shortener.url_shortener.global.error.CustomException;
 import com.shortener.url_shortener.global.error.GrpcExceptionHandler;
+import com.shortener.url_shortener.global.interceptor.IdempotencyKeyInterceptor;
+import com.shortener.url_shortener.global.util.GrpcHandlerExecutors;
 
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +43,7 @@ import lombok.extern.slf4j.Slf4j;
  * - gRPC Status 방식으로 일관된 에러 처리
  * - API Key 인증은 Interceptor에서 처리
  * - Context.isCancelled() 체크는 Service 계층에서 처리
+ * - 단건 RPC는 GrpcHandlerExecutors의 RPC별 풀에서 처리하고 응답은 그 스레드에서 비동기로 완료
  */
 @Slf4j
 @GrpcService
@@ -30,21 +51,37 @@ import lombok.extern.slf4j.Slf4j;
 public class ShortUrlGrpcController extends UrlShortenerRpcGrpc.UrlShortenerRpcImplBase {
 
 	private final ShortUrlService shortUrlService;
+	private final ShortUrlCreator shortUrlCreator;
+	private final ShortUrlBatchService shortUrlBatchService;
 	private final GrpcExceptionHandler exceptionHandler;
+	private final IdempotencyService idempotencyService;
+	private final GrpcHandlerExecutors handlerExecutors;
+
+	@Value("${constant.batch.import-flush-size:5000}")
+	private int importFlushSize;
 
 	/**
 	 * 단축 URL 생성
+	 * Metadata에 idempotency-key가 있으면 같은 키의 재시도에 처음 결과를 그대로 반환
 	 *
 	 * @param request redirectUrl 포함
 	 * @param responseObserver 응답 전송 객체
 	 */
 	@Override
 	public void createLink(CreateLinkRequest request, StreamObserver<CreateLinkResponse> responseObserver) {
+		dispatch(GrpcHandlerExecutors.CREATE_LINK, responseObserver, () -> handleCreateLink(request, responseObserver));
+	}
+
+	private void handleCreateLink(CreateLinkRequest request, StreamObserver<CreateLinkResponse> responseObserver) {
 		try {
 			log.info("[gRPC] createLink: redirectUrl={}", request.getRedirectUrl());
 
 			// 비즈니스 로직 호출
-			ShortUrlCreateResponse serviceResponse = shortUrlService.createLink(request.getRedirectUrl());
+			String idempotencyKey = IdempotencyKeyInterceptor.IDEMPOTENCY_KEY.get();
+			ShortUrlCreateResponse serviceResponse = idempotencyKey == null
+				? shortUrlCreator.createLink(request.getRedirectUrl())
+				: idempotencyService.createLink(idempotencyKey, request.getRedirectUrl(),
+					() -> shortUrlCreator.createLink(request.getRedirectUrl()));
 
 			// gRPC 응답 생성
 			CreateLinkResponse grpcResponse = CreateLinkResponse.newBuilder()
@@ -65,6 +102,59 @@ public class ShortUrlGrpcController extends UrlShortenerRpcGrpc.UrlShortenerRpcI
 		}
 	}
 
+	/**
+	 * 단축 URL 일괄 생성
+	 * 항목별 실패는 RPC 에러가 아닌 결과의 error 필드로 전달
+	 *
+	 * @param request redirectUrls 포함
+	 * @param responseObserver 응답 전송 객체
+	 */
+	@Override
+	public void createLinks(CreateLinksRequest request, StreamObserver<CreateLinksResponse> responseObserver) {
+		dispatch(GrpcHandlerExecutors.CREATE_LINKS, responseObserver,
+			() -> handleCreateLinks(request, responseObserver));
+	}
+
+	private void handleCreateLinks(CreateLinksRequest request, StreamObserver<CreateLinksResponse> responseObserver) {
+		try {
+			log.info("[gRPC] createLinks: count={}", request.getRedirectUrlsCount());
+
+			ShortUrlBatchCreateResponse serviceResponse = shortUrlBatchService.createLinks(
+				request.getRedirectUrlsList());
+
+			CreateLinksResponse.Builder grpcResponse = CreateLinksResponse.newBuilder();
+			for (ShortUrlBatchCreateResponse.Item item : serviceResponse.results()) {
+				grpcResponse.addResults(toCreateLinksResult(item));
+			}
+
+			responseObserver.onNext(grpcResponse.build());
+			responseObserver.onCompleted();
+
+			log.info("[gRPC] createLinks success: count={}", serviceResponse.results().size());
+
+		} catch (Exception e) {
+			log.error("[gRPC] createLinks error: {}", e.getMessage());
+			Status status = exceptionHandler.convertToStatus(e);
+			responseObserver.onError(status.asRuntimeException());
+		}
+	}
+
+	/**
+	 * 대량 이관
+	 * 클라이언트 스트림을 import-flush-size 단위로 모아 저장하고, 저장한 만큼만 다음 메시지를 요청
+	 *
+	 * @param responseObserver 실패 항목과 마지막 summary 전송 객체
+	 * @return 요청 스트림 처리 객체
+	 */
+	@Override
+	public StreamObserver<ImportLinksRequest> importLinks(StreamObserver<ImportLinksResponse> responseObserver) {
+		log.info("[gRPC] importLinks started");
+		ImportLinksStreamObserver requestObserver = new ImportLinksStreamObserver(shortUrlBatchService,
+			exceptionHandler, (ServerCallStreamObserver<ImportLinksResponse>)responseObserver, importFlushSize);
+		requestObserver.start();
+		return requestObserver;
+	}
+
 	/**
 	 * 단축 URL 삭제
 	 *
@@ -73,6 +163,10 @@ public class ShortUrlGrpcController extends UrlShortenerRpcGrpc.UrlShortenerRpcI
 	 */
 	@Override
 	public void deleteLink(DeleteLinkRequest request, StreamObserver<DeleteLinkResponse> responseObserver) {
+		dispatch(GrpcHandlerExecutors.DELETE_LINK, responseObserver, () -> handleDeleteLink(request, responseObserver));
+	}
+
+	private void handleDeleteLink(DeleteLinkRequest request, StreamObserver<DeleteLinkResponse> responseObserver) {
 		try {
 			log.info("[gRPC] deleteLink: shortCode={}", request.getShortCode());
 
@@ -93,4 +187,81 @@ public class ShortUrlGrpcController extends UrlShortenerRpcGrpc.UrlShortenerRpcI
 			responseObserver.onError(status.asRuntimeException());
 		}
 	}
+
+	/**
+	 * 단축 URL 일괄 삭제
+	 * 항목별 실패는 RPC 에러가 아닌 결과의 error 필드로 전달
+	 *
+	 * @param request shortCodes 포함
+	 * @param responseObserver 응답 전송 객체
+	 */
+	@Override
+	public void deleteLinks(DeleteLinksRequest request, StreamObserver<DeleteLinksResponse> responseObserver) {
+		dispatch(GrpcHandlerExecutors.DELETE_LINKS, responseObserver,
+			() -> handleDeleteLinks(request, responseObserver));
+	}
+
+	private void handleDeleteLinks(DeleteLinksRequest request, StreamObserver<DeleteLinksResponse> responseObserver) {
+		try {
+			log.info("[gRPC] deleteLinks: count={}", request.getShortCodesCount());
+
+			ShortUrlBatchDeleteResponse serviceResponse = shortUrlBatchService.deleteLinks(
+				request.getShortCodesList());
+
+			DeleteLinksResponse.Builder grpcResponse = DeleteLinksResponse.newBuilder();
+			for (ShortUrlBatchDeleteResponse.Item item : serviceResponse.results()) {
+				grpcResponse.addResults(toDeleteLinksResult(item));
+			}
+
+			responseObserver.onNext(grpcResponse.build());
+			responseObserver.onCompleted();
+
+			log.info("[gRPC] deleteLinks success: count={}", serviceResponse.results().size());
+
+		} catch (Exception e) {
+			log.error("[gRPC] deleteLinks error: {}", e.getMessage());
+			Status status = exceptionHandler.convertToStatus(e);
+			responseObserver.onError(status.asRuntimeException());
+		}
+	}
+
+	/**
+	 * RPC 전용 풀에 처리를 넘김, 큐가 가득 차면 바로 RESOURCE_EXHAUSTED로 응답
+	 */
+	private void dispatch(String rpc, StreamObserver<?> responseObserver, Runnable handler) {
+		try {
+			handlerExecutors.execute(rpc, handler);
+		} catch (CustomException e) {
+			log.warn("[gRPC] {} rejected: {}", rpc, e.getDebugMessage());
+			responseObserver.onError(exceptionHandler.convertToStatus(e).asRuntimeException());
+		}
+	}
+
+	private CreateLinksResult toCreateLinksResult(ShortUrlBatchCreateResponse.Item item) {
+		CreateLinksResult.Builder result = CreateLinksResult.newBuilder()
+			.setRedirectUrl(item.redirectUrl() == null ? "" : item.redirectUrl());
+		if (item.succeeded()) {
+			return result.setShortCode(item.shortCode())
+				.setShortUrl(item.url())
+				.build();
+		}
+		return result.setError(LinkError.newBuilder()
+				.setCode(item.errorCode().name())
+				.setMessage(item.message())
+				.build())
+			.build();
+	}
+
+	private DeleteLinksResult toDeleteLinksResult(ShortUrlBatchDeleteResponse.Item item) {
+		DeleteLinksResult.Builder result = DeleteLinksResult.newBuilder()
+			.setShortCode(item.shortCode() == null ? "" : item.shortCode());
+		if (item.succeeded()) {
+			return result.setFound(item.found()).build();
+		}
+		return result.setError(LinkError.newBuilder()
+				.setCode(item.errorCode().name())
+				.setMessage(item.message())
+				.build())
+			.build();
+	}
 }
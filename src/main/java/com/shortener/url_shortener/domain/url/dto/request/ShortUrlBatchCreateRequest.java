@@ -0,0 +1,14 @@
+package com.shortener.url_shortener.domain.url.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+
+/**
+ * 개별 URL 검증은 항목별 에러로 돌려주기 위해 서비스 계층에서 수행
+ */
+public record ShortUrlBatchCreateRequest(
+	@NotEmpty
+	List<String> redirectUrls
+) {
+}
@@ -0,0 +1,50 @@
+package com.shortener.url_shortener.domain.url.dto.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.shortener.url_shortener.global.error.ErrorCode;
+
+/**
+ * 일괄 생성 결과 (요청 순서와 동일)
+ */
+public record ShortUrlBatchCreateResponse(
+	List<Item> results
+) {
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public record Item(
+		String redirectUrl,
+		String shortCode,
+		String url,
+		Boolean created,
+		ErrorCode errorCode,
+		String message
+	) {
+		public static Item success(String redirectUrl, ShortUrlCreateResponse response, Boolean created) {
+			return new Item(redirectUrl, response.shortCode(), response.url(), created, null, null);
+		}
+
+		public static Item failure(String redirectUrl, ErrorCode errorCode) {
+			return new Item(redirectUrl, null, null, null, errorCode, errorCode.getMessage());
+		}
+
+		/**
+		 * 같은 요청 안에서 앞선 항목과 중복된 URL의 결과
+		 */
+		public Item asDuplicate() {
+			return succeeded() ? new Item(redirectUrl, shortCode, url, false, null, null) : this;
+		}
+
+		/**
+		 * 정규화 전 요청 URL로 표시
+		 */
+		public Item withRedirectUrl(String requestedUrl) {
+			return new Item(requestedUrl, shortCode, url, created, errorCode, message);
+		}
+
+		public boolean succeeded() {
+			return errorCode == null;
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.shortener.url_shortener.domain.url.dto.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.shortener.url_shortener.global.error.ErrorCode;
+
+/**
+ * 일괄 삭제 결과 (요청 순서와 동일)
+ */
+public record ShortUrlBatchDeleteResponse(
+	List<Item> results
+) {
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public record Item(
+		String shortCode,
+		Boolean found,
+		ErrorCode errorCode,
+		String message
+	) {
+		/**
+		 * @param found 삭제할 URL이 있었는지 (없던 코드도 실패가 아닌 found=false)
+		 */
+		public static Item of(String shortCode, boolean found) {
+			return new Item(shortCode, found, null, null);
+		}
+
+		public static Item failure(String shortCode, ErrorCode errorCode) {
+			return new Item(shortCode, null, errorCode, errorCode.getMessage());
+		}
+
+		public boolean succeeded() {
+			return errorCode == null;
+		}
+	}
+}
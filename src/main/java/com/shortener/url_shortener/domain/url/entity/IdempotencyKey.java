@@ -0,0 +1,51 @@
+package com.shortener.url_shortener.domain.url.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Idempotency-Key별 생성 결과 (만료 후 스케줄러가 삭제)
+ * 저장/조회는 IdempotencyKeyRepository(JdbcTemplate)로 하고 엔티티는 테이블 정의용
+ */
+@Entity
+@Table(name = "idempotency_key", indexes = {
+	@Index(name = "idx_idempotency_expired_at", columnList = "expired_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyKey {
+	@Id
+	@Column(name = "idempotency_key", length = 128)
+	private String idempotencyKey;
+
+	/**
+	 * 요청 URL의 SHA-256 (같은 키를 다른 URL에 재사용했는지 판별)
+	 */
+	@Column(name = "request_hash", nullable = false, columnDefinition = "BINARY(32)")
+	private byte[] requestHash;
+
+	@Column(name = "short_code", nullable = false, length = 8)
+	private String shortCode;
+
+	@Column(name = "expired_at", nullable = false)
+	private LocalDateTime expiredAt;
+
+	public IdempotencyKey(String idempotencyKey, byte[] requestHash, String shortCode, LocalDateTime expiredAt) {
+		this.idempotencyKey = idempotencyKey;
+		this.requestHash = requestHash;
+		this.shortCode = shortCode;
+		this.expiredAt = expiredAt;
+	}
+
+	public boolean isExpired(LocalDateTime now) {
+		return now.isAfter(this.expiredAt);
+	}
+}
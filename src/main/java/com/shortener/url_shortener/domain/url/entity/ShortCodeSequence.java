@@ -0,0 +1,42 @@
+package com.shortener.url_shortener.domain.url.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * short_code 시퀀스 (Feistel 생성 전략용)
+ * 노드는 블록 단위로 구간을 예약하므로 노드 간 시퀀스가 겹치지 않음
+ */
+@Entity
+@Table(name = "short_code_sequence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShortCodeSequence {
+	@Id
+	@Column(name = "name", length = 64)
+	private String name;
+
+	@Column(name = "next_value", nullable = false)
+	private Long nextValue;
+
+	public ShortCodeSequence(String name, Long nextValue) {
+		this.name = name;
+		this.nextValue = nextValue;
+	}
+
+	/**
+	 * [시작값, 시작값 + blockSize) 구간 예약
+	 *
+	 * @return 예약한 구간의 시작값
+	 */
+	public long allocate(int blockSize) {
+		long start = this.nextValue;
+		this.nextValue = start + blockSize;
+		return start;
+	}
+}
@@ -5,17 +5,27 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 
+import org.springframework.data.domain.Persistable;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 파티션 모드(constant.partition.enabled)에서는 ShortUrlPartitionRepository가 expired_at RANGE 파티션으로 변환
+ * - PRIMARY KEY (id, expired_at), idx_short_code (short_code, expired_at): UNIQUE 키는 파티션 컬럼을 포함해야 함
+ * - JPA 식별자는 그대로 id (TSID라 단독으로도 유일), 인덱스 이름이 같아서 ddl-auto update가 다시 만들지 않음
+ */
 @Entity
 @Table(name = "url_shortener", indexes = {
 	@Index(name = "idx_hash_key", columnList = "hash_key"),
@@ -24,14 +34,30 @@ import lombok.NoArgsConstructor;
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class ShortUrl {
+public class ShortUrl implements Persistable<Long> {
+
+	/**
+	 * soft delete 표시 (삭제 시 expired_at을 이 값으로 변경)
+	 * - 만료 조건(expired_at > now)으로 거르는 중복 조회에서 자동으로 제외
+	 * - 만료 정리 스케줄러가 expired_at 순으로 가장 먼저 물리 삭제
+	 */
+	public static final LocalDateTime TOMBSTONE_EXPIRED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+	/**
+	 * short_code 컬럼 길이 (constant.hash.length가 이보다 길면 저장할 수 없음)
+	 */
+	public static final int SHORT_CODE_MAX_LENGTH = 8;
+
 	@Id
 	private Long id;
 
 	@Column(name = "hash_key", nullable = false, columnDefinition = "BINARY(32)")
 	private byte[] hashKey;
 
-	@Column(name = "short_code", nullable = false, length = 8, unique = true)
+	/**
+	 * 유일성은 idx_short_code로 보장 (컬럼 unique를 같이 두면 같은 UNIQUE 키가 하나 더 생겨서 파티션 변환을 막음)
+	 */
+	@Column(name = "short_code", nullable = false, length = SHORT_CODE_MAX_LENGTH)
 	private String shortCode;
 
 	@Column(name = "redirection_url", nullable = false, columnDefinition = "TEXT")
@@ -46,6 +72,14 @@ public class ShortUrl {
 	@Column(name = "updated_at", nullable = false)
 	private LocalDateTime updatedAt;
 
+	/**
+	 * id(TSID)를 직접 할당하므로 save() 시 merge로 판단되어 INSERT 전에 SELECT가 나가는 것을 방지
+	 * 생성자로 만든 엔티티는 새 엔티티, 저장/조회 이후는 기존 엔티티
+	 */
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private boolean newEntity = true;
+
 	@PrePersist
 	protected void onCreate() {
 		LocalDateTime now = LocalDateTime.now();
@@ -58,6 +92,17 @@ public class ShortUrl {
 		this.updatedAt = LocalDateTime.now();
 	}
 
+	@PostLoad
+	@PostPersist
+	protected void markNotNew() {
+		this.newEntity = false;
+	}
+
+	@Override
+	public boolean isNew() {
+		return newEntity;
+	}
+
 	public ShortUrl(Long id, byte[] hashKey, String shortCode, String redirectionUrl, LocalDateTime expiredAt) {
 		this.id = id;
 		this.hashKey = hashKey;
@@ -82,4 +127,8 @@ public class ShortUrl {
 	public boolean isExpired() {
 		return LocalDateTime.now().isAfter(this.expiredAt);
 	}
+
+	public boolean isDeleted() {
+		return TOMBSTONE_EXPIRED_AT.equals(this.expiredAt);
+	}
 }
@@ -0,0 +1,42 @@
+package com.shortener.url_shortener.domain.url.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리다이렉트 캐시 무효화 로그 (short_code 삭제/tombstone 기록, 보관 기간 후 스케줄러가 삭제)
+ * 저장/조회는 UrlInvalidationRepository(JdbcTemplate)로 하고 엔티티는 테이블 정의용
+ */
+@Entity
+@Table(name = "url_invalidation", indexes = {
+	@Index(name = "idx_url_invalidation_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UrlInvalidation {
+	/**
+	 * TSID (생성 시각 순이라 노드들이 keyset 커서로 이어서 읽음)
+	 */
+	@Id
+	private Long id;
+
+	@Column(name = "short_code", nullable = false, length = 8)
+	private String shortCode;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	public UrlInvalidation(Long id, String shortCode, LocalDateTime createdAt) {
+		this.id = id;
+		this.shortCode = shortCode;
+		this.createdAt = createdAt;
+	}
+}
@@ -0,0 +1,146 @@
+package com.shortener.url_shortener.domain.url.generator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.util.Base62Encoder;
+import com.shortener.url_shortener.global.util.FeistelPermutation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 충돌 없는 short_code 생성 (키 기반 Feistel 순열)
+ *
+ * 동작:
+ * 1. DB 시퀀스(short_code_sequence)에서 block-size 단위로 구간 예약 (노드 간 겹치지 않음)
+ * 2. 구간에서 꺼낸 시퀀스 값을 [0, 62^length) 위의 Feistel 순열로 변환
+ * 3. 고정 길이 Base62로 인코딩
+ *
+ * 블록 예약(REQUIRES_NEW)은 요청 경로에서 하지 않음 (createLink 트랜잭션이 커넥션을 하나 더 잡지 않도록)
+ * - 첫 블록은 시작 시(ApplicationReadyEvent) 예약, 실패하면 시작 실패
+ * - 이후 블록은 절반 소진 시 백그라운드에서 미리 예약 (미리 예약이 실패했을 때만 요청 경로에서 예약)
+ *
+ * 시퀀스가 유일하고 순열은 1:1이므로 이 전략으로 발급한 코드끼리는 구조적으로 충돌하지 않음
+ * (random/pool 전략으로 이미 발급된 코드와의 충돌만 UNIQUE 제약 + 재시도로 처리)
+ *
+ * 주의: constant.hash.feistel.key와 constant.hash.length는 운영 중 변경하면 안 됨
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "constant.hash.generator", havingValue = "feistel")
+@RequiredArgsConstructor
+public class FeistelShortCodeGenerator implements ShortCodeGenerator {
+
+	static final String SEQUENCE_NAME = "short_code";
+	private static final int BASE = 62;
+
+	private final Base62Encoder base62Encoder;
+	private final ShortCodeSequenceAllocator shortCodeSequenceAllocator;
+
+	@Value("${constant.hash.length}")
+	private int length;
+
+	@Value("${constant.hash.feistel.key}")
+	private String key;
+
+	@Value("${constant.hash.feistel.block-size:1000}")
+	private int blockSize;
+
+	private final ExecutorService prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "short-code-sequence-prefetch");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private FeistelPermutation permutation;
+	private long next;
+	private long end;
+	private CompletableFuture<Long> prefetched;
+
+	@PostConstruct
+	void init() {
+		long domainSize = 1;
+		for (int i = 0; i < length; i++) {
+			domainSize = Math.multiplyExact(domainSize, BASE);
+		}
+		permutation = new FeistelPermutation(key.getBytes(StandardCharsets.UTF_8), domainSize);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void preallocate() {
+		if (next < end) {
+			return;
+		}
+		long start = allocate();
+		next = start;
+		end = start + blockSize;
+		log.info("Short code sequence block reserved. start: {}, size: {}", start, blockSize);
+	}
+
+	@Override
+	public String generate() {
+		long sequence = nextSequence();
+		if (sequence >= permutation.domainSize()) {
+			throw ErrorCode.URL_GENERATION_FAILED.baseException(
+				"Short code sequence exhausted. sequence: %d", sequence);
+		}
+		return base62Encoder.encode(permutation.permute(sequence), length);
+	}
+
+	private synchronized long nextSequence() {
+		if (next >= end) {
+			long start = takePrefetchedOrAllocate();
+			next = start;
+			end = start + blockSize;
+		}
+		long sequence = next++;
+
+		// 블록 절반을 소진하면 다음 블록을 미리 예약 (createLink 트랜잭션 안에서 커넥션을 추가로 잡지 않도록)
+		if (prefetched == null && end - next <= blockSize / 2) {
+			prefetched = CompletableFuture.supplyAsync(this::allocate, prefetcher);
+		}
+		return sequence;
+	}
+
+	private long takePrefetchedOrAllocate() {
+		CompletableFuture<Long> future = prefetched;
+		prefetched = null;
+		if (future != null) {
+			try {
+				return future.join();
+			} catch (CompletionException e) {
+				log.warn("Short code sequence prefetch failed. Allocating synchronously.", e.getCause());
+			}
+		}
+		return allocate();
+	}
+
+	private long allocate() {
+		try {
+			return shortCodeSequenceAllocator.allocate(SEQUENCE_NAME, blockSize);
+		} catch (DataIntegrityViolationException e) {
+			// 여러 노드가 동시에 시퀀스 row를 처음 생성한 경우 한 번 더 시도
+			log.debug("Short code sequence row created concurrently. Retrying allocation.");
+			return shortCodeSequenceAllocator.allocate(SEQUENCE_NAME, blockSize);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		prefetcher.shutdownNow();
+	}
+}
@@ -0,0 +1,161 @@
+package com.shortener.url_shortener.domain.url.generator;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
+import com.shortener.url_shortener.global.util.Base62Encoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사전 생성 short_code 풀
+ *
+ * 동작:
+ * 1. 백그라운드 스레드가 refill-interval마다 풀 크기를 확인
+ * 2. low-water-mark 아래로 떨어지면 pool.size까지 채움
+ *    - refill-batch-size개 랜덤 코드 생성 -> short_code IN (...) 한 번으로 존재 여부 확인 -> 미사용 코드만 적재
+ * 3. generate()는 풀에서 O(1) pop (재시도 없음)
+ * 4. 풀이 비어 있으면 랜덤 코드로 대체 (exhausted 카운터 증가)
+ *
+ * 주의:
+ * - "미사용"은 확인 시점 기준이므로 다른 노드와의 경합은 여전히 UNIQUE 제약 + 재시도로 방어
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "constant.hash.generator", havingValue = "pool")
+@RequiredArgsConstructor
+public class PooledShortCodeGenerator implements ShortCodeGenerator {
+
+	private static final String METRIC_PREFIX = "shortener.short_code_pool";
+
+	private final Base62Encoder base62Encoder;
+	private final ShortUrlJpaRepository shortUrlJpaRepository;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${constant.hash.length}")
+	private int length;
+
+	@Value("${constant.hash.pool.size:10000}")
+	private int poolSize;
+
+	@Value("${constant.hash.pool.low-water-mark:2000}")
+	private int lowWaterMark;
+
+	@Value("${constant.hash.pool.refill-batch-size:500}")
+	private int refillBatchSize;
+
+	@Value("${constant.hash.pool.refill-interval-millis:100}")
+	private long refillIntervalMillis;
+
+	private final Queue<String> pool = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicBoolean refilling = new AtomicBoolean(false);
+	private final ScheduledExecutorService refiller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "short-code-pool-refill");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private Counter refilledCodes;
+	private Counter discardedCodes;
+	private Counter exhausted;
+
+	@PostConstruct
+	void registerMetrics() {
+		Gauge.builder(METRIC_PREFIX + ".size", size, AtomicInteger::get)
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".capacity", this, generator -> generator.poolSize)
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".low_water_mark", this, generator -> generator.lowWaterMark)
+			.register(meterRegistry);
+		refilledCodes = Counter.builder(METRIC_PREFIX + ".refilled")
+			.description("short codes verified unused and added to the pool")
+			.register(meterRegistry);
+		discardedCodes = Counter.builder(METRIC_PREFIX + ".discarded")
+			.description("generated short codes discarded because they already exist")
+			.register(meterRegistry);
+		exhausted = Counter.builder(METRIC_PREFIX + ".exhausted")
+			.description("generate calls that found the pool empty and fell back to a random code")
+			.register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		refiller.scheduleWithFixedDelay(this::refillIfNeeded, 0, refillIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public String generate() {
+		String shortCode = pool.poll();
+		if (shortCode == null) {
+			exhausted.increment();
+			return base62Encoder.random(length);
+		}
+		size.decrementAndGet();
+		return shortCode;
+	}
+
+	public int size() {
+		return size.get();
+	}
+
+	void refillIfNeeded() {
+		if (size.get() < lowWaterMark) {
+			refill();
+		}
+	}
+
+	void refill() {
+		if (!refilling.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			while (size.get() < poolSize) {
+				int want = Math.min(refillBatchSize, poolSize - size.get());
+				Set<String> candidates = new HashSet<>(want * 2);
+				while (candidates.size() < want) {
+					candidates.add(base62Encoder.random(length));
+				}
+
+				Set<String> taken = new HashSet<>(shortUrlJpaRepository.findShortCodesIn(candidates));
+				for (String candidate : candidates) {
+					if (!taken.contains(candidate)) {
+						pool.offer(candidate);
+						size.incrementAndGet();
+					}
+				}
+				refilledCodes.increment(candidates.size() - (double)taken.size());
+				discardedCodes.increment(taken.size());
+			}
+		} catch (Exception e) {
+			log.warn("Failed to refill short code pool. size: {}", size.get(), e);
+		} finally {
+			refilling.set(false);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		refiller.shutdownNow();
+	}
+}
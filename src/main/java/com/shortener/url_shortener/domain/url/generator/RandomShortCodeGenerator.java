@@ -0,0 +1,29 @@
+package com.shortener.url_shortener.domain.url.generator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.global.util.Base62Encoder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Base62 랜덤 short_code 생성 (기본 전략)
+ * 충돌은 저장 시 short_code UNIQUE 제약으로 감지하고 ShortUrlService에서 재시도
+ */
+@Component
+@ConditionalOnProperty(name = "constant.hash.generator", havingValue = "random", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RandomShortCodeGenerator implements ShortCodeGenerator {
+
+	private final Base62Encoder base62Encoder;
+
+	@Value("${constant.hash.length}")
+	private int length;
+
+	@Override
+	public String generate() {
+		return base62Encoder.random(length);
+	}
+}
@@ -0,0 +1,17 @@
+package com.shortener.url_shortener.domain.url.generator;
+
+/**
+ * short_code 생성 전략
+ *
+ * 구현체는 constant.hash.generator 설정으로 선택
+ * - random: Base62 랜덤 (기본값)
+ * - pool: 미리 존재 여부를 확인해 둔 short_code 풀
+ * - feistel: DB 시퀀스 + 키 기반 Feistel 순열 (구조적으로 충돌 없음)
+ */
+public interface ShortCodeGenerator {
+
+	/**
+	 * @return 새 short_code (constant.hash.length 길이의 Base62 문자열)
+	 */
+	String generate();
+}
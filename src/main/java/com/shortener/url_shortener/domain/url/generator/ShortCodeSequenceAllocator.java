@@ -0,0 +1,31 @@
+package com.shortener.url_shortener.domain.url.generator;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.shortener.url_shortener.domain.url.entity.ShortCodeSequence;
+import com.shortener.url_shortener.domain.url.repository.ShortCodeSequenceJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * short_code 시퀀스 블록 예약
+ * createLink 트랜잭션과 무관하게 즉시 커밋되어야 하므로 REQUIRES_NEW
+ */
+@Component
+@RequiredArgsConstructor
+public class ShortCodeSequenceAllocator {
+
+	private final ShortCodeSequenceJpaRepository shortCodeSequenceJpaRepository;
+
+	/**
+	 * @return 예약한 블록의 시작값 (블록은 [시작값, 시작값 + blockSize))
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public long allocate(String name, int blockSize) {
+		ShortCodeSequence sequence = shortCodeSequenceJpaRepository.findWithLockByName(name)
+			.orElseGet(() -> shortCodeSequenceJpaRepository.saveAndFlush(new ShortCodeSequence(name, 0L)));
+		return sequence.allocate(blockSize);
+	}
+}
@@ -0,0 +1,57 @@
+package com.shortener.url_shortener.domain.url.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.shortener.url_shortener.domain.url.entity.IdempotencyKey;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+	/**
+	 * 이미 있는 키는 만료된 경우에만 덮어씀 (MySQL은 SET을 왼쪽부터 평가하므로 expired_at을 마지막에 갱신)
+	 */
+	private static final String UPSERT_SQL = """
+			INSERT INTO idempotency_key (idempotency_key, request_hash, short_code, expired_at)
+			VALUES (?, ?, ?, ?)
+			ON DUPLICATE KEY UPDATE
+				request_hash = IF(expired_at < ?, VALUES(request_hash), request_hash),
+				short_code = IF(expired_at < ?, VALUES(short_code), short_code),
+				expired_at = IF(expired_at < ?, VALUES(expired_at), expired_at)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @return 만료되지 않은 결과
+	 */
+	public Optional<IdempotencyKey> findValid(String idempotencyKey, LocalDateTime now) {
+		return jdbcTemplate.query(
+			"SELECT idempotency_key, request_hash, short_code, expired_at FROM idempotency_key "
+				+ "WHERE idempotency_key = ? AND expired_at >= ?",
+			(rs, rowNum) -> new IdempotencyKey(rs.getString(1), rs.getBytes(2), rs.getString(3),
+				rs.getObject(4, LocalDateTime.class)),
+			idempotencyKey, now
+		).stream().findFirst();
+	}
+
+	public void save(IdempotencyKey idempotencyKey, LocalDateTime now) {
+		jdbcTemplate.update(UPSERT_SQL, idempotencyKey.getIdempotencyKey(), idempotencyKey.getRequestHash(),
+			idempotencyKey.getShortCode(), idempotencyKey.getExpiredAt(), now, now, now);
+	}
+
+	/**
+	 * 만료된 키를 최대 limit개 삭제
+	 *
+	 * @return 삭제한 row 수
+	 */
+	public int deleteExpired(LocalDateTime now, int limit) {
+		return jdbcTemplate.update("DELETE FROM idempotency_key WHERE expired_at < ? LIMIT ?", now, limit);
+	}
+}
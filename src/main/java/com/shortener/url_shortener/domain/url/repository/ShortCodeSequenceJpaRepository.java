@@ -0,0 +1,18 @@
+package com.shortener.url_shortener.domain.url.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import com.shortener.url_shortener.domain.url.entity.ShortCodeSequence;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface ShortCodeSequenceJpaRepository extends JpaRepository<ShortCodeSequence, String> {
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<ShortCodeSequence> findWithLockByName(String name);
+}
@@ -1,10 +1,12 @@
 package com.shortener.url_shortener.domain.url.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,9 +19,28 @@ public interface ShortUrlJpaRepository extends JpaRepository<ShortUrl, Long> {
 
 	List<ShortUrl> findByHashKeyAndExpiredAtAfter(byte[] hashKey, LocalDateTime now);
 
+	List<ShortUrl> findByHashKeyInAndExpiredAtAfter(Collection<byte[]> hashKeys, LocalDateTime now);
+
 	Optional<ShortUrl> findByShortCode(String shortCode);
 
-	int deleteByShortCode(String shortCode);
+	/**
+	 * 엔티티를 읽지 않고 DELETE 한 번으로 삭제 (파생 delete 메서드는 조회 후 row마다 remove)
+	 */
+	@Modifying
+	@Query("DELETE FROM ShortUrl s WHERE s.shortCode = :shortCode")
+	int deleteByShortCode(@Param("shortCode") String shortCode);
+
+	/**
+	 * soft delete: expired_at만 tombstone으로 바꾸는 UPDATE 한 번 (이미 삭제된 row는 제외)
+	 */
+	@Modifying
+	@Query("UPDATE ShortUrl s SET s.expiredAt = :tombstone, s.updatedAt = :now "
+		+ "WHERE s.shortCode = :shortCode AND s.expiredAt <> :tombstone")
+	int tombstoneByShortCode(@Param("shortCode") String shortCode, @Param("tombstone") LocalDateTime tombstone,
+		@Param("now") LocalDateTime now);
+
+	@Query("SELECT s.shortCode FROM ShortUrl s WHERE s.shortCode IN :shortCodes")
+	List<String> findShortCodesIn(@Param("shortCodes") Collection<String> shortCodes);
 
 	@Query(value = """
 			SELECT expired_at, id
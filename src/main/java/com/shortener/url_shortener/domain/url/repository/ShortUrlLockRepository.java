@@ -1,5 +1,8 @@
 package com.shortener.url_shortener.domain.url.repository;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
@@ -36,6 +39,35 @@ public class ShortUrlLockRepository {
 		}
 	}
 
+	/**
+	 * 여러 named lock을 한 번의 round trip으로 획득
+	 * - 호출자는 lockNames를 정렬해서 전달해야 함 (세션 간 획득 순서를 통일해 교착 방지)
+	 * - AND 단락 평가로 하나라도 실패하면 이후 락은 시도하지 않음
+	 * - 실패 시 이미 획득한 락은 releaseAllLocks()로 해제해야 함
+	 */
+	public boolean acquireLocks(List<String> lockNames, int timeoutSeconds) {
+		if (lockNames.isEmpty()) {
+			return true;
+		}
+		String sql = "SELECT " + String.join(" AND ", Collections.nCopies(lockNames.size(), "GET_LOCK(?, ?)"));
+		Object[] args = new Object[lockNames.size() * 2];
+		for (int i = 0; i < lockNames.size(); i++) {
+			args[i * 2] = lockNames.get(i);
+			args[i * 2 + 1] = timeoutSeconds;
+		}
+		Integer result = jdbcTemplate.queryForObject(sql, Integer.class, args);
+		log.debug("Acquire locks result. count={}, result={}", lockNames.size(), result);
+		return result != null && result == 1;
+	}
+
+	public void releaseAllLocks() {
+		try {
+			jdbcTemplate.queryForObject("SELECT RELEASE_ALL_LOCKS()", Integer.class);
+		} catch (Exception e) {
+			log.warn("Failed to release all locks.", e);
+		}
+	}
+
 	private Long currentConnectionId() {
 		try {
 			return jdbcTemplate.queryForObject("SELECT CONNECTION_ID()", Long.class);
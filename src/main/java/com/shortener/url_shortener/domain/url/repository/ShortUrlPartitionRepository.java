@@ -0,0 +1,129 @@
+package com.shortener.url_shortener.domain.url.repository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * url_shortener expired_at RANGE 파티션 DDL
+ *
+ * 파티션 구성:
+ * - p_yyyyMMdd: 그날 만료되는 row (VALUES LESS THAN 다음 날 0시)
+ * - p_start: 변환 시점 이전 만료 row와 soft delete tombstone (가장 앞 파티션이라 더 작은 값은 모두 여기로)
+ * - p_max: MAXVALUE, 미리 만든 날짜보다 뒤에 만료되는 row (평소에는 비어 있어서 REORGANIZE 비용이 작음)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ShortUrlPartitionRepository {
+
+	public static final String MAX_PARTITION = "p_max";
+
+	private static final String TABLE = "url_shortener";
+	private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p_'yyyyMMdd");
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @param upperBound 이 날짜 0시 미만의 expired_at을 담음, p_max면 null
+	 */
+	public record Partition(String name, LocalDate upperBound) {
+	}
+
+	/**
+	 * @return 파티션 순서대로 (파티션이 없는 테이블이면 빈 목록)
+	 */
+	public List<Partition> findPartitions() {
+		return jdbcTemplate.query("""
+				SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS
+				WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+				ORDER BY PARTITION_ORDINAL_POSITION
+			""",
+			(rs, rowNum) -> new Partition(rs.getString(1), parseUpperBound(rs.getString(2))),
+			TABLE
+		);
+	}
+
+	/**
+	 * PARTITION_DESCRIPTION('2026-10-21 00:00:00' 또는 MAXVALUE)에서 날짜만 읽음
+	 */
+	static LocalDate parseUpperBound(String description) {
+		String value = description.replace("'", "").trim();
+		if (value.equalsIgnoreCase("MAXVALUE")) {
+			return null;
+		}
+		return LocalDate.parse(value.substring(0, 10));
+	}
+
+	/**
+	 * @return url_shortener에 row가 하나라도 있으면 true (tombstone 포함)
+	 */
+	public boolean hasRows() {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+			"SELECT EXISTS (SELECT 1 FROM " + TABLE + ")", Boolean.class));
+	}
+
+	/**
+	 * 파티션이 없는 빈 테이블을 변환 (호출자가 hasRows()로 빈 테이블인지 확인)
+	 * MySQL 파티션 테이블의 모든 UNIQUE 키는 파티션 컬럼을 포함해야 해서
+	 * PRIMARY KEY는 (id, expired_at), idx_short_code는 (short_code, expired_at)로 바꾸고 그 외 UNIQUE 키는 삭제
+	 * 이후 short_code 유일성은 feistel 생성기에만 기대므로 random/pool로 만든 기존 row가 있으면 안 됨
+	 *
+	 * @param firstDay p_start 다음 첫 날짜 파티션
+	 * @param lastDay 마지막 날짜 파티션
+	 */
+	public void partition(LocalDate firstDay, LocalDate lastDay) {
+		List<String> extraUniqueKeys = jdbcTemplate.queryForList("""
+				SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS
+				WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND NON_UNIQUE = 0
+					AND INDEX_NAME NOT IN ('PRIMARY', 'idx_short_code')
+			""", String.class, TABLE);
+		StringBuilder alter = new StringBuilder("ALTER TABLE " + TABLE
+			+ " DROP PRIMARY KEY, ADD PRIMARY KEY (id, expired_at),"
+			+ " DROP INDEX idx_short_code, ADD UNIQUE INDEX idx_short_code (short_code, expired_at)");
+		extraUniqueKeys.forEach(index -> alter.append(", DROP INDEX `").append(index).append('`'));
+		jdbcTemplate.execute(alter.toString());
+
+		jdbcTemplate.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE COLUMNS(expired_at) ("
+			+ "PARTITION p_start VALUES LESS THAN ('" + firstDay + "'), "
+			+ dayPartitions(firstDay, lastDay) + ", "
+			+ "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+		log.info("Table partitioned by expired_at. first: {}, last: {}, dropped unique keys: {}", firstDay, lastDay,
+			extraUniqueKeys);
+	}
+
+	/**
+	 * p_max를 나눠서 날짜 파티션 추가 (p_max가 비어 있으면 메타데이터 변경만)
+	 */
+	public void addPartitions(LocalDate firstDay, LocalDate lastDay) {
+		jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+			+ dayPartitions(firstDay, lastDay) + ", "
+			+ "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+	}
+
+	public long countRows(String partitionName) {
+		Long count = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM " + TABLE + " PARTITION (" + partitionName + ")", Long.class);
+		return count == null ? 0 : count;
+	}
+
+	/**
+	 * 여러 파티션을 DDL 한 문장으로 삭제 (row 단위 undo/redo/binlog 없음)
+	 */
+	public void dropPartitions(List<String> partitionNames) {
+		jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + String.join(", ", partitionNames));
+	}
+
+	private static String dayPartitions(LocalDate firstDay, LocalDate lastDay) {
+		return firstDay.datesUntil(lastDay.plusDays(1))
+			.map(day -> "PARTITION " + day.format(NAME_FORMAT) + " VALUES LESS THAN ('" + day.plusDays(1) + "')")
+			.collect(Collectors.joining(", "));
+	}
+}
@@ -0,0 +1,129 @@
+package com.shortener.url_shortener.domain.url.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * create_short_url 저장 프로시저 호출
+ * lock/중복 조회/INSERT/unlock을 서버에서 처리해서 생성 한 건을 round trip 한 번으로 끝냄
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ShortUrlProcedureRepository {
+
+	private static final String PROCEDURE_NAME = "create_short_url";
+	private static final String PROCEDURE_SCRIPT = "db/procedure/create_short_url.sql";
+
+	/**
+	 * 프로시저 스크립트 버전 (ROUTINE_COMMENT에 'version=N'으로 기록)
+	 * create_short_url.sql을 바꾸면 함께 올려야 다음 배포의 install이 재생성함
+	 */
+	public static final int PROCEDURE_VERSION = 2;
+	private static final String VERSION_COMMENT_PREFIX = "version=";
+	private static final String INSTALL_LOCK_NAME = "create_short_url_install";
+	private static final int INSTALL_LOCK_TIMEOUT_SECONDS = 30;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 프로시저 결과 상태
+	 */
+	public enum Status {
+		CREATED,
+		EXISTING,
+		LOCK_TIMEOUT,
+		CONFLICT
+	}
+
+	public record Result(Status status, String shortCode) {
+	}
+
+	/**
+	 * 프로시저가 없거나 설치된 버전이 PROCEDURE_VERSION보다 낮을 때만 생성 (CREATE ROUTINE 권한 필요)
+	 * - 같은 커넥션에서 GET_LOCK으로 감싸서 여러 노드가 동시에 시작해도 한 노드만 DROP/CREATE
+	 * - 같거나 높은 버전이 이미 있으면 건드리지 않음 (rolling 배포 중 다른 노드의 CALL이 실패하지 않도록)
+	 *
+	 * @return 새로 생성했으면 true
+	 * @throws IllegalStateException install lock 획득 실패 시
+	 */
+	public boolean install() {
+		String script;
+		try {
+			script = new ClassPathResource(PROCEDURE_SCRIPT).getContentAsString(StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>)connection -> {
+			// GET_LOCK/RELEASE_LOCK은 세션 단위라 같은 커넥션에서 실행
+			JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+			Integer locked = session.queryForObject("SELECT GET_LOCK(?, ?)", Integer.class, INSTALL_LOCK_NAME,
+				INSTALL_LOCK_TIMEOUT_SECONDS);
+			if (locked == null || locked != 1) {
+				throw new IllegalStateException("Failed to acquire procedure install lock. name=" + PROCEDURE_NAME);
+			}
+			try {
+				Integer installed = installedVersion(session);
+				if (installed != null && installed >= PROCEDURE_VERSION) {
+					log.info("Stored procedure up to date. name={}, version={}", PROCEDURE_NAME, installed);
+					return false;
+				}
+				session.execute("DROP PROCEDURE IF EXISTS " + PROCEDURE_NAME);
+				session.execute(script);
+				session.execute("ALTER PROCEDURE " + PROCEDURE_NAME + " COMMENT '" + VERSION_COMMENT_PREFIX
+					+ PROCEDURE_VERSION + "'");
+				log.info("Stored procedure installed. name={}, version={}, previous={}", PROCEDURE_NAME,
+					PROCEDURE_VERSION, installed);
+				return true;
+			} finally {
+				session.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, INSTALL_LOCK_NAME);
+			}
+		}));
+	}
+
+	/**
+	 * @return 설치된 프로시저 버전 (없으면 null, 버전 주석이 없으면 0)
+	 */
+	private static Integer installedVersion(JdbcTemplate session) {
+		List<String> comments = session.queryForList(
+			"SELECT ROUTINE_COMMENT FROM information_schema.ROUTINES "
+				+ "WHERE ROUTINE_SCHEMA = DATABASE() AND ROUTINE_NAME = ? AND ROUTINE_TYPE = 'PROCEDURE'",
+			String.class, PROCEDURE_NAME);
+		if (comments.isEmpty()) {
+			return null;
+		}
+		String comment = comments.get(0);
+		if (comment == null || !comment.startsWith(VERSION_COMMENT_PREFIX)) {
+			return 0;
+		}
+		try {
+			return Integer.parseInt(comment.substring(VERSION_COMMENT_PREFIX.length()).trim());
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * @param candidates 순서대로 INSERT를 시도할 short_code 후보 (Base62라 ',' 구분자와 겹치지 않음)
+	 */
+	public Result createShortUrl(Long id, byte[] hashKey, String redirectUrl, LocalDateTime expiredAt,
+		String lockName, int lockTimeoutSeconds, List<String> candidates) {
+		return jdbcTemplate.queryForObject(
+			"CALL " + PROCEDURE_NAME + "(?, ?, ?, ?, ?, ?, ?)",
+			(rs, rowNum) -> new Result(Status.valueOf(rs.getString("status")), rs.getString("short_code")),
+			id, hashKey, redirectUrl, expiredAt, lockName, lockTimeoutSeconds, String.join(",", candidates)
+		);
+	}
+}
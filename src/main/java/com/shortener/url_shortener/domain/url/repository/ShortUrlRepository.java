@@ -1,11 +1,20 @@
 package com.shortener.url_shortener.domain.url.repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
 import com.shortener.url_shortener.domain.url.dto.ExpiredUrlView;
+import com.shortener.url_shortener.domain.url.entity.ShortUrl;
 
 import lombok.RequiredArgsConstructor;
 
@@ -13,7 +22,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ShortUrlRepository {
 
+	private static final String INSERT_SQL = """
+			INSERT INTO url_shortener (id, hash_key, short_code, redirection_url, expired_at, created_at, updated_at)
+			VALUES (?, ?, ?, ?, ?, ?, ?)
+		""";
+
 	private final ShortUrlJpaRepository shortUrlJpaRepository;
+	private final JdbcTemplate jdbcTemplate;
 
 	public List<ExpiredUrlView> selectShortUrlsWithPagination(Long id, LocalDateTime maxExpirationTime,
 		LocalDateTime lastExpirationTime, int size) {
@@ -23,4 +38,129 @@ public class ShortUrlRepository {
 
 		return shortUrlJpaRepository.findExpiredUrlIdsAfter(id, maxExpirationTime, lastExpirationTime, size);
 	}
+
+	/**
+	 * idx_hash_key 인덱스를 스트리밍하며 모든 hash_key 전달
+	 * - hash_key만 조회하므로 커버링 인덱스 스캔 (만료 여부는 보지 않음, 만료 row는 오탐 방향이라 안전)
+	 * - MySQL Connector/J는 fetchSize = Integer.MIN_VALUE일 때 row 단위 스트리밍
+	 *
+	 * @param consumer hash_key 소비자
+	 */
+	public void streamHashKeys(Consumer<byte[]> consumer) {
+		jdbcTemplate.query(connection -> {
+			PreparedStatement ps = connection.prepareStatement(
+				"SELECT hash_key FROM url_shortener FORCE INDEX (idx_hash_key)",
+				ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			ps.setFetchSize(Integer.MIN_VALUE);
+			return ps;
+		}, (RowCallbackHandler)rs -> consumer.accept(rs.getBytes(1)));
+	}
+
+	/**
+	 * JDBC batch insert (영속성 컨텍스트/merge SELECT 없이 INSERT만 수행)
+	 * rewriteBatchedStatements=true면 Connector/J가 multi-row INSERT 하나로 묶어서 전송
+	 *
+	 * @param shortUrls 저장할 row 목록
+	 * @throws org.springframework.dao.DataIntegrityViolationException short_code 충돌 시
+	 */
+	public void insertAll(List<ShortUrl> shortUrls) {
+		if (shortUrls.isEmpty()) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.batchUpdate(INSERT_SQL, shortUrls, shortUrls.size(), (ps, shortUrl) -> {
+			ps.setLong(1, shortUrl.getId());
+			ps.setBytes(2, shortUrl.getHashKey());
+			ps.setString(3, shortUrl.getShortCode());
+			ps.setString(4, shortUrl.getRedirectionUrl());
+			ps.setObject(5, shortUrl.getExpiredAt());
+			ps.setObject(6, now);
+			ps.setObject(7, now);
+		});
+	}
+
+	/**
+	 * short_code 묶음 삭제 (트랜잭션 안에서 호출)
+	 * - 같은 조건을 SELECT ... FOR UPDATE로 먼저 잠가서 실제로 지운 short_code를 확인 (soft delete된 row는 없는 것으로 봄)
+	 * - 찾은 row만 DELETE ... WHERE short_code IN (...) 한 문장으로 삭제
+	 *
+	 * @param shortCodes 중복 없는 short_code 묶음
+	 * @return 삭제된 short_code
+	 */
+	public List<String> deleteAllByShortCodes(List<String> shortCodes) {
+		List<String> found = lockLiveShortCodes(shortCodes);
+		if (!found.isEmpty()) {
+			jdbcTemplate.update("DELETE FROM url_shortener WHERE short_code IN (" + placeholders(found.size()) + ")",
+				found.toArray());
+		}
+		return found;
+	}
+
+	/**
+	 * short_code 묶음 soft delete (트랜잭션 안에서 호출)
+	 * 찾은 row의 expired_at만 tombstone으로 바꾸는 UPDATE 한 문장 (물리 삭제는 만료 정리 스케줄러)
+	 *
+	 * @param shortCodes 중복 없는 short_code 묶음
+	 * @return 삭제 표시한 short_code
+	 */
+	public List<String> tombstoneAllByShortCodes(List<String> shortCodes) {
+		List<String> found = lockLiveShortCodes(shortCodes);
+		if (!found.isEmpty()) {
+			List<Object> args = new ArrayList<>(found.size() + 2);
+			args.add(ShortUrl.TOMBSTONE_EXPIRED_AT);
+			args.add(LocalDateTime.now());
+			args.addAll(found);
+			jdbcTemplate.update("UPDATE url_shortener SET expired_at = ?, updated_at = ? WHERE short_code IN ("
+				+ placeholders(found.size()) + ")", args.toArray());
+		}
+		return found;
+	}
+
+	/**
+	 * short_code 한 건 삭제 (트랜잭션 없이 autocommit으로 실행, write-behind drainer 스레드용)
+	 *
+	 * @return 삭제한 row 수
+	 */
+	public int deleteByShortCode(String shortCode) {
+		return jdbcTemplate.update("DELETE FROM url_shortener WHERE short_code = ?", shortCode);
+	}
+
+	/**
+	 * 만료 row를 (expired_at, id) 순으로 최대 limit개 삭제 (SELECT 없이 DELETE 한 문장)
+	 * idx_expired_at_id 순서대로 지우므로 배치마다 앞에서부터 이어서 삭제됨
+	 *
+	 * @return 삭제한 row 수 (limit보다 작으면 남은 만료 row 없음)
+	 */
+	public int deleteExpired(LocalDateTime maxExpirationTime, int limit) {
+		return jdbcTemplate.update(
+			"DELETE FROM url_shortener WHERE expired_at <= ? ORDER BY expired_at, id LIMIT ?",
+			maxExpirationTime, limit);
+	}
+
+	/**
+	 * tombstone을 제외한 가장 이른 만료 시각 (idx_expired_at_id 첫 entry만 읽음)
+	 *
+	 * @return 만료 row가 없으면 empty
+	 */
+	public Optional<LocalDateTime> findEarliestExpiredAt(LocalDateTime maxExpirationTime) {
+		LocalDateTime earliest = jdbcTemplate.queryForObject(
+			"SELECT MIN(expired_at) FROM url_shortener WHERE expired_at > ? AND expired_at <= ?",
+			LocalDateTime.class, ShortUrl.TOMBSTONE_EXPIRED_AT, maxExpirationTime);
+		return Optional.ofNullable(earliest);
+	}
+
+	private List<String> lockLiveShortCodes(List<String> shortCodes) {
+		if (shortCodes.isEmpty()) {
+			return List.of();
+		}
+		List<Object> args = new ArrayList<>(shortCodes);
+		args.add(ShortUrl.TOMBSTONE_EXPIRED_AT);
+		return jdbcTemplate.queryForList(
+			"SELECT short_code FROM url_shortener WHERE short_code IN (" + placeholders(shortCodes.size())
+				+ ") AND expired_at <> ? FOR UPDATE", String.class, args.toArray());
+	}
+
+	private static String placeholders(int count) {
+		return String.join(",", Collections.nCopies(count, "?"));
+	}
 }
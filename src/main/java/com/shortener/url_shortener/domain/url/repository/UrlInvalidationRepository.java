@@ -0,0 +1,62 @@
+package com.shortener.url_shortener.domain.url.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.shortener.url_shortener.domain.url.entity.UrlInvalidation;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class UrlInvalidationRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void saveAll(List<UrlInvalidation> invalidations) {
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO url_invalidation (id, short_code, created_at) VALUES (?, ?, ?)",
+			invalidations,
+			invalidations.size(),
+			(ps, invalidation) -> {
+				ps.setLong(1, invalidation.getId());
+				ps.setString(2, invalidation.getShortCode());
+				ps.setObject(3, invalidation.getCreatedAt());
+			}
+		);
+	}
+
+	/**
+	 * id keyset 페이지 조회
+	 *
+	 * @return lastId보다 큰 id를 오름차순으로 최대 limit개
+	 */
+	public List<UrlInvalidation> findAfter(long lastId, int limit) {
+		return jdbcTemplate.query(
+			"SELECT id, short_code, created_at FROM url_invalidation WHERE id > ? ORDER BY id LIMIT ?",
+			(rs, rowNum) -> new UrlInvalidation(rs.getLong(1), rs.getString(2),
+				rs.getObject(3, LocalDateTime.class)),
+			lastId, limit
+		);
+	}
+
+	/**
+	 * @return 가장 최근 id, 로그가 없으면 0
+	 */
+	public long findLatestId() {
+		Long latestId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM url_invalidation", Long.class);
+		return latestId == null ? 0 : latestId;
+	}
+
+	/**
+	 * 보관 기간이 지난 로그를 최대 limit개 삭제
+	 *
+	 * @return 삭제한 row 수
+	 */
+	public int deleteCreatedBefore(LocalDateTime before, int limit) {
+		return jdbcTemplate.update("DELETE FROM url_invalidation WHERE created_at < ? LIMIT ?", before, limit);
+	}
+}
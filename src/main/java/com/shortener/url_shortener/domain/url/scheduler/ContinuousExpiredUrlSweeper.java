@@ -0,0 +1,296 @@
+package com.shortener.url_shortener.domain.url.scheduler;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.repository.ShortUrlRepository;
+import com.shortener.url_shortener.domain.url.service.ShortUrlBloomFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 row 상시 정리 (scheduler.expired-url-deletion.continuous.enabled)
+ *
+ * 새벽 한 번에 몰아서 지우는 대신 백그라운드 스레드가 작은 배치를 계속 삭제
+ * 1. DELETE ... ORDER BY expired_at, id LIMIT 배치 크기 (ShortUrlRepository.deleteExpired)
+ * 2. 배치 크기 조정: 삭제 시간이 target-batch-millis보다 길면 줄이고, 꽉 찬 배치가 빨리 끝나면 늘림 (0.5 ~ 2배)
+ * 3. 다음 배치까지 대기:
+ *    - 만료 row가 남아 있으면 삭제 시간 비율이 duty-cycle이 되도록 (삭제 50ms, duty 0.2 → 200ms 대기)
+ *    - 다 지웠으면 interval-millis
+ * 4. 배치 전 부하 확인, 다음 중 하나면 삭제하지 않고 배치 크기 절반으로 줄인 뒤 interval-millis 대기
+ *    - 커넥션 풀 사용률 (활성 + 대기 스레드) / 최대 크기 >= max-pool-usage
+ *    - 지난 배치 이후 요청 평균 처리 시간 > max-request-latency-millis (request-latency-metrics 타이머 합산)
+ *
+ * 최근 fallback-after-millis 안에 밀린 만료 row를 다 지운 적이 있으면 ShortUrlScheduler cron은 배치 삭제를 건너뜀
+ * (상시 정리가 멈추거나 계속 밀리면 cron이 기존 방식으로 정리)
+ *
+ * 메트릭:
+ * - shortener.expiry_sweeper.batch_size
+ * - shortener.expiry_sweeper.deleted
+ * - shortener.expiry_sweeper.backoffs{reason=pool|latency|error}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContinuousExpiredUrlSweeper {
+
+	private static final String METRIC_PREFIX = "shortener.expiry_sweeper";
+	private static final double MIN_GRADIENT = 0.5;
+	private static final double MAX_GRADIENT = 2.0;
+	private static final double BACKOFF_RATIO = 0.5;
+
+	private final ShortUrlRepository shortUrlRepository;
+	private final ShortUrlBloomFilter shortUrlBloomFilter;
+	private final DataSource dataSource;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${scheduler.expired-url-deletion.continuous.enabled:false}")
+	private boolean enabled;
+
+	@Value("${scheduler.expired-url-deletion.continuous.interval-millis:2000}")
+	private long intervalMillis = 2000;
+
+	@Value("${scheduler.expired-url-deletion.continuous.initial-batch-size:100}")
+	private int initialBatchSize = 100;
+
+	@Value("${scheduler.expired-url-deletion.continuous.min-batch-size:20}")
+	private int minBatchSize = 20;
+
+	@Value("${scheduler.expired-url-deletion.continuous.max-batch-size:2000}")
+	private int maxBatchSize = 2000;
+
+	@Value("${scheduler.expired-url-deletion.continuous.target-batch-millis:50}")
+	private long targetBatchMillis = 50;
+
+	@Value("${scheduler.expired-url-deletion.continuous.duty-cycle:0.2}")
+	private double dutyCycle = 0.2;
+
+	@Value("${scheduler.expired-url-deletion.continuous.max-pool-usage:0.7}")
+	private double maxPoolUsage = 0.7;
+
+	/**
+	 * 0 이하면 요청 지연은 보지 않음
+	 */
+	@Value("${scheduler.expired-url-deletion.continuous.max-request-latency-millis:200}")
+	private double maxRequestLatencyMillis = 200;
+
+	@Value("${scheduler.expired-url-deletion.continuous.request-latency-metrics:"
+		+ "http.server.requests,grpc.server.processing.duration}")
+	private List<String> requestLatencyMetrics = List.of("http.server.requests", "grpc.server.processing.duration");
+
+	@Value("${scheduler.expired-url-deletion.continuous.fallback-after-millis:600000}")
+	private long fallbackAfterMillis = 600_000;
+
+	private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "expired-url-continuous-sweeper");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private HikariDataSource hikariDataSource;
+	private volatile int batchSize;
+	private double estimatedBatchSize;
+	private volatile long lastCaughtUpMillis;
+	private long lastRequestCount;
+	private double lastRequestTotalNanos;
+
+	private Counter deleted;
+
+	@PostConstruct
+	void init() {
+		if (minBatchSize < 1 || minBatchSize > maxBatchSize || dutyCycle <= 0 || dutyCycle > 1) {
+			throw new IllegalStateException("Invalid continuous expiry sweeper settings. min-batch-size: "
+				+ minBatchSize + ", max-batch-size: " + maxBatchSize + ", duty-cycle: " + dutyCycle);
+		}
+		updateBatchSize(initialBatchSize);
+		hikariDataSource = resolveHikari(dataSource);
+		Gauge.builder(METRIC_PREFIX + ".batch_size", this, ContinuousExpiredUrlSweeper::batchSize)
+			.description("current batch size of the continuous expiry sweeper")
+			.register(meterRegistry);
+		deleted = Counter.builder(METRIC_PREFIX + ".deleted")
+			.description("expired rows deleted by the continuous expiry sweeper")
+			.register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return 최근 fallback-after-millis 안에 만료 row를 다 지웠는지 (cron 배치 삭제를 건너뛰어도 되는지)
+	 */
+	public boolean isCaughtUp() {
+		long caughtUpAt = lastCaughtUpMillis;
+		return enabled && caughtUpAt != 0 && System.currentTimeMillis() - caughtUpAt < fallbackAfterMillis;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		log.info("Continuous expiry sweeper started. batch size: {}, target batch: {}ms, duty cycle: {}", batchSize,
+			targetBatchMillis, dutyCycle);
+		// 시작 전 누적된 요청은 첫 표본에서 제외
+		recentRequestLatencyMillis();
+		sweeper.schedule(this::run, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private void run() {
+		long delayMillis;
+		try {
+			delayMillis = sweepOnce();
+		} catch (Exception e) {
+			backoff("error");
+			log.warn("Failed to delete expired URLs, backing off. batch size: {}, error: {}", batchSize,
+				e.getMessage(), e);
+			delayMillis = intervalMillis;
+		}
+		if (!sweeper.isShutdown()) {
+			sweeper.schedule(this::run, delayMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * 부하 확인 후 배치 하나 삭제
+	 *
+	 * @return 다음 배치까지 대기 시간(ms)
+	 */
+	long sweepOnce() {
+		String pressure = pressure();
+		if (pressure != null) {
+			backoff(pressure);
+			log.debug("Continuous expiry sweeper backed off. reason: {}, batch size: {}", pressure, batchSize);
+			return intervalMillis;
+		}
+
+		int size = batchSize;
+		long startedAt = System.nanoTime();
+		int removed = shortUrlRepository.deleteExpired(LocalDateTime.now(), size);
+		long elapsedNanos = System.nanoTime() - startedAt;
+		if (removed > 0) {
+			shortUrlBloomFilter.recordRemovals(removed);
+			deleted.increment(removed);
+		}
+		adjust(elapsedNanos, removed == size);
+
+		if (removed < size) {
+			lastCaughtUpMillis = System.currentTimeMillis();
+			return intervalMillis;
+		}
+		return Math.max(1, TimeUnit.NANOSECONDS.toMillis((long)(elapsedNanos * (1 - dutyCycle) / dutyCycle)));
+	}
+
+	/**
+	 * 삭제 시간이 목표보다 길면 줄이고, 짧으면 늘림 (꽉 찬 배치일 때만, 남은 row가 적을 때 커지는 것 방지)
+	 */
+	private void adjust(long elapsedNanos, boolean full) {
+		double ratio = (double)TimeUnit.MILLISECONDS.toNanos(targetBatchMillis) / Math.max(1, elapsedNanos);
+		double gradient = Math.max(MIN_GRADIENT, Math.min(MAX_GRADIENT, ratio));
+		if (gradient < 1 || full) {
+			updateBatchSize(estimatedBatchSize * gradient);
+		}
+	}
+
+	private void backoff(String reason) {
+		meterRegistry.counter(METRIC_PREFIX + ".backoffs", "reason", reason).increment();
+		updateBatchSize(estimatedBatchSize * BACKOFF_RATIO);
+	}
+
+	private void updateBatchSize(double newBatchSize) {
+		estimatedBatchSize = Math.max(minBatchSize, Math.min(maxBatchSize, newBatchSize));
+		batchSize = (int)estimatedBatchSize;
+	}
+
+	/**
+	 * @return 부하 원인 (pool|latency), 여유 있으면 null
+	 */
+	private String pressure() {
+		// 요청 지연은 지난 확인 이후 구간 평균이라 매번 표본을 갱신
+		double requestLatencyMillis = recentRequestLatencyMillis();
+		if (poolUsage() >= maxPoolUsage) {
+			return "pool";
+		}
+		if (maxRequestLatencyMillis > 0 && requestLatencyMillis > maxRequestLatencyMillis) {
+			return "latency";
+		}
+		return null;
+	}
+
+	/**
+	 * @return (활성 커넥션 + 커넥션 대기 스레드) / 최대 풀 크기, Hikari가 아니거나 풀 시작 전이면 0
+	 */
+	double poolUsage() {
+		if (hikariDataSource == null) {
+			return 0;
+		}
+		HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+		if (pool == null) {
+			return 0;
+		}
+		return (double)(pool.getActiveConnections() + pool.getThreadsAwaitingConnection())
+			/ hikariDataSource.getMaximumPoolSize();
+	}
+
+	/**
+	 * 요청 타이머들의 누적 count/totalTime 차이로 지난 호출 이후 평균 처리 시간 계산
+	 *
+	 * @return 그 사이 요청이 없으면 0
+	 */
+	private double recentRequestLatencyMillis() {
+		long count = 0;
+		double totalNanos = 0;
+		for (String metric : requestLatencyMetrics) {
+			for (Timer timer : meterRegistry.find(metric).timers()) {
+				count += timer.count();
+				totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+			}
+		}
+		long requests = count - lastRequestCount;
+		double requestNanos = totalNanos - lastRequestTotalNanos;
+		lastRequestCount = count;
+		lastRequestTotalNanos = totalNanos;
+		return requests > 0 ? requestNanos / requests / 1_000_000.0 : 0;
+	}
+
+	int batchSize() {
+		return batchSize;
+	}
+
+	private static HikariDataSource resolveHikari(DataSource dataSource) {
+		if (dataSource instanceof HikariDataSource hikari) {
+			return hikari;
+		}
+		try {
+			return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+		} catch (SQLException e) {
+			log.warn("Failed to unwrap HikariDataSource, pool usage is not checked. error: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		sweeper.shutdownNow();
+	}
+}
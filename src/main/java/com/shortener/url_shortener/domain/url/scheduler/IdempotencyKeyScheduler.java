@@ -0,0 +1,41 @@
+package com.shortener.url_shortener.domain.url.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.repository.IdempotencyKeyRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyScheduler {
+
+	private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+	@Value("${scheduler.expired-idempotency-key-deletion.batch-size:1000}")
+	private int batchSize;
+
+	@Scheduled(cron = "${scheduler.expired-idempotency-key-deletion.cron}")
+	public void deleteExpiredIdempotencyKeys() {
+		LocalDateTime now = LocalDateTime.now();
+		int totalDeleted = 0;
+		int deleted;
+		do {
+			try {
+				deleted = idempotencyKeyRepository.deleteExpired(now, batchSize);
+			} catch (Exception e) {
+				log.error("Failed to delete expired idempotency keys. deleted so far: {}", totalDeleted, e);
+				break;
+			}
+			totalDeleted += deleted;
+		} while (deleted == batchSize);
+
+		log.info("Expired idempotency keys deletion completed. Total deleted: {}", totalDeleted);
+	}
+}
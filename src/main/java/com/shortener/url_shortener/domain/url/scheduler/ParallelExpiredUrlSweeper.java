@@ -0,0 +1,199 @@
+package com.shortener.url_shortener.domain.url.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.dto.ExpiredUrlView;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlRepository;
+import com.shortener.url_shortener.domain.url.service.ShortUrlBloomFilter;
+import com.shortener.url_shortener.global.util.TokenBucket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 row 병렬 삭제 (scheduler.expired-url-deletion.strategy=parallel)
+ *
+ * 1. 가장 이른 만료 시각 ~ 지금을 expired_at 기준 slices개 구간 (하한 초과, 상한 이하)으로 나눔
+ *    - 첫 구간은 하한 없이 시작해서 tombstone도 포함
+ * 2. 구간마다 selectShortUrlsWithPagination keyset 커서로 조회 후 id로 삭제
+ *    - 구간 하한은 커서 (lastExpirationTime = 하한, lastId = Long.MAX_VALUE)로 표현 → expired_at > 하한
+ *    - idx_expired_at_id에서 구간끼리 겹치지 않아서 worker끼리 같은 row/gap을 잠그지 않음
+ * 3. workers개 스레드가 구간을 하나씩 가져가서 처리 (구간을 workers보다 잘게 나눠서 만료가 몰린 구간 분산)
+ * 4. 모든 worker가 토큰 버킷 하나를 공유해서 초당 삭제 row 수를 max-rows-per-second 이하로 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParallelExpiredUrlSweeper {
+
+	private final ShortUrlRepository shortUrlRepository;
+	private final ShortUrlJpaRepository shortUrlJpaRepository;
+	private final ShortUrlBloomFilter shortUrlBloomFilter;
+
+	@Value("${scheduler.expired-url-deletion.batch-size:500}")
+	private int batchSize = 500;
+
+	@Value("${scheduler.expired-url-deletion.parallel.workers:4}")
+	private int workers = 4;
+
+	@Value("${scheduler.expired-url-deletion.parallel.slices:16}")
+	private int slices = 16;
+
+	/**
+	 * 모든 worker 합산 초당 삭제 row 수 (0 이하면 제한 없음)
+	 */
+	@Value("${scheduler.expired-url-deletion.parallel.max-rows-per-second:20000}")
+	private double maxRowsPerSecond = 20_000;
+
+	/**
+	 * @param lower 이 시각 초과 (null이면 하한 없음)
+	 * @param upper 이 시각 이하
+	 */
+	record Slice(LocalDateTime lower, LocalDateTime upper) {
+	}
+
+	/**
+	 * @return 삭제한 row 수
+	 */
+	public long sweep(LocalDateTime maxExpirationTime) {
+		LocalDateTime earliest;
+		try {
+			earliest = shortUrlRepository.findEarliestExpiredAt(maxExpirationTime).orElse(maxExpirationTime);
+		} catch (Exception e) {
+			log.error("Failed to find earliest expiration. Stopping scheduler. error: {}", e.getMessage(), e);
+			return 0;
+		}
+		List<Slice> ranges = slices(earliest, maxExpirationTime, slices);
+		// 한 배치는 바로 지울 수 있도록 burst = batch-size
+		TokenBucket budget = maxRowsPerSecond > 0 ? new TokenBucket(maxRowsPerSecond, batchSize, System.nanoTime())
+			: null;
+
+		AtomicLong totalDeleted = new AtomicLong();
+		AtomicLong totalFailed = new AtomicLong();
+		AtomicInteger sequence = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(workers, ranges.size()), runnable -> {
+			Thread thread = new Thread(runnable, "expired-url-sweeper-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<?>> futures = new ArrayList<>(ranges.size());
+			for (Slice slice : ranges) {
+				futures.add(executor.submit(() -> sweepSlice(slice, budget, totalDeleted, totalFailed)));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("Expired short URLs deletion interrupted");
+		} catch (ExecutionException e) {
+			log.error("Expired short URLs deletion worker failed. error: {}", e.getMessage(), e);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		log.info("Expired short URLs deletion completed. Total deleted: {}, Total failed: {}, Slices: {}, "
+			+ "Workers: {}", totalDeleted.get(), totalFailed.get(), ranges.size(), Math.min(workers, ranges.size()));
+		return totalDeleted.get();
+	}
+
+	/**
+	 * (earliest, max]를 같은 길이의 구간으로 나눔, 첫 구간은 하한 없음
+	 * 길이가 너무 짧으면 구간 하나
+	 */
+	static List<Slice> slices(LocalDateTime earliest, LocalDateTime maxExpirationTime, int count) {
+		long spanNanos = Duration.between(earliest, maxExpirationTime).toNanos();
+		if (count <= 1 || spanNanos < count) {
+			return List.of(new Slice(null, maxExpirationTime));
+		}
+		long stepNanos = spanNanos / count;
+		List<Slice> result = new ArrayList<>(count);
+		LocalDateTime lower = null;
+		for (int i = 1; i < count; i++) {
+			LocalDateTime upper = earliest.plusNanos(stepNanos * i);
+			result.add(new Slice(lower, upper));
+			lower = upper;
+		}
+		result.add(new Slice(lower, maxExpirationTime));
+		return result;
+	}
+
+	private void sweepSlice(Slice slice, TokenBucket budget, AtomicLong totalDeleted, AtomicLong totalFailed) {
+		Long lastId = slice.lower() == null ? null : Long.MAX_VALUE;
+		LocalDateTime lastExpirationTime = slice.lower();
+		List<ExpiredUrlView> list;
+		long deleted = 0;
+
+		do {
+			try {
+				list = shortUrlRepository.selectShortUrlsWithPagination(lastId, slice.upper(), lastExpirationTime,
+					batchSize);
+			} catch (Exception e) {
+				log.error("Failed to fetch expired URLs. Stopping slice. slice: {}, lastId: {}, "
+					+ "lastExpirationTime: {}, error: {}", slice, lastId, lastExpirationTime, e.getMessage(), e);
+				break;
+			}
+			if (list.isEmpty()) {
+				break;
+			}
+
+			// 커서 업데이트 (삭제 실패해도 다음 배치로 진행 가능하도록)
+			ExpiredUrlView lastDto = list.get(list.size() - 1);
+			lastId = lastDto.getId();
+			lastExpirationTime = lastDto.getExpiredAt();
+
+			List<Long> ids = list.stream().map(ExpiredUrlView::getId).toList();
+			if (!acquire(budget, ids.size())) {
+				break;
+			}
+
+			try {
+				shortUrlJpaRepository.deleteAllByIdInBatch(ids);
+				shortUrlBloomFilter.recordRemovals(ids.size());
+				totalDeleted.addAndGet(ids.size());
+				deleted += ids.size();
+			} catch (Exception e) {
+				totalFailed.addAndGet(ids.size());
+				log.error("Failed to delete batch, but continuing to next batch. slice: {}, Failed count: {}, "
+					+ "lastId: {}, lastExpirationTime: {}, error: {}", slice, ids.size(), lastId, lastExpirationTime,
+					e.getMessage(), e);
+			}
+		} while (list.size() == batchSize);
+
+		log.info("Slice completed: deleted {} URLs (lower: {}, upper: {})", deleted, slice.lower(), slice.upper());
+	}
+
+	/**
+	 * @return 계속 진행 여부 (인터럽트되면 false)
+	 */
+	private boolean acquire(TokenBucket budget, int rows) {
+		if (budget == null) {
+			return true;
+		}
+		try {
+			long waitNanos;
+			while ((waitNanos = budget.tryAcquire(System.nanoTime(), rows)) > 0) {
+				TimeUnit.NANOSECONDS.sleep(waitNanos);
+			}
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
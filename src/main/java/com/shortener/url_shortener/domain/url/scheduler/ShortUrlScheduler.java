@@ -11,10 +11,18 @@ import org.springframework.stereotype.Component;
 import com.shortener.url_shortener.domain.url.dto.ExpiredUrlView;
 import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
 import com.shortener.url_shortener.domain.url.repository.ShortUrlRepository;
+import com.shortener.url_shortener.domain.url.service.ShortUrlBloomFilter;
+import com.shortener.url_shortener.domain.url.service.ShortUrlPartitionManager;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 만료된 단축 URL 물리 삭제 (expired_at, id 순 keyset 페이지 단위)
+ * soft delete된 row(expired_at = tombstone)도 가장 오래된 만료로 잡혀서 함께 삭제
+ * 파티션 모드면 모든 row가 만료된 파티션을 먼저 DROP하고 남은 만료 row(오늘 파티션)만 배치로 삭제
+ * 상시 정리(ContinuousExpiredUrlSweeper)가 최근 밀린 row를 다 지웠으면 배치 삭제는 건너뜀 (cron은 fallback)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -22,14 +30,46 @@ public class ShortUrlScheduler {
 
 	private final ShortUrlRepository shortUrlRepository;
 	private final ShortUrlJpaRepository shortUrlJpaRepository;
+	private final ShortUrlBloomFilter shortUrlBloomFilter;
+	private final ShortUrlPartitionManager shortUrlPartitionManager;
+	private final ParallelExpiredUrlSweeper parallelExpiredUrlSweeper;
+	private final ContinuousExpiredUrlSweeper continuousExpiredUrlSweeper;
 
 	@Value("${scheduler.expired-url-deletion.batch-size:500}")
 	private int batchSize;
 
+	/**
+	 * keyset: id를 SELECT한 뒤 id로 삭제 (2 round trip)
+	 * delete-limit: DELETE ... ORDER BY expired_at, id LIMIT 한 문장, 삭제 row 수로 반복 여부 판단
+	 * parallel: 만료 범위를 expired_at 구간으로 나눠 여러 스레드가 keyset 삭제 (ParallelExpiredUrlSweeper)
+	 */
+	@Value("${scheduler.expired-url-deletion.strategy:keyset}")
+	private String strategy = "keyset";
+
+	/**
+	 * delete-limit 배치 사이 대기 (복제 지연/다른 쿼리에 여유를 줌)
+	 */
+	@Value("${scheduler.expired-url-deletion.pause-millis:0}")
+	private long pauseMillis;
 
 	@Scheduled(cron = "${scheduler.expired-url-deletion.cron}")
 	public void deleteExpiredShortUrls() {
 		log.info("Starting expired short URLs deletion scheduler");
+		if (shortUrlPartitionManager.isEnabled()) {
+			managePartitions();
+		}
+		if (continuousExpiredUrlSweeper.isCaughtUp()) {
+			log.info("Continuous expiry sweeper is caught up, skipping batch deletion");
+			return;
+		}
+		if ("delete-limit".equals(strategy)) {
+			deleteWithLimit(LocalDateTime.now());
+			return;
+		}
+		if ("parallel".equals(strategy)) {
+			parallelExpiredUrlSweeper.sweep(LocalDateTime.now());
+			return;
+		}
 
 		LocalDateTime maxExpirationTime = LocalDateTime.now();
 		LocalDateTime lastExpirationTime = null;
@@ -65,6 +105,7 @@ public class ShortUrlScheduler {
 
 			try {
 				shortUrlJpaRepository.deleteAllByIdInBatch(ids);
+				shortUrlBloomFilter.recordRemovals(ids.size());
 				totalDeleted += ids.size();
 				batchCount++;
 
@@ -84,4 +125,61 @@ public class ShortUrlScheduler {
 			totalDeleted, totalFailed, batchCount);
 
 	}
+
+	private void deleteWithLimit(LocalDateTime maxExpirationTime) {
+		int totalDeleted = 0;
+		int batchCount = 0;
+		int deleted;
+		do {
+			try {
+				deleted = shortUrlRepository.deleteExpired(maxExpirationTime, batchSize);
+			} catch (Exception e) {
+				log.error("Failed to delete expired URLs. Stopping scheduler. deleted so far: {}, error: {}",
+					totalDeleted, e.getMessage(), e);
+				break;
+			}
+			shortUrlBloomFilter.recordRemovals(deleted);
+			totalDeleted += deleted;
+			batchCount++;
+			if (deleted == batchSize && !pause()) {
+				break;
+			}
+		} while (deleted == batchSize);
+
+		log.info("Expired short URLs deletion completed. Total deleted: {}, Batches: {}", totalDeleted, batchCount);
+	}
+
+	/**
+	 * @return 계속 진행 여부 (인터럽트되면 false)
+	 */
+	private boolean pause() {
+		if (pauseMillis <= 0) {
+			return true;
+		}
+		try {
+			Thread.sleep(pauseMillis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("Expired short URLs deletion interrupted");
+			return false;
+		}
+	}
+
+	/**
+	 * 파티션 DROP/생성 실패는 배치 삭제로 계속 진행 (다음 실행에서 다시 시도)
+	 */
+	private void managePartitions() {
+		try {
+			shortUrlPartitionManager.dropExpiredPartitions();
+		} catch (Exception e) {
+			log.error("Failed to drop expired partitions, falling back to batch deletion. error: {}",
+				e.getMessage(), e);
+		}
+		try {
+			shortUrlPartitionManager.createFuturePartitions();
+		} catch (Exception e) {
+			log.error("Failed to create future partitions. error: {}", e.getMessage(), e);
+		}
+	}
 }
@@ -0,0 +1,48 @@
+package com.shortener.url_shortener.domain.url.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.repository.UrlInvalidationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보관 기간이 지난 리다이렉트 캐시 무효화 로그 삭제
+ * 그보다 오래 밀린 노드는 로그 대신 캐시 전체를 비우므로 (UrlInvalidationLog) 지워도 됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UrlInvalidationScheduler {
+
+	private final UrlInvalidationRepository urlInvalidationRepository;
+
+	@Value("${scheduler.url-invalidation-deletion.retention-seconds:3600}")
+	private long retentionSeconds;
+
+	@Value("${scheduler.url-invalidation-deletion.batch-size:1000}")
+	private int batchSize;
+
+	@Scheduled(cron = "${scheduler.url-invalidation-deletion.cron}")
+	public void deleteOldInvalidations() {
+		LocalDateTime before = LocalDateTime.now().minusSeconds(retentionSeconds);
+		int totalDeleted = 0;
+		int deleted;
+		do {
+			try {
+				deleted = urlInvalidationRepository.deleteCreatedBefore(before, batchSize);
+			} catch (Exception e) {
+				log.error("Failed to delete old url invalidations. deleted so far: {}", totalDeleted, e);
+				break;
+			}
+			totalDeleted += deleted;
+		} while (deleted == batchSize);
+
+		log.info("Old url invalidations deletion completed. Total deleted: {}", totalDeleted);
+	}
+}
@@ -0,0 +1,247 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.CreateLinkRequest;
+import com.shortener.url_shortener.domain.url.CreateLinkResponse;
+import com.shortener.url_shortener.domain.url.UrlShortenerRpcGrpc;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.interceptor.ClusterForwardInterceptor;
+import com.shortener.url_shortener.global.util.ConsistentHashRing;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.MetadataUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * cluster 모드 생성 요청 라우팅 (hash_key 기준 consistent hashing)
+ *
+ * 같은 URL(hash_key) 생성 요청을 항상 한 노드(owner)로 모아서 owner는 GET_LOCK 대신 JVM 내 lock만 사용
+ * - 노드는 gRPC 주소(host:port)로 구분, self + members로 ring 구성 (모든 노드가 같은 목록이면 같은 owner)
+ * - owner가 다른 노드면 기존 CreateLink RPC로 전달 (같은 api-key, "x-forwarded-by" 표시 + "x-cluster-secret")
+ * - 전달 표시는 secret이 같고 보낸 노드가 현재 멤버일 때만 인정 (isTrustedForward)
+ * - 전달받은 요청은 ring과 상관없이 받은 노드에서 생성 (멤버 변경 중 전달 반복 방지)
+ * - owner에 연결할 수 없으면(UNAVAILABLE) 전달하지 않고 GET_LOCK으로 직접 생성
+ * - 멤버 변경은 updateMembers로 ring 교체, owner가 바뀌는 key는 추가/제거된 노드 몫(약 1/N)뿐
+ *
+ * 멤버 변경 직후나 owner 장애 중에는 같은 URL이 JVM lock과 GET_LOCK으로 동시에 생성될 수 있음
+ * (이 경우 같은 URL의 단축 코드가 하나 더 생길 뿐 잘못된 URL로 연결되지는 않음)
+ *
+ * 메트릭:
+ * - shortener.cluster.create{route=local|forwarded|fallback}: 생성 요청 처리 위치
+ * - shortener.cluster.members: 현재 ring의 노드 수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterRouter {
+
+	private static final Metadata.Key<String> API_KEY_METADATA_KEY =
+		Metadata.Key.of("x-api-key", Metadata.ASCII_STRING_MARSHALLER);
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${constant.cluster.enabled:false}")
+	private boolean enabled;
+
+	/**
+	 * 이 노드의 gRPC 주소 (다른 노드의 members에 적힌 값과 같아야 함)
+	 */
+	@Value("${constant.cluster.self:}")
+	private String self;
+
+	@Value("${constant.cluster.members:}")
+	private List<String> members;
+
+	@Value("${constant.cluster.virtual-nodes:160}")
+	private int virtualNodes = 160;
+
+	@Value("${constant.cluster.forward-timeout-millis:3000}")
+	private long forwardTimeoutMillis = 3000;
+
+	@Value("${grpc.server.api-key}")
+	private String apiKey;
+
+	/**
+	 * 노드 간 전달 요청 확인용 공유 secret (api-key와 별도, 클라이언트에게 주지 않음)
+	 */
+	@Value("${constant.cluster.secret:}")
+	private String secret;
+
+	private final AtomicReference<ConsistentHashRing> ring = new AtomicReference<>();
+	private final Map<String, ManagedChannel> channels = new ConcurrentHashMap<>();
+
+	private Counter localCounter;
+	private Counter forwardedCounter;
+	private Counter fallbackCounter;
+
+	@PostConstruct
+	void init() {
+		if (!enabled) {
+			return;
+		}
+		if (self == null || self.isBlank()) {
+			throw new IllegalStateException("constant.cluster.self is required when cluster routing is enabled");
+		}
+		if (secret == null || secret.isBlank()) {
+			throw new IllegalStateException("constant.cluster.secret is required when cluster routing is enabled");
+		}
+		updateMembers(members);
+
+		localCounter = routeCounter("local");
+		forwardedCounter = routeCounter("forwarded");
+		fallbackCounter = routeCounter("fallback");
+		Gauge.builder("shortener.cluster.members", ring, r -> r.get().nodes().size())
+			.description("Number of nodes in the create routing ring")
+			.register(meterRegistry);
+	}
+
+	private Counter routeCounter(String route) {
+		return Counter.builder("shortener.cluster.create")
+			.description("Create requests by where they were handled")
+			.tag("route", route)
+			.register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 멤버 목록 교체 (self는 항상 포함)
+	 * 빠진 노드의 채널은 닫음, 진행 중인 전달은 채널 종료 전까지 계속 처리
+	 */
+	public synchronized void updateMembers(Collection<String> newMembers) {
+		Set<String> nodes = new TreeSet<>();
+		for (String member : newMembers) {
+			if (member != null && !member.isBlank()) {
+				nodes.add(member.trim());
+			}
+		}
+		nodes.add(self);
+		ring.set(new ConsistentHashRing(nodes, virtualNodes));
+
+		channels.keySet().removeIf(node -> {
+			if (nodes.contains(node)) {
+				return false;
+			}
+			channels.get(node).shutdown();
+			return true;
+		});
+		log.info("Cluster members updated. self: {}, members: {}", self, nodes);
+	}
+
+	/**
+	 * @return owner가 다른 노드면 그 주소, 이 노드가 owner거나 다른 노드에서 전달받은 요청이면 empty
+	 */
+	public Optional<String> remoteOwner(byte[] hashKey) {
+		if (ClusterForwardInterceptor.FORWARDED_BY.get() == null) {
+			String owner = ring.get().ownerOf(hashKey);
+			if (!owner.equals(self)) {
+				return Optional.of(owner);
+			}
+		}
+		localCounter.increment();
+		return Optional.empty();
+	}
+
+	/**
+	 * cluster 노드가 보낸 전달 요청인지 확인
+	 * cluster 모드가 아니거나, secret이 다르거나, 보낸 노드가 현재 멤버가 아니면 false
+	 */
+	public boolean isTrustedForward(Metadata headers) {
+		if (!enabled) {
+			return false;
+		}
+		String forwardedBy = headers.get(ClusterForwardInterceptor.FORWARDED_BY_METADATA_KEY);
+		String presented = headers.get(ClusterForwardInterceptor.CLUSTER_SECRET_METADATA_KEY);
+		if (forwardedBy == null || presented == null) {
+			return false;
+		}
+		boolean secretMatches = MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8),
+			presented.getBytes(StandardCharsets.UTF_8));
+		return secretMatches && ring.get().nodes().contains(forwardedBy);
+	}
+
+	/**
+	 * owner 노드에 CreateLink 전달
+	 * 호출자 gRPC Context의 deadline/취소가 그대로 전달됨 (forward-timeout-millis가 더 짧으면 그 값)
+	 *
+	 * @return owner의 응답, owner에 연결할 수 없으면 empty (호출자가 직접 생성)
+	 */
+	public Optional<ShortUrlCreateResponse> forward(String owner, String redirectUrl) {
+		Metadata headers = new Metadata();
+		headers.put(API_KEY_METADATA_KEY, apiKey);
+		headers.put(ClusterForwardInterceptor.FORWARDED_BY_METADATA_KEY, self);
+		headers.put(ClusterForwardInterceptor.CLUSTER_SECRET_METADATA_KEY, secret);
+
+		UrlShortenerRpcGrpc.UrlShortenerRpcBlockingStub stub = UrlShortenerRpcGrpc.newBlockingStub(channel(owner))
+			.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers))
+			.withDeadlineAfter(forwardTimeoutMillis, TimeUnit.MILLISECONDS);
+		try {
+			CreateLinkResponse response = stub.createLink(
+				CreateLinkRequest.newBuilder().setRedirectUrl(redirectUrl).build());
+			forwardedCounter.increment();
+			return Optional.of(new ShortUrlCreateResponse(response.getShortCode(), response.getShortUrl()));
+		} catch (StatusRuntimeException e) {
+			if (e.getStatus().getCode() == Status.Code.UNAVAILABLE) {
+				log.warn("Cluster owner unavailable, creating locally. owner: {}", owner);
+				fallbackCounter.increment();
+				return Optional.empty();
+			}
+			throw toCustomException(owner, e.getStatus());
+		}
+	}
+
+	private ManagedChannel channel(String node) {
+		return channels.computeIfAbsent(node, target -> ManagedChannelBuilder.forTarget(target)
+			.usePlaintext()
+			.build());
+	}
+
+	/**
+	 * owner가 돌려준 Status를 이 노드의 ErrorCode로 변환 (GrpcExceptionHandler 매핑의 역방향)
+	 */
+	static CustomException toCustomException(String owner, Status status) {
+		ErrorCode errorCode = switch (status.getCode()) {
+			case INVALID_ARGUMENT -> ErrorCode.INVALID_ARGUMENT_ERROR;
+			case DEADLINE_EXCEEDED -> ErrorCode.DEADLINE_EXCEEDED;
+			case CANCELLED -> ErrorCode.REQUEST_CANCELLED;
+			case RESOURCE_EXHAUSTED -> ErrorCode.CONCURRENCY_LIMIT_EXCEEDED;
+			default -> ErrorCode.URL_GENERATION_FAILED;
+		};
+		return errorCode.baseException("Forwarded create failed. owner: %s, status: %s, description: %s",
+			owner, status.getCode(), status.getDescription());
+	}
+
+	@PreDestroy
+	void shutdown() {
+		channels.values().forEach(ManagedChannel::shutdown);
+		channels.clear();
+	}
+}
@@ -0,0 +1,127 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.util.GradientLimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단건 생성 동시 처리 한도
+ *
+ * 커넥션 풀보다 많은 요청이 몰리면 GET_LOCK이 커넥션을 잡은 채 대기해서
+ * 나머지 요청이 connection-timeout까지 기다리다 한꺼번에 실패함
+ * 처리 시간을 보고 한도를 조정하고(GradientLimit), 한도를 넘는 요청은 대기 없이 CONCURRENCY_LIMIT_EXCEEDED로 거절
+ *
+ * 과부하 신호 (한도 즉시 감소):
+ * - 커넥션 획득 실패, 쿼리/트랜잭션 timeout, 호출자 deadline 초과
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CreateConcurrencyLimiter {
+
+	private static final String METRIC_PREFIX = "shortener.concurrency_limit";
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${constant.create.concurrency-limit.enabled:true}")
+	private boolean enabled = true;
+
+	@Value("${constant.create.concurrency-limit.initial-limit:20}")
+	private int initialLimit = 20;
+
+	@Value("${constant.create.concurrency-limit.min-limit:2}")
+	private int minLimit = 2;
+
+	@Value("${constant.create.concurrency-limit.max-limit:200}")
+	private int maxLimit = 200;
+
+	@Value("${constant.create.concurrency-limit.smoothing:0.2}")
+	private double smoothing = 0.2;
+
+	@Value("${constant.create.concurrency-limit.tolerance:1.5}")
+	private double tolerance = 1.5;
+
+	@Value("${constant.create.concurrency-limit.long-window:600}")
+	private int longWindow = 600;
+
+	private GradientLimit limit;
+	private Counter rejected;
+
+	@PostConstruct
+	void init() {
+		limit = new GradientLimit(initialLimit, minLimit, maxLimit, smoothing, tolerance, longWindow);
+		rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+			.description("create requests rejected because the concurrency limit was reached")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".limit", limit, GradientLimit::getLimit)
+			.description("current adaptive concurrency limit for creates")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".in_flight", limit, GradientLimit::getInFlight)
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".long_rtt", limit, GradientLimit::getLongRttMillis)
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+	}
+
+	public <T> T execute(Supplier<T> work) {
+		if (!enabled) {
+			return work.get();
+		}
+		int inFlight = limit.tryAcquire();
+		if (inFlight < 0) {
+			rejected.increment();
+			throw ErrorCode.CONCURRENCY_LIMIT_EXCEEDED.baseException("Create concurrency limit reached. limit: %d",
+				limit.getLimit());
+		}
+
+		long start = System.nanoTime();
+		boolean succeeded = false;
+		boolean dropped = false;
+		try {
+			T result = work.get();
+			succeeded = true;
+			return result;
+		} catch (RuntimeException e) {
+			dropped = isOverload(e);
+			throw e;
+		} finally {
+			// Error 등 RuntimeException이 아닌 예외도 permit을 반납하도록 finally에서 결과 기록
+			if (succeeded) {
+				limit.onSuccess(System.nanoTime() - start, inFlight);
+			} else if (dropped) {
+				limit.onDropped();
+				log.debug("Create dropped by overload. limit: {}", limit.getLimit());
+			} else {
+				limit.onIgnore();
+			}
+		}
+	}
+
+	int currentLimit() {
+		return limit.getLimit();
+	}
+
+	private static boolean isOverload(RuntimeException e) {
+		if (e instanceof CustomException customException) {
+			return customException.getErrorCode() == ErrorCode.DEADLINE_EXCEEDED;
+		}
+		return e instanceof CannotCreateTransactionException
+			|| e instanceof QueryTimeoutException
+			|| e instanceof TransactionTimedOutException;
+	}
+}
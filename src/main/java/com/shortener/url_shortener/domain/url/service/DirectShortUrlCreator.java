@@ -0,0 +1,81 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Supplier;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.global.util.RequestDeadline;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청마다 개별 트랜잭션으로 저장 (기본값)
+ * 동시 처리 수는 CreateConcurrencyLimiter 한도 안으로 제한 (초과 시 대기 없이 거절)
+ *
+ * 호출자 deadline이 있으면
+ * - 이미 지난 요청은 커넥션을 잡기 전에 거절
+ * - 남은 시간을 트랜잭션 timeout으로 설정해서 JPA/JdbcTemplate 문장마다 query timeout으로 적용
+ *
+ * cluster 모드(constant.cluster.enabled)면 hash_key owner 노드에서 생성 (ClusterRouter)
+ */
+@Component
+@ConditionalOnProperty(name = "constant.create.mode", havingValue = "direct", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DirectShortUrlCreator implements ShortUrlCreator {
+
+	private final ShortUrlService shortUrlService;
+	private final PlatformTransactionManager transactionManager;
+	private final RequestDeadline requestDeadline;
+	private final CreateConcurrencyLimiter createConcurrencyLimiter;
+	private final ClusterRouter clusterRouter;
+
+	@Override
+	public ShortUrlCreateResponse createLink(String redirectUrl) {
+		requestDeadline.checkNotExpired("connection");
+		if (clusterRouter.isEnabled()) {
+			return createOnOwner(redirectUrl);
+		}
+		return create(() -> shortUrlService.createLink(redirectUrl));
+	}
+
+	/**
+	 * - owner가 이 노드면 JVM 내 lock으로 생성
+	 * - 다른 노드면 owner로 전달, owner에 연결할 수 없으면 GET_LOCK으로 직접 생성
+	 * 전달은 DB 커넥션을 쓰지 않으므로 동시 처리 한도 밖에서 실행 (owner가 자기 한도로 제한)
+	 */
+	private ShortUrlCreateResponse createOnOwner(String redirectUrl) {
+		Optional<String> owner = clusterRouter.remoteOwner(shortUrlService.routingKey(redirectUrl));
+		if (owner.isEmpty()) {
+			return create(() -> shortUrlService.createLinkWithLocalLock(redirectUrl));
+		}
+		return clusterRouter.forward(owner.get(), redirectUrl)
+			.orElseGet(() -> create(() -> shortUrlService.createLink(redirectUrl)));
+	}
+
+	private ShortUrlCreateResponse create(Supplier<ShortUrlCreateResponse> creation) {
+		return createConcurrencyLimiter.execute(() -> createWithinDeadline(creation));
+	}
+
+	private ShortUrlCreateResponse createWithinDeadline(Supplier<ShortUrlCreateResponse> creation) {
+		OptionalInt timeoutSeconds = requestDeadline.remainingSeconds();
+		if (timeoutSeconds.isEmpty()) {
+			return creation.get();
+		}
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setTimeout(timeoutSeconds.getAsInt());
+		try {
+			return transactionTemplate.execute(status -> creation.get());
+		} catch (TransactionTimedOutException | QueryTimeoutException e) {
+			throw requestDeadline.expired("jdbc");
+		}
+	}
+}
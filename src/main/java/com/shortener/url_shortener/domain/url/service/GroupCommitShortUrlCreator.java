@@ -0,0 +1,232 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchCreateResponse.Item;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.util.RequestDeadline;
+import com.shortener.url_shortener.global.util.UrlCanonicalizer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Group commit 생성
+ *
+ * 동작:
+ * 1. 요청 스레드는 URL 검증 후 큐에 넣고 커밋 완료를 대기
+ * 2. committer 스레드가 첫 요청부터 max-delay 동안(또는 max-batch-size까지) 요청을 모음
+ * 3. 모은 요청을 트랜잭션 하나, multi-row INSERT 하나, 커밋 하나로 저장 (일괄 생성 chunk 경로 재사용)
+ * 4. 커밋이 끝난 뒤 각 요청을 완료
+ *
+ * 실패 격리:
+ * - short_code 충돌/락 획득 실패 시 해당 묶음만 단건 경로로 다시 저장해서 문제 항목만 실패
+ * - 큐가 가득 차면 대기하지 않고 SERVER_BUSY로 즉시 거절
+ * - 요청 스레드는 호출자 deadline과 max-wait-millis 중 짧은 시간만 대기, 초과 시 DEADLINE_EXCEEDED
+ *   (대기를 포기한 요청은 아직 커밋 전이면 묶음에서 제외)
+ * - committer 스레드가 어떤 이유로든 종료되면 새 요청은 거절하고 대기 중인 요청은 모두 실패 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "constant.create.mode", havingValue = "group-commit")
+@RequiredArgsConstructor
+public class GroupCommitShortUrlCreator implements ShortUrlCreator {
+
+	private static final String METRIC_PREFIX = "shortener.group_commit";
+
+	private final ShortUrlService shortUrlService;
+	private final ShortUrlBatchService shortUrlBatchService;
+	private final MeterRegistry meterRegistry;
+	private final UrlCanonicalizer urlCanonicalizer;
+	private final RequestDeadline requestDeadline;
+
+	@Value("${constant.create.group-commit.max-batch-size:200}")
+	private int maxBatchSize;
+
+	@Value("${constant.create.group-commit.max-delay-millis:5}")
+	private long maxDelayMillis;
+
+	@Value("${constant.create.group-commit.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${constant.create.group-commit.max-wait-millis:5000}")
+	private long maxWaitMillis;
+
+	private BlockingQueue<PendingCreate> queue;
+	private Thread committer;
+	private volatile boolean running;
+
+	private DistributionSummary batchSizes;
+	private Counter rejected;
+
+	private record PendingCreate(String redirectUrl, CompletableFuture<ShortUrlCreateResponse> result) {
+	}
+
+	@PostConstruct
+	void start() {
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		batchSizes = DistributionSummary.builder(METRIC_PREFIX + ".batch_size")
+			.description("create requests persisted by a single commit")
+			.register(meterRegistry);
+		rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+			.description("create requests rejected because the group commit queue was full")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".queue_size", this, creator -> creator.queue.size())
+			.register(meterRegistry);
+
+		running = true;
+		committer = new Thread(this::runCommitter, "group-committer");
+		committer.setDaemon(true);
+		committer.start();
+	}
+
+	@Override
+	public ShortUrlCreateResponse createLink(String requestedUrl) {
+		shortUrlService.validateRedirectUrl(requestedUrl);
+		String redirectUrl = urlCanonicalizer.canonicalize(requestedUrl);
+
+		long waitMillis = requestDeadline.waitMillis(maxWaitMillis, "group_commit");
+
+		PendingCreate pending = new PendingCreate(redirectUrl, new CompletableFuture<>());
+		if (!running || !queue.offer(pending)) {
+			rejected.increment();
+			throw ErrorCode.SERVER_BUSY.baseException("Group commit queue is full. capacity: %d", queueCapacity);
+		}
+		// offer 직후 committer가 종료됐으면 큐에 남은 요청을 꺼낼 스레드가 없음
+		if (!running && queue.remove(pending)) {
+			rejected.increment();
+			throw ErrorCode.SERVER_BUSY.baseException("Group committer stopped. redirectUrl: %s", redirectUrl);
+		}
+
+		try {
+			return pending.result().get(waitMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			pending.result().cancel(false);
+			throw requestDeadline.expired("group_commit");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			pending.result().cancel(false);
+			throw ErrorCode.URL_GENERATION_FAILED.baseException("Group commit interrupted. redirectUrl: %s",
+				redirectUrl);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CustomException customException) {
+				throw customException;
+			}
+			throw ErrorCode.URL_GENERATION_FAILED.baseException("Group commit failed. redirectUrl: %s", redirectUrl);
+		}
+	}
+
+	private void runCommitter() {
+		List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+		long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+		try {
+			while (running) {
+				PendingCreate first = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+
+				// 첫 요청 기준 max-delay까지만 대기, 이미 쌓인 요청은 대기 없이 가져옴
+				long deadline = System.nanoTime() + maxDelayNanos;
+				while (batch.size() < maxBatchSize) {
+					long remaining = deadline - System.nanoTime();
+					PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+
+				commit(batch);
+				batch.clear();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException | Error e) {
+			log.error("Group committer stopped unexpectedly. pending: {}", batch.size() + queue.size(), e);
+			throw e;
+		} finally {
+			// 종료 원인과 관계없이 새 요청을 막고 처리 중/대기 중인 요청을 모두 실패 처리
+			running = false;
+			failAll(batch);
+			List<PendingCreate> remaining = new ArrayList<>();
+			queue.drainTo(remaining);
+			failAll(remaining);
+		}
+	}
+
+	private void commit(List<PendingCreate> batch) {
+		Map<String, List<PendingCreate>> waitersByUrl = new LinkedHashMap<>();
+		for (PendingCreate pending : batch) {
+			// 이미 대기를 포기(취소)한 요청은 저장하지 않음
+			if (pending.result().isDone()) {
+				continue;
+			}
+			waitersByUrl.computeIfAbsent(pending.redirectUrl(), key -> new ArrayList<>()).add(pending);
+		}
+
+		if (waitersByUrl.isEmpty()) {
+			return;
+		}
+
+		Map<String, Item> results;
+		try {
+			results = shortUrlBatchService.createChunk(new ArrayList<>(waitersByUrl.keySet()));
+		} catch (Exception e) {
+			log.error("Group commit failed. size: {}", batch.size(), e);
+			failAll(batch);
+			return;
+		}
+		batchSizes.record(batch.size());
+
+		waitersByUrl.forEach((redirectUrl, waiters) -> {
+			Item item = results.get(redirectUrl);
+			for (PendingCreate waiter : waiters) {
+				if (item != null && item.succeeded()) {
+					waiter.result().complete(new ShortUrlCreateResponse(item.shortCode(), item.url()));
+				} else {
+					ErrorCode errorCode = item == null ? ErrorCode.URL_GENERATION_FAILED : item.errorCode();
+					waiter.result().completeExceptionally(
+						errorCode.baseException("Group commit failed. redirectUrl: %s", redirectUrl));
+				}
+			}
+		});
+	}
+
+	private void failAll(List<PendingCreate> batch) {
+		for (PendingCreate pending : batch) {
+			pending.result().completeExceptionally(
+				ErrorCode.URL_GENERATION_FAILED.baseException("Group commit aborted. redirectUrl: %s",
+					pending.redirectUrl()));
+		}
+	}
+
+	@PreDestroy
+	void shutdown() throws InterruptedException {
+		running = false;
+		committer.join(TimeUnit.SECONDS.toMillis(5));
+		committer.interrupt();
+	}
+}
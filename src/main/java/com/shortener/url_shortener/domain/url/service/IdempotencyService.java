@@ -0,0 +1,186 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.entity.IdempotencyKey;
+import com.shortener.url_shortener.domain.url.repository.IdempotencyKeyRepository;
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.util.HashGenerator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 기반 생성 결과 재사용
+ *
+ * 동작:
+ * 1. 로컬 캐시(LRU, TTL) → idempotency_key 테이블 순으로 결과 조회, 있으면 생성 경로(lock/INSERT) 없이 반환
+ * 2. 없으면 첫 요청만 생성하고 같은 키의 동시 요청은 첫 요청 결과를 대기
+ * 3. 생성 성공 결과만 저장 (실패는 저장하지 않아서 재시도 시 다시 생성)
+ *
+ * - 같은 키를 다른 URL에 쓰면 IDEMPOTENCY_KEY_REUSED
+ * - 대기는 노드 안에서만 하고, 노드 간 동시 요청은 같은 URL이면 lock으로 같은 코드가 나와서 결과가 같음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+	private static final String METRIC_PREFIX = "shortener.idempotency";
+	private static final int MAX_KEY_LENGTH = 128;
+
+	private final IdempotencyKeyRepository idempotencyKeyRepository;
+	private final ShortUrlService shortUrlService;
+	private final HashGenerator hashGenerator;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${constant.idempotency.ttl-seconds:86400}")
+	private long ttlSeconds;
+
+	@Value("${constant.idempotency.cache-size:10000}")
+	private int cacheSize;
+
+	@Value("${constant.idempotency.wait-timeout-millis:3000}")
+	private long waitTimeoutMillis;
+
+	private Map<String, IdempotencyKey> cache;
+	private final ConcurrentHashMap<String, CompletableFuture<IdempotencyKey>> inFlight = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	void init() {
+		cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, IdempotencyKey> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * @param idempotencyKey 클라이언트가 보낸 키
+	 * @param redirectUrl 요청 URL
+	 * @param creator 실제 생성 (결과가 없을 때 키당 한 번만 호출)
+	 */
+	public ShortUrlCreateResponse createLink(String idempotencyKey, String redirectUrl,
+		Supplier<ShortUrlCreateResponse> creator) {
+		validateKey(idempotencyKey);
+		byte[] requestHash = hashGenerator.hash(redirectUrl);
+
+		IdempotencyKey cached = getCached(idempotencyKey);
+		if (cached != null) {
+			return replay(cached, requestHash, "cache");
+		}
+
+		CompletableFuture<IdempotencyKey> mine = new CompletableFuture<>();
+		CompletableFuture<IdempotencyKey> first = inFlight.putIfAbsent(idempotencyKey, mine);
+		if (first != null) {
+			return replay(await(idempotencyKey, first), requestHash, "in_flight");
+		}
+
+		try {
+			// 캐시 확인과 putIfAbsent 사이에 앞선 요청이 끝났을 수 있음
+			cached = getCached(idempotencyKey);
+			if (cached != null) {
+				mine.complete(cached);
+				return replay(cached, requestHash, "cache");
+			}
+
+			LocalDateTime now = LocalDateTime.now();
+			Optional<IdempotencyKey> stored = idempotencyKeyRepository.findValid(idempotencyKey, now);
+			if (stored.isPresent()) {
+				putCached(stored.get());
+				mine.complete(stored.get());
+				return replay(stored.get(), requestHash, "db");
+			}
+
+			ShortUrlCreateResponse response = creator.get();
+			IdempotencyKey result = new IdempotencyKey(idempotencyKey, requestHash, response.shortCode(),
+				now.plusSeconds(ttlSeconds));
+			try {
+				idempotencyKeyRepository.save(result, now);
+			} catch (DataAccessException e) {
+				// 생성은 이미 끝났으므로 응답은 그대로 반환 (다른 노드에서의 재시도만 다시 생성 경로를 탐)
+				log.warn("Failed to save idempotency key. key: {}", idempotencyKey, e);
+			}
+			putCached(result);
+			mine.complete(result);
+			return response;
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(idempotencyKey, mine);
+		}
+	}
+
+	private IdempotencyKey await(String idempotencyKey, CompletableFuture<IdempotencyKey> first) {
+		try {
+			return first.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			throw ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS.baseException("Idempotency key in progress. key: %s",
+				idempotencyKey);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw ErrorCode.REQUEST_CANCELLED.baseException("Interrupted while waiting. key: %s", idempotencyKey);
+		} catch (ExecutionException e) {
+			// 첫 요청의 실패를 그대로 전달 (저장하지 않으므로 이후 재시도는 다시 생성)
+			if (e.getCause() instanceof CustomException customException) {
+				throw customException;
+			}
+			throw ErrorCode.URL_GENERATION_FAILED.baseException("First request failed. key: %s", idempotencyKey);
+		}
+	}
+
+	private ShortUrlCreateResponse replay(IdempotencyKey stored, byte[] requestHash, String source) {
+		if (!Arrays.equals(stored.getRequestHash(), requestHash)) {
+			throw ErrorCode.IDEMPOTENCY_KEY_REUSED.baseException("Idempotency key reused with another URL. key: %s",
+				stored.getIdempotencyKey());
+		}
+		meterRegistry.counter(METRIC_PREFIX + ".replayed", "source", source).increment();
+		return new ShortUrlCreateResponse(stored.getShortCode(), shortUrlService.toShortUrl(stored.getShortCode()));
+	}
+
+	private void validateKey(String idempotencyKey) {
+		if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw ErrorCode.INVALID_ARGUMENT_ERROR.baseException("Invalid idempotency key length: %d",
+				idempotencyKey.length());
+		}
+		for (int i = 0; i < idempotencyKey.length(); i++) {
+			char c = idempotencyKey.charAt(i);
+			if (c < 0x21 || c > 0x7E) {
+				throw ErrorCode.INVALID_ARGUMENT_ERROR.baseException("Idempotency key must be visible ASCII");
+			}
+		}
+	}
+
+	private synchronized IdempotencyKey getCached(String idempotencyKey) {
+		IdempotencyKey cached = cache.get(idempotencyKey);
+		if (cached != null && cached.isExpired(LocalDateTime.now())) {
+			cache.remove(idempotencyKey);
+			return null;
+		}
+		return cached;
+	}
+
+	private synchronized void putCached(IdempotencyKey result) {
+		cache.put(result.getIdempotencyKey(), result);
+	}
+}
@@ -0,0 +1,52 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.global.error.ErrorCode;
+
+/**
+ * hash_key 단위 JVM 내 lock (cluster 모드에서 owner 노드가 GET_LOCK 대신 사용)
+ *
+ * - hash_key마다 lock을 만들지 않고 고정 개수 stripe에 나눠 담음 (메모리 고정, 다른 key끼리 가끔 같은 stripe 공유)
+ * - stripe는 hash_key 8~11번째 바이트로 선택 (앞 8바이트는 ring 위치라 owner 노드 안에서는 한쪽에 몰려 있음)
+ * - ReentrantLock이라 잡은 스레드에서 풀어야 함 (트랜잭션 afterCompletion은 같은 스레드에서 실행)
+ */
+@Component
+public class LocalUrlLocks {
+
+	private static final int STRIPES = 4096;
+
+	private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+	public LocalUrlLocks() {
+		for (int i = 0; i < STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * @param timeoutSeconds 최대 대기 시간, 0이면 기다리지 않음
+	 * @return 획득 여부
+	 */
+	public boolean tryLock(byte[] hashKey, int timeoutSeconds) {
+		try {
+			return stripe(hashKey).tryLock(timeoutSeconds, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw ErrorCode.REQUEST_CANCELLED.baseException("Interrupted while waiting for local lock");
+		}
+	}
+
+	public void unlock(byte[] hashKey) {
+		stripe(hashKey).unlock();
+	}
+
+	private ReentrantLock stripe(byte[] hashKey) {
+		int value = ((hashKey[8] & 0xFF) << 24) | ((hashKey[9] & 0xFF) << 16)
+			| ((hashKey[10] & 0xFF) << 8) | (hashKey[11] & 0xFF);
+		return locks[value & (STRIPES - 1)];
+	}
+}
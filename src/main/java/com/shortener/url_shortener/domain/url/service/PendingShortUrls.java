@@ -0,0 +1,67 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+
+/**
+ * 아직 DB에 반영되지 않은 단축 URL (write-behind 모드)
+ *
+ * - 생성 직후부터 drain 완료 전까지 getLink/중복 확인이 이 캐시를 먼저 조회
+ * - 다른 생성 모드에서는 항상 비어 있음
+ */
+@Component
+public class PendingShortUrls {
+
+	private final Map<String, ShortUrl> byShortCode = new ConcurrentHashMap<>();
+	private final Map<String, ShortUrl> byRedirectUrl = new ConcurrentHashMap<>();
+
+	public Optional<ShortUrl> findByShortCode(String shortCode) {
+		return Optional.ofNullable(byShortCode.get(shortCode));
+	}
+
+	public Optional<ShortUrl> findByRedirectUrl(String redirectUrl) {
+		return Optional.ofNullable(byRedirectUrl.get(redirectUrl));
+	}
+
+	/**
+	 * redirectUrl에 대한 대기 중 URL이 없을 때만 factory 결과를 등록
+	 * factory는 redirectUrl 단위로 원자적으로 실행되므로 동일 URL 동시 생성 시 하나만 만들어짐
+	 *
+	 * @return 등록된(또는 이미 있던) 대기 중 URL
+	 */
+	public ShortUrl computeIfAbsent(String redirectUrl, Function<String, ShortUrl> factory) {
+		return byRedirectUrl.computeIfAbsent(redirectUrl, key -> {
+			ShortUrl shortUrl = factory.apply(key);
+			byShortCode.put(shortUrl.getShortCode(), shortUrl);
+			return shortUrl;
+		});
+	}
+
+	public boolean containsShortCode(String shortCode) {
+		return byShortCode.containsKey(shortCode);
+	}
+
+	/**
+	 * drain 완료 또는 삭제 시 제거
+	 *
+	 * @return 대기 중이던 URL이면 true
+	 */
+	public boolean remove(String shortCode) {
+		ShortUrl removed = byShortCode.remove(shortCode);
+		if (removed == null) {
+			return false;
+		}
+		byRedirectUrl.remove(removed.getRedirectionUrl(), removed);
+		return true;
+	}
+
+	public int size() {
+		return byShortCode.size();
+	}
+}
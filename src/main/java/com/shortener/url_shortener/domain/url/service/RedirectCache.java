@@ -0,0 +1,127 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 노드별 리다이렉트 조회 캐시 (short_code → ShortUrl, LRU + TTL)
+ *
+ * - 만료/삭제 여부는 꺼낸 뒤 getLink에서 다시 판단 (만료 정리로 지워지는 row는 무효화하지 않아도 됨)
+ * - 삭제는 UrlInvalidationLog로 모든 노드에 전파되어 evict
+ * - evict마다 generation을 올려서 evict 전에 DB에서 읽은 값은 넣지 않음
+ *   (조회 전 generation을 받아두고 put 때 달라졌으면 버림)
+ *
+ * 메트릭:
+ * - shortener.redirect_cache.requests{result=hit|miss}
+ * - shortener.redirect_cache.size
+ */
+@Component
+@RequiredArgsConstructor
+public class RedirectCache {
+
+	private static final String METRIC_PREFIX = "shortener.redirect_cache";
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${constant.redirect-cache.enabled:false}")
+	private boolean enabled;
+
+	@Value("${constant.redirect-cache.size:100000}")
+	private int cacheSize = 100_000;
+
+	@Value("${constant.redirect-cache.ttl-seconds:300}")
+	private long ttlSeconds = 300;
+
+	private Map<String, Entry> cache;
+	private long generation;
+
+	private Counter hits;
+	private Counter misses;
+
+	@PostConstruct
+	void init() {
+		cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > cacheSize;
+			}
+		};
+		hits = meterRegistry.counter(METRIC_PREFIX + ".requests", "result", "hit");
+		misses = meterRegistry.counter(METRIC_PREFIX + ".requests", "result", "miss");
+		Gauge.builder(METRIC_PREFIX + ".size", this, RedirectCache::size)
+			.register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public synchronized Optional<ShortUrl> get(String shortCode) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+		Entry entry = cache.get(shortCode);
+		if (entry != null && System.nanoTime() - entry.loadedAtNanos() >= TimeUnit.SECONDS.toNanos(ttlSeconds)) {
+			cache.remove(shortCode);
+			entry = null;
+		}
+		if (entry == null) {
+			misses.increment();
+			return Optional.empty();
+		}
+		hits.increment();
+		return Optional.of(entry.shortUrl());
+	}
+
+	/**
+	 * @return 조회 전 받아둘 값 (put에 전달)
+	 */
+	public synchronized long generation() {
+		return generation;
+	}
+
+	/**
+	 * @param loadedGeneration 조회 전 generation(), 그 사이 evict가 있었으면 넣지 않음
+	 */
+	public synchronized void put(String shortCode, ShortUrl shortUrl, long loadedGeneration) {
+		if (!enabled || loadedGeneration != generation) {
+			return;
+		}
+		cache.put(shortCode, new Entry(shortUrl, System.nanoTime()));
+	}
+
+	public synchronized void evict(Collection<String> shortCodes) {
+		generation++;
+		if (cache != null) {
+			shortCodes.forEach(cache::remove);
+		}
+	}
+
+	public synchronized void clear() {
+		generation++;
+		if (cache != null) {
+			cache.clear();
+		}
+	}
+
+	synchronized int size() {
+		return cache == null ? 0 : cache.size();
+	}
+
+	private record Entry(ShortUrl shortUrl, long loadedAtNanos) {
+	}
+}
@@ -0,0 +1,330 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchCreateResponse;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchCreateResponse.Item;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchDeleteResponse;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+import com.shortener.url_shortener.domain.url.generator.ShortCodeGenerator;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlLockRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlRepository;
+import com.shortener.url_shortener.domain.url.service.ShortUrlService.CreateResult;
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.util.Base62Encoder;
+import com.shortener.url_shortener.global.util.HashGenerator;
+import com.shortener.url_shortener.global.util.RequestDeadline;
+import com.shortener.url_shortener.global.util.ShortenerStringUtil;
+import com.shortener.url_shortener.global.util.TsidGenerator;
+import com.shortener.url_shortener.global.util.UrlCanonicalizer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단축 URL 일괄 생성
+ *
+ * 동작:
+ * 1. 모든 URL 검증 (실패 항목은 항목별 에러로 반환)
+ * 2. 요청 내 중복 URL 제거
+ * 3. chunk-size 단위로 트랜잭션 하나씩 처리
+ *    - chunk의 모든 hash_key named lock을 정렬된 순서로 한 번에 획득
+ *    - hash_key IN (...) 조회 한 번으로 기존 매핑 확인
+ *    - 신규 URL은 JDBC batch insert
+ * 4. short_code 충돌/락 획득 실패 시 해당 chunk만 단건 createLink로 처리 (항목별 에러 격리)
+ * 5. 요청 순서대로 결과 반환
+ *
+ * 일괄 삭제도 같은 방식으로 chunk-size 단위 트랜잭션에서 DELETE ... WHERE short_code IN (...) 한 번씩 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShortUrlBatchService {
+
+	private final ShortUrlService shortUrlService;
+	private final ShortUrlRepository shortUrlRepository;
+	private final ShortUrlJpaRepository shortUrlJpaRepository;
+	private final ShortUrlLockRepository shortUrlLockRepository;
+	private final ShortUrlBloomFilter shortUrlBloomFilter;
+	private final ShortCodeGenerator shortCodeGenerator;
+	private final TsidGenerator tsidGenerator;
+	private final HashGenerator hashGenerator;
+	private final TransactionTemplate transactionTemplate;
+	private final UrlCanonicalizer urlCanonicalizer;
+	private final RequestDeadline requestDeadline;
+	private final Base62Encoder base62Encoder;
+	private final PendingShortUrls pendingShortUrls;
+	private final UrlInvalidationLog urlInvalidationLog;
+
+	@Value("${constant.batch.max-size:1000}")
+	private int maxBatchSize;
+
+	@Value("${constant.batch.chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${constant.default-expiration-days}")
+	private int defaultExpirationDays;
+
+	@Value("${constant.hash.lock-timeout-seconds:3}")
+	private int lockTimeoutSeconds;
+
+	@Value("${constant.delete.soft:false}")
+	private boolean softDelete;
+
+	public ShortUrlBatchCreateResponse createLinks(List<String> redirectUrls) {
+		if (redirectUrls == null || redirectUrls.isEmpty() || redirectUrls.size() > maxBatchSize) {
+			throw ErrorCode.INVALID_ARGUMENT_ERROR.baseException(
+				ShortenerStringUtil.format("Invalid batch size. size: {}, max: {}",
+					redirectUrls == null ? 0 : redirectUrls.size(), maxBatchSize)
+			);
+		}
+
+		return new ShortUrlBatchCreateResponse(process(redirectUrls));
+	}
+
+	/**
+	 * 대량 이관용 일괄 생성
+	 * 요청 크기 제한 없이 chunk-size 단위 트랜잭션으로 처리하므로 호출자가 묶음 크기를 조절해야 함
+	 *
+	 * @param redirectUrls 저장할 URL 묶음
+	 * @return 요청 순서와 동일한 항목별 결과
+	 */
+	public List<Item> importLinks(List<String> redirectUrls) {
+		if (redirectUrls.isEmpty()) {
+			return List.of();
+		}
+		return process(redirectUrls);
+	}
+
+	/**
+	 * 단축 URL 일괄 삭제
+	 * 잘못된 short_code는 항목별 에러, 없는 short_code는 found=false
+	 *
+	 * @param shortCodes 삭제할 short_code (요청 내 중복 허용)
+	 * @return 요청 순서와 동일한 항목별 결과
+	 */
+	public ShortUrlBatchDeleteResponse deleteLinks(List<String> shortCodes) {
+		if (shortCodes == null || shortCodes.isEmpty() || shortCodes.size() > maxBatchSize) {
+			throw ErrorCode.INVALID_ARGUMENT_ERROR.baseException(
+				ShortenerStringUtil.format("Invalid batch size. size: {}, max: {}",
+					shortCodes == null ? 0 : shortCodes.size(), maxBatchSize)
+			);
+		}
+
+		ShortUrlBatchDeleteResponse.Item[] results = new ShortUrlBatchDeleteResponse.Item[shortCodes.size()];
+		Map<String, List<Integer>> indicesByCode = new LinkedHashMap<>();
+		for (int i = 0; i < shortCodes.size(); i++) {
+			String shortCode = shortCodes.get(i);
+			if (!base62Encoder.isValid(shortCode)) {
+				results[i] = ShortUrlBatchDeleteResponse.Item.failure(shortCode, ErrorCode.INVALID_KEY_ERROR);
+				continue;
+			}
+			indicesByCode.computeIfAbsent(shortCode, key -> new ArrayList<>()).add(i);
+		}
+
+		List<String> distinctCodes = new ArrayList<>(indicesByCode.keySet());
+		for (int from = 0; from < distinctCodes.size(); from += chunkSize) {
+			// 다음 chunk를 시작하기 전 취소/deadline 확인 (이미 지운 chunk는 그대로 유지)
+			requestDeadline.checkNotExpired("batch_delete");
+			List<String> chunk = distinctCodes.subList(from, Math.min(from + chunkSize, distinctCodes.size()));
+			Set<String> found = deleteChunk(chunk);
+			for (String shortCode : chunk) {
+				ShortUrlBatchDeleteResponse.Item item =
+					ShortUrlBatchDeleteResponse.Item.of(shortCode, found.contains(shortCode));
+				indicesByCode.get(shortCode).forEach(index -> results[index] = item);
+			}
+		}
+
+		return new ShortUrlBatchDeleteResponse(Arrays.asList(results));
+	}
+
+	/**
+	 * write-behind 대기 URL을 먼저 지우고(deleteLink와 같은 순서) DB row를 한 문장으로 삭제
+	 * soft delete면 DELETE 대신 tombstone UPDATE (Bloom Filter 제거 수는 물리 삭제 때 반영)
+	 * 지운 short_code는 같은 트랜잭션에서 무효화 로그에 기록
+	 *
+	 * @return 대기 URL 또는 DB row가 있었던 short_code
+	 */
+	private Set<String> deleteChunk(List<String> shortCodes) {
+		Set<String> found = new HashSet<>();
+		for (String shortCode : shortCodes) {
+			if (pendingShortUrls.remove(shortCode)) {
+				found.add(shortCode);
+			}
+		}
+		List<String> deleted = transactionTemplate.execute(status -> {
+			List<String> rows = softDelete
+				? shortUrlRepository.tombstoneAllByShortCodes(shortCodes)
+				: shortUrlRepository.deleteAllByShortCodes(shortCodes);
+			Set<String> invalidated = new HashSet<>(found);
+			invalidated.addAll(rows);
+			urlInvalidationLog.append(invalidated);
+			return rows;
+		});
+		if (!softDelete) {
+			shortUrlBloomFilter.recordRemovals(deleted.size());
+		}
+		found.addAll(deleted);
+		return found;
+	}
+
+	private List<Item> process(List<String> redirectUrls) {
+		Item[] results = new Item[redirectUrls.size()];
+		// 정규화된 URL 기준으로 묶어서 표기만 다른 URL도 요청 안에서 중복 처리
+		Map<String, List<Integer>> indicesByUrl = new LinkedHashMap<>();
+		for (int i = 0; i < redirectUrls.size(); i++) {
+			String redirectUrl = redirectUrls.get(i);
+			try {
+				shortUrlService.validateRedirectUrl(redirectUrl);
+			} catch (CustomException e) {
+				results[i] = Item.failure(redirectUrl, e.getErrorCode());
+				continue;
+			}
+			indicesByUrl.computeIfAbsent(urlCanonicalizer.canonicalize(redirectUrl), key -> new ArrayList<>()).add(i);
+		}
+
+		List<String> distinctUrls = new ArrayList<>(indicesByUrl.keySet());
+		for (int from = 0; from < distinctUrls.size(); from += chunkSize) {
+			List<String> chunk = distinctUrls.subList(from, Math.min(from + chunkSize, distinctUrls.size()));
+			createChunk(chunk).forEach((redirectUrl, item) -> {
+				List<Integer> indices = indicesByUrl.get(redirectUrl);
+				results[indices.get(0)] = item.withRedirectUrl(redirectUrls.get(indices.get(0)));
+				for (int i = 1; i < indices.size(); i++) {
+					results[indices.get(i)] = item.asDuplicate().withRedirectUrl(redirectUrls.get(indices.get(i)));
+				}
+			});
+		}
+
+		return Arrays.asList(results);
+	}
+
+	/**
+	 * 검증이 끝난 중복 없는 URL 묶음을 한 트랜잭션으로 저장
+	 * 실패하면 단건 경로로 대체해서 실패를 항목 단위로 격리
+	 */
+	Map<String, Item> createChunk(List<String> redirectUrls) {
+		try {
+			return transactionTemplate.execute(status -> createChunkInTransaction(redirectUrls));
+		} catch (DataIntegrityViolationException | CustomException e) {
+			// deadline이 지났으면 단건 경로로 다시 시도하지 않음
+			if (e instanceof CustomException customException
+				&& customException.getErrorCode() == ErrorCode.DEADLINE_EXCEEDED) {
+				throw customException;
+			}
+			log.warn("Batch chunk failed, falling back to single creates. size: {}, error: {}",
+				redirectUrls.size(), e.getMessage());
+			return createOneByOne(redirectUrls);
+		}
+	}
+
+	private Map<String, Item> createChunkInTransaction(List<String> redirectUrls) {
+		Map<String, byte[]> hashKeys = new LinkedHashMap<>();
+		for (String redirectUrl : redirectUrls) {
+			hashKeys.put(redirectUrl, hashGenerator.hash(redirectUrl));
+		}
+		acquireLocks(hashKeys.values());
+
+		LocalDateTime now = LocalDateTime.now();
+		Map<String, Item> results = new HashMap<>();
+
+		// owner 라우팅을 거치지 않으므로 Bloom Filter로 생략하지 않고 항상 조회 (다른 노드가 만든 URL 포함)
+		List<byte[]> lookupKeys = List.copyOf(hashKeys.values());
+		for (ShortUrl existing : shortUrlJpaRepository.findByHashKeyInAndExpiredAtAfter(lookupKeys, now)) {
+			String redirectUrl = existing.getRedirectionUrl();
+			if (hashKeys.containsKey(redirectUrl) && !results.containsKey(redirectUrl)) {
+				results.put(redirectUrl, Item.success(redirectUrl, toResponse(existing.getShortCode()), false));
+			}
+		}
+
+		List<ShortUrl> newShortUrls = new ArrayList<>();
+		Set<String> issuedCodes = new HashSet<>();
+		LocalDateTime expiredAt = now.plusDays(defaultExpirationDays);
+		for (Map.Entry<String, byte[]> entry : hashKeys.entrySet()) {
+			String redirectUrl = entry.getKey();
+			if (results.containsKey(redirectUrl)) {
+				continue;
+			}
+			String shortCode = shortCodeGenerator.generate();
+			while (!issuedCodes.add(shortCode)) {
+				shortCode = shortCodeGenerator.generate();
+			}
+			newShortUrls.add(new ShortUrl(tsidGenerator.nextKey(), entry.getValue(), shortCode, redirectUrl,
+				expiredAt));
+			results.put(redirectUrl, Item.success(redirectUrl, toResponse(shortCode), true));
+		}
+
+		shortUrlRepository.insertAll(newShortUrls);
+		newShortUrls.forEach(shortUrl -> shortUrlBloomFilter.put(shortUrl.getHashKey()));
+		return results;
+	}
+
+	private void acquireLocks(Iterable<byte[]> hashKeys) {
+		List<String> lockNames = new ArrayList<>();
+		for (byte[] hashKey : hashKeys) {
+			lockNames.add(ShortUrlService.createLockName(hashKey));
+		}
+		lockNames = lockNames.stream().distinct().sorted().toList();
+
+		boolean locked = false;
+		try {
+			locked = shortUrlLockRepository.acquireLocks(lockNames,
+				requestDeadline.lockTimeoutSeconds(lockTimeoutSeconds, "batch_lock"));
+		} finally {
+			if (!locked) {
+				shortUrlLockRepository.releaseAllLocks();
+			}
+		}
+		if (!locked) {
+			throw ErrorCode.URL_GENERATION_FAILED.baseException(
+				ShortenerStringUtil.format("Failed to acquire batch locks. count: {}", lockNames.size())
+			);
+		}
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					shortUrlLockRepository.releaseAllLocks();
+				}
+			});
+		}
+	}
+
+	private Map<String, Item> createOneByOne(List<String> redirectUrls) {
+		Map<String, Item> results = new HashMap<>();
+		for (String redirectUrl : redirectUrls) {
+			try {
+				CreateResult result = shortUrlService.createLinkWithResult(redirectUrl);
+				results.put(redirectUrl, Item.success(redirectUrl, result.response(), result.created()));
+			} catch (CustomException e) {
+				results.put(redirectUrl, Item.failure(redirectUrl, e.getErrorCode()));
+			} catch (Exception e) {
+				log.error("Unexpected error while creating link in batch fallback. redirectUrl: {}", redirectUrl, e);
+				results.put(redirectUrl, Item.failure(redirectUrl, ErrorCode.URL_GENERATION_FAILED));
+			}
+		}
+		return results;
+	}
+
+	private ShortUrlCreateResponse toResponse(String shortCode) {
+		return new ShortUrlCreateResponse(shortCode, shortUrlService.toShortUrl(shortCode));
+	}
+}
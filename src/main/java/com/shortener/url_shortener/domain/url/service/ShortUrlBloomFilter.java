@@ -0,0 +1,225 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.repository.ShortUrlRepository;
+import com.shortener.url_shortener.global.util.BloomFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * hash_key Bloom Filter
+ *
+ * 동작:
+ * 1. 애플리케이션 기동 후 idx_hash_key 인덱스를 스트리밍해서 필터 구축
+ * 2. cluster owner 노드의 createLink에서 "확실히 없음"이면 hash_key 중복 조회(SELECT) 생략
+ * 3. 생성 시 put, 삭제/만료 정리 시 제거 건수 누적
+ * 4. 제거 건수가 rebuild-stale-ratio를 넘으면 백그라운드에서 재구축
+ *
+ * 주의:
+ * - 구축 완료 전이거나 비활성화 상태면 항상 "있을 수 있음"으로 응답 (기존 동작과 동일)
+ * - 노드별 로컬 필터이므로 다른 노드에서 생성된 URL은 재구축 전까지 알 수 없음
+ *   → cluster 라우팅(constant.cluster.enabled) + direct 모드에서만 켤 수 있고 (아니면 시작 실패),
+ *     같은 hash_key 생성이 모두 모이는 owner 경로에서만 중복 조회를 생략 (GET_LOCK 경로/batch/write-behind는 항상 조회)
+ * - owner 밖에서 생성된 URL(owner 연결 실패 fallback, batch/import, 멤버 변경 직후)은 재구축 전까지 모름
+ *   (이 경우 동일 URL에 short_code가 하나 더 생길 수 있으나 리다이렉션은 정상)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortUrlBloomFilter {
+
+	private static final String METRIC_PREFIX = "shortener.bloom_filter";
+
+	private final ShortUrlRepository shortUrlRepository;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${constant.hash.bloom-filter.enabled:false}")
+	private boolean enabled;
+
+	@Value("${constant.cluster.enabled:false}")
+	private boolean clusterEnabled;
+
+	@Value("${constant.create.mode:direct}")
+	private String createMode;
+
+	@Value("${constant.hash.bloom-filter.expected-insertions:10000000}")
+	private long expectedInsertions;
+
+	@Value("${constant.hash.bloom-filter.false-positive-rate:0.01}")
+	private double falsePositiveRate;
+
+	@Value("${constant.hash.bloom-filter.rebuild-stale-ratio:0.2}")
+	private double rebuildStaleRatio;
+
+	/**
+	 * 재구축 시작 후 스트리밍 전 대기 시간
+	 * 새 필터 설치 직전에 put된(아직 커밋 전인) 키가 스트리밍에서 누락되지 않도록 진행 중 트랜잭션 완료를 기다림
+	 */
+	@Value("${constant.hash.bloom-filter.rebuild-grace-millis:5000}")
+	private long rebuildGraceMillis;
+
+	private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+	private final AtomicLong removals = new AtomicLong();
+	private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "bloom-filter-rebuild");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private volatile BloomFilter current;
+	private volatile BloomFilter building;
+
+	private Counter skippedLookups;
+	private Counter lookupMisses;
+
+	@PostConstruct
+	void init() {
+		if (enabled && (!clusterEnabled || !"direct".equals(createMode))) {
+			throw new IllegalStateException("constant.hash.bloom-filter.enabled requires constant.cluster.enabled=true "
+				+ "and constant.create.mode=direct (local filters miss URLs created on other nodes)");
+		}
+		skippedLookups = Counter.builder(METRIC_PREFIX + ".skipped_lookups")
+			.description("hash_key lookups skipped because the filter answered definitely absent")
+			.register(meterRegistry);
+		lookupMisses = Counter.builder(METRIC_PREFIX + ".lookup_misses")
+			.description("hash_key lookups run on a positive answer that found no matching URL")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".memory", this, filter -> filter.currentValue(BloomFilter::memoryBytes))
+			.baseUnit("bytes")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".insertions", this, filter -> filter.currentValue(BloomFilter::insertions))
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".configured_fpp", this, filter -> filter.falsePositiveRate)
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".estimated_fpp", this,
+				filter -> filter.currentValue(BloomFilter::estimatedFalsePositiveRate))
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".removals", removals, AtomicLong::get)
+			.register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		if (enabled) {
+			triggerRebuild();
+		}
+	}
+
+	/**
+	 * @return false면 해당 hash_key는 확실히 존재하지 않음
+	 */
+	public boolean mightContain(byte[] hashKey) {
+		BloomFilter filter = current;
+		if (!enabled || filter == null) {
+			return true;
+		}
+		boolean result = filter.mightContain(hashKey);
+		if (!result) {
+			skippedLookups.increment();
+		}
+		return result;
+	}
+
+	public void put(byte[] hashKey) {
+		if (!enabled) {
+			return;
+		}
+		BloomFilter filter = current;
+		if (filter != null) {
+			filter.put(hashKey);
+		}
+		BloomFilter next = building;
+		if (next != null && next != filter) {
+			next.put(hashKey);
+		}
+	}
+
+	/**
+	 * 필터가 "있을 수 있음"이라 조회했지만 동일 URL이 없었던 경우 (오탐 또는 hash_key 충돌)
+	 */
+	public void recordLookupMiss() {
+		if (enabled && current != null) {
+			lookupMisses.increment();
+		}
+	}
+
+	/**
+	 * 삭제/만료 정리로 제거된 row 수 누적
+	 * Bloom Filter는 제거를 지원하지 않으므로 누적 비율이 임계치를 넘으면 재구축
+	 */
+	public void recordRemovals(long count) {
+		if (!enabled || count <= 0) {
+			return;
+		}
+		long total = removals.addAndGet(count);
+		BloomFilter filter = current;
+		if (filter != null && total > rebuildStaleRatio * Math.max(1, filter.insertions())) {
+			triggerRebuild();
+		}
+	}
+
+	public boolean isReady() {
+		return enabled && current != null;
+	}
+
+	void triggerRebuild() {
+		if (rebuilding.compareAndSet(false, true)) {
+			rebuildExecutor.execute(this::rebuild);
+		}
+	}
+
+	private void rebuild() {
+		BloomFilter next = BloomFilter.create(expectedInsertions, falsePositiveRate);
+		building = next;
+		try {
+			Thread.sleep(rebuildGraceMillis);
+			long start = System.currentTimeMillis();
+			long removalsAtStart = removals.get();
+
+			shortUrlRepository.streamHashKeys(next::put);
+
+			current = next;
+			removals.addAndGet(-removalsAtStart);
+			log.info("Bloom filter built. keys={}, bits={}, hashFunctions={}, memoryBytes={}, estimatedFpp={}, "
+					+ "elapsedMs={}", next.insertions(), next.bitSize(), next.hashFunctions(), next.memoryBytes(),
+				next.estimatedFalsePositiveRate(), System.currentTimeMillis() - start);
+			if (next.insertions() > expectedInsertions) {
+				log.warn("Bloom filter holds more keys than expected-insertions. keys={}, expected={}",
+					next.insertions(), expectedInsertions);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			log.error("Failed to build bloom filter. Keeping previous filter.", e);
+		} finally {
+			building = null;
+			rebuilding.set(false);
+		}
+	}
+
+	private double currentValue(ToDoubleFunction<BloomFilter> extractor) {
+		BloomFilter filter = current;
+		return filter == null ? 0 : extractor.applyAsDouble(filter);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		rebuildExecutor.shutdownNow();
+	}
+}
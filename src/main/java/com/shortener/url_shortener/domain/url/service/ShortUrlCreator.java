@@ -0,0 +1,16 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+
+/**
+ * 단건 생성 요청 처리 방식
+ * constant.create.mode 설정으로 구현체 선택
+ */
+public interface ShortUrlCreator {
+
+	/**
+	 * @param redirectUrl 원본 URL
+	 * @return 저장(커밋)이 끝난 단축 URL
+	 */
+	ShortUrlCreateResponse createLink(String redirectUrl);
+}
@@ -0,0 +1,146 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.repository.ShortUrlPartitionRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlPartitionRepository.Partition;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * url_shortener expired_at 일 단위 파티션 관리 (constant.partition.enabled)
+ *
+ * - 오늘부터 precreate-days일 뒤까지 날짜 파티션을 미리 만들어 둠
+ * - 상한이 지금 이전인 파티션은 모든 row가 만료된 것이므로 DDL 한 문장으로 DROP
+ * - 오늘 파티션의 만료 row와 tombstone은 ShortUrlScheduler가 기존 배치 삭제로 정리
+ *
+ * 파티션 테이블은 short_code 단독 UNIQUE를 가질 수 없어서 (short_code, expired_at)로만 보장됨
+ * 그래서 구조적으로 충돌하지 않는 feistel 생성기에서만 사용 가능 (다른 생성기면 시작 실패)
+ * 기존 row는 random/pool 코드일 수 있어서 이후 feistel 코드와 겹치면 같은 short_code가 두 row가 됨
+ * 그래서 convert-on-startup 변환은 빈 테이블에서만 수행 (row가 있으면 변환하지 않고 에러 로그)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortUrlPartitionManager {
+
+	private final ShortUrlPartitionRepository shortUrlPartitionRepository;
+	private final ShortUrlBloomFilter shortUrlBloomFilter;
+
+	@Value("${constant.partition.enabled:false}")
+	private boolean enabled;
+
+	@Value("${constant.partition.precreate-days:14}")
+	private int precreateDays = 14;
+
+	@Value("${constant.partition.convert-on-startup:false}")
+	private boolean convertOnStartup;
+
+	@Value("${constant.hash.generator:random}")
+	private String generator;
+
+	@PostConstruct
+	void init() {
+		if (enabled && !"feistel".equals(generator)) {
+			throw new IllegalStateException(
+				"constant.partition.enabled requires constant.hash.generator=feistel (short_code is not unique "
+					+ "across partitions). generator: " + generator);
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			if (shortUrlPartitionRepository.findPartitions().isEmpty()) {
+				if (!convertOnStartup) {
+					log.warn("url_shortener is not partitioned. Set constant.partition.convert-on-startup=true "
+						+ "or partition it manually. Expired rows are deleted in batches until then.");
+					return;
+				}
+				if (shortUrlPartitionRepository.hasRows()) {
+					log.error("Refusing to partition non-empty url_shortener. Existing short codes may collide with "
+						+ "feistel codes once the short_code unique key is dropped. Migrate rows to an empty "
+						+ "partitioned table instead.");
+					return;
+				}
+				LocalDate today = LocalDate.now();
+				shortUrlPartitionRepository.partition(today, today.plusDays(precreateDays));
+				return;
+			}
+			createFuturePartitions();
+		} catch (Exception e) {
+			log.error("Failed to prepare url_shortener partitions", e);
+		}
+	}
+
+	/**
+	 * 마지막 날짜 파티션 다음 날부터 오늘 + precreate-days까지 추가
+	 *
+	 * @return 추가한 파티션 수
+	 */
+	public int createFuturePartitions() {
+		List<Partition> partitions = shortUrlPartitionRepository.findPartitions();
+		if (partitions.isEmpty()) {
+			return 0;
+		}
+		LocalDate today = LocalDate.now();
+		// 날짜 파티션의 상한은 다음 날 0시라서 가장 큰 상한이 곧 새로 추가할 첫 날짜
+		LocalDate firstDay = partitions.stream()
+			.map(Partition::upperBound)
+			.filter(Objects::nonNull)
+			.max(LocalDate::compareTo)
+			.orElse(today);
+		if (firstDay.isBefore(today)) {
+			firstDay = today;
+		}
+		LocalDate lastDay = today.plusDays(precreateDays);
+		if (firstDay.isAfter(lastDay)) {
+			return 0;
+		}
+		shortUrlPartitionRepository.addPartitions(firstDay, lastDay);
+		int added = (int)(lastDay.toEpochDay() - firstDay.toEpochDay()) + 1;
+		log.info("Partitions created. from: {}, to: {}, count: {}", firstDay, lastDay, added);
+		return added;
+	}
+
+	/**
+	 * 상한이 오늘 0시 이하인 파티션 DROP (p_max는 제외)
+	 *
+	 * @return 삭제된 row 수
+	 */
+	public long dropExpiredPartitions() {
+		LocalDate today = LocalDate.now();
+		List<String> expired = new ArrayList<>();
+		long rows = 0;
+		for (Partition partition : shortUrlPartitionRepository.findPartitions()) {
+			if (partition.upperBound() != null && !partition.upperBound().isAfter(today)) {
+				expired.add(partition.name());
+				rows += shortUrlPartitionRepository.countRows(partition.name());
+			}
+		}
+		if (expired.isEmpty()) {
+			return 0;
+		}
+		shortUrlPartitionRepository.dropPartitions(expired);
+		shortUrlBloomFilter.recordRemovals(rows);
+		log.info("Expired partitions dropped. partitions: {}, rows: {}", expired, rows);
+		return rows;
+	}
+}
@@ -1,6 +1,5 @@
 package com.shortener.url_shortener.domain.url.service;
 
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.List;
@@ -14,15 +13,18 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 
 import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
 import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+import com.shortener.url_shortener.domain.url.generator.ShortCodeGenerator;
 import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
 import com.shortener.url_shortener.domain.url.repository.ShortUrlLockRepository;
 import com.shortener.url_shortener.global.error.ErrorCode;
 import com.shortener.url_shortener.global.util.Base62Encoder;
 import com.shortener.url_shortener.global.util.HashGenerator;
+import com.shortener.url_shortener.global.util.RequestDeadline;
 import com.shortener.url_shortener.global.util.ShortenerStringUtil;
 import com.shortener.url_shortener.global.util.TsidGenerator;
+import com.shortener.url_shortener.global.util.UrlCanonicalizer;
+import com.shortener.url_shortener.global.util.UrlValidator;
 
-import io.grpc.Context;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -36,6 +38,14 @@ public class ShortUrlService {
 	private final ShortUrlLockRepository shortUrlLockRepository;
 	private final Base62Encoder base62Encoder;
 	private final HashGenerator hashGenerator;
+	private final ShortUrlBloomFilter shortUrlBloomFilter;
+	private final ShortCodeGenerator shortCodeGenerator;
+	private final PendingShortUrls pendingShortUrls;
+	private final UrlCanonicalizer urlCanonicalizer;
+	private final RequestDeadline requestDeadline;
+	private final LocalUrlLocks localUrlLocks;
+	private final RedirectCache redirectCache;
+	private final UrlInvalidationLog urlInvalidationLog;
 
 	@Value("${server.redirection.domain}")
 	private String redirectionBaseDomain;
@@ -43,9 +53,6 @@ public class ShortUrlService {
 	@Value("${constant.default-expiration-days}")
 	private int defaultExpirationDays;
 
-	@Value("${constant.hash.length}")
-	private int hashKeySize;
-
 	@Value("${constant.hash.conflict.retry}")
 	private int retry;
 
@@ -55,15 +62,22 @@ public class ShortUrlService {
 	@Value("${constant.hash.lock-timeout-seconds:3}")
 	private int lockTimeoutSeconds;
 
-	private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+	@Value("${constant.delete.soft:false}")
+	private boolean softDelete;
 
-	@Transactional
+	/**
+	 * 캐시 hit면 커넥션을 잡지 않도록 트랜잭션 없이 조회 (단건 SELECT라 트랜잭션이 필요 없음)
+	 */
 	public String getLink(String key) {
 		validateShortCode(key);
-		ShortUrl shortUrl = shortUrlJpaRepository.findByShortCode(key)
-			.orElseThrow(() -> ErrorCode.KEY_NOT_FOUND.baseException(
-				ShortenerStringUtil.format("Get link failed. key: {}", key)
-			));
+		ShortUrl shortUrl = redirectCache.get(key).orElseGet(() -> loadLink(key));
+
+		// soft delete된 row는 물리 삭제 전까지 남아 있지만 없는 키로 응답
+		if (shortUrl.isDeleted()) {
+			throw ErrorCode.KEY_NOT_FOUND.baseException(
+				ShortenerStringUtil.format("Get link failed. Deleted key: {}", key)
+			);
+		}
 
 		if (shortUrl.isExpired()) {
 			throw ErrorCode.EXPIRED_LINK.baseException(
@@ -74,17 +88,72 @@ public class ShortUrlService {
 		return shortUrl.getRedirectionUrl();
 	}
 
+	private ShortUrl loadLink(String key) {
+		long generation = redirectCache.generation();
+		// write-behind 모드에서 아직 DB에 반영되지 않은 URL 먼저 조회
+		ShortUrl shortUrl = pendingShortUrls.findByShortCode(key)
+			.or(() -> shortUrlJpaRepository.findByShortCode(key))
+			.orElseThrow(() -> ErrorCode.KEY_NOT_FOUND.baseException(
+				ShortenerStringUtil.format("Get link failed. key: {}", key)
+			));
+		redirectCache.put(key, shortUrl, generation);
+		return shortUrl;
+	}
+
+	@Transactional
+	public ShortUrlCreateResponse createLink(String requestedUrl) {
+		return createLink(requestedUrl, false).response();
+	}
+
+	/**
+	 * createLink와 같지만 새로 저장했는지(기존 매핑 재사용이 아닌지)도 반환 (batch 단건 대체 경로용)
+	 */
 	@Transactional
-	public ShortUrlCreateResponse createLink(String redirectURL) {
-		validateRedirectUrl(redirectURL);
+	public CreateResult createLinkWithResult(String requestedUrl) {
+		return createLink(requestedUrl, false);
+	}
+
+	/**
+	 * cluster 모드에서 이 노드가 hash_key의 owner일 때 사용
+	 * 같은 hash_key 생성 요청은 모두 owner로 모이므로 GET_LOCK 대신 JVM 내 lock으로 중복 생성 방지
+	 */
+	@Transactional
+	public ShortUrlCreateResponse createLinkWithLocalLock(String requestedUrl) {
+		return createLink(requestedUrl, true).response();
+	}
+
+	/**
+	 * cluster 라우팅용 hash_key (createLink와 같은 검증/정규화)
+	 */
+	public byte[] routingKey(String requestedUrl) {
+		validateRedirectUrl(requestedUrl);
+		return hashGenerator.hash(urlCanonicalizer.canonicalize(requestedUrl));
+	}
+
+	/**
+	 * @param created 새로 저장했으면 true, 만료되지 않은 기존 매핑을 반환했으면 false
+	 */
+	public record CreateResult(ShortUrlCreateResponse response, boolean created) {
+	}
+
+	private CreateResult createLink(String requestedUrl, boolean localLock) {
+		validateRedirectUrl(requestedUrl);
+		// 표기만 다른 같은 URL이 같은 hash_key로 중복 판별되도록 정규화 후 저장
+		String redirectURL = urlCanonicalizer.canonicalize(requestedUrl);
 		byte[] hashKey = hashGenerator.hash(redirectURL);
 		String lockName = createLockName(hashKey);
 		boolean locked = false;
 		boolean releaseInFinally = true;
 
 		try {
-			locked = shortUrlLockRepository.acquireLock(lockName, lockTimeoutSeconds);
+			// 호출자 deadline보다 오래 lock을 기다리지 않음
+			int timeoutSeconds = requestDeadline.lockTimeoutSeconds(lockTimeoutSeconds, "lock");
+			locked = localLock
+				? localUrlLocks.tryLock(hashKey, timeoutSeconds)
+				: shortUrlLockRepository.acquireLock(lockName, timeoutSeconds);
 			if (!locked) {
+				// 대기 중 deadline이 지났으면 lock 경합이 아니라 시간 초과로 응답
+				requestDeadline.checkNotExpired("lock");
 				throw ErrorCode.URL_GENERATION_FAILED.baseException(
 					ShortenerStringUtil.format("Failed to acquire lock. lockName: {}", lockName)
 				);
@@ -95,33 +164,35 @@ public class ShortUrlService {
 					@Override
 					public void afterCompletion(int status) {
 						log.debug("afterCompletion release. lockName={}, status={}", lockName, status);
-						shortUrlLockRepository.releaseLock(lockName);
+						releaseLock(lockName, hashKey, localLock);
 					}
 				});
 				releaseInFinally = false;
 			}
 			LocalDateTime now = LocalDateTime.now();
 
-			List<ShortUrl> existing = shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(hashKey, now);
-			for (ShortUrl candidate : existing) {
-				if (candidate.getRedirectionUrl().equals(redirectURL)) {
-					return new ShortUrlCreateResponse(candidate.getShortCode(), toShortUrl(candidate.getShortCode()));
+			// owner 노드면 이 hash_key 생성이 모두 여기로 모이므로 Bloom Filter가 "확실히 없음"이면 중복 조회 생략
+			// GET_LOCK 경로는 다른 노드가 만든 URL이 있을 수 있어 항상 조회
+			if (!localLock || shortUrlBloomFilter.mightContain(hashKey)) {
+				List<ShortUrl> existing = shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(hashKey, now);
+				for (ShortUrl candidate : existing) {
+					if (candidate.getRedirectionUrl().equals(redirectURL)) {
+						return new CreateResult(new ShortUrlCreateResponse(candidate.getShortCode(),
+							toShortUrl(candidate.getShortCode())), false);
+					}
 				}
+				shortUrlBloomFilter.recordLookupMiss();
 			}
 
 			Long id = tsidGenerator.nextKey();
 			for (int i = 0; i < retry; i++) {
-				// DB 저장 전 취소 확인(timeout 등)
-				if (Context.current().isCancelled()) {
-					log.warn("Request cancelled, stopping processing");
-					throw ErrorCode.REQUEST_CANCELLED.baseException(
-						"Request was cancelled by client"
-					);
-				}
+				// DB 저장 전 취소/deadline 확인
+				requestDeadline.checkNotExpired("insert");
 
-				String shortCode = base62Encoder.random(hashKeySize, SECURE_RANDOM);
+				String shortCode = shortCodeGenerator.generate();
 				if (trySaveShortCode(id, hashKey, shortCode, redirectURL)) {
-					return new ShortUrlCreateResponse(shortCode, toShortUrl(shortCode));
+					shortUrlBloomFilter.put(hashKey);
+					return new CreateResult(new ShortUrlCreateResponse(shortCode, toShortUrl(shortCode)), true);
 				}
 			}
 
@@ -130,15 +201,39 @@ public class ShortUrlService {
 			);
 		} finally {
 			if (locked && releaseInFinally) {
-				shortUrlLockRepository.releaseLock(lockName);
+				releaseLock(lockName, hashKey, localLock);
 			}
 		}
 	}
 
+	private void releaseLock(String lockName, byte[] hashKey, boolean localLock) {
+		if (localLock) {
+			localUrlLocks.unlock(hashKey);
+		} else {
+			shortUrlLockRepository.releaseLock(lockName);
+		}
+	}
+
+	/**
+	 * soft delete(constant.delete.soft)면 expired_at만 tombstone으로 바꾸는 UPDATE 한 번
+	 * 물리 삭제는 ShortUrlScheduler 만료 정리에서 하고 Bloom Filter 제거 수도 그때 반영
+	 * 지운 키는 같은 트랜잭션에서 무효화 로그에 기록 (다른 노드 캐시 evict)
+	 */
 	@Transactional
 	public void deleteLink(String key) {
 		validateShortCode(key);
-		shortUrlJpaRepository.deleteByShortCode(key);
+		boolean found = pendingShortUrls.remove(key);
+		if (softDelete) {
+			found |= shortUrlJpaRepository.tombstoneByShortCode(key, ShortUrl.TOMBSTONE_EXPIRED_AT,
+				LocalDateTime.now()) > 0;
+		} else {
+			int deleted = shortUrlJpaRepository.deleteByShortCode(key);
+			shortUrlBloomFilter.recordRemovals(deleted);
+			found |= deleted > 0;
+		}
+		if (found) {
+			urlInvalidationLog.append(List.of(key));
+		}
 	}
 
 	private boolean trySaveShortCode(Long id, byte[] hashKey, String shortCode, String redirectURL) {
@@ -155,7 +250,7 @@ public class ShortUrlService {
 		}
 	}
 
-	private String toShortUrl(String key) {
+	String toShortUrl(String key) {
 		StringBuilder sb = new StringBuilder(redirectionBaseDomain);
 		if (!redirectionBaseDomain.endsWith("/")) {
 			sb.append("/");
@@ -173,40 +268,27 @@ public class ShortUrlService {
 		}
 	}
 
-	private void validateRedirectUrl(String redirectURL) {
-		if (redirectURL == null || redirectURL.isBlank()) {
-			throw ErrorCode.INVALID_ARGUMENT_ERROR.baseException(
-				ShortenerStringUtil.format("Invalid redirect URL. url: {}", redirectURL)
-			);
-		}
-		if (redirectURL.length() > maxUrlLength) {
-			throw ErrorCode.INVALID_ARGUMENT_ERROR.baseException(
-				ShortenerStringUtil.format("Redirect URL too long. length: {}", redirectURL.length())
-			);
-		}
-
-		try {
-			java.net.URI uri = new java.net.URI(redirectURL);
-			String scheme = uri.getScheme();
-			if (scheme == null || !(scheme.equalsIgnoreCase("http") || scheme.equalsIgnoreCase("https"))) {
-				throw ErrorCode.INVALID_ARGUMENT_ERROR.baseException(
-					ShortenerStringUtil.format("Invalid redirect URL scheme. url: {}", redirectURL)
-				);
-			}
-			String host = uri.getHost();
-			if (host == null || host.isBlank()) {
-				throw ErrorCode.INVALID_ARGUMENT_ERROR.baseException(
-					ShortenerStringUtil.format("Invalid redirect URL host. url: {}", redirectURL)
-				);
-			}
-		} catch (java.net.URISyntaxException e) {
-			throw ErrorCode.INVALID_ARGUMENT_ERROR.baseException(
-				ShortenerStringUtil.format("Invalid redirect URL. url: {}", redirectURL)
-			);
+	/**
+	 * URI를 만들지 않고 UrlValidator로 한 번에 검증
+	 * 실패 메시지는 String.format 인자로 넘김 (URL의 '%'가 format 문자열로 해석되지 않도록)
+	 */
+	void validateRedirectUrl(String redirectURL) {
+		UrlValidator.Result result = UrlValidator.validate(redirectURL, maxUrlLength);
+		if (result.isValid()) {
+			return;
 		}
+		throw switch (result) {
+			case TOO_LONG -> ErrorCode.INVALID_ARGUMENT_ERROR.baseException(
+				"Redirect URL too long. length: %s", redirectURL.length());
+			case INVALID_SCHEME -> ErrorCode.INVALID_ARGUMENT_ERROR.baseException(
+				"Invalid redirect URL scheme. url: %s", redirectURL);
+			case INVALID_HOST -> ErrorCode.INVALID_ARGUMENT_ERROR.baseException(
+				"Invalid redirect URL host. url: %s", redirectURL);
+			default -> ErrorCode.INVALID_ARGUMENT_ERROR.baseException("Invalid redirect URL. url: %s", redirectURL);
+		};
 	}
 
-	private String createLockName(byte[] hashKey) {
+	static String createLockName(byte[] hashKey) {
 		String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(hashKey);
 		return "url:" + encoded;
 	}
@@ -0,0 +1,116 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+import com.shortener.url_shortener.domain.url.generator.ShortCodeGenerator;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlProcedureRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlProcedureRepository.Result;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.util.HashGenerator;
+import com.shortener.url_shortener.global.util.RequestDeadline;
+import com.shortener.url_shortener.global.util.ShortenerStringUtil;
+import com.shortener.url_shortener.global.util.TsidGenerator;
+import com.shortener.url_shortener.global.util.UrlCanonicalizer;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 저장 프로시저로 생성 (round trip 1회)
+ *
+ * direct 모드는 CONNECTION_ID/GET_LOCK/중복 조회/INSERT/RELEASE_LOCK을 순서대로 보내서
+ * 클라이언트-DB 간 RTT가 그대로 곱해짐. 이 모드는 후보 코드를 미리 만들어 CALL 한 번에 전달
+ *
+ * - lock 이름은 direct 모드와 같아서 모드를 섞어 써도 같은 URL은 직렬화됨
+ * - 프로시저가 항상 중복 조회를 하므로 Bloom Filter는 저장 후 갱신만 함
+ * - 호출자 deadline이 지났으면 CALL 전에 거절하고, lock 대기는 남은 시간 안으로 줄임
+ * - constant.hash.length가 short_code 컬럼보다 길면 시작 실패 (후보 코드가 잘려서 저장되지 않도록)
+ */
+@Component
+@ConditionalOnProperty(name = "constant.create.mode", havingValue = "stored-procedure")
+@RequiredArgsConstructor
+public class StoredProcedureShortUrlCreator implements ShortUrlCreator {
+
+	private final ShortUrlService shortUrlService;
+	private final ShortUrlProcedureRepository shortUrlProcedureRepository;
+	private final ShortUrlBloomFilter shortUrlBloomFilter;
+	private final ShortCodeGenerator shortCodeGenerator;
+	private final TsidGenerator tsidGenerator;
+	private final HashGenerator hashGenerator;
+	private final UrlCanonicalizer urlCanonicalizer;
+	private final RequestDeadline requestDeadline;
+
+	@Value("${constant.default-expiration-days}")
+	private int defaultExpirationDays;
+
+	@Value("${constant.hash.conflict.retry}")
+	private int retry;
+
+	@Value("${constant.hash.lock-timeout-seconds:3}")
+	private int lockTimeoutSeconds;
+
+	@Value("${constant.hash.length}")
+	private int hashLength;
+
+	@Value("${constant.create.stored-procedure.install-on-startup:false}")
+	private boolean installOnStartup;
+
+	@PostConstruct
+	void install() {
+		if (hashLength > ShortUrl.SHORT_CODE_MAX_LENGTH) {
+			throw new IllegalStateException("constant.hash.length exceeds the short_code column width. length: "
+				+ hashLength + ", column: " + ShortUrl.SHORT_CODE_MAX_LENGTH);
+		}
+		if (installOnStartup) {
+			shortUrlProcedureRepository.install();
+		}
+	}
+
+	@Override
+	public ShortUrlCreateResponse createLink(String requestedUrl) {
+		shortUrlService.validateRedirectUrl(requestedUrl);
+		String redirectUrl = urlCanonicalizer.canonicalize(requestedUrl);
+		byte[] hashKey = hashGenerator.hash(redirectUrl);
+		String lockName = ShortUrlService.createLockName(hashKey);
+		requestDeadline.checkNotExpired("connection");
+		int lockTimeout = requestDeadline.lockTimeoutSeconds(lockTimeoutSeconds, "lock");
+
+		List<String> candidates = new ArrayList<>(retry);
+		for (int i = 0; i < retry; i++) {
+			candidates.add(shortCodeGenerator.generate());
+		}
+
+		Result result = shortUrlProcedureRepository.createShortUrl(tsidGenerator.nextKey(), hashKey, redirectUrl,
+			LocalDateTime.now().plusDays(defaultExpirationDays), lockName, lockTimeout, candidates);
+
+		return switch (result.status()) {
+			case CREATED -> {
+				shortUrlBloomFilter.put(hashKey);
+				yield toResponse(result.shortCode());
+			}
+			case EXISTING -> toResponse(result.shortCode());
+			case LOCK_TIMEOUT -> {
+				requestDeadline.checkNotExpired("lock");
+				throw ErrorCode.URL_GENERATION_FAILED.baseException(
+					ShortenerStringUtil.format("Failed to acquire lock. lockName: {}", lockName)
+				);
+			}
+			case CONFLICT -> throw ErrorCode.URL_GENERATION_FAILED.baseException(
+				ShortenerStringUtil.format("Failed to generate URL. short_code conflicted. redirectURL: {}",
+					redirectUrl)
+			);
+		};
+	}
+
+	private ShortUrlCreateResponse toResponse(String shortCode) {
+		return new ShortUrlCreateResponse(shortCode, shortUrlService.toShortUrl(shortCode));
+	}
+}
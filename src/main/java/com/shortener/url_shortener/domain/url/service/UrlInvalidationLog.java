@@ -0,0 +1,181 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.shortener.url_shortener.domain.url.entity.UrlInvalidation;
+import com.shortener.url_shortener.domain.url.repository.UrlInvalidationRepository;
+import com.shortener.url_shortener.global.util.TsidGenerator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 간 리다이렉트 캐시 무효화 로그 (url_invalidation 테이블)
+ *
+ * 기록: 삭제(단건/일괄, soft delete tombstone 포함)와 같은 트랜잭션에서 short_code를 TSID id로 INSERT
+ * - 이 노드 캐시는 커밋 직후 바로 evict
+ *
+ * 구독: 노드마다 poll-interval-millis 간격으로 id keyset 커서 이후 로그를 읽어 RedirectCache에서 evict
+ * - TSID는 생성 시각 순이지만 커밋 순서는 다를 수 있어서 매번 커서보다 overlap-millis 앞부터 다시 읽음 (evict는 반복해도 같음)
+ * - 마지막 성공 poll 후 max-lag-millis가 지났거나 밀린 로그가 max-entries-per-poll보다 많으면
+ *   따라 읽지 않고 캐시 전체를 비운 뒤 최신 id로 커서 이동 (보관 기간이 지나 지워진 로그를 놓치지 않도록)
+ * - 보관 기간이 지난 로그는 UrlInvalidationScheduler가 삭제 (retention은 max-lag보다 충분히 길게)
+ *
+ * 캐시를 끄면 기록/구독 모두 하지 않음
+ *
+ * 메트릭:
+ * - shortener.redirect_cache.invalidations: 로그로 evict한 short_code 수
+ * - shortener.redirect_cache.flushes{reason=startup|lagged|backlog}: 캐시 전체 비움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UrlInvalidationLog {
+
+	private static final String METRIC_PREFIX = "shortener.redirect_cache";
+
+	/**
+	 * TSID 하위 22비트는 node/counter, 그 위가 millisecond 시각
+	 */
+	private static final int TSID_TIME_SHIFT = 22;
+
+	private final UrlInvalidationRepository urlInvalidationRepository;
+	private final TsidGenerator tsidGenerator;
+	private final RedirectCache redirectCache;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${constant.redirect-cache.invalidation.poll-interval-millis:500}")
+	private long pollIntervalMillis = 500;
+
+	@Value("${constant.redirect-cache.invalidation.page-size:1000}")
+	private int pageSize = 1000;
+
+	@Value("${constant.redirect-cache.invalidation.overlap-millis:2000}")
+	private long overlapMillis = 2000;
+
+	@Value("${constant.redirect-cache.invalidation.max-lag-millis:60000}")
+	private long maxLagMillis = 60_000;
+
+	@Value("${constant.redirect-cache.invalidation.max-entries-per-poll:50000}")
+	private int maxEntriesPerPoll = 50_000;
+
+	private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "url-invalidation-poll");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * 마지막으로 읽은 id (-1이면 아직 시작 전), poller 스레드에서만 변경
+	 */
+	private long cursor = -1;
+	private long lastPolledAtMillis;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (redirectCache.isEnabled()) {
+			poller.scheduleWithFixedDelay(this::poll, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * 삭제한 short_code 기록 (호출자 트랜잭션 안에서 호출)
+	 */
+	public void append(Collection<String> shortCodes) {
+		if (!redirectCache.isEnabled() || shortCodes.isEmpty()) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		List<UrlInvalidation> invalidations = new ArrayList<>(shortCodes.size());
+		for (String shortCode : shortCodes) {
+			invalidations.add(new UrlInvalidation(tsidGenerator.nextKey(), shortCode, now));
+		}
+		urlInvalidationRepository.saveAll(invalidations);
+
+		List<String> evicted = List.copyOf(shortCodes);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					redirectCache.evict(evicted);
+				}
+			});
+		} else {
+			redirectCache.evict(evicted);
+		}
+	}
+
+	void poll() {
+		long now = System.currentTimeMillis();
+		try {
+			if (cursor < 0) {
+				flush("startup", now);
+				return;
+			}
+			if (now - lastPolledAtMillis > maxLagMillis) {
+				flush("lagged", now);
+				return;
+			}
+
+			long lastId = Math.max(0, cursor - (overlapMillis << TSID_TIME_SHIFT));
+			long latestId = cursor;
+			List<String> shortCodes = new ArrayList<>();
+			List<UrlInvalidation> page;
+			do {
+				page = urlInvalidationRepository.findAfter(lastId, pageSize);
+				for (UrlInvalidation invalidation : page) {
+					shortCodes.add(invalidation.getShortCode());
+					lastId = invalidation.getId();
+				}
+				latestId = Math.max(latestId, lastId);
+				if (shortCodes.size() > maxEntriesPerPoll) {
+					flush("backlog", now);
+					return;
+				}
+			} while (page.size() == pageSize);
+
+			if (!shortCodes.isEmpty()) {
+				redirectCache.evict(shortCodes);
+				meterRegistry.counter(METRIC_PREFIX + ".invalidations").increment(shortCodes.size());
+			}
+			cursor = latestId;
+			lastPolledAtMillis = now;
+		} catch (Exception e) {
+			log.warn("Failed to poll url invalidation log. cursor: {}", cursor, e);
+		}
+	}
+
+	/**
+	 * 최신 id를 먼저 읽고 캐시를 비움 (그 뒤 기록된 로그는 다음 poll에서 읽음)
+	 */
+	private void flush(String reason, long now) {
+		long latestId = urlInvalidationRepository.findLatestId();
+		redirectCache.clear();
+		cursor = latestId;
+		lastPolledAtMillis = now;
+		meterRegistry.counter(METRIC_PREFIX + ".flushes", "reason", reason).increment();
+		if (!"startup".equals(reason)) {
+			log.warn("Redirect cache flushed. reason: {}, cursor: {}", reason, latestId);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		poller.shutdownNow();
+	}
+}
@@ -0,0 +1,388 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+import com.shortener.url_shortener.domain.url.generator.ShortCodeGenerator;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlRepository;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.util.HashGenerator;
+import com.shortener.url_shortener.global.util.SegmentedJournal;
+import com.shortener.url_shortener.global.util.TsidGenerator;
+import com.shortener.url_shortener.global.util.UrlCanonicalizer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind 생성
+ *
+ * 동작:
+ * 1. 새 매핑을 로컬 journal에 기록하고 fsync 묶음이 끝나면 바로 반환 (DB 쓰기 대기 없음)
+ * 2. drain 전까지 PendingShortUrls에서 getLink/중복 확인 처리
+ * 3. drainer 스레드가 drain-interval마다 journal 순서대로 multi-row INSERT 후 checkpoint
+ * 4. 재시작 시 checkpoint 이후 레코드를 재생해서 다시 drain
+ *
+ * drain 시점 short_code 충돌:
+ * - 코드를 DB 확인 없이 반환하므로 구조적으로 충돌하지 않는 feistel 생성기에서만 사용 가능 (다른 생성기면 시작 실패)
+ * - 같은 URL로 이미 저장된 경우(재생 중복)는 건너뜀
+ * - 다른 URL이 이미 쓰는 코드면 코드를 바꾸지 않고 그 레코드만 dead-letter 파일로 격리 (conflicts 메트릭 + ERROR 로그)
+ *   대기 목록에서 빼고 checkpoint를 넘겨서 나머지 레코드는 계속 drain, 격리된 매핑은 운영자가 dead-letter 파일로 확인
+ *   dead-letter 기록이 실패하면 레코드를 잃지 않도록 큐에 남기고 다음 주기에 재시도
+ *
+ * 주의:
+ * - 중복 확인 조회(읽기)는 항상 수행 (노드별 Bloom Filter는 다른 노드가 만든 URL을 모르므로 생략 근거로 쓰지 않음)
+ * - 노드 로컬 journal이므로 drain 전에는 다른 노드에서 조회되지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "constant.create.mode", havingValue = "write-behind")
+@RequiredArgsConstructor
+public class WriteBehindShortUrlCreator implements ShortUrlCreator {
+
+	private static final String METRIC_PREFIX = "shortener.write_behind";
+	private static final byte RECORD_VERSION = 1;
+
+	private final ShortUrlService shortUrlService;
+	private final ShortUrlRepository shortUrlRepository;
+	private final ShortUrlJpaRepository shortUrlJpaRepository;
+	private final ShortUrlBloomFilter shortUrlBloomFilter;
+	private final PendingShortUrls pendingShortUrls;
+	private final ShortCodeGenerator shortCodeGenerator;
+	private final TsidGenerator tsidGenerator;
+	private final HashGenerator hashGenerator;
+	private final MeterRegistry meterRegistry;
+	private final UrlCanonicalizer urlCanonicalizer;
+
+	@Value("${constant.default-expiration-days}")
+	private int defaultExpirationDays;
+
+	@Value("${constant.hash.conflict.retry}")
+	private int retry;
+
+	@Value("${constant.hash.generator:random}")
+	private String generator;
+
+	@Value("${constant.create.write-behind.journal-dir:./data/journal}")
+	private String journalDir;
+
+	/**
+	 * drain 시 다른 URL이 쓰는 코드로 확인된 레코드를 남기는 파일 (한 줄에 한 건, 탭 구분)
+	 */
+	@Value("${constant.create.write-behind.dead-letter-file:./data/journal-dead-letter.tsv}")
+	private String deadLetterFile;
+
+	@Value("${constant.create.write-behind.segment-size-bytes:67108864}")
+	private int segmentSizeBytes;
+
+	@Value("${constant.create.write-behind.fsync-interval-millis:2}")
+	private long fsyncIntervalMillis;
+
+	@Value("${constant.create.write-behind.drain-interval-millis:100}")
+	private long drainIntervalMillis;
+
+	@Value("${constant.create.write-behind.drain-batch-size:1000}")
+	private int drainBatchSize;
+
+	private final Queue<JournaledShortUrl> drainQueue = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * 저장 중에 삭제 요청이 들어와서 DB에서 지워야 하는 short_code (drainer 스레드만 접근)
+	 * 삭제가 실패해도 다음 drain에서 다시 시도하도록 성공할 때까지 유지
+	 */
+	private final Set<String> deletedWhileDraining = new LinkedHashSet<>();
+	private final ScheduledExecutorService drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "write-behind-drainer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private SegmentedJournal journal;
+	private Counter drained;
+	private Counter conflicts;
+
+	private record JournaledShortUrl(ShortUrl shortUrl, long position) {
+	}
+
+	@PostConstruct
+	void start() {
+		if (!"feistel".equals(generator)) {
+			throw new IllegalStateException("constant.create.mode=write-behind requires "
+				+ "constant.hash.generator=feistel (short codes are returned before the database can reject "
+				+ "a collision). generator: " + generator);
+		}
+		drained = Counter.builder(METRIC_PREFIX + ".drained")
+			.description("journaled short urls inserted into the database")
+			.register(meterRegistry);
+		conflicts = Counter.builder(METRIC_PREFIX + ".conflicts")
+			.description("journaled short codes found taken by another url at drain time (moved to dead-letter file)")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".pending", pendingShortUrls, PendingShortUrls::size)
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".drain_queue", drainQueue, Queue::size)
+			.register(meterRegistry);
+
+		journal = new SegmentedJournal(Path.of(journalDir), segmentSizeBytes, fsyncIntervalMillis);
+		replay();
+		drainer.scheduleWithFixedDelay(this::drain, drainIntervalMillis, drainIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public ShortUrlCreateResponse createLink(String requestedUrl) {
+		shortUrlService.validateRedirectUrl(requestedUrl);
+		String redirectUrl = urlCanonicalizer.canonicalize(requestedUrl);
+
+		Optional<ShortUrl> pending = pendingShortUrls.findByRedirectUrl(redirectUrl);
+		if (pending.isPresent()) {
+			// 먼저 기록한 요청의 fsync가 끝나지 않았을 수 있으므로 지금까지 기록된 위치까지 대기
+			awaitDurable(journal.appendedPosition());
+			return toResponse(pending.get().getShortCode());
+		}
+
+		byte[] hashKey = hashGenerator.hash(redirectUrl);
+		for (ShortUrl candidate : shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(hashKey,
+			LocalDateTime.now())) {
+			if (candidate.getRedirectionUrl().equals(redirectUrl)) {
+				return toResponse(candidate.getShortCode());
+			}
+		}
+
+		ShortUrl shortUrl = pendingShortUrls.computeIfAbsent(redirectUrl, key -> {
+			ShortUrl created = new ShortUrl(tsidGenerator.nextKey(), hashKey, nextPendingFreeCode(), key,
+				LocalDateTime.now().plusDays(defaultExpirationDays));
+			appendToJournal(created);
+			return created;
+		});
+		awaitDurable(journal.appendedPosition());
+		shortUrlBloomFilter.put(hashKey);
+		return toResponse(shortUrl.getShortCode());
+	}
+
+	/**
+	 * journal 순서와 drain 순서를 맞추기 위해 기록과 큐 적재를 함께 수행
+	 */
+	private void appendToJournal(ShortUrl shortUrl) {
+		synchronized (drainQueue) {
+			long position = journal.append(encode(shortUrl));
+			drainQueue.add(new JournaledShortUrl(shortUrl, position));
+		}
+	}
+
+	private String nextPendingFreeCode() {
+		for (int i = 0; i < retry; i++) {
+			String shortCode = shortCodeGenerator.generate();
+			if (!pendingShortUrls.containsShortCode(shortCode)) {
+				return shortCode;
+			}
+		}
+		throw ErrorCode.URL_GENERATION_FAILED.baseException("Failed to generate URL. short_code conflicted.");
+	}
+
+	private void awaitDurable(long position) {
+		try {
+			journal.awaitDurable(position);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw ErrorCode.URL_GENERATION_FAILED.baseException("Interrupted while waiting for journal fsync");
+		}
+	}
+
+	private void replay() {
+		List<JournaledShortUrl> replayed = new ArrayList<>();
+		journal.replay((position, payload) -> replayed.add(new JournaledShortUrl(decode(payload), position)));
+		for (JournaledShortUrl record : replayed) {
+			pendingShortUrls.computeIfAbsent(record.shortUrl().getRedirectionUrl(), key -> record.shortUrl());
+			drainQueue.add(record);
+		}
+		if (replayed.isEmpty()) {
+			journal.checkpoint(journal.startPosition());
+		} else {
+			log.info("Replayed undrained journal records. count={}", replayed.size());
+		}
+	}
+
+	/**
+	 * 큐 앞에서부터 drain-batch-size씩 저장하고 checkpoint
+	 * DB 오류 시 큐를 그대로 두고 다음 주기에 재시도
+	 */
+	void drain() {
+		try {
+			while (!drainQueue.isEmpty()) {
+				List<JournaledShortUrl> batch = new ArrayList<>(drainBatchSize);
+				Iterator<JournaledShortUrl> iterator = drainQueue.iterator();
+				while (iterator.hasNext() && batch.size() < drainBatchSize) {
+					batch.add(iterator.next());
+				}
+
+				// drain 전에 삭제된 URL은 저장하지 않음
+				List<ShortUrl> rows = batch.stream()
+					.map(JournaledShortUrl::shortUrl)
+					.filter(shortUrl -> pendingShortUrls.containsShortCode(shortUrl.getShortCode()))
+					.toList();
+				List<ShortUrl> stored = rows.isEmpty() ? rows : persist(rows);
+
+				for (ShortUrl row : stored) {
+					if (!pendingShortUrls.remove(row.getShortCode())) {
+						// 저장 중에 삭제 요청이 들어옴 (삭제 요청의 DELETE가 INSERT보다 먼저 실행됐을 수 있음)
+						deletedWhileDraining.add(row.getShortCode());
+					}
+				}
+				// 큐에서 빼기 전에 지워야 실패 시 다음 drain에서 재시도됨
+				deleteDeletedWhileDraining();
+
+				for (int i = 0; i < batch.size(); i++) {
+					drainQueue.poll();
+				}
+				journal.checkpoint(batch.get(batch.size() - 1).position());
+				drained.increment(stored.size());
+			}
+		} catch (Exception e) {
+			log.warn("Write-behind drain failed. Will retry. queued={}", drainQueue.size(), e);
+		}
+	}
+
+	/**
+	 * drainer 스레드에는 트랜잭션이 없으므로 JdbcTemplate autocommit DELETE 사용
+	 */
+	private void deleteDeletedWhileDraining() {
+		Iterator<String> iterator = deletedWhileDraining.iterator();
+		while (iterator.hasNext()) {
+			shortUrlRepository.deleteByShortCode(iterator.next());
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * @return 저장했거나 이미 같은 URL로 저장돼 있던 row (dead-letter로 격리한 row 제외)
+	 */
+	private List<ShortUrl> persist(List<ShortUrl> rows) {
+		try {
+			shortUrlRepository.insertAll(rows);
+			return rows;
+		} catch (DataIntegrityViolationException e) {
+			return rows.stream().filter(this::persistOne).toList();
+		}
+	}
+
+	/**
+	 * @return 저장됐으면 true, 다른 URL이 쓰는 코드라 격리했으면 false
+	 */
+	private boolean persistOne(ShortUrl shortUrl) {
+		try {
+			shortUrlRepository.insertAll(List.of(shortUrl));
+			return true;
+		} catch (DataIntegrityViolationException e) {
+			Optional<ShortUrl> existing = shortUrlJpaRepository.findByShortCode(shortUrl.getShortCode());
+			if (existing.isPresent() && existing.get().getRedirectionUrl().equals(shortUrl.getRedirectionUrl())) {
+				// 재생으로 이미 저장된 레코드
+				return true;
+			}
+			// 클라이언트가 이미 받은 코드라서 다른 코드로 바꿔 저장하지 않고 격리
+			String stored = existing.map(ShortUrl::getRedirectionUrl).orElse(null);
+			writeDeadLetter(shortUrl, stored);
+			pendingShortUrls.remove(shortUrl.getShortCode());
+			conflicts.increment();
+			log.error("Write-behind short code taken by another url. Moved to dead-letter file. shortCode={}, "
+				+ "redirectUrl={}, stored={}, file={}", shortUrl.getShortCode(), shortUrl.getRedirectionUrl(), stored,
+				deadLetterFile);
+			return false;
+		}
+	}
+
+	/**
+	 * 한 줄 append 후 fsync (기록 전에 checkpoint를 넘기지 않도록 실패 시 예외)
+	 */
+	private void writeDeadLetter(ShortUrl shortUrl, String storedRedirectUrl) {
+		String line = String.join("\t", LocalDateTime.now().toString(), String.valueOf(shortUrl.getId()),
+			shortUrl.getShortCode(), shortUrl.getExpiredAt().toString(), shortUrl.getRedirectionUrl(),
+			String.valueOf(storedRedirectUrl)) + "\n";
+		try {
+			Path path = Path.of(deadLetterFile);
+			if (path.getParent() != null) {
+				Files.createDirectories(path.getParent());
+			}
+			Files.writeString(path, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+				StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to write dead-letter record. file=" + deadLetterFile, e);
+		}
+	}
+
+	private ShortUrlCreateResponse toResponse(String shortCode) {
+		return new ShortUrlCreateResponse(shortCode, shortUrlService.toShortUrl(shortCode));
+	}
+
+	static byte[] encode(ShortUrl shortUrl) {
+		byte[] shortCode = shortUrl.getShortCode().getBytes(StandardCharsets.UTF_8);
+		byte[] redirectUrl = shortUrl.getRedirectionUrl().getBytes(StandardCharsets.UTF_8);
+		byte[] hashKey = shortUrl.getHashKey();
+		LocalDateTime expiredAt = shortUrl.getExpiredAt();
+		ByteBuffer buffer = ByteBuffer.allocate(1 + Long.BYTES * 2 + Integer.BYTES
+			+ Short.BYTES * 2 + hashKey.length + shortCode.length + Integer.BYTES + redirectUrl.length);
+		buffer.put(RECORD_VERSION)
+			.putLong(shortUrl.getId())
+			.putLong(expiredAt.toEpochSecond(ZoneOffset.UTC))
+			.putInt(expiredAt.getNano())
+			.putShort((short)hashKey.length).put(hashKey)
+			.putShort((short)shortCode.length).put(shortCode)
+			.putInt(redirectUrl.length).put(redirectUrl);
+		return buffer.array();
+	}
+
+	static ShortUrl decode(byte[] payload) {
+		ByteBuffer buffer = ByteBuffer.wrap(payload);
+		byte version = buffer.get();
+		if (version != RECORD_VERSION) {
+			throw new IllegalStateException("Unknown journal record version: " + version);
+		}
+		long id = buffer.getLong();
+		LocalDateTime expiredAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+		byte[] hashKey = new byte[buffer.getShort()];
+		buffer.get(hashKey);
+		byte[] shortCode = new byte[buffer.getShort()];
+		buffer.get(shortCode);
+		byte[] redirectUrl = new byte[buffer.getInt()];
+		buffer.get(redirectUrl);
+		return new ShortUrl(id, hashKey, new String(shortCode, StandardCharsets.UTF_8),
+			new String(redirectUrl, StandardCharsets.UTF_8), expiredAt);
+	}
+
+	@PreDestroy
+	void shutdown() throws InterruptedException {
+		drainer.shutdown();
+		drainer.awaitTermination(5, TimeUnit.SECONDS);
+		drain();
+		journal.close();
+	}
+}
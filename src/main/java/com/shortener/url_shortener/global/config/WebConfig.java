@@ -0,0 +1,30 @@
+package com.shortener.url_shortener.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.shortener.url_shortener.global.interceptor.RateLimitInterceptor;
+import com.shortener.url_shortener.global.interceptor.RestApiKeyInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+	private final RateLimitInterceptor rateLimitInterceptor;
+	private final RestApiKeyInterceptor restApiKeyInterceptor;
+
+	/**
+	 * 삭제 API(DELETE /link)는 API Key 확인
+	 * 생성 API(POST /link, /link/batch)에만 클라이언트별 속도 제한 적용
+	 */
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(restApiKeyInterceptor)
+			.addPathPatterns("/link");
+		registry.addInterceptor(rateLimitInterceptor)
+			.addPathPatterns("/link", "/link/batch");
+	}
+}
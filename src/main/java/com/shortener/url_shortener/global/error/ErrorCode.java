@@ -13,13 +13,26 @@ public enum ErrorCode {
 	INVALID_ARGUMENT_ERROR(HttpStatus.BAD_REQUEST, "올바르지 않은 파라미터입니다."),
 	INVALID_KEY_ERROR(HttpStatus.BAD_REQUEST, "올바르지 않은 파라미터입니다."),
 	MISSING_REQUIRED_PARAMETER(HttpStatus.BAD_REQUEST, "필수 파라미터가 누락되었습니다."),
+	IDEMPOTENCY_KEY_REUSED(HttpStatus.BAD_REQUEST, "같은 Idempotency-Key가 다른 요청에 사용되었습니다."),
 	API_NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 경로의 API를 찾을 수 없습니다."),
 	KEY_NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 key의 URL이 존재하지 않습니다."),
 	EXPIRED_LINK(HttpStatus.NOT_FOUND, "링크가 만료되었습니다."),
+	// 401
+	UNAUTHENTICATED(HttpStatus.UNAUTHORIZED, "API Key가 없거나 올바르지 않습니다."),
+	// 409
+	IDEMPOTENCY_KEY_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청이 처리 중입니다."),
+	// 429
+	RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "요청 한도를 초과했습니다. 잠시 후 다시 시도해 주세요."),
+	CONCURRENCY_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "동시 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+	HANDLER_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "처리 대기 중인 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
 	// 500,
 	URL_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "URL 생성에 실패했습니다."),
 	REQUEST_CANCELLED(HttpStatus.INTERNAL_SERVER_ERROR, "Client connection cancelled"),
-	HASHING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "해시 생성에 실패했습니다.");
+	HASHING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "해시 생성에 실패했습니다."),
+	// 503
+	SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+	// 504
+	DEADLINE_EXCEEDED(HttpStatus.GATEWAY_TIMEOUT, "요청 처리 시간이 초과되었습니다.");
 
 	private final HttpStatus status;
 	private final String message;
@@ -14,6 +14,8 @@ import lombok.extern.slf4j.Slf4j;
  * - NOT_FOUND: 리소스 없음
  * - RESOURCE_EXHAUSTED: 리소스 고갈 (재시도 가능)
  * - CANCELLED: 요청 취소
+ * - DEADLINE_EXCEEDED: 호출자 deadline 초과
+ * - ABORTED: 같은 Idempotency-Key 요청 처리 중 (재시도 가능)
  * - INTERNAL: 내부 오류
  */
 @Slf4j
@@ -61,6 +63,16 @@ public class GrpcExceptionHandler {
 				.withDescription(message);
 		}
 
+		if (errorCode == ErrorCode.DEADLINE_EXCEEDED) {
+			return Status.DEADLINE_EXCEEDED
+				.withDescription(message);
+		}
+
+		if (errorCode == ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS) {
+			return Status.ABORTED
+				.withDescription(message);
+		}
+
 		// HttpStatus 기반 매핑 (일반 케이스)
 		HttpStatus httpStatus = e.getHttpStatus();
 		return switch (httpStatus) {
@@ -1,10 +1,18 @@
 package com.shortener.url_shortener.global.interceptor;
 
 import io.grpc.*;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
 import org.springframework.beans.factory.annotation.Value;
 
+import com.shortener.url_shortener.domain.url.service.ClusterRouter;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.error.GrpcExceptionHandler;
+import com.shortener.url_shortener.global.util.ClientRateLimiter;
+
+import java.util.Set;
+
 /**
  * gRPC API Key 인증 Interceptor
  *
@@ -13,6 +21,9 @@ import org.springframework.beans.factory.annotation.Value;
  * 2. Metadata(헤더)에서 "x-api-key" 추출
  * 3. application.yml의 api-key와 비교
  * 4. 일치하면 통과, 불일치하면 UNAUTHENTICATED 에러
+ * 5. 생성 메서드는 API Key별 요청 한도 확인, 초과하면 RESOURCE_EXHAUSTED (retry-after 메타데이터 포함)
+ *    cluster 노드 간 전달 요청은 처음 받은 노드에서 이미 확인했으므로 제외
+ *    (cluster 모드 + x-cluster-secret 일치 + 보낸 노드가 멤버일 때만, 아니면 x-forwarded-by는 무시)
  *
  * 클라이언트 사용법:
  * Metadata metadata = new Metadata();
@@ -21,6 +32,7 @@ import org.springframework.beans.factory.annotation.Value;
  */
 @Slf4j
 @GrpcGlobalServerInterceptor  // 이 애노테이션으로 자동 등록!
+@RequiredArgsConstructor
 public class ApiKeyInterceptor implements ServerInterceptor {
 
 	/**
@@ -30,6 +42,21 @@ public class ApiKeyInterceptor implements ServerInterceptor {
 	private static final Metadata.Key<String> API_KEY_METADATA_KEY =
 		Metadata.Key.of("x-api-key", Metadata.ASCII_STRING_MARSHALLER);
 
+	/**
+	 * 한도 초과 시 다음 요청까지 기다릴 시간(초)
+	 */
+	private static final Metadata.Key<String> RETRY_AFTER_METADATA_KEY =
+		Metadata.Key.of("retry-after", Metadata.ASCII_STRING_MARSHALLER);
+
+	/**
+	 * 요청 한도를 적용할 메서드 (조회/삭제는 제외)
+	 */
+	private static final Set<String> RATE_LIMITED_METHODS = Set.of("CreateLink", "CreateLinks", "ImportLinks");
+
+	private final ClientRateLimiter clientRateLimiter;
+	private final GrpcExceptionHandler exceptionHandler;
+	private final ClusterRouter clusterRouter;
+
 	/**
 	 * 유효한 API Key (application.yml에서 주입)
 	 * 현재는 스토리지 전용 서비스라 단일 키로 진행
@@ -79,7 +106,22 @@ public class ApiKeyInterceptor implements ServerInterceptor {
 			return new ServerCall.Listener<>() {};
 		}
 
-		// 4. 검증 성공 - 다음 핸들러(Controller)로 진행
+		// 4. 생성 메서드 요청 한도 확인
+		if (RATE_LIMITED_METHODS.contains(MethodDescriptor.extractBareMethodName(method))
+			&& !clusterRouter.isTrustedForward(headers)) {
+			long waitNanos = clientRateLimiter.tryAcquire(apiKey);
+			if (waitNanos > 0) {
+				log.warn("[gRPC] Rate limit exceeded - Method: {}", method);
+				Metadata trailers = new Metadata();
+				trailers.put(RETRY_AFTER_METADATA_KEY,
+					String.valueOf(RateLimitInterceptor.retryAfterSeconds(waitNanos)));
+				call.close(exceptionHandler.convertToStatus(
+					ErrorCode.RATE_LIMIT_EXCEEDED.baseException("Rate limit exceeded. method: %s", method)), trailers);
+				return new ServerCall.Listener<>() {};
+			}
+		}
+
+		// 5. 검증 성공 - 다음 핸들러(Controller)로 진행
 		log.debug("[gRPC] API Key validated - Method: {}", method);
 		return next.startCall(call, headers);
 	}
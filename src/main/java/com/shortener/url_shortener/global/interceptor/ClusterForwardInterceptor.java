@@ -0,0 +1,52 @@
+package com.shortener.url_shortener.global.interceptor;
+
+import io.grpc.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+
+import com.shortener.url_shortener.domain.url.service.ClusterRouter;
+
+/**
+ * cluster 전달 요청 표시 Interceptor
+ *
+ * 다른 노드가 hash_key owner로 보고 전달한 CreateLink는 Metadata에 "x-forwarded-by"(보낸 노드)가 있음
+ * Context에 넣어두면 받은 노드는 ring을 다시 보지 않고 직접 생성 (멤버 목록이 잠깐 달라도 전달이 반복되지 않음)
+ *
+ * cluster 모드이고 "x-cluster-secret"이 constant.cluster.secret과 같고 보낸 노드가 현재 멤버일 때만 인정
+ * (그 외에는 헤더를 무시해서 외부 호출자가 owner 확인을 건너뛰지 못함)
+ */
+@Slf4j
+@GrpcGlobalServerInterceptor
+@RequiredArgsConstructor
+public class ClusterForwardInterceptor implements ServerInterceptor {
+
+	public static final Context.Key<String> FORWARDED_BY = Context.key("x-forwarded-by");
+
+	public static final Metadata.Key<String> FORWARDED_BY_METADATA_KEY =
+		Metadata.Key.of("x-forwarded-by", Metadata.ASCII_STRING_MARSHALLER);
+
+	public static final Metadata.Key<String> CLUSTER_SECRET_METADATA_KEY =
+		Metadata.Key.of("x-cluster-secret", Metadata.ASCII_STRING_MARSHALLER);
+
+	private final ClusterRouter clusterRouter;
+
+	@Override
+	public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+		ServerCall<ReqT, RespT> call,
+		Metadata headers,
+		ServerCallHandler<ReqT, RespT> next) {
+
+		String forwardedBy = headers.get(FORWARDED_BY_METADATA_KEY);
+		if (forwardedBy == null) {
+			return next.startCall(call, headers);
+		}
+		if (!clusterRouter.isTrustedForward(headers)) {
+			log.warn("[gRPC] Ignoring untrusted x-forwarded-by - Method: {}, forwardedBy: {}",
+				call.getMethodDescriptor().getFullMethodName(), forwardedBy);
+			return next.startCall(call, headers);
+		}
+		Context context = Context.current().withValue(FORWARDED_BY, forwardedBy);
+		return Contexts.interceptCall(context, call, headers, next);
+	}
+}
@@ -0,0 +1,36 @@
+package com.shortener.url_shortener.global.interceptor;
+
+import io.grpc.*;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+
+/**
+ * gRPC Idempotency-Key 전달 Interceptor
+ *
+ * Metadata의 "idempotency-key"를 Context에 넣어서 Service에서 IDEMPOTENCY_KEY.get()으로 꺼내 씀
+ * (키가 없으면 그대로 통과)
+ *
+ * 클라이언트 사용법:
+ * metadata.put(Metadata.Key.of("idempotency-key", ...), "order-1234");
+ */
+@GrpcGlobalServerInterceptor
+public class IdempotencyKeyInterceptor implements ServerInterceptor {
+
+	public static final Context.Key<String> IDEMPOTENCY_KEY = Context.key("idempotency-key");
+
+	private static final Metadata.Key<String> IDEMPOTENCY_KEY_METADATA_KEY =
+		Metadata.Key.of("idempotency-key", Metadata.ASCII_STRING_MARSHALLER);
+
+	@Override
+	public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+		ServerCall<ReqT, RespT> call,
+		Metadata headers,
+		ServerCallHandler<ReqT, RespT> next) {
+
+		String idempotencyKey = headers.get(IDEMPOTENCY_KEY_METADATA_KEY);
+		if (idempotencyKey == null) {
+			return next.startCall(call, headers);
+		}
+		Context context = Context.current().withValue(IDEMPOTENCY_KEY, idempotencyKey);
+		return Contexts.interceptCall(context, call, headers, next);
+	}
+}
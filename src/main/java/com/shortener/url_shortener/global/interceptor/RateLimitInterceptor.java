@@ -0,0 +1,80 @@
+package com.shortener.url_shortener.global.interceptor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.util.ClientRateLimiter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST 생성 요청 속도 제한 Interceptor
+ *
+ * 클라이언트는 연결한 주소(remote address)로 구분
+ * - 요청자가 정하는 헤더 값(X-Client-Id 등)으로 구분하면 요청마다 값을 바꿔서 새 burst를 받을 수 있으므로 쓰지 않음
+ * - trusted-proxies에서 온 요청만 client-ip-header(예: X-Forwarded-For)의 마지막 주소 사용 (프록시가 덧붙인 값)
+ * 한도 초과 시 Retry-After 헤더를 붙이고 RATE_LIMIT_EXCEEDED를 던짐 (GlobalExceptionHandler가 429로 응답)
+ * 생성(POST)만 제한하고 리다이렉트 조회는 제한하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+	private final ClientRateLimiter clientRateLimiter;
+
+	/**
+	 * 프록시가 원래 client IP를 넣는 헤더 (비어 있으면 remote address만 사용)
+	 */
+	@Value("${constant.rate-limit.client-ip-header:}")
+	private String clientIpHeader = "";
+
+	/**
+	 * client-ip-header를 믿을 프록시 주소 목록
+	 */
+	@Value("${constant.rate-limit.trusted-proxies:}")
+	private List<String> trustedProxies = List.of();
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!HttpMethod.POST.matches(request.getMethod())) {
+			return true;
+		}
+
+		long waitNanos = clientRateLimiter.tryAcquire(clientAddress(request));
+		if (waitNanos > 0) {
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(waitNanos)));
+			throw ErrorCode.RATE_LIMIT_EXCEEDED.baseException("Rate limit exceeded. path: %s",
+				request.getRequestURI());
+		}
+		return true;
+	}
+
+	/**
+	 * @return trusted proxy를 거친 요청이면 client-ip-header의 마지막 주소, 아니면 remote address
+	 */
+	String clientAddress(HttpServletRequest request) {
+		String remoteAddr = request.getRemoteAddr();
+		if (clientIpHeader.isBlank() || !trustedProxies.contains(remoteAddr)) {
+			return remoteAddr;
+		}
+		String forwarded = request.getHeader(clientIpHeader);
+		if (forwarded == null || forwarded.isBlank()) {
+			return remoteAddr;
+		}
+		String last = forwarded.substring(forwarded.lastIndexOf(',') + 1).trim();
+		return last.isEmpty() ? remoteAddr : last;
+	}
+
+	static long retryAfterSeconds(long waitNanos) {
+		return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+	}
+}
@@ -0,0 +1,79 @@
+package com.shortener.url_shortener.global.interceptor;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.grpc.Context;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST 요청 deadline 설정 Filter
+ *
+ * "X-Request-Timeout: <밀리초>" 헤더가 있으면 그 시간 뒤에 만료되는 gRPC Context를 붙여서 요청 처리
+ * Service 계층은 gRPC 요청과 같은 방식(Context.current())으로 deadline/취소를 확인
+ * 헤더가 없거나 양의 정수가 아니면 deadline 없이 처리
+ */
+@Slf4j
+@Component
+public class RequestTimeoutFilter extends OncePerRequestFilter {
+
+	public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
+	/**
+	 * deadline 도달 시 Context 취소용
+	 */
+	private final ScheduledExecutorService deadlineScheduler = Executors.newSingleThreadScheduledExecutor(
+		runnable -> {
+			Thread thread = new Thread(runnable, "request-deadline");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+		throws ServletException, IOException {
+		long timeoutMillis = parseTimeoutMillis(request.getHeader(REQUEST_TIMEOUT_HEADER));
+		if (timeoutMillis <= 0) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		Context.CancellableContext context = Context.current()
+			.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS, deadlineScheduler);
+		Context previous = context.attach();
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			context.detach(previous);
+			// 예약된 deadline 작업 정리
+			context.cancel(null);
+		}
+	}
+
+	private static long parseTimeoutMillis(String header) {
+		if (header == null) {
+			return 0;
+		}
+		try {
+			return Long.parseLong(header.trim());
+		} catch (NumberFormatException e) {
+			log.debug("Ignoring invalid {} header: {}", REQUEST_TIMEOUT_HEADER, header);
+			return 0;
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		deadlineScheduler.shutdownNow();
+	}
+}
@@ -0,0 +1,45 @@
+package com.shortener.url_shortener.global.interceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.shortener.url_shortener.global.error.ErrorCode;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * REST 삭제 API Key 인증 Interceptor
+ *
+ * 삭제(DELETE /link)는 gRPC와 같은 api-key를 X-Api-Key 헤더로 받아서 확인
+ * 없거나 다르면 UNAUTHENTICATED (GlobalExceptionHandler가 401로 응답)
+ * 생성/리다이렉트 조회는 확인하지 않음
+ */
+@Component
+public class RestApiKeyInterceptor implements HandlerInterceptor {
+
+	public static final String API_KEY_HEADER = "X-Api-Key";
+
+	@Value("${grpc.server.api-key}")
+	private String validApiKey;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!HttpMethod.DELETE.matches(request.getMethod())) {
+			return true;
+		}
+
+		String apiKey = request.getHeader(API_KEY_HEADER);
+		if (apiKey == null || !MessageDigest.isEqual(validApiKey.getBytes(StandardCharsets.UTF_8),
+			apiKey.getBytes(StandardCharsets.UTF_8))) {
+			throw ErrorCode.UNAUTHENTICATED.baseException("API Key is missing or invalid. path: %s",
+				request.getRequestURI());
+		}
+		return true;
+	}
+}
@@ -112,6 +112,34 @@ public class Base62Encoder {
         return encoded.toString();
     }
 
+    /**
+     * 숫자를 고정 길이 Base62로 인코딩 (앞자리는 '0'으로 채움)
+     *
+     * @param number 인코딩할 숫자 (0 이상, 62^width 미만)
+     * @param width 결과 길이
+     * @return 고정 길이 Base62 문자열
+     * @throws IllegalArgumentException 음수이거나 width 자리로 표현할 수 없는 경우
+     */
+    public String encode(long number, int width) {
+        if (number < 0) {
+            throw new IllegalArgumentException("Negative number: " + number);
+        }
+
+        char[] encoded = new char[width];
+        long num = number;
+
+        for (int i = width - 1; i >= 0; i--) {
+            encoded[i] = BASE62_CHARS.charAt((int) (num % BASE));
+            num = num / BASE;
+        }
+
+        if (num != 0) {
+            throw new IllegalArgumentException("Number does not fit in " + width + " Base62 digits: " + number);
+        }
+
+        return new String(encoded);
+    }
+
     /**
      * Base62 랜덤 문자열 생성
      *
@@ -130,4 +158,30 @@ public class Base62Encoder {
         return sb.toString();
     }
 
+    /**
+     * Base62 랜덤 문자열 생성 (현재 스레드 전용 버퍼 사용, 스레드 간 경합 없음)
+     *
+     * @param length 생성할 길이
+     * @return Base62 랜덤 문자열
+     */
+    public String random(int length) {
+        return random(length, SecureRandomBuffer.current());
+    }
+
+    String random(int length, SecureRandomBuffer source) {
+        if (length <= 0) {
+            return "";
+        }
+        char[] chars = new char[length];
+        int filled = 0;
+        while (filled < length) {
+            // 상위 6비트(0~63) 중 62, 63은 버려서 편향 없이 균등 선택 (채택률 62/64)
+            int value = source.nextUnsignedByte() >>> 2;
+            if (value < BASE) {
+                chars[filled++] = BASE62_CHARS.charAt(value);
+            }
+        }
+        return new String(chars);
+    }
+
 }
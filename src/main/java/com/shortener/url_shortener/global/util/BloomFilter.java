@@ -0,0 +1,146 @@
+package com.shortener.url_shortener.global.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom Filter
+ *
+ * 특징:
+ * - "없음" 응답은 항상 정확 (false negative 없음), "있음" 응답은 오탐 가능
+ * - 입력 키는 이미 균등 분포된 해시(SHA-256 등, 16 bytes 이상)라고 가정하고
+ *   앞 16 bytes를 두 개의 64bit 해시로 사용 (Kirsch-Mitzenmacher double hashing)
+ * - 비트 설정은 CAS 기반이라 여러 스레드에서 동시에 put/mightContain 가능
+ * - 삭제는 지원하지 않음 (삭제가 누적되면 새 필터로 재구축)
+ */
+public class BloomFilter {
+
+	private static final int MIN_KEY_LENGTH = 16;
+	private static final double LN2 = Math.log(2);
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashFunctions;
+	private final AtomicLong bitCount = new AtomicLong();
+	private final AtomicLong insertions = new AtomicLong();
+
+	private BloomFilter(long bitSize, int hashFunctions) {
+		int words = (int)Math.max(1, (bitSize + Long.SIZE - 1) / Long.SIZE);
+		this.bits = new AtomicLongArray(words);
+		this.bitSize = (long)words * Long.SIZE;
+		this.hashFunctions = hashFunctions;
+	}
+
+	/**
+	 * 예상 원소 수와 목표 오탐률로 필터 생성
+	 *
+	 * @param expectedInsertions 예상 원소 수
+	 * @param falsePositiveRate 목표 오탐률 (0 < fpp < 1)
+	 * @return 최적 비트 수/해시 함수 수로 구성된 필터
+	 */
+	public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("expectedInsertions must be positive: " + expectedInsertions);
+		}
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("falsePositiveRate must be in (0, 1): " + falsePositiveRate);
+		}
+		long bitSize = optimalBitSize(expectedInsertions, falsePositiveRate);
+		return new BloomFilter(bitSize, optimalHashFunctions(expectedInsertions, bitSize));
+	}
+
+	static long optimalBitSize(long n, double p) {
+		return (long)Math.ceil(-n * Math.log(p) / (LN2 * LN2));
+	}
+
+	static int optimalHashFunctions(long n, long m) {
+		return Math.max(1, (int)Math.round((double)m / n * LN2));
+	}
+
+	/**
+	 * 키 추가
+	 *
+	 * @param key 균등 분포된 해시 키 (16 bytes 이상)
+	 * @return 새로 설정된 비트가 있으면 true (처음 보는 키일 가능성)
+	 */
+	public boolean put(byte[] key) {
+		long h1 = readLong(key, 0);
+		long h2 = readLong(key, Long.BYTES);
+		boolean changed = false;
+		long combined = h1;
+		for (int i = 0; i < hashFunctions; i++) {
+			changed |= setBit((combined & Long.MAX_VALUE) % bitSize);
+			combined += h2;
+		}
+		insertions.incrementAndGet();
+		return changed;
+	}
+
+	/**
+	 * 키 포함 여부 확인
+	 *
+	 * @param key 균등 분포된 해시 키 (16 bytes 이상)
+	 * @return false면 확실히 없음, true면 있을 수 있음
+	 */
+	public boolean mightContain(byte[] key) {
+		long h1 = readLong(key, 0);
+		long h2 = readLong(key, Long.BYTES);
+		long combined = h1;
+		for (int i = 0; i < hashFunctions; i++) {
+			long index = (combined & Long.MAX_VALUE) % bitSize;
+			if ((bits.get((int)(index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+			combined += h2;
+		}
+		return true;
+	}
+
+	/**
+	 * 현재 비트 채움 비율 기준 추정 오탐률
+	 */
+	public double estimatedFalsePositiveRate() {
+		return Math.pow((double)bitCount.get() / bitSize, hashFunctions);
+	}
+
+	public long memoryBytes() {
+		return (long)bits.length() * Long.BYTES;
+	}
+
+	public long bitSize() {
+		return bitSize;
+	}
+
+	public int hashFunctions() {
+		return hashFunctions;
+	}
+
+	public long insertions() {
+		return insertions.get();
+	}
+
+	private boolean setBit(long index) {
+		int word = (int)(index >>> 6);
+		long mask = 1L << index;
+		long current;
+		do {
+			current = bits.get(word);
+			if ((current & mask) != 0) {
+				return false;
+			}
+		} while (!bits.compareAndSet(word, current, current | mask));
+		bitCount.incrementAndGet();
+		return true;
+	}
+
+	private static long readLong(byte[] key, int offset) {
+		if (key == null || key.length < MIN_KEY_LENGTH) {
+			throw new IllegalArgumentException("Bloom filter key must be at least " + MIN_KEY_LENGTH + " bytes");
+		}
+		long value = 0;
+		for (int i = 0; i < Long.BYTES; i++) {
+			value = (value << 8) | (key[offset + i] & 0xFF);
+		}
+		return value;
+	}
+}
@@ -0,0 +1,172 @@
+package com.shortener.url_shortener.global.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클라이언트별 생성 요청 속도 제한 (토큰 버킷)
+ *
+ * 클라이언트 식별:
+ * - gRPC: API Key (ApiKeyInterceptor)
+ * - REST: client IP (RateLimitInterceptor, trusted proxy 뒤면 프록시가 넣은 주소)
+ *
+ * 한도:
+ * - overrides에 있는 클라이언트는 그 한도, 나머지는 default-rate-per-second / default-burst
+ * - 버킷은 클라이언트를 처음 볼 때만 만들고 이후 요청은 CAS만 수행
+ * - 가득 찬(한동안 요청이 없던) 버킷은 sweep-interval-millis마다 백그라운드에서 정리 (요청 경로에서 순회하지 않음)
+ * - 클라이언트 수가 max-clients에 도달하면 다음 정리까지 새 클라이언트는 거절 (기존 클라이언트는 영향 없음)
+ *
+ * 메트릭:
+ * - shortener.rate_limit.rejected: 한도 초과로 거절한 요청 수 (reason=limit | table_full)
+ * - shortener.rate_limit.clients: 버킷을 가진 클라이언트 수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClientRateLimiter {
+
+	private static final String METRIC_PREFIX = "shortener.rate_limit";
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${constant.rate-limit.enabled:true}")
+	private boolean enabled = true;
+
+	@Value("${constant.rate-limit.default-rate-per-second:100}")
+	private double defaultRatePerSecond = 100;
+
+	@Value("${constant.rate-limit.default-burst:200}")
+	private int defaultBurst = 200;
+
+	/**
+	 * 클라이언트별 한도, "<client>=<초당 요청 수>/<burst>" 형식
+	 */
+	@Value("${constant.rate-limit.overrides:}")
+	private List<String> overrides = List.of();
+
+	@Value("${constant.rate-limit.max-clients:10000}")
+	private int maxClients = 10000;
+
+	/**
+	 * 가득 찬 버킷 정리 주기, max-clients에 걸린 새 클라이언트의 Retry-After로도 사용
+	 */
+	@Value("${constant.rate-limit.sweep-interval-millis:10000}")
+	private long sweepIntervalMillis = 10000;
+
+	private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+	private final Map<String, Limit> limits = new HashMap<>();
+	private Counter rejected;
+	private Counter tableFull;
+
+	@PostConstruct
+	void init() {
+		for (String override : overrides) {
+			if (override.isBlank()) {
+				continue;
+			}
+			putOverride(override);
+		}
+		rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+			.description("create requests rejected by the per-client rate limit")
+			.tag("reason", "limit")
+			.register(meterRegistry);
+		tableFull = Counter.builder(METRIC_PREFIX + ".rejected")
+			.description("create requests rejected by the per-client rate limit")
+			.tag("reason", "table_full")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".clients", buckets, Map::size)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 토큰 1개 획득 시도
+	 *
+	 * @param clientId API Key 또는 client IP
+	 * @return 0이면 허용, 양수면 다음 토큰까지 남은 시간(나노초)
+	 */
+	public long tryAcquire(String clientId) {
+		if (!enabled) {
+			return 0;
+		}
+		long now = System.nanoTime();
+		TokenBucket bucket = bucketOf(clientId, now);
+		if (bucket == null) {
+			tableFull.increment();
+			return TimeUnit.MILLISECONDS.toNanos(sweepIntervalMillis);
+		}
+		long waitNanos = bucket.tryAcquire(now);
+		if (waitNanos > 0) {
+			rejected.increment();
+		}
+		return waitNanos;
+	}
+
+	/**
+	 * 가득 찬 버킷 제거 (새로 만든 버킷과 같은 상태라 제거해도 한도는 그대로)
+	 *
+	 * @return 제거한 버킷 수
+	 */
+	@Scheduled(fixedDelayString = "${constant.rate-limit.sweep-interval-millis:10000}")
+	public int evictIdle() {
+		long now = System.nanoTime();
+		int before = buckets.size();
+		buckets.values().removeIf(bucket -> bucket.isFull(now));
+		int evicted = before - buckets.size();
+		if (evicted > 0) {
+			log.debug("Rate limit idle buckets evicted. evicted: {}, clients: {}", evicted, buckets.size());
+		}
+		return evicted;
+	}
+
+	/**
+	 * @return 클라이언트 수가 max-clients에 도달해서 새 버킷을 만들 수 없으면 null
+	 */
+	private TokenBucket bucketOf(String clientId, long now) {
+		TokenBucket bucket = buckets.get(clientId);
+		if (bucket != null) {
+			return bucket;
+		}
+		if (buckets.size() >= maxClients) {
+			log.debug("Rate limit client table full, rejecting new client. clients: {}", maxClients);
+			return null;
+		}
+		return buckets.computeIfAbsent(clientId, key -> newBucket(key, now));
+	}
+
+	private TokenBucket newBucket(String clientId, long now) {
+		Limit limit = limits.getOrDefault(clientId, new Limit(defaultRatePerSecond, defaultBurst));
+		return new TokenBucket(limit.ratePerSecond(), limit.burst(), now);
+	}
+
+	private void putOverride(String override) {
+		int separator = override.lastIndexOf('=');
+		int slash = override.indexOf('/', separator + 1);
+		if (separator <= 0 || slash < 0) {
+			throw new IllegalArgumentException("Invalid rate limit override: " + override);
+		}
+		try {
+			limits.put(override.substring(0, separator).trim(), new Limit(
+				Double.parseDouble(override.substring(separator + 1, slash).trim()),
+				Integer.parseInt(override.substring(slash + 1).trim())));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid rate limit override: " + override, e);
+		}
+	}
+
+	private record Limit(double ratePerSecond, int burst) {
+	}
+}
@@ -0,0 +1,92 @@
+package com.shortener.url_shortener.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * consistent hash ring (불변)
+ *
+ * - 노드마다 virtualNodes개의 점을 ring에 배치 (SHA-256(node#i) 앞 8바이트)
+ * - key는 앞 8바이트(hash_key는 이미 SHA-256이라 고르게 분포)를 ring 위 위치로 사용
+ * - 위치에서 시계 방향으로 처음 만나는 점의 노드가 owner
+ *
+ * 노드가 추가/제거되면 그 노드의 점 주변 구간만 owner가 바뀜 (전체 key의 약 1/N)
+ * 멤버 변경은 새 ring을 만들어 교체
+ */
+public final class ConsistentHashRing {
+
+	private final long[] points;
+	private final String[] owners;
+	private final Set<String> nodes;
+
+	public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+		if (nodes.isEmpty() || virtualNodes < 1) {
+			throw new IllegalArgumentException(
+				"Invalid ring. nodes: " + nodes.size() + ", virtualNodes: " + virtualNodes);
+		}
+		this.nodes = Set.copyOf(new TreeSet<>(nodes));
+
+		int size = this.nodes.size() * virtualNodes;
+		Point[] sorted = new Point[size];
+		int index = 0;
+		for (String node : new TreeSet<>(nodes)) {
+			for (int i = 0; i < virtualNodes; i++) {
+				sorted[index++] = new Point(pointOf(node + "#" + i), node);
+			}
+		}
+		// 같은 위치면 노드 이름순 (어느 노드에서 만들어도 같은 ring)
+		Arrays.sort(sorted, Comparator.comparingLong(Point::position).thenComparing(Point::node));
+
+		this.points = new long[size];
+		this.owners = new String[size];
+		for (int i = 0; i < size; i++) {
+			points[i] = sorted[i].position();
+			owners[i] = sorted[i].node();
+		}
+	}
+
+	/**
+	 * @param hashKey 8바이트 이상
+	 */
+	public String ownerOf(byte[] hashKey) {
+		return ownerAt(toLong(hashKey));
+	}
+
+	String ownerAt(long position) {
+		int index = Arrays.binarySearch(points, position);
+		if (index < 0) {
+			index = -index - 1;
+		}
+		return owners[index == points.length ? 0 : index];
+	}
+
+	public Set<String> nodes() {
+		return nodes;
+	}
+
+	private static long pointOf(String name) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return toLong(digest.digest(name.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	private static long toLong(byte[] bytes) {
+		long value = 0;
+		for (int i = 0; i < Long.BYTES; i++) {
+			value = (value << 8) | (bytes[i] & 0xFF);
+		}
+		return value;
+	}
+
+	private record Point(long position, String node) {
+	}
+}
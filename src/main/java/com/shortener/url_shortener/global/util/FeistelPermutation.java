@@ -0,0 +1,123 @@
+package com.shortener.url_shortener.global.util;
+
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 키 기반 Feistel 순열 (format-preserving)
+ *
+ * [0, domainSize) 구간의 값을 같은 구간의 다른 값으로 1:1 매핑
+ * - 균형 Feistel 네트워크 (2 * halfBits 비트, 8 라운드, 라운드 함수 HMAC-SHA256)
+ * - domainSize가 2의 거듭제곱이 아니면 결과가 구간 안에 들어올 때까지 반복 적용 (cycle walking)
+ * - 입력이 서로 다르면 출력도 반드시 다름 (순열이므로 충돌 없음)
+ * - 키를 모르면 출력으로 입력 순서를 추측할 수 없음
+ */
+public final class FeistelPermutation {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final int ROUNDS = 8;
+	private static final int MIN_KEY_LENGTH = 16;
+	private static final int MAX_BITS = 62;
+
+	private final long domainSize;
+	private final int halfBits;
+	private final long halfMask;
+	private final ThreadLocal<Mac> mac;
+
+	/**
+	 * @param key 비밀 키 (16 bytes 이상, 변경 시 이미 발급된 코드와 충돌 가능하므로 고정해야 함)
+	 * @param domainSize 순열 구간 크기 (2 이상, 2^62 이하)
+	 */
+	public FeistelPermutation(byte[] key, long domainSize) {
+		if (key == null || key.length < MIN_KEY_LENGTH) {
+			throw new IllegalArgumentException("Feistel key must be at least " + MIN_KEY_LENGTH + " bytes");
+		}
+		int bits = Long.SIZE - Long.numberOfLeadingZeros(domainSize - 1);
+		if (domainSize < 2 || bits > MAX_BITS) {
+			throw new IllegalArgumentException("Unsupported domain size: " + domainSize);
+		}
+		this.domainSize = domainSize;
+		this.halfBits = (bits + 1) / 2;
+		this.halfMask = (1L << halfBits) - 1;
+
+		SecretKeySpec keySpec = new SecretKeySpec(key.clone(), ALGORITHM);
+		this.mac = ThreadLocal.withInitial(() -> newMac(keySpec));
+	}
+
+	public long domainSize() {
+		return domainSize;
+	}
+
+	public long permute(long value) {
+		checkRange(value);
+		long result = value;
+		do {
+			result = encrypt(result);
+		} while (result >= domainSize);
+		return result;
+	}
+
+	public long inverse(long value) {
+		checkRange(value);
+		long result = value;
+		do {
+			result = decrypt(result);
+		} while (result >= domainSize);
+		return result;
+	}
+
+	private long encrypt(long value) {
+		long left = value >>> halfBits;
+		long right = value & halfMask;
+		for (int round = 0; round < ROUNDS; round++) {
+			long nextLeft = right;
+			right = left ^ roundFunction(round, right);
+			left = nextLeft;
+		}
+		return (left << halfBits) | right;
+	}
+
+	private long decrypt(long value) {
+		long left = value >>> halfBits;
+		long right = value & halfMask;
+		for (int round = ROUNDS - 1; round >= 0; round--) {
+			long previousRight = left;
+			left = right ^ roundFunction(round, left);
+			right = previousRight;
+		}
+		return (left << halfBits) | right;
+	}
+
+	private long roundFunction(int round, long half) {
+		byte[] input = new byte[1 + Long.BYTES];
+		input[0] = (byte)round;
+		for (int i = 0; i < Long.BYTES; i++) {
+			input[1 + i] = (byte)(half >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+		}
+		byte[] digest = mac.get().doFinal(input);
+		long result = 0;
+		for (int i = 0; i < Long.BYTES; i++) {
+			result = (result << Byte.SIZE) | (digest[i] & 0xFF);
+		}
+		return result & halfMask;
+	}
+
+	private void checkRange(long value) {
+		if (value < 0 || value >= domainSize) {
+			throw new IllegalArgumentException("Value out of domain: " + value);
+		}
+	}
+
+	private static Mac newMac(SecretKeySpec keySpec) {
+		try {
+			Mac instance = Mac.getInstance(ALGORITHM);
+			instance.init(keySpec);
+			return instance;
+		} catch (NoSuchAlgorithmException | InvalidKeyException e) {
+			throw new IllegalStateException("HmacSHA256 not available", e);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.shortener.url_shortener.global.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측 지연 시간 기반 동시 처리 한도 (gradient 방식)
+ *
+ * 한도 조정:
+ * - longRtt: 요청 처리 시간의 장기 지수 이동 평균 (부하 없을 때의 기준)
+ * - gradient = clamp(tolerance * longRtt / rtt, 0.5, 1.0), 지연이 기준의 tolerance배를 넘으면 1보다 작아짐
+ * - newLimit = limit * gradient + QUEUE_SIZE, QUEUE_SIZE는 한도를 조금씩 늘려보는 여유분
+ * - smoothing 비율만큼만 반영해서 한 번의 튀는 지연에 크게 흔들리지 않음
+ * - 과부하 신호(커넥션/쿼리 timeout 등)는 즉시 backoffRatio배로 줄임
+ *
+ * 한도의 절반도 쓰지 않는 동안은 늘리지 않음 (부하가 없을 때 한도가 무한히 커지는 것 방지)
+ */
+public final class GradientLimit {
+
+	private static final double MIN_GRADIENT = 0.5;
+	private static final double BACKOFF_RATIO = 0.9;
+	private static final int QUEUE_SIZE = 4;
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final double smoothing;
+	private final double tolerance;
+	private final double longRttAlpha;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private volatile int limit;
+	private double estimatedLimit;
+	private double longRttNanos;
+
+	/**
+	 * @param longWindow longRtt 평균에 반영하는 최근 요청 수
+	 */
+	public GradientLimit(int initialLimit, int minLimit, int maxLimit, double smoothing, double tolerance,
+		int longWindow) {
+		if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+			throw new IllegalArgumentException(
+				"Invalid limits. initial: " + initialLimit + ", min: " + minLimit + ", max: " + maxLimit);
+		}
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.smoothing = smoothing;
+		this.tolerance = tolerance;
+		this.longRttAlpha = 2.0 / (longWindow + 1);
+		this.estimatedLimit = initialLimit;
+		this.limit = initialLimit;
+	}
+
+	/**
+	 * @return 획득 시점 처리 중 요청 수 (자신 포함), 한도 초과면 -1
+	 */
+	public int tryAcquire() {
+		while (true) {
+			int current = inFlight.get();
+			if (current >= limit) {
+				return -1;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return current + 1;
+			}
+		}
+	}
+
+	/**
+	 * 정상 처리, 처리 시간을 한도 계산에 반영
+	 *
+	 * @param rttNanos 처리 시간
+	 * @param inFlightAtStart tryAcquire() 반환값
+	 */
+	public void onSuccess(long rttNanos, int inFlightAtStart) {
+		inFlight.decrementAndGet();
+		if (rttNanos <= 0) {
+			return;
+		}
+		synchronized (this) {
+			longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + (rttNanos - longRttNanos) * longRttAlpha;
+			// 부하가 빠진 뒤 기준 지연이 현재보다 훨씬 크면 빨리 따라오도록 감쇠
+			if (longRttNanos > rttNanos * 2) {
+				longRttNanos *= 0.95;
+			}
+			if (inFlightAtStart < estimatedLimit / 2) {
+				return;
+			}
+
+			double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+			double newLimit = estimatedLimit * gradient + QUEUE_SIZE;
+			update(estimatedLimit * (1 - smoothing) + newLimit * smoothing);
+		}
+	}
+
+	/**
+	 * 과부하로 실패 (한도 즉시 감소)
+	 */
+	public void onDropped() {
+		inFlight.decrementAndGet();
+		synchronized (this) {
+			update(estimatedLimit * BACKOFF_RATIO);
+		}
+	}
+
+	/**
+	 * 부하와 무관한 실패 (검증 실패 등), 한도 계산에 반영하지 않음
+	 */
+	public void onIgnore() {
+		inFlight.decrementAndGet();
+	}
+
+	private void update(double newLimit) {
+		estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+		limit = (int)estimatedLimit;
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	public synchronized double getLongRttMillis() {
+		return longRttNanos / 1_000_000.0;
+	}
+}
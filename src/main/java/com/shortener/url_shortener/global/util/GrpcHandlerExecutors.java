@@ -0,0 +1,155 @@
+package com.shortener.url_shortener.global.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.global.error.ErrorCode;
+
+import io.grpc.Context;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * gRPC 단건 RPC 처리 전용 스레드 풀 (RPC별로 분리)
+ *
+ * gRPC 기본 executor는 제한 없는 cached pool이라 DB가 느려지면 대기 스레드가 계속 늘어남
+ * RPC마다 고정 크기 풀 + 크기 제한 큐를 두고, 큐가 가득 차면 대기 없이 HANDLER_QUEUE_FULL(RESOURCE_EXHAUSTED)
+ * 한 RPC가 밀려도 다른 RPC(삭제 등)는 자기 풀에서 계속 처리
+ *
+ * 작업은 제출 시점의 gRPC Context(deadline, idempotency-key 등)를 그대로 가지고 실행
+ * enabled=false면 gRPC가 호출한 스레드에서 바로 실행
+ *
+ * 메트릭:
+ * - executor.*{name=grpc.<rpc>}: 풀 크기, 활성 스레드, 큐 길이/남은 자리, 완료 수 (Micrometer ExecutorServiceMetrics)
+ * - shortener.grpc.executor.rejected{rpc}: 큐가 가득 차서 거절한 요청 수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GrpcHandlerExecutors {
+
+	public static final String CREATE_LINK = "createLink";
+	public static final String CREATE_LINKS = "createLinks";
+	public static final String DELETE_LINK = "deleteLink";
+	public static final String DELETE_LINKS = "deleteLinks";
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${constant.grpc.executor.enabled:true}")
+	private boolean enabled = true;
+
+	@Value("${constant.grpc.executor.create-link.threads:32}")
+	private int createLinkThreads = 32;
+
+	@Value("${constant.grpc.executor.create-link.queue-capacity:512}")
+	private int createLinkQueueCapacity = 512;
+
+	@Value("${constant.grpc.executor.create-links.threads:4}")
+	private int createLinksThreads = 4;
+
+	@Value("${constant.grpc.executor.create-links.queue-capacity:64}")
+	private int createLinksQueueCapacity = 64;
+
+	@Value("${constant.grpc.executor.delete-link.threads:8}")
+	private int deleteLinkThreads = 8;
+
+	@Value("${constant.grpc.executor.delete-link.queue-capacity:256}")
+	private int deleteLinkQueueCapacity = 256;
+
+	@Value("${constant.grpc.executor.delete-links.threads:2}")
+	private int deleteLinksThreads = 2;
+
+	@Value("${constant.grpc.executor.delete-links.queue-capacity:32}")
+	private int deleteLinksQueueCapacity = 32;
+
+	private final Map<String, ThreadPoolExecutor> executors = new HashMap<>();
+	private final Map<String, Counter> rejectedCounters = new HashMap<>();
+
+	@PostConstruct
+	void init() {
+		if (!enabled) {
+			return;
+		}
+		register(CREATE_LINK, createLinkThreads, createLinkQueueCapacity);
+		register(CREATE_LINKS, createLinksThreads, createLinksQueueCapacity);
+		register(DELETE_LINK, deleteLinkThreads, deleteLinkQueueCapacity);
+		register(DELETE_LINKS, deleteLinksThreads, deleteLinksQueueCapacity);
+	}
+
+	private void register(String rpc, int threads, int queueCapacity) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), threadFactory(rpc), new ThreadPoolExecutor.AbortPolicy());
+		new ExecutorServiceMetrics(executor, "grpc." + rpc, Tags.empty()).bindTo(meterRegistry);
+		executors.put(rpc, executor);
+		rejectedCounters.put(rpc, Counter.builder("shortener.grpc.executor.rejected")
+			.description("gRPC calls rejected because the handler queue was full")
+			.tag("rpc", rpc)
+			.register(meterRegistry));
+	}
+
+	private static ThreadFactory threadFactory(String rpc) {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "grpc-" + rpc + "-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * RPC 전용 풀에서 실행
+	 *
+	 * @param rpc CREATE_LINK | CREATE_LINKS | DELETE_LINK | DELETE_LINKS
+	 * @param handler 응답(onNext/onCompleted/onError)까지 직접 보내는 작업
+	 */
+	public void execute(String rpc, Runnable handler) {
+		if (!enabled) {
+			handler.run();
+			return;
+		}
+		ThreadPoolExecutor executor = executors.get(rpc);
+		if (executor == null) {
+			throw new IllegalArgumentException("Unknown rpc: " + rpc);
+		}
+		try {
+			executor.execute(Context.current().wrap(handler));
+		} catch (RejectedExecutionException e) {
+			rejectedCounters.get(rpc).increment();
+			throw ErrorCode.HANDLER_QUEUE_FULL.baseException("gRPC handler queue full. rpc: %s, queued: %d",
+				rpc, executor.getQueue().size());
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		for (ThreadPoolExecutor executor : executors.values()) {
+			executor.shutdown();
+		}
+		for (Map.Entry<String, ThreadPoolExecutor> entry : executors.entrySet()) {
+			try {
+				if (!entry.getValue().awaitTermination(5, TimeUnit.SECONDS)) {
+					log.warn("gRPC handler executor did not terminate in time. rpc: {}", entry.getKey());
+					entry.getValue().shutdownNow();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				entry.getValue().shutdownNow();
+			}
+		}
+	}
+}
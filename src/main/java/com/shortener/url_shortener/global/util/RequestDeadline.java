@@ -0,0 +1,116 @@
+package com.shortener.url_shortener.global.util;
+
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 호출자 deadline을 lock 대기/JDBC timeout에 반영
+ *
+ * deadline은 gRPC Context에서 읽음
+ * - gRPC: 클라이언트가 보낸 deadline이 그대로 Context에 있음
+ * - REST: RequestTimeoutFilter가 X-Request-Timeout 헤더로 Context에 설정
+ * deadline이 없으면 설정값을 그대로 사용
+ *
+ * 메트릭:
+ * - shortener.deadline.expired{stage}: deadline이 지나서 그 단계 이후 작업을 하지 않은 요청 수
+ * - shortener.deadline.lock_wait_reduced: 설정값 대비 줄인 GET_LOCK 최대 대기 시간(초)
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestDeadline {
+
+	private static final String METRIC_PREFIX = "shortener.deadline";
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * deadline이 지났거나 요청이 취소됐으면 예외
+	 *
+	 * @param stage 메트릭 태그 (어느 단계 전에 멈췄는지)
+	 */
+	public void checkNotExpired(String stage) {
+		Context context = Context.current();
+		Deadline deadline = context.getDeadline();
+		if (deadline != null && deadline.isExpired()) {
+			throw expired(stage);
+		}
+		if (context.isCancelled()) {
+			throw ErrorCode.REQUEST_CANCELLED.baseException("Request was cancelled by client. stage: %s", stage);
+		}
+	}
+
+	/**
+	 * GET_LOCK 대기 시간 (남은 시간보다 오래 기다리지 않도록 초 단위 내림)
+	 *
+	 * @param configured constant.hash.lock-timeout-seconds
+	 */
+	public int lockTimeoutSeconds(int configured, String stage) {
+		Deadline deadline = Context.current().getDeadline();
+		if (deadline == null) {
+			return configured;
+		}
+		long remainingMillis = deadline.timeRemaining(TimeUnit.MILLISECONDS);
+		if (remainingMillis <= 0) {
+			throw expired(stage);
+		}
+		int capped = (int)Math.min(configured, TimeUnit.MILLISECONDS.toSeconds(remainingMillis));
+		if (capped < configured) {
+			DistributionSummary.builder(METRIC_PREFIX + ".lock_wait_reduced")
+				.baseUnit("seconds")
+				.description("GET_LOCK wait time cut to fit the caller deadline")
+				.register(meterRegistry)
+				.record(configured - capped);
+		}
+		return capped;
+	}
+
+	/**
+	 * 다른 스레드 작업 완료 대기 시간 (밀리초, 남은 시간과 설정값 중 작은 값)
+	 *
+	 * @param configured 설정된 최대 대기 시간(밀리초)
+	 */
+	public long waitMillis(long configured, String stage) {
+		Deadline deadline = Context.current().getDeadline();
+		if (deadline == null) {
+			return configured;
+		}
+		long remainingMillis = deadline.timeRemaining(TimeUnit.MILLISECONDS);
+		if (remainingMillis <= 0) {
+			throw expired(stage);
+		}
+		return Math.min(configured, remainingMillis);
+	}
+
+	/**
+	 * 트랜잭션(문장별 query timeout) 제한 시간, 초 단위 올림 (JDBC query timeout 단위가 초)
+	 *
+	 * @return deadline이 없으면 empty
+	 */
+	public OptionalInt remainingSeconds() {
+		Deadline deadline = Context.current().getDeadline();
+		if (deadline == null) {
+			return OptionalInt.empty();
+		}
+		long remainingMillis = deadline.timeRemaining(TimeUnit.MILLISECONDS);
+		return OptionalInt.of((int)Math.max(1, (remainingMillis + 999) / 1000));
+	}
+
+	/**
+	 * deadline 초과 예외 (JDBC timeout 등 이미 작업 중에 초과한 경우 포함)
+	 */
+	public CustomException expired(String stage) {
+		meterRegistry.counter(METRIC_PREFIX + ".expired", "stage", stage).increment();
+		return ErrorCode.DEADLINE_EXCEEDED.baseException("Request deadline exceeded. stage: %s", stage);
+	}
+}
@@ -0,0 +1,46 @@
+package com.shortener.url_shortener.global.util;
+
+import java.security.SecureRandom;
+
+/**
+ * 스레드별로 버퍼링된 CSPRNG 바이트 공급
+ *
+ * - 스레드마다 자기 SecureRandom과 버퍼를 가져서 공유 SecureRandom 경합 없음
+ * - 버퍼가 비면 blockSize만큼 nextBytes 한 번으로 채움 (문자마다 nextInt 호출하지 않음)
+ * - 인스턴스는 스레드 한정이므로 current()로 얻은 객체를 다른 스레드에 넘기지 않아야 함
+ */
+public final class SecureRandomBuffer {
+
+	static final int DEFAULT_BLOCK_SIZE = 4096;
+
+	private static final ThreadLocal<SecureRandomBuffer> PER_THREAD =
+		ThreadLocal.withInitial(() -> new SecureRandomBuffer(new SecureRandom(), DEFAULT_BLOCK_SIZE));
+
+	private final SecureRandom random;
+	private final byte[] buffer;
+	private int position;
+
+	SecureRandomBuffer(SecureRandom random, int blockSize) {
+		this.random = random;
+		this.buffer = new byte[blockSize];
+		this.position = blockSize;
+	}
+
+	/**
+	 * @return 현재 스레드 전용 버퍼
+	 */
+	public static SecureRandomBuffer current() {
+		return PER_THREAD.get();
+	}
+
+	/**
+	 * @return 0~255 난수
+	 */
+	public int nextUnsignedByte() {
+		if (position == buffer.length) {
+			random.nextBytes(buffer);
+			position = 0;
+		}
+		return buffer[position++] & 0xFF;
+	}
+}
@@ -0,0 +1,315 @@
+package com.shortener.url_shortener.global.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Memory-mapped 세그먼트 journal
+ *
+ * 구조:
+ * - segment-{id}.log 파일을 segmentSize만큼 mmap 해서 순서대로 기록, 가득 차면 다음 세그먼트로 전환
+ * - 레코드 형식: [int length][int crc32c][payload], length 0은 세그먼트 끝
+ * - 위치(position)는 (segmentId << 32 | 레코드 끝 offset)이라 레코드 순서대로 증가
+ *
+ * 내구성:
+ * - append는 메모리 복사만 하고, flusher 스레드가 fsyncInterval마다 한 번 force() (fsync 묶음)
+ * - awaitDurable(position)으로 해당 레코드까지 디스크에 반영될 때까지 대기
+ * - 비정상 종료로 마지막 레코드가 잘리면 crc 불일치로 감지하고 그 앞까지만 재생
+ *
+ * 정리:
+ * - checkpoint(position)는 처리 완료 위치를 checkpoint 파일에 기록하고 그 이전 세그먼트 삭제
+ */
+public class SegmentedJournal implements AutoCloseable {
+
+	private static final int HEADER_BYTES = Integer.BYTES * 2;
+	private static final String SEGMENT_PREFIX = "segment-";
+	private static final String SEGMENT_SUFFIX = ".log";
+	private static final String CHECKPOINT_FILE = "checkpoint";
+
+	private final Path directory;
+	private final int segmentSize;
+	private final Thread flusher;
+
+	private MappedByteBuffer current;
+	private long currentSegmentId;
+	private long appendedPosition;
+	private volatile long durablePosition;
+	private volatile boolean closed;
+
+	/**
+	 * 재생 콜백
+	 */
+	@FunctionalInterface
+	public interface RecordConsumer {
+		void accept(long position, byte[] payload);
+	}
+
+	/**
+	 * @param directory journal 디렉터리 (없으면 생성)
+	 * @param segmentSize 세그먼트 파일 크기 (bytes)
+	 * @param fsyncIntervalMillis force() 주기
+	 */
+	public SegmentedJournal(Path directory, int segmentSize, long fsyncIntervalMillis) {
+		if (segmentSize <= HEADER_BYTES) {
+			throw new IllegalArgumentException("segmentSize too small: " + segmentSize);
+		}
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		try {
+			Files.createDirectories(directory);
+			List<Long> segments = segmentIds();
+			long lastSegmentId = segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+			// 기존 세그먼트는 재생 전용으로 두고 새 세그먼트에 이어서 기록
+			openSegment(lastSegmentId + 1);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		this.durablePosition = appendedPosition;
+		this.flusher = new Thread(() -> runFlusher(fsyncIntervalMillis), "journal-flusher");
+		this.flusher.setDaemon(true);
+		this.flusher.start();
+	}
+
+	/**
+	 * 레코드 추가 (메모리 복사만 수행, 디스크 반영은 awaitDurable로 확인)
+	 *
+	 * @return 레코드 위치
+	 */
+	public synchronized long append(byte[] payload) {
+		if (closed) {
+			throw new IllegalStateException("Journal closed");
+		}
+		int recordBytes = HEADER_BYTES + payload.length;
+		// 다음 레코드의 length(0 = 세그먼트 끝)를 쓸 공간까지 남겨 둠
+		if (recordBytes + Integer.BYTES > segmentSize) {
+			throw new IllegalArgumentException("Record larger than segment: " + payload.length);
+		}
+		if (current.remaining() < recordBytes + Integer.BYTES) {
+			rollSegment();
+		}
+		CRC32C crc = new CRC32C();
+		crc.update(payload);
+		int start = current.position();
+		current.position(start + Integer.BYTES);
+		current.putInt((int)crc.getValue());
+		current.put(payload);
+		// length를 마지막에 기록해서 잘린 레코드가 length만 남는 경우를 줄임
+		current.putInt(start, payload.length);
+		appendedPosition = position(currentSegmentId, current.position());
+		notifyAll();
+		return appendedPosition;
+	}
+
+	/**
+	 * position까지 디스크에 반영될 때까지 대기
+	 */
+	public void awaitDurable(long position) throws InterruptedException {
+		if (durablePosition >= position) {
+			return;
+		}
+		synchronized (this) {
+			while (durablePosition < position) {
+				if (closed) {
+					throw new IllegalStateException("Journal closed");
+				}
+				wait(100);
+			}
+		}
+	}
+
+	/**
+	 * checkpoint 이후의 레코드를 위치 순서대로 재생
+	 * 현재 기록 중인 세그먼트 이전 세그먼트만 읽음 (생성 직후 호출용)
+	 */
+	public void replay(RecordConsumer consumer) {
+		long checkpoint = readCheckpoint();
+		try {
+			for (long segmentId : segmentIds()) {
+				if (segmentId >= currentSegmentId) {
+					break;
+				}
+				replaySegment(segmentId, checkpoint, consumer);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * position까지 처리 완료 기록, 완료된 이전 세그먼트 삭제
+	 */
+	public void checkpoint(long position) {
+		try {
+			Path tmp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+			try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+				channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, position));
+				channel.force(true);
+			}
+			Files.move(tmp, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.ATOMIC_MOVE,
+				StandardCopyOption.REPLACE_EXISTING);
+
+			long checkpointSegment = segmentId(position);
+			for (long segmentId : segmentIds()) {
+				if (segmentId < checkpointSegment) {
+					Files.deleteIfExists(segmentPath(segmentId));
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 지금까지 기록된 마지막 레코드 위치
+	 */
+	public synchronized long appendedPosition() {
+		return appendedPosition;
+	}
+
+	public long durablePosition() {
+		return durablePosition;
+	}
+
+	/**
+	 * 이번 실행에서 기록을 시작한 위치 (재생할 레코드가 없을 때 이전 세그먼트 정리용)
+	 */
+	public synchronized long startPosition() {
+		return position(currentSegmentId, 0);
+	}
+
+	public static long segmentId(long position) {
+		return position >>> 32;
+	}
+
+	@Override
+	public void close() {
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			current.force();
+			durablePosition = appendedPosition;
+			notifyAll();
+		}
+		flusher.interrupt();
+	}
+
+	private void runFlusher(long fsyncIntervalMillis) {
+		while (!closed) {
+			try {
+				MappedByteBuffer buffer;
+				long target;
+				synchronized (this) {
+					while (durablePosition == appendedPosition && !closed) {
+						wait();
+					}
+					buffer = current;
+					target = appendedPosition;
+				}
+				// 모인 레코드를 한 번에 force (fsync 묶음), force 중에도 append는 계속 가능
+				buffer.force();
+				synchronized (this) {
+					if (target > durablePosition) {
+						durablePosition = target;
+					}
+					notifyAll();
+				}
+				TimeUnit.MILLISECONDS.sleep(fsyncIntervalMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void rollSegment() {
+		// 이전 세그먼트는 전환 전에 동기적으로 force해서 durablePosition이 세그먼트를 넘나들지 않게 함
+		current.force();
+		durablePosition = appendedPosition;
+		try {
+			openSegment(currentSegmentId + 1);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void openSegment(long segmentId) throws IOException {
+		try (FileChannel channel = FileChannel.open(segmentPath(segmentId), StandardOpenOption.CREATE_NEW,
+			StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			current = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+		}
+		currentSegmentId = segmentId;
+		appendedPosition = position(segmentId, 0);
+	}
+
+	private void replaySegment(long segmentId, long checkpoint, RecordConsumer consumer) throws IOException {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(segmentPath(segmentId), StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		CRC32C crc = new CRC32C();
+		while (buffer.remaining() >= HEADER_BYTES) {
+			int length = buffer.getInt();
+			int checksum = buffer.getInt();
+			if (length <= 0 || length > buffer.remaining()) {
+				return;
+			}
+			byte[] payload = new byte[length];
+			buffer.get(payload);
+			crc.reset();
+			crc.update(payload);
+			if ((int)crc.getValue() != checksum) {
+				// 비정상 종료로 잘린 레코드, 이후는 유효하지 않음
+				return;
+			}
+			long position = position(segmentId, buffer.position());
+			if (position > checkpoint) {
+				consumer.accept(position, payload);
+			}
+		}
+	}
+
+	private long readCheckpoint() {
+		Path path = directory.resolve(CHECKPOINT_FILE);
+		try {
+			if (!Files.exists(path)) {
+				return 0;
+			}
+			return ByteBuffer.wrap(Files.readAllBytes(path)).getLong();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private List<Long> segmentIds() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.map(path -> path.getFileName().toString())
+				.filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+				.map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+					name.length() - SEGMENT_SUFFIX.length())))
+				.sorted()
+				.toList();
+		}
+	}
+
+	private Path segmentPath(long segmentId) {
+		return directory.resolve(SEGMENT_PREFIX + String.format("%019d", segmentId) + SEGMENT_SUFFIX);
+	}
+
+	private static long position(long segmentId, int offset) {
+		return (segmentId << 32) | offset;
+	}
+}
@@ -0,0 +1,69 @@
+package com.shortener.url_shortener.global.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock-free 토큰 버킷
+ *
+ * 토큰 수 대신 "버킷이 다시 가득 차는 시각(theoretical arrival time)" 하나만 AtomicLong으로 관리 (GCRA)
+ * - 요청 1건 = 토큰 1개 = emissionInterval 만큼 시각을 뒤로 밀기
+ * - 밀린 시각이 now + burst * emissionInterval을 넘으면 토큰 부족
+ * - 획득/거절 모두 CAS 한 번으로 끝나고 요청마다 객체를 만들지 않음
+ *
+ * 버킷이 가득 찬 상태(isFull)는 새로 만든 버킷과 같아서 제거해도 동작이 바뀌지 않음
+ */
+public final class TokenBucket {
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private final long emissionIntervalNanos;
+	private final long burstNanos;
+	private final AtomicLong theoreticalArrivalNanos;
+
+	/**
+	 * @param ratePerSecond 초당 채워지는 토큰 수
+	 * @param burst 버킷 크기 (연속으로 허용하는 최대 요청 수)
+	 * @param nowNanos 현재 시각 (System.nanoTime 기준), 가득 찬 상태로 시작
+	 */
+	public TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+		if (ratePerSecond <= 0 || burst < 1) {
+			throw new IllegalArgumentException("Invalid token bucket. rate: " + ratePerSecond + ", burst: " + burst);
+		}
+		this.emissionIntervalNanos = Math.max(1L, (long)(NANOS_PER_SECOND / ratePerSecond));
+		this.burstNanos = emissionIntervalNanos * burst;
+		this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+	}
+
+	/**
+	 * 토큰 1개 획득 시도
+	 *
+	 * @return 0이면 획득 성공, 양수면 다음 토큰까지 남은 시간(나노초)
+	 */
+	public long tryAcquire(long nowNanos) {
+		return tryAcquire(nowNanos, 1);
+	}
+
+	/**
+	 * 토큰 permits개를 한 번에 획득 시도 (burst보다 크면 영원히 실패하므로 호출 측에서 burst 이하로 나눠서 요청)
+	 *
+	 * @return 0이면 획득 성공, 양수면 permits개가 모일 때까지 남은 시간(나노초)
+	 */
+	public long tryAcquire(long nowNanos, int permits) {
+		long costNanos = emissionIntervalNanos * permits;
+		while (true) {
+			long tat = theoreticalArrivalNanos.get();
+			long next = Math.max(tat, nowNanos) + costNanos;
+			long waitNanos = next - nowNanos - burstNanos;
+			if (waitNanos > 0) {
+				return waitNanos;
+			}
+			if (theoreticalArrivalNanos.compareAndSet(tat, next)) {
+				return 0;
+			}
+		}
+	}
+
+	public boolean isFull(long nowNanos) {
+		return theoreticalArrivalNanos.get() <= nowNanos;
+	}
+}
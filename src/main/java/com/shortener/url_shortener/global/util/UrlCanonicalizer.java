@@ -0,0 +1,222 @@
+package com.shortener.url_shortener.global.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중복 판별용 URL 정규화 (검증을 통과한 http/https URL 대상)
+ *
+ * 한 번 훑으면서 처리:
+ * - scheme, host 소문자
+ * - 기본 포트(http:80, https:443)와 빈 포트 제거
+ * - percent-encoding: unreserved 문자는 디코딩, 나머지는 16진수 대문자
+ * - path의 dot-segment(".", "..") 제거
+ * - (옵션) 추적용 query 파라미터 제거, query 파라미터 이름순 정렬
+ *
+ * userinfo와 fragment는 그대로 둠, 이미 정규형이면 입력 문자열을 그대로 반환
+ */
+@Component
+public class UrlCanonicalizer {
+
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+	/**
+	 * 기존 row의 hash_key는 정규화 전 URL로 계산되어 있어서 켜면 표기가 다른 기존 URL과는 중복 판별되지 않음
+	 */
+	@Value("${constant.url.canonicalize.enabled:false}")
+	private boolean enabled;
+
+	@Value("${constant.url.canonicalize.sort-query:false}")
+	private boolean sortQuery;
+
+	@Value("${constant.url.canonicalize.strip-tracking-params:false}")
+	private boolean stripTrackingParams;
+
+	/**
+	 * 제거할 파라미터 이름, '*'로 끝나면 접두사 일치
+	 */
+	@Value("${constant.url.canonicalize.tracking-params:utm_*,gclid,fbclid,msclkid}")
+	private Set<String> trackingParams = Set.of("utm_*", "gclid", "fbclid", "msclkid");
+
+	/**
+	 * @param url validateRedirectUrl을 통과한 URL
+	 * @return 정규화된 URL
+	 */
+	public String canonicalize(String url) {
+		if (!enabled) {
+			return url;
+		}
+		int length = url.length();
+		StringBuilder out = new StringBuilder(length);
+
+		// scheme
+		int schemeEnd = url.indexOf(':');
+		for (int i = 0; i < schemeEnd; i++) {
+			out.append(Character.toLowerCase(url.charAt(i)));
+		}
+		boolean https = schemeEnd == 5;
+		out.append("://");
+
+		// authority
+		int i = schemeEnd + 3;
+		int authorityEnd = i;
+		while (authorityEnd < length && "/?#".indexOf(url.charAt(authorityEnd)) < 0) {
+			authorityEnd++;
+		}
+		int hostStart = url.lastIndexOf('@', authorityEnd - 1) + 1;
+		if (hostStart <= i) {
+			hostStart = i;
+		} else {
+			out.append(url, i, hostStart);
+		}
+		int portStart = url.lastIndexOf(':', authorityEnd - 1);
+		if (portStart < hostStart || url.lastIndexOf(']', authorityEnd - 1) > portStart) {
+			portStart = authorityEnd;
+		}
+		for (int h = hostStart; h < portStart; h++) {
+			out.append(Character.toLowerCase(url.charAt(h)));
+		}
+		if (portStart < authorityEnd && !isDefaultPort(url, portStart + 1, authorityEnd, https)) {
+			out.append(url, portStart, authorityEnd);
+		}
+		i = authorityEnd;
+
+		// path
+		int pathStart = out.length();
+		while (i < length && url.charAt(i) != '?' && url.charAt(i) != '#') {
+			// authority 뒤의 path는 항상 '/'로 시작
+			out.append('/');
+			i++;
+			int segmentStart = out.length();
+			while (i < length && "/?#".indexOf(url.charAt(i)) < 0) {
+				i = appendNormalized(url, i, out);
+			}
+			int segmentLength = out.length() - segmentStart;
+			if (segmentLength == 1 && out.charAt(segmentStart) == '.') {
+				out.setLength(segmentStart - 1);
+				if (i >= length || url.charAt(i) != '/') {
+					out.append('/');
+				}
+			} else if (segmentLength == 2 && out.charAt(segmentStart) == '.' && out.charAt(segmentStart + 1) == '.') {
+				int previousSlash = out.lastIndexOf("/", segmentStart - 2);
+				out.setLength(Math.max(previousSlash, pathStart));
+				if (i >= length || url.charAt(i) != '/') {
+					out.append('/');
+				}
+			}
+		}
+
+		// query
+		if (i < length && url.charAt(i) == '?') {
+			int queryEnd = url.indexOf('#', i);
+			if (queryEnd < 0) {
+				queryEnd = length;
+			}
+			appendQuery(url, i + 1, queryEnd, out);
+			i = queryEnd;
+		}
+
+		// fragment
+		if (i < length) {
+			out.append(url, i, length);
+		}
+
+		return url.contentEquals(out) ? url : out.toString();
+	}
+
+	private void appendQuery(String url, int start, int end, StringBuilder out) {
+		if (!sortQuery && !stripTrackingParams) {
+			int queryStart = out.length();
+			out.append('?');
+			for (int i = start; i < end; ) {
+				i = appendNormalized(url, i, out);
+			}
+			if (out.length() == queryStart + 1) {
+				out.setLength(queryStart);
+			}
+			return;
+		}
+
+		List<String> params = new ArrayList<>();
+		StringBuilder param = new StringBuilder();
+		for (int i = start; i <= end; ) {
+			if (i == end || url.charAt(i) == '&') {
+				if (param.length() > 0 && !(stripTrackingParams && isTrackingParam(param))) {
+					params.add(param.toString());
+				}
+				param.setLength(0);
+				i++;
+			} else {
+				i = appendNormalized(url, i, param);
+			}
+		}
+		if (params.isEmpty()) {
+			return;
+		}
+		if (sortQuery) {
+			// 같은 이름의 파라미터는 원래 순서 유지 (stable sort)
+			params.sort(Comparator.comparing(UrlCanonicalizer::paramName));
+		}
+		out.append('?').append(String.join("&", params));
+	}
+
+	/**
+	 * url[i]를 정규화해서 out에 추가
+	 *
+	 * @return 다음 위치
+	 */
+	private static int appendNormalized(String url, int i, StringBuilder out) {
+		char c = url.charAt(i);
+		if (c == '%' && i + 2 < url.length() && isHex(url.charAt(i + 1)) && isHex(url.charAt(i + 2))) {
+			int value = Character.digit(url.charAt(i + 1), 16) << 4 | Character.digit(url.charAt(i + 2), 16);
+			if (isUnreserved(value)) {
+				out.append((char)value);
+			} else {
+				out.append('%').append(HEX[value >> 4]).append(HEX[value & 0xF]);
+			}
+			return i + 3;
+		}
+		out.append(c);
+		return i + 1;
+	}
+
+	private boolean isTrackingParam(CharSequence param) {
+		String name = paramName(param.toString()).toLowerCase(Locale.ROOT);
+		for (String tracking : trackingParams) {
+			if (tracking.endsWith("*")
+				? name.startsWith(tracking.substring(0, tracking.length() - 1))
+				: name.equals(tracking)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String paramName(String param) {
+		int eq = param.indexOf('=');
+		return eq < 0 ? param : param.substring(0, eq);
+	}
+
+	private static boolean isDefaultPort(String url, int start, int end, boolean https) {
+		if (start == end) {
+			return true;
+		}
+		String port = url.substring(start, end);
+		return https ? port.equals("443") : port.equals("80");
+	}
+
+	private static boolean isHex(char c) {
+		return Character.digit(c, 16) >= 0;
+	}
+
+	private static boolean isUnreserved(int c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+			|| c == '-' || c == '.' || c == '_' || c == '~';
+	}
+}
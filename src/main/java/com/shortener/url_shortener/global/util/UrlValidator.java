@@ -0,0 +1,357 @@
+package com.shortener.url_shortener.global.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * redirect URL 검증 (java.net.URI 대체)
+ *
+ * URI 객체를 만들지 않고 문자열을 앞에서부터 한 번 훑으면서 확인, 실패도 예외 대신 Result로 반환
+ * 허용 범위는 기존 검증(new URI(url) 후 scheme이 http/https이고 getHost()가 있는지)과 같음
+ * - scheme: http, https (대소문자 무시), 뒤에 "//" authority 필수
+ * - authority: [userinfo@]host[:port]
+ *   - host: 도메인 이름(label은 영숫자와 내부 '-', 마지막 label은 영문자로 시작), IPv4, [IPv6(%scope)]
+ *   - IDN은 A-label(xn--...) 형태만 허용, 유니코드 host는 URI와 마찬가지로 host 없음으로 거절
+ *   - port: 숫자 (int 범위)
+ * - path/query/fragment: RFC 2396 문자, "%XX" escape, 공백/제어 문자가 아닌 비 ASCII 문자
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UrlValidator {
+
+	public enum Result {
+		VALID,
+		BLANK,
+		TOO_LONG,
+		INVALID_SCHEME,
+		INVALID_HOST,
+		INVALID_SYNTAX;
+
+		public boolean isValid() {
+			return this == VALID;
+		}
+	}
+
+	private static final int FAIL = -1;
+
+	private static final int ALPHA = 1;
+	private static final int DIGIT = 1 << 1;
+	private static final int HEX = 1 << 2;
+	private static final int USERINFO = 1 << 3;
+	private static final int PATH = 1 << 4;
+	private static final int URIC = 1 << 5;
+	private static final int SCOPE_ID = 1 << 6;
+
+	/**
+	 * ASCII 문자별 허용 구성요소
+	 */
+	private static final int[] CHAR_CLASS = new int[128];
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++) {
+			mark(c, ALPHA);
+			mark(Character.toUpperCase(c), ALPHA);
+		}
+		for (char c = '0'; c <= '9'; c++) {
+			mark(c, DIGIT | HEX);
+		}
+		for (char c : "abcdefABCDEF".toCharArray()) {
+			mark(c, HEX);
+		}
+		int alphanum = ALPHA | DIGIT;
+		for (int c = 0; c < 128; c++) {
+			if ((CHAR_CLASS[c] & alphanum) != 0) {
+				mark((char)c, USERINFO | PATH | URIC | SCOPE_ID);
+			}
+		}
+		// unreserved mark
+		for (char c : "-_.!~*'()".toCharArray()) {
+			mark(c, USERINFO | PATH | URIC);
+		}
+		for (char c : ";:&=+$,".toCharArray()) {
+			mark(c, USERINFO);
+		}
+		for (char c : ":@&=+$,;/".toCharArray()) {
+			mark(c, PATH);
+		}
+		for (char c : ";/?:@&=+$,[]".toCharArray()) {
+			mark(c, URIC);
+		}
+		for (char c : "_.".toCharArray()) {
+			mark(c, SCOPE_ID);
+		}
+	}
+
+	private static void mark(char c, int mask) {
+		CHAR_CLASS[c] |= mask;
+	}
+
+	/**
+	 * @param url 검증할 URL
+	 * @param maxLength 허용 최대 길이
+	 */
+	public static Result validate(String url, int maxLength) {
+		if (url == null || url.isBlank()) {
+			return Result.BLANK;
+		}
+		int length = url.length();
+		if (length > maxLength) {
+			return Result.TOO_LONG;
+		}
+
+		// scheme "http:" | "https:"
+		int p = schemeEnd(url);
+		if (p == FAIL) {
+			return Result.INVALID_SCHEME;
+		}
+		if (!url.startsWith("//", p)) {
+			return Result.INVALID_HOST;
+		}
+		p += 2;
+
+		// authority
+		int authorityEnd = p;
+		while (authorityEnd < length && !isDelimiter(url.charAt(authorityEnd))) {
+			authorityEnd++;
+		}
+		if (authorityEnd == p || parseServer(url, p, authorityEnd) == FAIL) {
+			return Result.INVALID_HOST;
+		}
+		p = authorityEnd;
+
+		// path
+		p = scan(url, p, length, PATH, '?', '#');
+		if (p == FAIL) {
+			return Result.INVALID_SYNTAX;
+		}
+		// query
+		if (p < length && url.charAt(p) == '?') {
+			p = scan(url, p + 1, length, URIC, '#', '#');
+			if (p == FAIL) {
+				return Result.INVALID_SYNTAX;
+			}
+		}
+		// fragment
+		if (p < length && url.charAt(p) == '#') {
+			p = scan(url, p + 1, length, URIC, '#', '#');
+			if (p != length) {
+				return Result.INVALID_SYNTAX;
+			}
+		}
+		return p == length ? Result.VALID : Result.INVALID_SYNTAX;
+	}
+
+	private static int schemeEnd(String url) {
+		if (url.regionMatches(true, 0, "http:", 0, 5)) {
+			return 5;
+		}
+		if (url.regionMatches(true, 0, "https:", 0, 6)) {
+			return 6;
+		}
+		return FAIL;
+	}
+
+	private static boolean isDelimiter(char c) {
+		return c == '/' || c == '?' || c == '#';
+	}
+
+	private static boolean is(char c, int mask) {
+		return c < 128 && (CHAR_CLASS[c] & mask) != 0;
+	}
+
+	/**
+	 * mask 문자, "%XX" escape, 공백/제어 문자가 아닌 비 ASCII 문자를 stop 문자 전까지 훑음
+	 *
+	 * @return 멈춘 위치 (stop 문자 또는 end), 허용되지 않은 문자나 잘못된 escape면 FAIL
+	 */
+	private static int scan(String url, int p, int end, int mask, char stop, char stop2) {
+		while (p < end) {
+			char c = url.charAt(p);
+			if (c == stop || c == stop2) {
+				return p;
+			}
+			if (is(c, mask)) {
+				p++;
+			} else if (c == '%') {
+				if (p + 3 > end || !is(url.charAt(p + 1), HEX) || !is(url.charAt(p + 2), HEX)) {
+					return FAIL;
+				}
+				p += 3;
+			} else if (c > 128 && !Character.isSpaceChar(c) && !Character.isISOControl(c)) {
+				p++;
+			} else {
+				return FAIL;
+			}
+		}
+		return p;
+	}
+
+	/**
+	 * [userinfo@]host[:port]
+	 */
+	private static int parseServer(String url, int p, int end) {
+		int at = url.indexOf('@', p);
+		if (at >= 0 && at < end) {
+			if (scan(url, p, at, USERINFO, '@', '@') != at) {
+				return FAIL;
+			}
+			p = at + 1;
+		}
+
+		if (p < end && url.charAt(p) == '[') {
+			int close = url.indexOf(']', p + 1);
+			if (close < 0 || close >= end || close == p + 1 || !isIPv6Reference(url, p + 1, close)) {
+				return FAIL;
+			}
+			p = close + 1;
+		} else {
+			int q = parseIPv4(url, p, end, false);
+			if (q == FAIL || (q < end && url.charAt(q) != ':')) {
+				q = parseHostname(url, p, end);
+			}
+			if (q == FAIL) {
+				return FAIL;
+			}
+			p = q;
+		}
+
+		if (p < end && url.charAt(p) == ':') {
+			p = parsePort(url, p + 1, end);
+		}
+		return p == end ? p : FAIL;
+	}
+
+	/**
+	 * domainlabel *("." domainlabel) ["."], 마지막 label은 영문자로 시작 (label이 하나면 숫자 허용)
+	 */
+	private static int parseHostname(String url, int start, int end) {
+		int p = start;
+		int lastLabel = FAIL;
+		while (p < end && is(url.charAt(p), ALPHA | DIGIT)) {
+			lastLabel = p;
+			while (p < end && (is(url.charAt(p), ALPHA | DIGIT) || url.charAt(p) == '-')) {
+				p++;
+			}
+			if (url.charAt(p - 1) == '-') {
+				return FAIL;
+			}
+			if (p == end || url.charAt(p) != '.') {
+				break;
+			}
+			p++;
+		}
+		if (lastLabel == FAIL || (p < end && url.charAt(p) != ':')) {
+			return FAIL;
+		}
+		if (lastLabel > start && !is(url.charAt(lastLabel), ALPHA)) {
+			return FAIL;
+		}
+		return p;
+	}
+
+	/**
+	 * 점 4개로 구분된 0~255 숫자, strict면 end까지 주소여야 함
+	 *
+	 * @return 주소 끝 위치, IPv4가 아니면 FAIL
+	 */
+	private static int parseIPv4(String url, int start, int end, boolean strict) {
+		int p = start;
+		for (int octet = 0; octet < 4; octet++) {
+			if (octet > 0) {
+				if (p == end || url.charAt(p) != '.') {
+					return FAIL;
+				}
+				p++;
+			}
+			int digitsStart = p;
+			int value = 0;
+			while (p < end && is(url.charAt(p), DIGIT)) {
+				value = Math.min(256, value * 10 + (url.charAt(p) - '0'));
+				p++;
+			}
+			if (p == digitsStart || value > 255) {
+				return FAIL;
+			}
+		}
+		// 주소 뒤에 숫자나 점이 더 붙으면 IPv4가 아님
+		if (p < end && (is(url.charAt(p), DIGIT) || url.charAt(p) == '.')) {
+			return FAIL;
+		}
+		if (strict && p != end) {
+			return FAIL;
+		}
+		return p;
+	}
+
+	/**
+	 * IPv6 주소 (RFC 2732), "::" 생략 1회, 마지막에 IPv4 허용, "%scope" 허용
+	 */
+	private static boolean isIPv6Reference(String url, int start, int end) {
+		int scope = url.indexOf('%', start);
+		if (scope >= 0 && scope < end) {
+			if (scope + 1 == end) {
+				return false;
+			}
+			for (int i = scope + 1; i < end; i++) {
+				if (!is(url.charAt(i), SCOPE_ID)) {
+					return false;
+				}
+			}
+			end = scope;
+		}
+		return isIPv6Address(url, start, end);
+	}
+
+	private static boolean isIPv6Address(String url, int start, int end) {
+		int p = start;
+		int bytes = 0;
+		boolean compressed = false;
+		if (p + 1 < end && url.charAt(p) == ':' && url.charAt(p + 1) == ':') {
+			compressed = true;
+			p += 2;
+		}
+		while (p < end) {
+			int groupEnd = p;
+			while (groupEnd < end && is(url.charAt(groupEnd), HEX)) {
+				groupEnd++;
+			}
+			if (groupEnd < end && url.charAt(groupEnd) == '.') {
+				if (parseIPv4(url, p, end, true) == FAIL) {
+					return false;
+				}
+				bytes += 4;
+				break;
+			}
+			if (groupEnd == p || groupEnd - p > 4) {
+				return false;
+			}
+			bytes += 2;
+			p = groupEnd;
+			if (p == end) {
+				break;
+			}
+			if (url.charAt(p) != ':') {
+				return false;
+			}
+			if (p + 1 < end && url.charAt(p + 1) == ':') {
+				if (compressed) {
+					return false;
+				}
+				compressed = true;
+				p += 2;
+			} else if (++p == end) {
+				return false;
+			}
+		}
+		return compressed ? bytes < 16 : bytes == 16;
+	}
+
+	private static int parsePort(String url, int start, int end) {
+		int p = start;
+		long port = 0;
+		while (p < end && is(url.charAt(p), DIGIT)) {
+			port = Math.min((long)Integer.MAX_VALUE + 1, port * 10 + (url.charAt(p) - '0'));
+			p++;
+		}
+		return port > Integer.MAX_VALUE ? FAIL : p;
+	}
+}
@@ -0,0 +1,63 @@
+-- 단건 생성을 한 번의 CALL로 처리 (constant.create.mode=stored-procedure)
+-- lock -> 중복 조회 -> 후보 코드 순서대로 INSERT -> unlock 을 서버에서 수행
+-- 결과: (status, short_code)
+--   CREATED      새로 저장
+--   EXISTING     만료되지 않은 동일 URL 존재
+--   LOCK_TIMEOUT lock 획득 실패
+--   CONFLICT     모든 후보 코드가 이미 사용 중
+-- 이 스크립트를 바꾸면 ShortUrlProcedureRepository.PROCEDURE_VERSION을 올려야 재설치됨
+CREATE PROCEDURE create_short_url(
+	IN p_id BIGINT,
+	IN p_hash_key BINARY(32),
+	IN p_redirect_url TEXT,
+	IN p_expired_at DATETIME(6),
+	IN p_lock_name VARCHAR(64),
+	IN p_lock_timeout INT,
+	IN p_candidates VARCHAR(1024)
+)
+BEGIN
+	DECLARE v_status VARCHAR(16) DEFAULT 'CONFLICT';
+	-- 코드 길이 상한은 url_shortener.short_code 컬럼이 정함 (변수에서 먼저 잘리지 않도록 넉넉하게 선언)
+	DECLARE v_short_code VARCHAR(64) DEFAULT NULL;
+	DECLARE v_candidate VARCHAR(64);
+	DECLARE v_rest VARCHAR(1024) DEFAULT p_candidates;
+	DECLARE v_duplicate TINYINT DEFAULT 0;
+	DECLARE v_now DATETIME(6) DEFAULT NOW(6);
+	DECLARE CONTINUE HANDLER FOR 1062 SET v_duplicate = 1;
+	DECLARE EXIT HANDLER FOR SQLEXCEPTION
+	BEGIN
+		DO RELEASE_LOCK(p_lock_name);
+		RESIGNAL;
+	END;
+
+	IF COALESCE(GET_LOCK(p_lock_name, p_lock_timeout), 0) <> 1 THEN
+		SELECT 'LOCK_TIMEOUT' AS status, NULL AS short_code;
+	ELSE
+		SELECT short_code INTO v_short_code
+		FROM url_shortener
+		WHERE hash_key = p_hash_key
+			AND redirection_url = p_redirect_url
+			AND expired_at > v_now
+		LIMIT 1;
+
+		IF v_short_code IS NOT NULL THEN
+			SET v_status = 'EXISTING';
+		ELSE
+			candidates: WHILE v_rest <> '' DO
+				SET v_candidate = SUBSTRING_INDEX(v_rest, ',', 1);
+				SET v_rest = IF(LOCATE(',', v_rest) > 0, SUBSTRING(v_rest, LOCATE(',', v_rest) + 1), '');
+				SET v_duplicate = 0;
+				INSERT INTO url_shortener (id, hash_key, short_code, redirection_url, expired_at, created_at, updated_at)
+				VALUES (p_id, p_hash_key, v_candidate, p_redirect_url, p_expired_at, v_now, v_now);
+				IF v_duplicate = 0 THEN
+					SET v_status = 'CREATED';
+					SET v_short_code = v_candidate;
+					LEAVE candidates;
+				END IF;
+			END WHILE;
+		END IF;
+
+		DO RELEASE_LOCK(p_lock_name);
+		SELECT v_status AS status, v_short_code AS short_code;
+	END IF;
+END
@@ -1,9 +1,16 @@
 package com.shortener.url_shortener.domain.url.controller;
 
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchCreateResponse;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchDeleteResponse;
 import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.service.IdempotencyService;
+import com.shortener.url_shortener.domain.url.service.ShortUrlBatchService;
+import com.shortener.url_shortener.domain.url.service.ShortUrlCreator;
 import com.shortener.url_shortener.domain.url.service.ShortUrlService;
 import com.shortener.url_shortener.global.error.ErrorCode;
 import com.shortener.url_shortener.global.error.GlobalExceptionHandler;
+import com.shortener.url_shortener.global.interceptor.RestApiKeyInterceptor;
+import com.shortener.url_shortener.global.util.ClientRateLimiter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,7 +21,14 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
@@ -29,12 +43,26 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("ShortUrlController WebMvc 테스트")
 class ShortUrlControllerTest {
 
+	private static final String API_KEY = "test-api-key";
+
 	@Autowired
 	private MockMvc mockMvc;
 
 	@MockitoBean
 	private ShortUrlService shortUrlService;
 
+	@MockitoBean
+	private ShortUrlCreator shortUrlCreator;
+
+	@MockitoBean
+	private ShortUrlBatchService shortUrlBatchService;
+
+	@MockitoBean
+	private IdempotencyService idempotencyService;
+
+	@MockitoBean
+	private ClientRateLimiter clientRateLimiter;
+
 	@Nested
 	@DisplayName("GET /{key} - 리다이렉션 테스트")
 	class GetLinkTest {
@@ -97,7 +125,7 @@ class ShortUrlControllerTest {
 				{"redirectUrl":"%s"}
 				""".formatted(redirectUrl);
 
-			when(shortUrlService.createLink(redirectUrl))
+			when(shortUrlCreator.createLink(redirectUrl))
 				.thenReturn(new ShortUrlCreateResponse(shortCode, shortUrl));
 
 			// when & then
@@ -109,6 +137,72 @@ class ShortUrlControllerTest {
 				.andExpect(jsonPath("$.url").value(shortUrl));
 		}
 
+		@Test
+		@DisplayName("성공: Idempotency-Key 헤더가 있으면 IdempotencyService로 생성")
+		void createLink_withIdempotencyKey() throws Exception {
+			// given
+			String redirectUrl = "https://example.com";
+			String shortCode = "aB3Xy9Km";
+			String requestBody = """
+				{"redirectUrl":"%s"}
+				""".formatted(redirectUrl);
+
+			when(idempotencyService.createLink(eq("order-1"), eq(redirectUrl), any()))
+				.thenReturn(new ShortUrlCreateResponse(shortCode, "http://localhost:8080/" + shortCode));
+
+			// when & then
+			mockMvc.perform(post("/link")
+					.header("Idempotency-Key", "order-1")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(requestBody))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.shortCode").value(shortCode));
+			verify(shortUrlCreator, never()).createLink(redirectUrl);
+		}
+
+		@Test
+		@DisplayName("실패: 같은 Idempotency-Key를 다른 URL에 쓰면 400")
+		void createLink_idempotencyKeyReused_badRequest() throws Exception {
+			// given
+			String requestBody = """
+				{"redirectUrl":"https://other.com"}
+				""";
+			when(idempotencyService.createLink(eq("order-1"), eq("https://other.com"), any()))
+				.thenThrow(ErrorCode.IDEMPOTENCY_KEY_REUSED.baseException("reused"));
+
+			// when & then
+			mockMvc.perform(post("/link")
+					.header("Idempotency-Key", "order-1")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(requestBody))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value(ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage()));
+		}
+
+		@Test
+		@DisplayName("실패: 클라이언트 요청 한도를 넘으면 429와 Retry-After")
+		void createLink_rateLimited_tooManyRequests() throws Exception {
+			// given
+			String requestBody = """
+				{"redirectUrl":"https://example.com"}
+				""";
+			when(clientRateLimiter.tryAcquire("10.0.0.1")).thenReturn(1_500_000_000L);
+
+			// when & then
+			mockMvc.perform(post("/link")
+					.with(request -> {
+						request.setRemoteAddr("10.0.0.1");
+						return request;
+					})
+					.header("X-Client-Id", "fresh-id")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(requestBody))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string("Retry-After", "2"))
+				.andExpect(jsonPath("$.message").value(ErrorCode.RATE_LIMIT_EXCEEDED.getMessage()));
+			verify(shortUrlCreator, never()).createLink(any());
+		}
+
 		@Test
 		@DisplayName("실패: redirectUrl 누락 시 400")
 		void createLink_missingRedirectUrl_badRequest() throws Exception {
@@ -132,7 +226,7 @@ class ShortUrlControllerTest {
 			String requestBody = """
 				{"redirectUrl":"ftp://example.com"}
 				""";
-			when(shortUrlService.createLink("ftp://example.com"))
+			when(shortUrlCreator.createLink("ftp://example.com"))
 				.thenThrow(ErrorCode.INVALID_ARGUMENT_ERROR.baseException("Invalid scheme"));
 
 			// when & then
@@ -161,4 +255,119 @@ class ShortUrlControllerTest {
 				.andExpect(jsonPath("$.message").value(ErrorCode.INVALID_ARGUMENT_ERROR.getMessage()));
 		}
 	}
+
+	@Nested
+	@DisplayName("POST /link/batch - 일괄 생성 테스트")
+	class CreateLinksTest {
+
+		@Test
+		@DisplayName("성공: 항목별 성공/실패를 요청 순서대로 반환")
+		void createLinks_success() throws Exception {
+			// given
+			String requestBody = """
+				{"redirectUrls":["https://example.com","ftp://example.com"]}
+				""";
+			when(shortUrlBatchService.createLinks(List.of("https://example.com", "ftp://example.com")))
+				.thenReturn(new ShortUrlBatchCreateResponse(List.of(
+					ShortUrlBatchCreateResponse.Item.success("https://example.com",
+						new ShortUrlCreateResponse("aB3Xy9Km", "http://localhost:8080/aB3Xy9Km")),
+					ShortUrlBatchCreateResponse.Item.failure("ftp://example.com", ErrorCode.INVALID_ARGUMENT_ERROR)
+				)));
+
+			// when & then
+			mockMvc.perform(post("/link/batch")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(requestBody))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.results[0].shortCode").value("aB3Xy9Km"))
+				.andExpect(jsonPath("$.results[0].errorCode").doesNotExist())
+				.andExpect(jsonPath("$.results[1].errorCode").value(ErrorCode.INVALID_ARGUMENT_ERROR.name()))
+				.andExpect(jsonPath("$.results[1].shortCode").doesNotExist());
+		}
+
+		@Test
+		@DisplayName("실패: redirectUrls가 비어 있으면 400")
+		void createLinks_empty_badRequest() throws Exception {
+			// given
+			String requestBody = """
+				{"redirectUrls":[]}
+				""";
+
+			// when & then
+			mockMvc.perform(post("/link/batch")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(requestBody))
+				.andExpect(status().isBadRequest());
+		}
+	}
+
+	@Nested
+	@DisplayName("DELETE /link - 일괄 삭제 테스트")
+	class DeleteLinksTest {
+
+		@Test
+		@DisplayName("성공: 항목별 found/실패를 요청 순서대로 반환")
+		void deleteLinks_success() throws Exception {
+			// given
+			String requestBody = """
+				{"shortCodes":["aB3Xy9Km","missing1","bad-code"]}
+				""";
+			when(shortUrlBatchService.deleteLinks(List.of("aB3Xy9Km", "missing1", "bad-code")))
+				.thenReturn(new ShortUrlBatchDeleteResponse(List.of(
+					ShortUrlBatchDeleteResponse.Item.of("aB3Xy9Km", true),
+					ShortUrlBatchDeleteResponse.Item.of("missing1", false),
+					ShortUrlBatchDeleteResponse.Item.failure("bad-code", ErrorCode.INVALID_KEY_ERROR)
+				)));
+
+			// when & then
+			mockMvc.perform(delete("/link")
+					.header(RestApiKeyInterceptor.API_KEY_HEADER, API_KEY)
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(requestBody))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.results[0].found").value(true))
+				.andExpect(jsonPath("$.results[1].found").value(false))
+				.andExpect(jsonPath("$.results[2].errorCode").value(ErrorCode.INVALID_KEY_ERROR.name()))
+				.andExpect(jsonPath("$.results[2].found").doesNotExist());
+		}
+
+		@Test
+		@DisplayName("실패: shortCodes가 비어 있으면 400")
+		void deleteLinks_empty_badRequest() throws Exception {
+			// given
+			String requestBody = """
+				{"shortCodes":[]}
+				""";
+
+			// when & then
+			mockMvc.perform(delete("/link")
+					.header(RestApiKeyInterceptor.API_KEY_HEADER, API_KEY)
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(requestBody))
+				.andExpect(status().isBadRequest());
+			verify(shortUrlBatchService, never()).deleteLinks(any());
+		}
+
+		@Test
+		@DisplayName("실패: API Key가 없거나 다르면 401, 삭제하지 않음")
+		void deleteLinks_withoutApiKey_unauthorized() throws Exception {
+			// given
+			String requestBody = """
+				{"shortCodes":["aB3Xy9Km"]}
+				""";
+
+			// when & then
+			mockMvc.perform(delete("/link")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(requestBody))
+				.andExpect(status().isUnauthorized());
+			mockMvc.perform(delete("/link")
+					.header(RestApiKeyInterceptor.API_KEY_HEADER, "wrong-key")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(requestBody))
+				.andExpect(status().isUnauthorized())
+				.andExpect(jsonPath("$.code").value(401));
+			verify(shortUrlBatchService, never()).deleteLinks(any());
+		}
+	}
 }
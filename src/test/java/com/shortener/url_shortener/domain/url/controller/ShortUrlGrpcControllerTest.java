@@ -2,16 +2,32 @@ package com.shortener.url_shortener.domain.url.controller;
 
 import com.shortener.url_shortener.domain.url.CreateLinkRequest;
 import com.shortener.url_shortener.domain.url.CreateLinkResponse;
+import com.shortener.url_shortener.domain.url.CreateLinksRequest;
+import com.shortener.url_shortener.domain.url.CreateLinksResponse;
 import com.shortener.url_shortener.domain.url.DeleteLinkRequest;
 import com.shortener.url_shortener.domain.url.DeleteLinkResponse;
+import com.shortener.url_shortener.domain.url.DeleteLinksRequest;
+import com.shortener.url_shortener.domain.url.DeleteLinksResponse;
+import com.shortener.url_shortener.domain.url.ImportLinksRequest;
+import com.shortener.url_shortener.domain.url.ImportLinksResponse;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchCreateResponse;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchDeleteResponse;
 import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.service.IdempotencyService;
+import com.shortener.url_shortener.domain.url.service.ShortUrlBatchService;
+import com.shortener.url_shortener.domain.url.service.ShortUrlCreator;
 import com.shortener.url_shortener.domain.url.service.ShortUrlService;
 import com.shortener.url_shortener.global.error.CustomException;
 import com.shortener.url_shortener.global.error.ErrorCode;
 import com.shortener.url_shortener.global.error.GrpcExceptionHandler;
+import com.shortener.url_shortener.global.interceptor.IdempotencyKeyInterceptor;
+import com.shortener.url_shortener.global.util.GrpcHandlerExecutors;
+import io.grpc.Context;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,10 +36,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.mockito.InOrder;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -31,7 +55,11 @@ import static org.mockito.Mockito.*;
  * 
  * 테스트 내용:
  * - createLink 성공/실패 케이스
+ * - createLinks 항목별 결과 변환
+ * - importLinks flow control, 실패 항목 스트리밍, summary
  * - deleteLink 성공/실패 케이스
+ * - deleteLinks 항목별 결과
+ * - RPC 전용 풀 비동기 처리, 큐 초과 시 RESOURCE_EXHAUSTED
  * - GrpcExceptionHandler 통합 검증
  */
 @ExtendWith(MockitoExtension.class)
@@ -43,27 +71,76 @@ class ShortUrlGrpcControllerTest {
 	@Mock
 	private ShortUrlService shortUrlService;
 
+	@Mock
+	private ShortUrlCreator shortUrlCreator;
+
+	@Mock
+	private ShortUrlBatchService shortUrlBatchService;
+
 	private GrpcExceptionHandler exceptionHandler;
 
+	private GrpcHandlerExecutors handlerExecutors;
+
+	@Mock
+	private IdempotencyService idempotencyService;
+
 	@Mock
 	private StreamObserver<CreateLinkResponse> createLinkObserver;
 
 	@Mock
 	private StreamObserver<DeleteLinkResponse> deleteLinkObserver;
 
+	@Mock
+	private StreamObserver<CreateLinksResponse> createLinksObserver;
+
+	@Mock
+	private StreamObserver<DeleteLinksResponse> deleteLinksObserver;
+
 	@Captor
 	private ArgumentCaptor<CreateLinkResponse> createLinkResponseCaptor;
 
 	@Captor
 	private ArgumentCaptor<DeleteLinkResponse> deleteLinkResponseCaptor;
 
+	@Captor
+	private ArgumentCaptor<CreateLinksResponse> createLinksResponseCaptor;
+
+	@Captor
+	private ArgumentCaptor<DeleteLinksResponse> deleteLinksResponseCaptor;
+
+	@Mock
+	private ServerCallStreamObserver<ImportLinksResponse> importLinksObserver;
+
+	@Captor
+	private ArgumentCaptor<ImportLinksResponse> importLinksResponseCaptor;
+
 	@Captor
 	private ArgumentCaptor<StatusRuntimeException> exceptionCaptor;
 
 	@BeforeEach
 	void setUp() {
 		exceptionHandler = new GrpcExceptionHandler();
-		controller = new ShortUrlGrpcController(shortUrlService, exceptionHandler);
+		controller = newController(false);
+		ReflectionTestUtils.setField(controller, "importFlushSize", 2);
+	}
+
+	/**
+	 * @param pooled false면 호출 스레드에서 바로 처리 (기존 테스트는 동기 검증)
+	 */
+	private ShortUrlGrpcController newController(boolean pooled) {
+		handlerExecutors = new GrpcHandlerExecutors(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(handlerExecutors, "enabled", pooled);
+		ReflectionTestUtils.setField(handlerExecutors, "createLinkThreads", 1);
+		ReflectionTestUtils.setField(handlerExecutors, "createLinkQueueCapacity", 1);
+		ReflectionTestUtils.setField(handlerExecutors, "createLinksThreads", 1);
+		ReflectionTestUtils.setField(handlerExecutors, "createLinksQueueCapacity", 1);
+		ReflectionTestUtils.setField(handlerExecutors, "deleteLinkThreads", 1);
+		ReflectionTestUtils.setField(handlerExecutors, "deleteLinkQueueCapacity", 1);
+		ReflectionTestUtils.setField(handlerExecutors, "deleteLinksThreads", 1);
+		ReflectionTestUtils.setField(handlerExecutors, "deleteLinksQueueCapacity", 1);
+		ReflectionTestUtils.invokeMethod(handlerExecutors, "init");
+		return new ShortUrlGrpcController(shortUrlService, shortUrlCreator, shortUrlBatchService,
+			exceptionHandler, idempotencyService, handlerExecutors);
 	}
 
 	@Nested
@@ -83,13 +160,13 @@ class ShortUrlGrpcControllerTest {
 				.build();
 
 			ShortUrlCreateResponse serviceResponse = new ShortUrlCreateResponse(shortCode, shortUrl);
-			when(shortUrlService.createLink(redirectUrl)).thenReturn(serviceResponse);
+			when(shortUrlCreator.createLink(redirectUrl)).thenReturn(serviceResponse);
 
 			// when
 			controller.createLink(request, createLinkObserver);
 
 			// then
-			verify(shortUrlService, times(1)).createLink(redirectUrl);
+			verify(shortUrlCreator, times(1)).createLink(redirectUrl);
 			verify(createLinkObserver, times(1)).onNext(createLinkResponseCaptor.capture());
 			verify(createLinkObserver, times(1)).onCompleted();
 			verify(createLinkObserver, never()).onError(any());
@@ -99,6 +176,47 @@ class ShortUrlGrpcControllerTest {
 			assertEquals(shortUrl, response.getShortUrl());
 		}
 
+		@Test
+		@DisplayName("성공: Context에 idempotency-key가 있으면 IdempotencyService로 생성")
+		void createLink_withIdempotencyKey() {
+			// given
+			String redirectUrl = "https://example.com";
+			CreateLinkRequest request = CreateLinkRequest.newBuilder()
+				.setRedirectUrl(redirectUrl)
+				.build();
+			when(idempotencyService.createLink(eq("order-1"), eq(redirectUrl), any()))
+				.thenReturn(new ShortUrlCreateResponse("aB3Xy9Km", "http://localhost:8080/aB3Xy9Km"));
+
+			// when
+			Context.current().withValue(IdempotencyKeyInterceptor.IDEMPOTENCY_KEY, "order-1")
+				.run(() -> controller.createLink(request, createLinkObserver));
+
+			// then
+			verify(shortUrlCreator, never()).createLink(any());
+			verify(createLinkObserver, times(1)).onNext(createLinkResponseCaptor.capture());
+			assertEquals("aB3Xy9Km", createLinkResponseCaptor.getValue().getShortCode());
+		}
+
+		@Test
+		@DisplayName("실패: 같은 idempotency-key 요청이 처리 중이면 ABORTED 에러")
+		void createLink_idempotencyKeyInProgress() {
+			// given
+			String redirectUrl = "https://example.com";
+			CreateLinkRequest request = CreateLinkRequest.newBuilder()
+				.setRedirectUrl(redirectUrl)
+				.build();
+			when(idempotencyService.createLink(eq("order-1"), eq(redirectUrl), any()))
+				.thenThrow(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS.baseException("in progress"));
+
+			// when
+			Context.current().withValue(IdempotencyKeyInterceptor.IDEMPOTENCY_KEY, "order-1")
+				.run(() -> controller.createLink(request, createLinkObserver));
+
+			// then
+			verify(createLinkObserver, times(1)).onError(exceptionCaptor.capture());
+			assertEquals(Status.Code.ABORTED, exceptionCaptor.getValue().getStatus().getCode());
+		}
+
 		@Test
 		@DisplayName("실패: URL 생성 실패 시 RESOURCE_EXHAUSTED 에러")
 		void createLink_failUrlGeneration() {
@@ -111,13 +229,13 @@ class ShortUrlGrpcControllerTest {
 			CustomException exception = ErrorCode.URL_GENERATION_FAILED.baseException(
 				"Hash collision occurred"
 			);
-			when(shortUrlService.createLink(redirectUrl)).thenThrow(exception);
+			when(shortUrlCreator.createLink(redirectUrl)).thenThrow(exception);
 
 			// when
 			controller.createLink(request, createLinkObserver);
 
 			// then
-			verify(shortUrlService, times(1)).createLink(redirectUrl);
+			verify(shortUrlCreator, times(1)).createLink(redirectUrl);
 			verify(createLinkObserver, never()).onNext(any());
 			verify(createLinkObserver, never()).onCompleted();
 			verify(createLinkObserver, times(1)).onError(exceptionCaptor.capture());
@@ -139,7 +257,7 @@ class ShortUrlGrpcControllerTest {
 			CustomException exception = ErrorCode.REQUEST_CANCELLED.baseException(
 				"Request was cancelled by client"
 			);
-			when(shortUrlService.createLink(redirectUrl)).thenThrow(exception);
+			when(shortUrlCreator.createLink(redirectUrl)).thenThrow(exception);
 
 			// when
 			controller.createLink(request, createLinkObserver);
@@ -162,7 +280,7 @@ class ShortUrlGrpcControllerTest {
 				.build();
 
 			RuntimeException exception = new RuntimeException("Unexpected error");
-			when(shortUrlService.createLink(redirectUrl)).thenThrow(exception);
+			when(shortUrlCreator.createLink(redirectUrl)).thenThrow(exception);
 
 			// when
 			controller.createLink(request, createLinkObserver);
@@ -175,6 +293,203 @@ class ShortUrlGrpcControllerTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("createLinks 테스트")
+	class CreateLinksTest {
+
+		@Test
+		@DisplayName("성공: 항목별 실패는 RPC 에러가 아닌 결과의 error로 전달")
+		void createLinks_perItemResults() {
+			// given
+			CreateLinksRequest request = CreateLinksRequest.newBuilder()
+				.addRedirectUrls("https://example.com")
+				.addRedirectUrls("ftp://example.com")
+				.build();
+
+			when(shortUrlBatchService.createLinks(List.of("https://example.com", "ftp://example.com")))
+				.thenReturn(new ShortUrlBatchCreateResponse(List.of(
+					ShortUrlBatchCreateResponse.Item.success("https://example.com",
+						new ShortUrlCreateResponse("aB3Xy9Km", "http://localhost:8080/aB3Xy9Km")),
+					ShortUrlBatchCreateResponse.Item.failure("ftp://example.com", ErrorCode.INVALID_ARGUMENT_ERROR)
+				)));
+
+			// when
+			controller.createLinks(request, createLinksObserver);
+
+			// then
+			verify(createLinksObserver, times(1)).onNext(createLinksResponseCaptor.capture());
+			verify(createLinksObserver, times(1)).onCompleted();
+			verify(createLinksObserver, never()).onError(any());
+
+			CreateLinksResponse response = createLinksResponseCaptor.getValue();
+			assertEquals(2, response.getResultsCount());
+			assertEquals("aB3Xy9Km", response.getResults(0).getShortCode());
+			assertFalse(response.getResults(0).hasError());
+			assertTrue(response.getResults(1).hasError());
+			assertEquals(ErrorCode.INVALID_ARGUMENT_ERROR.name(), response.getResults(1).getError().getCode());
+		}
+
+		@Test
+		@DisplayName("실패: 배치 크기 초과 시 INVALID_ARGUMENT 에러")
+		void createLinks_invalidBatchSize() {
+			// given
+			CreateLinksRequest request = CreateLinksRequest.newBuilder().build();
+			when(shortUrlBatchService.createLinks(List.of()))
+				.thenThrow(ErrorCode.INVALID_ARGUMENT_ERROR.baseException("Invalid batch size"));
+
+			// when
+			controller.createLinks(request, createLinksObserver);
+
+			// then
+			verify(createLinksObserver, never()).onNext(any());
+			verify(createLinksObserver, times(1)).onError(exceptionCaptor.capture());
+			assertEquals(Status.Code.INVALID_ARGUMENT, exceptionCaptor.getValue().getStatus().getCode());
+		}
+	}
+
+	@Nested
+	@DisplayName("importLinks 테스트")
+	class ImportLinksTest {
+
+		private final ShortUrlCreateResponse created = new ShortUrlCreateResponse("aB3Xy9Km", "http://localhost/aB3Xy9Km");
+
+		@Test
+		@DisplayName("성공: 자동 request를 끄고 저장이 끝난 뒤에만 다음 메시지 요청")
+		void importLinks_requestsAfterPersist() {
+			// given
+			when(shortUrlBatchService.importLinks(List.of("https://a.com", "https://b.com")))
+				.thenReturn(List.of(
+					ShortUrlBatchCreateResponse.Item.success("https://a.com", created, true),
+					ShortUrlBatchCreateResponse.Item.success("https://b.com", created, false)
+				));
+
+			// when
+			StreamObserver<ImportLinksRequest> requestObserver = controller.importLinks(importLinksObserver);
+			requestObserver.onNext(ImportLinksRequest.newBuilder()
+				.addRedirectUrls("https://a.com")
+				.addRedirectUrls("https://b.com")
+				.build());
+
+			// then
+			InOrder inOrder = inOrder(importLinksObserver, shortUrlBatchService);
+			inOrder.verify(importLinksObserver).disableAutoRequest();
+			inOrder.verify(importLinksObserver).request(1);
+			inOrder.verify(shortUrlBatchService).importLinks(anyList());
+			inOrder.verify(importLinksObserver).request(1);
+		}
+
+		@Test
+		@DisplayName("성공: 실패 항목은 즉시 전송, 완료 시 summary 전송")
+		void importLinks_streamsFailures_thenSummary() {
+			// given
+			when(shortUrlBatchService.importLinks(List.of("https://a.com", "ftp://b.com")))
+				.thenReturn(List.of(
+					ShortUrlBatchCreateResponse.Item.success("https://a.com", created, true),
+					ShortUrlBatchCreateResponse.Item.failure("ftp://b.com", ErrorCode.INVALID_ARGUMENT_ERROR)
+				));
+			when(shortUrlBatchService.importLinks(List.of("https://a.com")))
+				.thenReturn(List.of(ShortUrlBatchCreateResponse.Item.success("https://a.com", created, false)));
+
+			// when
+			StreamObserver<ImportLinksRequest> requestObserver = controller.importLinks(importLinksObserver);
+			requestObserver.onNext(ImportLinksRequest.newBuilder()
+				.addRedirectUrls("https://a.com")
+				.addRedirectUrls("ftp://b.com")
+				.build());
+			requestObserver.onNext(ImportLinksRequest.newBuilder().addRedirectUrls("https://a.com").build());
+			requestObserver.onCompleted();
+
+			// then
+			verify(importLinksObserver, times(2)).onNext(importLinksResponseCaptor.capture());
+			verify(importLinksObserver, times(1)).onCompleted();
+
+			List<ImportLinksResponse> responses = importLinksResponseCaptor.getAllValues();
+			assertEquals(1, responses.get(0).getFailure().getIndex());
+			assertEquals(ErrorCode.INVALID_ARGUMENT_ERROR.name(), responses.get(0).getFailure().getError().getCode());
+			assertEquals(3, responses.get(1).getSummary().getReceived());
+			assertEquals(1, responses.get(1).getSummary().getCreated());
+			assertEquals(1, responses.get(1).getSummary().getDeduped());
+			assertEquals(1, responses.get(1).getSummary().getRejected());
+		}
+
+		@Test
+		@DisplayName("실패: 저장 중 예외 시 스트림 에러 후 이후 메시지 무시")
+		void importLinks_persistFailure_onError() {
+			// given
+			when(shortUrlBatchService.importLinks(anyList())).thenThrow(new RuntimeException("db down"));
+
+			// when
+			StreamObserver<ImportLinksRequest> requestObserver = controller.importLinks(importLinksObserver);
+			requestObserver.onNext(ImportLinksRequest.newBuilder()
+				.addRedirectUrls("https://a.com")
+				.addRedirectUrls("https://b.com")
+				.build());
+			requestObserver.onNext(ImportLinksRequest.newBuilder().addRedirectUrls("https://c.com").build());
+			requestObserver.onCompleted();
+
+			// then
+			verify(importLinksObserver, times(1)).onError(exceptionCaptor.capture());
+			assertEquals(Status.Code.INTERNAL, exceptionCaptor.getValue().getStatus().getCode());
+			verify(shortUrlBatchService, times(1)).importLinks(anyList());
+			verify(importLinksObserver, never()).onCompleted();
+		}
+	}
+
+	@Nested
+	@DisplayName("deleteLinks 테스트")
+	class DeleteLinksTest {
+
+		@Test
+		@DisplayName("성공: 항목별 found/실패를 요청 순서대로 전달")
+		void deleteLinks_perItemResults() {
+			// given
+			DeleteLinksRequest request = DeleteLinksRequest.newBuilder()
+				.addShortCodes("aB3Xy9Km")
+				.addShortCodes("missing1")
+				.addShortCodes("bad-code")
+				.build();
+
+			when(shortUrlBatchService.deleteLinks(List.of("aB3Xy9Km", "missing1", "bad-code")))
+				.thenReturn(new ShortUrlBatchDeleteResponse(List.of(
+					ShortUrlBatchDeleteResponse.Item.of("aB3Xy9Km", true),
+					ShortUrlBatchDeleteResponse.Item.of("missing1", false),
+					ShortUrlBatchDeleteResponse.Item.failure("bad-code", ErrorCode.INVALID_KEY_ERROR)
+				)));
+
+			// when
+			controller.deleteLinks(request, deleteLinksObserver);
+
+			// then
+			verify(deleteLinksObserver, times(1)).onNext(deleteLinksResponseCaptor.capture());
+			verify(deleteLinksObserver, times(1)).onCompleted();
+			verify(deleteLinksObserver, never()).onError(any());
+
+			DeleteLinksResponse response = deleteLinksResponseCaptor.getValue();
+			assertEquals(3, response.getResultsCount());
+			assertTrue(response.getResults(0).getFound());
+			assertFalse(response.getResults(1).getFound());
+			assertFalse(response.getResults(1).hasError());
+			assertEquals(ErrorCode.INVALID_KEY_ERROR.name(), response.getResults(2).getError().getCode());
+		}
+
+		@Test
+		@DisplayName("실패: 배치 크기 초과 시 INVALID_ARGUMENT 에러")
+		void deleteLinks_invalidBatchSize() {
+			// given
+			DeleteLinksRequest request = DeleteLinksRequest.newBuilder().build();
+			when(shortUrlBatchService.deleteLinks(List.of()))
+				.thenThrow(ErrorCode.INVALID_ARGUMENT_ERROR.baseException("Invalid batch size"));
+
+			// when
+			controller.deleteLinks(request, deleteLinksObserver);
+
+			// then
+			verify(deleteLinksObserver, never()).onNext(any());
+			verify(deleteLinksObserver, times(1)).onError(exceptionCaptor.capture());
+			assertEquals(Status.Code.INVALID_ARGUMENT, exceptionCaptor.getValue().getStatus().getCode());
+		}
+	}
+
 	@Nested
 	@DisplayName("deleteLink 테스트")
 	class DeleteLinkTest {
@@ -255,6 +570,78 @@ class ShortUrlGrpcControllerTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("RPC 전용 풀 테스트")
+	class HandlerExecutorTest {
+
+		@Test
+		@DisplayName("성공: 전용 풀 스레드에서 처리하고 Context(idempotency-key)를 그대로 전달")
+		void createLink_completedOnPool() {
+			// given
+			controller = newController(true);
+			CreateLinkRequest request = CreateLinkRequest.newBuilder()
+				.setRedirectUrl("https://example.com")
+				.build();
+			when(idempotencyService.createLink(eq("order-1"), eq("https://example.com"), any()))
+				.thenAnswer(invocation -> {
+					assertTrue(Thread.currentThread().getName().startsWith("grpc-createLink-"));
+					return new ShortUrlCreateResponse("aB3Xy9Km", "http://localhost:8080/aB3Xy9Km");
+				});
+
+			try {
+				// when
+				Context.current().withValue(IdempotencyKeyInterceptor.IDEMPOTENCY_KEY, "order-1")
+					.run(() -> controller.createLink(request, createLinkObserver));
+
+				// then
+				verify(createLinkObserver, timeout(5000)).onNext(createLinkResponseCaptor.capture());
+				verify(createLinkObserver, timeout(5000)).onCompleted();
+				assertEquals("aB3Xy9Km", createLinkResponseCaptor.getValue().getShortCode());
+			} finally {
+				ReflectionTestUtils.invokeMethod(handlerExecutors, "shutdown");
+			}
+		}
+
+		@Test
+		@DisplayName("실패: 풀과 큐가 가득 차면 바로 RESOURCE_EXHAUSTED")
+		void createLink_queueFull_resourceExhausted() throws Exception {
+			// given
+			controller = newController(true);
+			CreateLinkRequest request = CreateLinkRequest.newBuilder()
+				.setRedirectUrl("https://example.com")
+				.build();
+			CountDownLatch started = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			when(shortUrlCreator.createLink("https://example.com")).thenAnswer(invocation -> {
+				started.countDown();
+				release.await(5, TimeUnit.SECONDS);
+				return new ShortUrlCreateResponse("aB3Xy9Km", "http://localhost:8080/aB3Xy9Km");
+			});
+			StreamObserver<CreateLinkResponse> running = mock(StreamObserver.class);
+			StreamObserver<CreateLinkResponse> queued = mock(StreamObserver.class);
+
+			try {
+				controller.createLink(request, running);
+				assertTrue(started.await(5, TimeUnit.SECONDS));
+				controller.createLink(request, queued);
+
+				// when
+				controller.createLink(request, createLinkObserver);
+
+				// then
+				verify(createLinkObserver, times(1)).onError(exceptionCaptor.capture());
+				assertEquals(Status.Code.RESOURCE_EXHAUSTED, exceptionCaptor.getValue().getStatus().getCode());
+
+				release.countDown();
+				verify(running, timeout(5000)).onCompleted();
+				verify(queued, timeout(5000)).onCompleted();
+			} finally {
+				release.countDown();
+				ReflectionTestUtils.invokeMethod(handlerExecutors, "shutdown");
+			}
+		}
+	}
+
 	@Nested
 	@DisplayName("에러 변환 통합 테스트")
 	class ErrorConversionTest {
@@ -270,7 +657,7 @@ class ShortUrlGrpcControllerTest {
 
 			// BAD_REQUEST → INVALID_ARGUMENT
 			CustomException badRequest = ErrorCode.INVALID_ARGUMENT_ERROR.baseException();
-			when(shortUrlService.createLink(redirectUrl)).thenThrow(badRequest);
+			when(shortUrlCreator.createLink(redirectUrl)).thenThrow(badRequest);
 
 			// when
 			controller.createLink(request, createLinkObserver);
@@ -5,11 +5,15 @@ import com.shortener.url_shortener.domain.url.CreateLinkRequest;
 import com.shortener.url_shortener.domain.url.CreateLinkResponse;
 import com.shortener.url_shortener.domain.url.DeleteLinkRequest;
 import com.shortener.url_shortener.domain.url.DeleteLinkResponse;
+import com.shortener.url_shortener.domain.url.ImportLinksRequest;
+import com.shortener.url_shortener.domain.url.ImportLinksResponse;
+import com.shortener.url_shortener.domain.url.ImportLinksSummary;
 import com.shortener.url_shortener.domain.url.UrlShortenerRpcGrpc;
 import com.shortener.url_shortener.domain.url.entity.ShortUrl;
 import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
 import io.grpc.*;
 import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
 
 import net.devh.boot.grpc.client.inject.GrpcClient;
 import org.junit.jupiter.api.DisplayName;
@@ -20,7 +24,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -31,6 +39,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * - 실제 gRPC 서버-클라이언트 통신
  * - API Key 인증 통합 테스트
  * - DB 연동 테스트 (테스트컨테이너)
+ * - 스트리밍 대량 이관 (처리량 출력)
  * - 전체 흐름 검증
  */
 @DisplayName("UrlShortenerGrpc 통합 테스트")
@@ -40,6 +49,9 @@ class UrlShortenerGrpcIntegrationTest extends IntegrationTestBase {
 	@GrpcClient("url-shortener")
 	private UrlShortenerRpcGrpc.UrlShortenerRpcBlockingStub blockingStub;
 
+	@GrpcClient("url-shortener")
+	private UrlShortenerRpcGrpc.UrlShortenerRpcStub asyncStub;
+
 	@Autowired
 	private ShortUrlJpaRepository shortUrlJpaRepository;
 
@@ -148,6 +160,71 @@ class UrlShortenerGrpcIntegrationTest extends IntegrationTestBase {
 		}
 	}
 
+	@Nested
+	@DisplayName("importLinks 통합 테스트")
+	class ImportLinksIntegrationTest {
+
+		@Test
+		@DisplayName("성공: 스트림 전체 저장 후 summary와 실패 항목 반환")
+		void importLinks_fullFlow_success() throws InterruptedException {
+			// given
+			int total = 3_000;
+			Metadata metadata = new Metadata();
+			metadata.put(API_KEY_METADATA_KEY, validApiKey);
+			UrlShortenerRpcGrpc.UrlShortenerRpcStub authenticatedStub =
+				asyncStub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadata));
+
+			List<ImportLinksResponse> responses = new CopyOnWriteArrayList<>();
+			CountDownLatch done = new CountDownLatch(1);
+			StreamObserver<ImportLinksRequest> requestObserver = authenticatedStub.importLinks(
+				new StreamObserver<>() {
+					@Override
+					public void onNext(ImportLinksResponse response) {
+						responses.add(response);
+					}
+
+					@Override
+					public void onError(Throwable t) {
+						done.countDown();
+					}
+
+					@Override
+					public void onCompleted() {
+						done.countDown();
+					}
+				});
+
+			// when: 100개씩 전송, 마지막 메시지는 중복 1개 + 잘못된 URL 1개
+			for (int from = 0; from < total; from += 100) {
+				ImportLinksRequest.Builder request = ImportLinksRequest.newBuilder();
+				for (int i = from; i < from + 100; i++) {
+					request.addRedirectUrls("https://example.com/import/" + i);
+				}
+				requestObserver.onNext(request.build());
+			}
+			requestObserver.onNext(ImportLinksRequest.newBuilder()
+				.addRedirectUrls("https://example.com/import/0")
+				.addRedirectUrls("ftp://example.com")
+				.build());
+			requestObserver.onCompleted();
+
+			// then
+			assertTrue(done.await(60, TimeUnit.SECONDS));
+
+			ImportLinksResponse last = responses.get(responses.size() - 1);
+			assertTrue(last.hasSummary());
+			ImportLinksSummary summary = last.getSummary();
+			assertEquals(total + 2, summary.getReceived());
+			assertEquals(total, summary.getCreated());
+			assertEquals(1, summary.getDeduped());
+			assertEquals(1, summary.getRejected());
+
+			assertEquals(2, responses.size());
+			assertEquals(total + 1, responses.get(0).getFailure().getIndex());
+			assertEquals(total, shortUrlJpaRepository.count());
+		}
+	}
+
 	@Nested
 	@DisplayName("deleteLink 통합 테스트")
 	class DeleteLinkIntegrationTest {
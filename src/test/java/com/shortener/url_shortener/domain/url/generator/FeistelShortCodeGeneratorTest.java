@@ -0,0 +1,120 @@
+package com.shortener.url_shortener.domain.url.generator;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.shortener.url_shortener.global.util.Base62Encoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * FeistelShortCodeGenerator 단위 테스트
+ *
+ * 테스트 내용:
+ * - 블록 단위 시퀀스 예약
+ * - 생성 코드의 형식/유일성
+ * - 시퀀스 row 동시 생성 시 재시도
+ * - 첫 블록은 시작 시 예약
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeistelShortCodeGenerator 단위 테스트")
+class FeistelShortCodeGeneratorTest {
+
+	private static final int BLOCK_SIZE = 10;
+
+	@Mock
+	private ShortCodeSequenceAllocator allocator;
+
+	private FeistelShortCodeGenerator generator;
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	@BeforeEach
+	void setUp() {
+		generator = new FeistelShortCodeGenerator(new Base62Encoder(), allocator);
+		ReflectionTestUtils.setField(generator, "length", 8);
+		ReflectionTestUtils.setField(generator, "key", "test-feistel-key-0123456789");
+		ReflectionTestUtils.setField(generator, "blockSize", BLOCK_SIZE);
+		generator.init();
+	}
+
+	@Test
+	@DisplayName("성공: 블록을 넘어가도 중복 없는 8자리 Base62 코드 생성")
+	void generate_acrossBlocks_uniqueCodes() {
+		// given
+		when(allocator.allocate(eq(FeistelShortCodeGenerator.SEQUENCE_NAME), eq(BLOCK_SIZE)))
+			.thenAnswer(invocation -> sequence.getAndAdd(BLOCK_SIZE));
+		Base62Encoder encoder = new Base62Encoder();
+		Set<String> codes = new HashSet<>();
+
+		// when
+		for (int i = 0; i < 1_000; i++) {
+			String code = generator.generate();
+
+			// then
+			assertEquals(8, code.length());
+			assertTrue(encoder.isValid(code));
+			assertTrue(codes.add(code), "duplicate code: " + code);
+		}
+		verify(allocator, atLeast(100)).allocate(eq(FeistelShortCodeGenerator.SEQUENCE_NAME), eq(BLOCK_SIZE));
+	}
+
+	@Test
+	@DisplayName("성공: 시퀀스 row 동시 생성으로 실패하면 한 번 더 예약")
+	void generate_concurrentSequenceCreation_retries() {
+		// given
+		when(allocator.allocate(eq(FeistelShortCodeGenerator.SEQUENCE_NAME), anyInt()))
+			.thenThrow(new DataIntegrityViolationException("Duplicate entry"))
+			.thenReturn(0L);
+
+		// when
+		String code = generator.generate();
+
+		// then
+		assertEquals(8, code.length());
+		verify(allocator, times(2)).allocate(eq(FeistelShortCodeGenerator.SEQUENCE_NAME), anyInt());
+	}
+
+	@Test
+	@DisplayName("성공: 시작 시 첫 블록을 예약해서 첫 생성 요청은 예약하지 않음")
+	void preallocate_firstGenerateSkipsAllocation() {
+		// given
+		when(allocator.allocate(eq(FeistelShortCodeGenerator.SEQUENCE_NAME), eq(BLOCK_SIZE))).thenReturn(0L);
+		generator.preallocate();
+
+		// when
+		String code = generator.generate();
+
+		// then
+		assertEquals(8, code.length());
+		verify(allocator, times(1)).allocate(eq(FeistelShortCodeGenerator.SEQUENCE_NAME), eq(BLOCK_SIZE));
+	}
+
+	@Test
+	@DisplayName("실패: 시작 시 첫 블록 예약이 실패하면 시작 실패")
+	void preallocate_failure_propagates() {
+		// given
+		when(allocator.allocate(eq(FeistelShortCodeGenerator.SEQUENCE_NAME), eq(BLOCK_SIZE)))
+			.thenThrow(new CannotCreateTransactionException("db down"));
+
+		// when & then
+		assertThrows(CannotCreateTransactionException.class, () -> generator.preallocate());
+	}
+}
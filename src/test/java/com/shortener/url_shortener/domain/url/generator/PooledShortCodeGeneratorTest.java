@@ -0,0 +1,142 @@
+package com.shortener.url_shortener.domain.url.generator;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
+import com.shortener.url_shortener.global.util.Base62Encoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PooledShortCodeGenerator 단위 테스트
+ *
+ * 테스트 내용:
+ * - 풀 채우기 (이미 존재하는 코드 제외)
+ * - low-water-mark 기준 리필
+ * - 풀 고갈 시 랜덤 코드 대체
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PooledShortCodeGenerator 단위 테스트")
+class PooledShortCodeGeneratorTest {
+
+	@Mock
+	private ShortUrlJpaRepository shortUrlJpaRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private PooledShortCodeGenerator generator;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		generator = new PooledShortCodeGenerator(new Base62Encoder(), shortUrlJpaRepository, meterRegistry);
+		ReflectionTestUtils.setField(generator, "length", 8);
+		ReflectionTestUtils.setField(generator, "poolSize", 100);
+		ReflectionTestUtils.setField(generator, "lowWaterMark", 20);
+		ReflectionTestUtils.setField(generator, "refillBatchSize", 30);
+		generator.registerMetrics();
+	}
+
+	@Test
+	@DisplayName("성공: 이미 존재하는 코드는 제외하고 풀 크기까지 채움")
+	void refill_excludesExistingCodes() {
+		// given: 배치마다 첫 번째 후보는 이미 사용 중
+		Set<String> taken = new HashSet<>();
+		when(shortUrlJpaRepository.findShortCodesIn(anyCollection())).thenAnswer(invocation -> {
+			Collection<String> candidates = invocation.getArgument(0);
+			String first = candidates.iterator().next();
+			taken.add(first);
+			return List.of(first);
+		});
+
+		// when
+		generator.refill();
+
+		// then
+		assertEquals(100, generator.size());
+		Set<String> issued = new HashSet<>();
+		for (int i = 0; i < 100; i++) {
+			String code = generator.generate();
+			assertEquals(8, code.length());
+			assertFalse(taken.contains(code));
+			assertTrue(issued.add(code));
+		}
+		assertEquals(0, generator.size());
+		assertEquals(taken.size(), meterRegistry.get("shortener.short_code_pool.discarded").counter().count());
+	}
+
+	@Test
+	@DisplayName("성공: low-water-mark 이상이면 리필하지 않음")
+	void refillIfNeeded_aboveLowWaterMark_skips() {
+		// given
+		when(shortUrlJpaRepository.findShortCodesIn(anyCollection())).thenReturn(List.of());
+		generator.refill();
+
+		// when
+		for (int i = 0; i < 50; i++) {
+			generator.generate();
+		}
+		generator.refillIfNeeded();
+
+		// then
+		assertEquals(50, generator.size());
+	}
+
+	@Test
+	@DisplayName("성공: low-water-mark 아래로 떨어지면 풀 크기까지 다시 채움")
+	void refillIfNeeded_belowLowWaterMark_refills() {
+		// given
+		when(shortUrlJpaRepository.findShortCodesIn(anyCollection())).thenReturn(List.of());
+		generator.refill();
+		for (int i = 0; i < 90; i++) {
+			generator.generate();
+		}
+
+		// when
+		generator.refillIfNeeded();
+
+		// then
+		assertEquals(100, generator.size());
+	}
+
+	@Test
+	@DisplayName("성공: 풀이 비어 있으면 랜덤 코드로 대체하고 exhausted 증가")
+	void generate_emptyPool_fallsBackToRandom() {
+		// when
+		String code = generator.generate();
+
+		// then
+		assertEquals(8, code.length());
+		assertTrue(new Base62Encoder().isValid(code));
+		assertEquals(1.0, meterRegistry.get("shortener.short_code_pool.exhausted").counter().count());
+		verify(shortUrlJpaRepository, never()).findShortCodesIn(anyCollection());
+	}
+
+	@Test
+	@DisplayName("실패: 존재 여부 확인 실패 시 예외 없이 다음 리필로 넘김")
+	void refill_queryFailure_doesNotThrow() {
+		// given
+		when(shortUrlJpaRepository.findShortCodesIn(anyCollection())).thenThrow(new RuntimeException("db down"));
+
+		// when & then
+		assertDoesNotThrow(() -> generator.refill());
+		assertEquals(0, generator.size());
+	}
+}
@@ -8,6 +8,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -16,6 +18,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,4 +62,45 @@ class ShortUrlLockRepositoryTest {
 
 		assertDoesNotThrow(() -> shortUrlLockRepository.releaseLock("lock"));
 	}
+
+	@Test
+	@DisplayName("여러 락을 한 번의 쿼리로 획득")
+	void acquireLocks_singleRoundTrip() {
+		when(jdbcTemplate.queryForObject(eq("SELECT GET_LOCK(?, ?) AND GET_LOCK(?, ?)"), eq(Integer.class),
+			eq("a"), eq(3), eq("b"), eq(3)))
+			.thenReturn(1);
+
+		boolean result = shortUrlLockRepository.acquireLocks(List.of("a", "b"), 3);
+
+		assertTrue(result);
+	}
+
+	@Test
+	@DisplayName("하나라도 실패하면 false 반환")
+	void acquireLocks_fail() {
+		when(jdbcTemplate.queryForObject(eq("SELECT GET_LOCK(?, ?) AND GET_LOCK(?, ?)"), eq(Integer.class),
+			any(), any(), any(), any()))
+			.thenReturn(0);
+
+		boolean result = shortUrlLockRepository.acquireLocks(List.of("a", "b"), 3);
+
+		assertFalse(result);
+	}
+
+	@Test
+	@DisplayName("빈 목록은 쿼리 없이 true")
+	void acquireLocks_empty() {
+		assertTrue(shortUrlLockRepository.acquireLocks(List.of(), 3));
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	@Test
+	@DisplayName("전체 락 해제 실패 시 예외를 던지지 않음")
+	void releaseAllLocks_failure_doesNotThrow() {
+		doThrow(new RuntimeException("release failed"))
+			.when(jdbcTemplate)
+			.queryForObject(eq("SELECT RELEASE_ALL_LOCKS()"), eq(Integer.class));
+
+		assertDoesNotThrow(() -> shortUrlLockRepository.releaseAllLocks());
+	}
 }
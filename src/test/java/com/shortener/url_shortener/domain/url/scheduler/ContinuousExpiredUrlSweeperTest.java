@@ -0,0 +1,189 @@
+package com.shortener.url_shortener.domain.url.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.shortener.url_shortener.domain.url.repository.ShortUrlRepository;
+import com.shortener.url_shortener.domain.url.service.ShortUrlBloomFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ContinuousExpiredUrlSweeper 단위 테스트
+ *
+ * 테스트 내용:
+ * - 꽉 찬 배치가 빨리 끝나면 배치 크기 증가, duty cycle만큼 쉼
+ * - 배치가 느리면 배치 크기 감소
+ * - 다 지우면 interval만큼 쉬고 cron 배치 삭제를 건너뛸 수 있는 상태
+ * - 커넥션 풀 사용률/요청 지연이 높으면 삭제 없이 배치 크기 절반
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContinuousExpiredUrlSweeper 단위 테스트")
+class ContinuousExpiredUrlSweeperTest {
+
+	private static final long INTERVAL_MILLIS = 2000;
+
+	@Mock
+	private ShortUrlRepository shortUrlRepository;
+
+	@Mock
+	private ShortUrlBloomFilter shortUrlBloomFilter;
+
+	@Mock
+	private HikariDataSource hikariDataSource;
+
+	@Mock
+	private HikariPoolMXBean hikariPoolMXBean;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ContinuousExpiredUrlSweeper sweeper;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		sweeper = new ContinuousExpiredUrlSweeper(shortUrlRepository, shortUrlBloomFilter, hikariDataSource,
+			meterRegistry);
+		ReflectionTestUtils.setField(sweeper, "enabled", true);
+		ReflectionTestUtils.setField(sweeper, "intervalMillis", INTERVAL_MILLIS);
+		ReflectionTestUtils.setField(sweeper, "initialBatchSize", 100);
+		ReflectionTestUtils.setField(sweeper, "minBatchSize", 20);
+		ReflectionTestUtils.setField(sweeper, "maxBatchSize", 1000);
+		ReflectionTestUtils.setField(sweeper, "targetBatchMillis", 50L);
+		ReflectionTestUtils.setField(sweeper, "dutyCycle", 0.2);
+		sweeper.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		sweeper.shutdown();
+	}
+
+	private void poolUsage(int active, int awaiting) {
+		when(hikariDataSource.getHikariPoolMXBean()).thenReturn(hikariPoolMXBean);
+		when(hikariDataSource.getMaximumPoolSize()).thenReturn(10);
+		when(hikariPoolMXBean.getActiveConnections()).thenReturn(active);
+		when(hikariPoolMXBean.getThreadsAwaitingConnection()).thenReturn(awaiting);
+	}
+
+	@Test
+	@DisplayName("꽉 찬 배치가 목표보다 빨리 끝나면 배치 크기 2배, 다음 배치까지 잠깐만 쉼")
+	void fullFastBatch_grows() {
+		// given
+		poolUsage(1, 0);
+		when(shortUrlRepository.deleteExpired(any(LocalDateTime.class), eq(100))).thenReturn(100);
+
+		// when
+		long delayMillis = sweeper.sweepOnce();
+
+		// then
+		assertEquals(200, sweeper.batchSize());
+		assertTrue(delayMillis < INTERVAL_MILLIS, "delay: " + delayMillis);
+		verify(shortUrlBloomFilter).recordRemovals(100);
+		assertFalse(sweeper.isCaughtUp());
+	}
+
+	@Test
+	@DisplayName("배치가 목표보다 느리면 배치 크기 감소, 삭제 시간의 (1 - duty) / duty배 쉼")
+	void slowBatch_shrinks() {
+		// given
+		poolUsage(1, 0);
+		when(shortUrlRepository.deleteExpired(any(LocalDateTime.class), eq(100))).thenAnswer(invocation -> {
+			TimeUnit.MILLISECONDS.sleep(120);
+			return 100;
+		});
+
+		// when
+		long delayMillis = sweeper.sweepOnce();
+
+		// then
+		assertEquals(50, sweeper.batchSize());
+		assertTrue(delayMillis >= 4 * 120, "delay: " + delayMillis);
+	}
+
+	@Test
+	@DisplayName("남은 만료 row를 다 지우면 interval만큼 쉬고 따라잡은 상태, 배치 크기는 늘리지 않음")
+	void partialBatch_caughtUp() {
+		// given
+		poolUsage(1, 0);
+		when(shortUrlRepository.deleteExpired(any(LocalDateTime.class), eq(100))).thenReturn(30);
+
+		// when
+		long delayMillis = sweeper.sweepOnce();
+
+		// then
+		assertEquals(INTERVAL_MILLIS, delayMillis);
+		assertEquals(100, sweeper.batchSize());
+		assertTrue(sweeper.isCaughtUp());
+	}
+
+	@Test
+	@DisplayName("커넥션 풀 사용률이 max-pool-usage 이상이면 삭제 없이 배치 크기 절반")
+	void poolPressure_backsOff() {
+		// given
+		poolUsage(6, 2);
+
+		// when
+		long delayMillis = sweeper.sweepOnce();
+
+		// then
+		assertEquals(INTERVAL_MILLIS, delayMillis);
+		assertEquals(50, sweeper.batchSize());
+		verify(shortUrlRepository, never()).deleteExpired(any(), anyInt());
+		assertEquals(1.0, meterRegistry.get("shortener.expiry_sweeper.backoffs").tag("reason", "pool").counter()
+			.count());
+	}
+
+	@Test
+	@DisplayName("지난 확인 이후 요청 평균 처리 시간이 높으면 쉬고, 새 요청이 없으면 다시 삭제")
+	void requestLatencyPressure_backsOffUntilRecovered() {
+		// given
+		poolUsage(1, 0);
+		Timer timer = meterRegistry.timer("http.server.requests", "uri", "/{shortCode}");
+		for (int i = 0; i < 10; i++) {
+			timer.record(500, TimeUnit.MILLISECONDS);
+		}
+		when(shortUrlRepository.deleteExpired(any(LocalDateTime.class), eq(50))).thenReturn(0);
+
+		// when
+		sweeper.sweepOnce();
+
+		// then
+		verify(shortUrlRepository, never()).deleteExpired(any(), anyInt());
+		assertEquals(50, sweeper.batchSize());
+
+		// when
+		sweeper.sweepOnce();
+
+		// then
+		verify(shortUrlRepository).deleteExpired(any(LocalDateTime.class), eq(50));
+	}
+
+	@Test
+	@DisplayName("꺼져 있거나 아직 다 지운 적이 없으면 cron 배치 삭제 필요")
+	void notCaughtUp_whenDisabledOrNeverCaughtUp() {
+		// when & then
+		assertFalse(sweeper.isCaughtUp());
+
+		ReflectionTestUtils.setField(sweeper, "lastCaughtUpMillis", System.currentTimeMillis());
+		ReflectionTestUtils.setField(sweeper, "enabled", false);
+		assertFalse(sweeper.isCaughtUp());
+	}
+}
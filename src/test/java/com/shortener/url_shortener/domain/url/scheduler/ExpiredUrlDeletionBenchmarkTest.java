@@ -0,0 +1,128 @@
+package com.shortener.url_shortener.domain.url.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MySQLContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 만료 정리 처리량 비교 (keyset SELECT + id 삭제 vs DELETE ... ORDER BY ... LIMIT vs 구간별 병렬 keyset)
+ *
+ * 같은 만료 데이터(기본 200만 건, 만료 안 된 row 10% 포함)를 전략마다 새로 넣고 삭제 row/s 출력
+ * 실행: ./gradlew test --tests '*ExpiredUrlDeletionBenchmarkTest' -Dbenchmark=true
+ * 행 수/배치 크기: -Dbenchmark.rows=5000000 -Dbenchmark.batch-size=1000
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("만료 정리 처리량 비교 벤치마크")
+class ExpiredUrlDeletionBenchmarkTest {
+
+	private static final int ROWS = Integer.getInteger("benchmark.rows", 2_000_000);
+	private static final int BATCH_SIZE = Integer.getInteger("benchmark.batch-size", 1000);
+	private static final int INSERT_CHUNK = 100_000;
+
+	private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+		.withDatabaseName("url_shortener_bench")
+		.withUsername("test")
+		.withPassword("test")
+		.withCommand("--innodb-buffer-pool-size=1G");
+
+	/**
+	 * 벤치마크가 활성화되어 컨텍스트를 만들 때만 컨테이너 실행
+	 */
+	@DynamicPropertySource
+	static void setProperties(DynamicPropertyRegistry registry) {
+		MYSQL.start();
+		registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+		registry.add("spring.datasource.username", MYSQL::getUsername);
+		registry.add("spring.datasource.password", MYSQL::getPassword);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		MYSQL.stop();
+	}
+
+	@Autowired
+	private ShortUrlScheduler shortUrlScheduler;
+
+	@Autowired
+	private ParallelExpiredUrlSweeper parallelExpiredUrlSweeper;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("전략별 만료 row 삭제 처리량")
+	void compareThroughput() {
+		ReflectionTestUtils.setField(shortUrlScheduler, "batchSize", BATCH_SIZE);
+		ReflectionTestUtils.setField(parallelExpiredUrlSweeper, "batchSize", BATCH_SIZE);
+		// 처리량 측정이라 row 예산 제한 없음
+		ReflectionTestUtils.setField(parallelExpiredUrlSweeper, "maxRowsPerSecond", 0.0);
+		try {
+			double keyset = measure("keyset");
+			double deleteLimit = measure("delete-limit");
+			double parallel = measure("parallel");
+			System.out.printf("rows=%d batch=%d | keyset %.0f rows/s | delete-limit %.0f rows/s (x%.2f)"
+					+ " | parallel %.0f rows/s (x%.2f)%n",
+				ROWS, BATCH_SIZE, keyset, deleteLimit, deleteLimit / keyset, parallel, parallel / keyset);
+		} finally {
+			ReflectionTestUtils.setField(shortUrlScheduler, "strategy", "keyset");
+		}
+	}
+
+	/**
+	 * @return 만료 row 삭제 처리량 (rows/s)
+	 */
+	private double measure(String strategy) {
+		int expired = load();
+		ReflectionTestUtils.setField(shortUrlScheduler, "strategy", strategy);
+
+		long startedAt = System.nanoTime();
+		shortUrlScheduler.deleteExpiredShortUrls();
+		double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+		Integer remaining = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM url_shortener", Integer.class);
+		assertThat(remaining).isEqualTo(ROWS - expired);
+		return expired / seconds;
+	}
+
+	/**
+	 * 서버에서 재귀 CTE로 생성 (id 순서와 expired_at 순서가 다르도록 expired_at은 id를 섞어서 계산)
+	 * 재귀 깊이 제한(기본 1000)은 커넥션 세션 대신 문장 힌트로 올림 (풀에서 다른 커넥션을 받을 수 있음)
+	 *
+	 * @return 만료된 row 수
+	 */
+	private int load() {
+		jdbcTemplate.execute("TRUNCATE TABLE url_shortener");
+		LocalDateTime now = LocalDateTime.now();
+		for (int from = 0; from < ROWS; from += INSERT_CHUNK) {
+			int count = Math.min(INSERT_CHUNK, ROWS - from);
+			jdbcTemplate.update("""
+					INSERT /*+ SET_VAR(cte_max_recursion_depth = 1000000) */ INTO url_shortener
+						(id, hash_key, short_code, redirection_url, expired_at, created_at, updated_at)
+					WITH RECURSIVE seq (n) AS (SELECT ? UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+					SELECT n, UNHEX(SHA2(n, 256)), LPAD(CONV(n, 10, 36), 8, '0'),
+						CONCAT('https://bench.example.com/', n),
+						IF(n % 10 = 0, ? + INTERVAL 1 DAY, ? - INTERVAL ((n * 7919) % 604800) SECOND),
+						?, ?
+					FROM seq
+				""", from + 1, from + count, now, now, now, now);
+		}
+		jdbcTemplate.execute("ANALYZE TABLE url_shortener");
+		return ROWS - ROWS / 10;
+	}
+}
@@ -0,0 +1,192 @@
+package com.shortener.url_shortener.domain.url.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.shortener.url_shortener.domain.url.dto.ExpiredUrlView;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlRepository;
+import com.shortener.url_shortener.domain.url.scheduler.ParallelExpiredUrlSweeper.Slice;
+import com.shortener.url_shortener.domain.url.service.ShortUrlBloomFilter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * ParallelExpiredUrlSweeper 단위 테스트
+ *
+ * 테스트 내용:
+ * - 만료 범위를 겹치지 않는 expired_at 구간으로 나눔 (첫 구간은 하한 없음)
+ * - 구간마다 하한을 keyset 커서로 넘겨서 조회/삭제
+ * - 구간 안에서 커서 이어서 페이징
+ * - 초당 삭제 row 수 제한
+ * - 가장 이른 만료 조회 실패 시 삭제 없음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParallelExpiredUrlSweeper 단위 테스트")
+class ParallelExpiredUrlSweeperTest {
+
+	@Mock
+	private ShortUrlRepository shortUrlRepository;
+
+	@Mock
+	private ShortUrlJpaRepository shortUrlJpaRepository;
+
+	@Mock
+	private ShortUrlBloomFilter shortUrlBloomFilter;
+
+	@InjectMocks
+	private ParallelExpiredUrlSweeper parallelExpiredUrlSweeper;
+
+	private final int batchSize = 10;
+	private final LocalDateTime now = LocalDateTime.of(2026, 10, 19, 3, 0);
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(parallelExpiredUrlSweeper, "batchSize", batchSize);
+		ReflectionTestUtils.setField(parallelExpiredUrlSweeper, "workers", 2);
+		ReflectionTestUtils.setField(parallelExpiredUrlSweeper, "slices", 2);
+		ReflectionTestUtils.setField(parallelExpiredUrlSweeper, "maxRowsPerSecond", 0.0);
+	}
+
+	@Test
+	@DisplayName("구간은 서로 이어지고 첫 구간은 하한 없음, 마지막 상한은 지금")
+	void slices_contiguous() {
+		// when
+		List<Slice> slices = ParallelExpiredUrlSweeper.slices(now.minusHours(4), now, 4);
+
+		// then
+		assertEquals(List.of(
+			new Slice(null, now.minusHours(3)),
+			new Slice(now.minusHours(3), now.minusHours(2)),
+			new Slice(now.minusHours(2), now.minusHours(1)),
+			new Slice(now.minusHours(1), now)
+		), slices);
+	}
+
+	@Test
+	@DisplayName("만료 row가 없거나 범위가 없으면 구간 하나")
+	void slices_emptyRange() {
+		// when & then
+		assertEquals(List.of(new Slice(null, now)), ParallelExpiredUrlSweeper.slices(now, now, 4));
+	}
+
+	@Test
+	@DisplayName("성공: 구간마다 하한을 커서로 넘겨서 조회하고 모두 삭제")
+	void sweep_eachSliceWithOwnCursor() {
+		// given
+		LocalDateTime mid = now.minusHours(1);
+		when(shortUrlRepository.findEarliestExpiredAt(now)).thenReturn(Optional.of(now.minusHours(2)));
+		when(shortUrlRepository.selectShortUrlsWithPagination(isNull(), eq(mid), isNull(), eq(batchSize)))
+			.thenReturn(views(1, 3, now.minusHours(2)));
+		when(shortUrlRepository.selectShortUrlsWithPagination(eq(Long.MAX_VALUE), eq(now), eq(mid), eq(batchSize)))
+			.thenReturn(views(100, 2, mid.plusMinutes(1)));
+
+		// when
+		long deleted = parallelExpiredUrlSweeper.sweep(now);
+
+		// then
+		assertEquals(5, deleted);
+		verify(shortUrlJpaRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+		verify(shortUrlJpaRepository).deleteAllByIdInBatch(List.of(100L, 101L));
+		verify(shortUrlBloomFilter).recordRemovals(3);
+		verify(shortUrlBloomFilter).recordRemovals(2);
+	}
+
+	@Test
+	@DisplayName("성공: 구간 안에서는 마지막 (expired_at, id)로 커서 이어서 조회")
+	void sweep_pagesWithinSlice() {
+		// given
+		ReflectionTestUtils.setField(parallelExpiredUrlSweeper, "slices", 1);
+		List<ExpiredUrlView> firstBatch = views(1, batchSize, now.minusHours(1));
+		ExpiredUrlView last = firstBatch.get(batchSize - 1);
+		when(shortUrlRepository.findEarliestExpiredAt(now)).thenReturn(Optional.of(now.minusHours(1)));
+		when(shortUrlRepository.selectShortUrlsWithPagination(isNull(), eq(now), isNull(), eq(batchSize)))
+			.thenReturn(firstBatch);
+		when(shortUrlRepository.selectShortUrlsWithPagination(eq(last.getId()), eq(now), eq(last.getExpiredAt()),
+			eq(batchSize))).thenReturn(views(50, 4, now.minusMinutes(10)));
+
+		// when
+		long deleted = parallelExpiredUrlSweeper.sweep(now);
+
+		// then
+		assertEquals(batchSize + 4, deleted);
+		verify(shortUrlJpaRepository, times(2)).deleteAllByIdInBatch(anyList());
+	}
+
+	@Test
+	@DisplayName("성공: max-rows-per-second를 넘지 않도록 배치 사이 대기")
+	void sweep_respectsRowBudget() {
+		// given
+		ReflectionTestUtils.setField(parallelExpiredUrlSweeper, "slices", 1);
+		ReflectionTestUtils.setField(parallelExpiredUrlSweeper, "maxRowsPerSecond", 100.0);
+		when(shortUrlRepository.findEarliestExpiredAt(now)).thenReturn(Optional.of(now.minusHours(1)));
+		when(shortUrlRepository.selectShortUrlsWithPagination(any(), eq(now), any(), eq(batchSize)))
+			.thenReturn(views(1, batchSize, now.minusHours(1)), views(11, batchSize, now.minusHours(1)),
+				views(21, batchSize, now.minusHours(1)), views(31, batchSize, now.minusHours(1)), List.of());
+
+		// when
+		long startedAt = System.nanoTime();
+		long deleted = parallelExpiredUrlSweeper.sweep(now);
+		long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+		// then
+		// 첫 배치는 바로, 이후 배치마다 10 rows / 100 rows/s = 100ms
+		assertEquals(4L * batchSize, deleted);
+		assertTrue(elapsedMillis >= 250, "elapsed: " + elapsedMillis);
+	}
+
+	@Test
+	@DisplayName("실패: 가장 이른 만료 조회 실패 시 삭제 없이 종료")
+	void sweep_earliestLookupFailure() {
+		// given
+		when(shortUrlRepository.findEarliestExpiredAt(now)).thenThrow(new RuntimeException("connection refused"));
+
+		// when
+		long deleted = parallelExpiredUrlSweeper.sweep(now);
+
+		// then
+		assertEquals(0, deleted);
+		verify(shortUrlRepository, never()).selectShortUrlsWithPagination(any(), any(), any(), anyInt());
+		verify(shortUrlJpaRepository, never()).deleteAllByIdInBatch(anyList());
+	}
+
+	/**
+	 * id가 firstId부터 연속이고 expired_at이 1초씩 늘어나는 목록
+	 */
+	private List<ExpiredUrlView> views(long firstId, int count, LocalDateTime firstExpiredAt) {
+		List<ExpiredUrlView> list = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			long id = firstId + i;
+			LocalDateTime expiredAt = firstExpiredAt.plusSeconds(i);
+			list.add(new ExpiredUrlView() {
+				@Override
+				public Long getId() {
+					return id;
+				}
+
+				@Override
+				public LocalDateTime getExpiredAt() {
+					return expiredAt;
+				}
+			});
+		}
+		return list;
+	}
+}
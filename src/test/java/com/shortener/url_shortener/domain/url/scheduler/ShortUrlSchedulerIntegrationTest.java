@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.shortener.url_shortener.container.IntegrationTestBase;
 import com.shortener.url_shortener.domain.url.entity.ShortUrl;
@@ -23,6 +24,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * - expired_at이 같을 때 id 순서 처리
  * - 배치 크기보다 많은 데이터 처리
  * - 만료되지 않은 데이터는 삭제 안 됨
+ * - delete-limit 전략 (DELETE ... ORDER BY ... LIMIT 반복)
+ * - parallel 전략 (expired_at 구간별 병렬 삭제)
  */
 @DisplayName("ShortUrlScheduler 통합 테스트")
 class ShortUrlSchedulerIntegrationTest extends IntegrationTestBase {
@@ -352,6 +355,67 @@ class ShortUrlSchedulerIntegrationTest extends IntegrationTestBase {
 		}
 	}
 
+	@Nested
+	@DisplayName("delete-limit 전략 검증")
+	class DeleteLimitStrategyTest {
+
+		@Test
+		@DisplayName("배치 크기보다 많은 만료 데이터를 모두 삭제하고 만료 안 된 데이터는 유지")
+		void deleteLimit_moreThanBatchSize_onlyExpiredDeleted() {
+			// given
+			LocalDateTime now = LocalDateTime.now();
+			for (long i = 1; i <= 25; i++) {
+				shortUrlJpaRepository.save(new ShortUrl(i, "key" + String.format("%02d", i),
+					"https://example.com/" + i, now.minusDays(1).plusMinutes(i % 3)));
+			}
+			shortUrlJpaRepository.save(new ShortUrl(26L, "valid1", "https://a.com", now.plusDays(1)));
+			ReflectionTestUtils.setField(shortUrlScheduler, "strategy", "delete-limit");
+
+			// when
+			try {
+				shortUrlScheduler.deleteExpiredShortUrls();
+			} finally {
+				ReflectionTestUtils.setField(shortUrlScheduler, "strategy", "keyset");
+			}
+
+			// then
+			List<ShortUrl> remaining = shortUrlJpaRepository.findAll();
+			assertEquals(1, remaining.size(), "만료 안 된 데이터 1개만 남아야 함");
+			assertEquals("valid1", remaining.get(0).getShortCode());
+		}
+	}
+
+	@Nested
+	@DisplayName("parallel 전략")
+	class ParallelStrategyTest {
+
+		@Test
+		@DisplayName("여러 구간에 흩어진 만료 데이터와 tombstone을 모두 삭제하고 만료 안 된 데이터는 유지")
+		void parallel_allSlicesDeleted() {
+			// given
+			LocalDateTime now = LocalDateTime.now();
+			for (long i = 1; i <= 30; i++) {
+				shortUrlJpaRepository.save(new ShortUrl(i, "key" + String.format("%02d", i),
+					"https://example.com/" + i, now.minusDays(i).plusMinutes(i % 3)));
+			}
+			shortUrlJpaRepository.save(new ShortUrl(31L, "deleted1", "https://d.com", ShortUrl.TOMBSTONE_EXPIRED_AT));
+			shortUrlJpaRepository.save(new ShortUrl(32L, "valid1", "https://a.com", now.plusDays(1)));
+			ReflectionTestUtils.setField(shortUrlScheduler, "strategy", "parallel");
+
+			// when
+			try {
+				shortUrlScheduler.deleteExpiredShortUrls();
+			} finally {
+				ReflectionTestUtils.setField(shortUrlScheduler, "strategy", "keyset");
+			}
+
+			// then
+			List<ShortUrl> remaining = shortUrlJpaRepository.findAll();
+			assertEquals(1, remaining.size(), "만료 안 된 데이터 1개만 남아야 함");
+			assertEquals("valid1", remaining.get(0).getShortCode());
+		}
+	}
+
 	@Nested
 	@DisplayName("빈 데이터 처리")
 	class EmptyDataTest {
@@ -17,9 +17,14 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.shortener.url_shortener.domain.url.dto.ExpiredUrlView;
 import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
 import com.shortener.url_shortener.domain.url.repository.ShortUrlRepository;
+import com.shortener.url_shortener.domain.url.service.ShortUrlBloomFilter;
+import com.shortener.url_shortener.domain.url.service.ShortUrlPartitionManager;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -38,6 +43,10 @@ import static org.mockito.Mockito.when;
  * - 삭제 실패 시 다음 배치 계속 진행
  * - 빈 배치 처리
  * - 페이징 처리 (커서 업데이트)
+ * - 파티션 모드: 만료 파티션 DROP 후 남은 row 배치 삭제
+ * - delete-limit 전략: 삭제 row 수로 반복 여부 판단
+ * - parallel 전략: ParallelExpiredUrlSweeper에 위임
+ * - 상시 정리가 따라잡은 상태면 cron 배치 삭제 건너뜀
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ShortUrlScheduler 단위 테스트")
@@ -49,6 +58,18 @@ class ShortUrlSchedulerTest {
 	@Mock
 	private ShortUrlJpaRepository shortUrlJpaRepository;
 
+	@Mock
+	private ShortUrlBloomFilter shortUrlBloomFilter;
+
+	@Mock
+	private ShortUrlPartitionManager shortUrlPartitionManager;
+
+	@Mock
+	private ParallelExpiredUrlSweeper parallelExpiredUrlSweeper;
+
+	@Mock
+	private ContinuousExpiredUrlSweeper continuousExpiredUrlSweeper;
+
 	@InjectMocks
 	private ShortUrlScheduler shortUrlScheduler;
 
@@ -300,6 +321,152 @@ class ShortUrlSchedulerTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("delete-limit 전략 테스트")
+	class DeleteLimitStrategyTest {
+
+		@BeforeEach
+		void setUp() {
+			ReflectionTestUtils.setField(shortUrlScheduler, "strategy", "delete-limit");
+		}
+
+		@Test
+		@DisplayName("성공: 삭제 row 수가 배치 크기보다 작을 때까지 반복, SELECT 없음")
+		void deleteLimit_loopsUntilPartialBatch() {
+			// given
+			when(shortUrlRepository.deleteExpired(any(LocalDateTime.class), eq(batchSize)))
+				.thenReturn(batchSize, batchSize, 3);
+
+			// when
+			shortUrlScheduler.deleteExpiredShortUrls();
+
+			// then
+			verify(shortUrlRepository, times(3)).deleteExpired(any(LocalDateTime.class), eq(batchSize));
+			verify(shortUrlRepository, never()).selectShortUrlsWithPagination(any(), any(), any(), anyInt());
+			verify(shortUrlBloomFilter, times(2)).recordRemovals(batchSize);
+			verify(shortUrlBloomFilter).recordRemovals(3);
+		}
+
+		@Test
+		@DisplayName("성공: 배치 사이 pause-millis만큼 대기")
+		void deleteLimit_pausesBetweenBatches() {
+			// given
+			ReflectionTestUtils.setField(shortUrlScheduler, "pauseMillis", 50L);
+			when(shortUrlRepository.deleteExpired(any(LocalDateTime.class), eq(batchSize)))
+				.thenReturn(batchSize, 0);
+
+			// when
+			long startedAt = System.nanoTime();
+			shortUrlScheduler.deleteExpiredShortUrls();
+			long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+			// then
+			assertTrue(elapsedMillis >= 50, "elapsed: " + elapsedMillis);
+			verify(shortUrlRepository, times(2)).deleteExpired(any(LocalDateTime.class), eq(batchSize));
+		}
+
+		@Test
+		@DisplayName("실패: 삭제 실패 시 중단")
+		void deleteLimit_failure_stops() {
+			// given
+			when(shortUrlRepository.deleteExpired(any(LocalDateTime.class), eq(batchSize)))
+				.thenThrow(new RuntimeException("lock wait timeout"));
+
+			// when
+			shortUrlScheduler.deleteExpiredShortUrls();
+
+			// then
+			verify(shortUrlRepository, times(1)).deleteExpired(any(LocalDateTime.class), eq(batchSize));
+			verify(shortUrlBloomFilter, never()).recordRemovals(anyLong());
+		}
+	}
+
+	@Test
+	@DisplayName("parallel 전략: ParallelExpiredUrlSweeper에 위임하고 단일 스레드 조회 없음")
+	void parallelStrategy_delegatesToSweeper() {
+		// given
+		ReflectionTestUtils.setField(shortUrlScheduler, "strategy", "parallel");
+
+		// when
+		shortUrlScheduler.deleteExpiredShortUrls();
+
+		// then
+		verify(parallelExpiredUrlSweeper).sweep(any(LocalDateTime.class));
+		verify(shortUrlRepository, never()).selectShortUrlsWithPagination(any(), any(), any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("상시 정리가 최근 다 지웠으면 배치 삭제 건너뜀")
+	void continuousCaughtUp_skipsBatchDeletion() {
+		// given
+		when(continuousExpiredUrlSweeper.isCaughtUp()).thenReturn(true);
+
+		// when
+		shortUrlScheduler.deleteExpiredShortUrls();
+
+		// then
+		verify(shortUrlRepository, never()).selectShortUrlsWithPagination(any(), any(), any(), anyInt());
+		verify(shortUrlJpaRepository, never()).deleteAllByIdInBatch(anyList());
+	}
+
+	@Nested
+	@DisplayName("파티션 모드 테스트")
+	class PartitionTest {
+
+		@Test
+		@DisplayName("성공: 만료 파티션 DROP, 미래 파티션 생성 후 남은 만료 row 배치 삭제")
+		void partitionEnabled_dropsThenBatchDeletes() {
+			// given
+			List<ExpiredUrlView> remaining = createExpiredUrlViews(3, LocalDateTime.now().minusHours(1));
+			when(shortUrlPartitionManager.isEnabled()).thenReturn(true);
+			when(shortUrlRepository.selectShortUrlsWithPagination(
+				isNull(), any(LocalDateTime.class), isNull(), eq(batchSize)
+			)).thenReturn(remaining);
+
+			// when
+			shortUrlScheduler.deleteExpiredShortUrls();
+
+			// then
+			verify(shortUrlPartitionManager).dropExpiredPartitions();
+			verify(shortUrlPartitionManager).createFuturePartitions();
+			verify(shortUrlJpaRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+		}
+
+		@Test
+		@DisplayName("파티션 DROP이 실패해도 배치 삭제는 계속 진행")
+		void dropFails_fallsBackToBatchDeletion() {
+			// given
+			List<ExpiredUrlView> expired = createExpiredUrlViews(3, LocalDateTime.now().minusDays(2));
+			when(shortUrlPartitionManager.isEnabled()).thenReturn(true);
+			when(shortUrlPartitionManager.dropExpiredPartitions()).thenThrow(new RuntimeException("lock wait timeout"));
+			when(shortUrlRepository.selectShortUrlsWithPagination(
+				isNull(), any(LocalDateTime.class), isNull(), eq(batchSize)
+			)).thenReturn(expired);
+
+			// when
+			shortUrlScheduler.deleteExpiredShortUrls();
+
+			// then
+			verify(shortUrlJpaRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+			verify(shortUrlBloomFilter).recordRemovals(3);
+		}
+
+		@Test
+		@DisplayName("파티션 모드가 아니면 파티션을 건드리지 않음")
+		void partitionDisabled_noDdl() {
+			// given
+			when(shortUrlRepository.selectShortUrlsWithPagination(
+				isNull(), any(LocalDateTime.class), isNull(), eq(batchSize)
+			)).thenReturn(List.of());
+
+			// when
+			shortUrlScheduler.deleteExpiredShortUrls();
+
+			// then
+			verify(shortUrlPartitionManager, never()).dropExpiredPartitions();
+		}
+	}
+
 	/**
 	 * 테스트용 ExpiredUrlView 목록 생성
 	 */
@@ -0,0 +1,265 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import com.shortener.url_shortener.domain.url.CreateLinkRequest;
+import com.shortener.url_shortener.domain.url.CreateLinkResponse;
+import com.shortener.url_shortener.domain.url.UrlShortenerRpcGrpc;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.interceptor.ClusterForwardInterceptor;
+import io.grpc.Context;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ClusterRouter 단위 테스트 (localhost에 다른 노드 2개를 띄워서 확인)
+ *
+ * 테스트 내용:
+ * - owner가 다른 노드면 API Key, x-forwarded-by, x-cluster-secret을 붙여 그 노드로 전달
+ * - 전달 표시는 cluster 모드 + secret 일치 + 멤버일 때만 인정
+ * - 이 노드가 owner거나 전달받은 요청이면 직접 생성
+ * - owner에 연결할 수 없으면 empty (직접 생성), 그 외 오류는 ErrorCode로 변환
+ * - 멤버 변경 시 빠진 노드의 key만 다른 노드로 이동
+ */
+@DisplayName("ClusterRouter 단위 테스트")
+class ClusterRouterTest {
+
+	private static final String SELF = "localhost:1";
+	private static final String API_KEY = "test-api-key";
+	private static final String SECRET = "test-cluster-secret";
+
+	private final List<Server> servers = new ArrayList<>();
+	private final Map<String, Metadata> receivedHeaders = new ConcurrentHashMap<>();
+	private final Random random = new Random(42);
+
+	private String node1;
+	private String node2;
+	private ClusterRouter router;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		node1 = startNode();
+		node2 = startNode();
+		router = newRouter(List.of(SELF, node1, node2));
+	}
+
+	@AfterEach
+	void tearDown() {
+		router.shutdown();
+		servers.forEach(Server::shutdownNow);
+	}
+
+	/**
+	 * short_code로 자기 주소를 돌려주는 노드
+	 */
+	private String startNode() throws IOException {
+		int[] port = new int[1];
+		UrlShortenerRpcGrpc.UrlShortenerRpcImplBase service = new UrlShortenerRpcGrpc.UrlShortenerRpcImplBase() {
+			@Override
+			public void createLink(CreateLinkRequest request, StreamObserver<CreateLinkResponse> responseObserver) {
+				if (request.getRedirectUrl().equals("invalid")) {
+					responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("invalid").asRuntimeException());
+					return;
+				}
+				String node = "localhost:" + port[0];
+				responseObserver.onNext(CreateLinkResponse.newBuilder()
+					.setShortCode(node)
+					.setShortUrl(request.getRedirectUrl())
+					.build());
+				responseObserver.onCompleted();
+			}
+		};
+		ServerInterceptor headerCapture = new ServerInterceptor() {
+			@Override
+			public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
+				Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+				receivedHeaders.put("localhost:" + port[0], headers);
+				return next.startCall(call, headers);
+			}
+		};
+		Server server = ServerBuilder.forPort(0)
+			.addService(ServerInterceptors.intercept(service, headerCapture))
+			.build()
+			.start();
+		servers.add(server);
+		port[0] = server.getPort();
+		return "localhost:" + port[0];
+	}
+
+	private ClusterRouter newRouter(List<String> members) {
+		ClusterRouter clusterRouter = new ClusterRouter(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(clusterRouter, "enabled", true);
+		ReflectionTestUtils.setField(clusterRouter, "self", SELF);
+		ReflectionTestUtils.setField(clusterRouter, "members", members);
+		ReflectionTestUtils.setField(clusterRouter, "apiKey", API_KEY);
+		ReflectionTestUtils.setField(clusterRouter, "secret", SECRET);
+		clusterRouter.init();
+		return clusterRouter;
+	}
+
+	private byte[] keyOwnedBy(ClusterRouter clusterRouter, String node) {
+		while (true) {
+			byte[] key = new byte[32];
+			random.nextBytes(key);
+			Optional<String> owner = clusterRouter.remoteOwner(key);
+			if (owner.orElse(SELF).equals(node)) {
+				return key;
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("owner가 다른 노드면 그 노드로 전달")
+	void remoteOwner_forwardsToOwner() {
+		for (String node : List.of(node1, node2)) {
+			// given
+			byte[] key = keyOwnedBy(router, node);
+
+			// when
+			String owner = router.remoteOwner(key).orElseThrow();
+			Optional<ShortUrlCreateResponse> response = router.forward(owner, "https://example.com");
+
+			// then
+			assertEquals(node, owner);
+			assertEquals(node, response.orElseThrow().shortCode());
+			Metadata headers = receivedHeaders.get(node);
+			assertEquals(API_KEY, headers.get(Metadata.Key.of("x-api-key", Metadata.ASCII_STRING_MARSHALLER)));
+			assertEquals(SELF, headers.get(ClusterForwardInterceptor.FORWARDED_BY_METADATA_KEY));
+			assertEquals(SECRET, headers.get(ClusterForwardInterceptor.CLUSTER_SECRET_METADATA_KEY));
+		}
+	}
+
+	@Test
+	@DisplayName("이 노드가 owner면 직접 생성")
+	void selfOwner_handledLocally() {
+		// given
+		byte[] key = keyOwnedBy(router, SELF);
+
+		// when & then
+		assertTrue(router.remoteOwner(key).isEmpty());
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 전달받은 요청은 ring과 상관없이 직접 생성")
+	void forwardedRequest_neverForwardedAgain() throws Exception {
+		// given
+		byte[] key = keyOwnedBy(router, node1);
+		Context context = Context.current().withValue(ClusterForwardInterceptor.FORWARDED_BY, node2);
+
+		// when & then
+		assertTrue(context.call(() -> router.remoteOwner(key)).isEmpty());
+	}
+
+	@Test
+	@DisplayName("전달 표시는 secret이 같고 보낸 노드가 멤버일 때만 인정")
+	void isTrustedForward_requiresSecretAndMember() {
+		// when & then
+		assertTrue(router.isTrustedForward(forwardHeaders(node1, SECRET)));
+		assertFalse(router.isTrustedForward(forwardHeaders(node1, "wrong-secret")));
+		assertFalse(router.isTrustedForward(forwardHeaders("localhost:65000", SECRET)));
+		assertFalse(router.isTrustedForward(forwardHeaders(node1, null)));
+	}
+
+	@Test
+	@DisplayName("cluster 모드가 아니면 전달 표시를 인정하지 않음")
+	void isTrustedForward_disabled() {
+		// given
+		ClusterRouter disabled = new ClusterRouter(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(disabled, "secret", SECRET);
+
+		// when & then
+		assertFalse(disabled.isTrustedForward(forwardHeaders(node1, SECRET)));
+	}
+
+	@Test
+	@DisplayName("cluster 모드인데 secret이 없으면 시작 실패")
+	void init_requiresSecret() {
+		// given
+		ClusterRouter clusterRouter = new ClusterRouter(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(clusterRouter, "enabled", true);
+		ReflectionTestUtils.setField(clusterRouter, "self", SELF);
+		ReflectionTestUtils.setField(clusterRouter, "members", List.of(SELF));
+		ReflectionTestUtils.setField(clusterRouter, "secret", "");
+
+		// when & then
+		assertThrows(IllegalStateException.class, clusterRouter::init);
+	}
+
+	private Metadata forwardHeaders(String forwardedBy, String secret) {
+		Metadata headers = new Metadata();
+		headers.put(ClusterForwardInterceptor.FORWARDED_BY_METADATA_KEY, forwardedBy);
+		if (secret != null) {
+			headers.put(ClusterForwardInterceptor.CLUSTER_SECRET_METADATA_KEY, secret);
+		}
+		return headers;
+	}
+
+	@Test
+	@DisplayName("owner에 연결할 수 없으면 empty (직접 생성)")
+	void ownerUnavailable_returnsEmpty() {
+		// given
+		byte[] key = keyOwnedBy(router, node1);
+		servers.get(0).shutdownNow();
+
+		// when & then
+		assertTrue(router.forward(router.remoteOwner(key).orElseThrow(), "https://example.com").isEmpty());
+	}
+
+	@Test
+	@DisplayName("owner가 거절하면 같은 의미의 ErrorCode로 변환")
+	void ownerRejects_convertedToErrorCode() {
+		// when & then
+		CustomException exception = assertThrows(CustomException.class,
+			() -> router.forward(node1, "invalid"));
+		assertEquals(ErrorCode.INVALID_ARGUMENT_ERROR, exception.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("멤버 제거 시 빠진 노드의 key만 다른 노드로 이동")
+	void updateMembers_movesOnlyRemovedNodeKeys() {
+		// given
+		List<byte[]> keys = new ArrayList<>();
+		List<String> owners = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			byte[] key = new byte[32];
+			random.nextBytes(key);
+			keys.add(key);
+			owners.add(router.remoteOwner(key).orElse(SELF));
+		}
+
+		// when
+		router.updateMembers(List.of(SELF, node1));
+
+		// then
+		for (int i = 0; i < keys.size(); i++) {
+			String owner = router.remoteOwner(keys.get(i)).orElse(SELF);
+			assertNotEquals(node2, owner);
+			if (!owners.get(i).equals(node2)) {
+				assertEquals(owners.get(i), owner);
+			}
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CreateConcurrencyLimiter 단위 테스트
+ *
+ * 테스트 내용:
+ * - 한도를 넘는 요청은 대기 없이 CONCURRENCY_LIMIT_EXCEEDED
+ * - 과부하 예외만 한도를 줄이고 검증 실패 등은 무시
+ * - Error가 나도 permit 반납
+ * - 비활성화하면 제한 없이 실행
+ */
+@DisplayName("CreateConcurrencyLimiter 단위 테스트")
+class CreateConcurrencyLimiterTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private CreateConcurrencyLimiter limiter;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		limiter = new CreateConcurrencyLimiter(meterRegistry);
+		ReflectionTestUtils.setField(limiter, "initialLimit", 2);
+		ReflectionTestUtils.setField(limiter, "minLimit", 1);
+		limiter.init();
+	}
+
+	@Test
+	@DisplayName("성공: 한도 안의 요청은 그대로 실행")
+	void withinLimit() {
+		assertEquals("ok", limiter.execute(() -> "ok"));
+		assertEquals(2.0, meterRegistry.get("shortener.concurrency_limit.limit").gauge().value());
+		assertEquals(0.0, meterRegistry.get("shortener.concurrency_limit.in_flight").gauge().value());
+	}
+
+	@Test
+	@DisplayName("실패: 한도만큼 처리 중이면 CONCURRENCY_LIMIT_EXCEEDED, 거절 메트릭 증가")
+	void overLimit_rejected() throws Exception {
+		// given
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			Future<?> first = executor.submit(() -> limiter.execute(() -> block(started, release)));
+			Future<?> second = executor.submit(() -> limiter.execute(() -> block(started, release)));
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+
+			// when
+			CustomException exception = assertThrows(CustomException.class, () -> limiter.execute(() -> "ok"));
+
+			// then
+			assertEquals(ErrorCode.CONCURRENCY_LIMIT_EXCEEDED, exception.getErrorCode());
+			assertEquals(1.0, meterRegistry.get("shortener.concurrency_limit.rejected").counter().count());
+
+			release.countDown();
+			first.get(5, TimeUnit.SECONDS);
+			second.get(5, TimeUnit.SECONDS);
+			assertEquals("ok", limiter.execute(() -> "ok"));
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	private static String block(CountDownLatch started, CountDownLatch release) {
+		started.countDown();
+		try {
+			release.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return "ok";
+	}
+
+	@Test
+	@DisplayName("과부하 예외(커넥션 획득 실패, deadline 초과)는 한도 감소")
+	void overload_shrinksLimit() {
+		// given
+		ReflectionTestUtils.setField(limiter, "initialLimit", 20);
+		limiter.init();
+
+		// when
+		assertThrows(CannotCreateTransactionException.class, () -> limiter.execute(() -> {
+			throw new CannotCreateTransactionException("pool exhausted");
+		}));
+		assertThrows(CustomException.class, () -> limiter.execute(() -> {
+			throw ErrorCode.DEADLINE_EXCEEDED.baseException();
+		}));
+
+		// then
+		assertEquals(16, limiter.currentLimit());
+	}
+
+	@Test
+	@DisplayName("부하와 무관한 예외는 한도에 반영하지 않음")
+	void unrelatedError_ignored() {
+		// when
+		assertThrows(CustomException.class, () -> limiter.execute(() -> {
+			throw ErrorCode.INVALID_ARGUMENT_ERROR.baseException();
+		}));
+
+		// then
+		assertEquals(2, limiter.currentLimit());
+		assertEquals("ok", limiter.execute(() -> "ok"));
+	}
+
+	@Test
+	@DisplayName("RuntimeException이 아닌 Error가 나도 permit 반납")
+	void error_releasesPermit() {
+		// when
+		for (int i = 0; i < 3; i++) {
+			assertThrows(StackOverflowError.class, () -> limiter.execute(() -> {
+				throw new StackOverflowError();
+			}));
+		}
+
+		// then
+		assertEquals(0.0, meterRegistry.get("shortener.concurrency_limit.in_flight").gauge().value());
+		assertEquals("ok", limiter.execute(() -> "ok"));
+	}
+
+	@Test
+	@DisplayName("비활성화하면 한도 없이 실행")
+	void disabled_passThrough() throws Exception {
+		// given
+		ReflectionTestUtils.setField(limiter, "enabled", false);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			executor.submit(() -> limiter.execute(() -> block(started, release)));
+			executor.submit(() -> limiter.execute(() -> block(started, release)));
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+
+			// when & then
+			assertEquals("ok", limiter.execute(() -> "ok"));
+			assertEquals(0.0, meterRegistry.get("shortener.concurrency_limit.rejected").counter().count());
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+}
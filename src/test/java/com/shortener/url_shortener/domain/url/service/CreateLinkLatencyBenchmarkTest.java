@@ -0,0 +1,150 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.ToxiproxyContainer;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.generator.ShortCodeGenerator;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlProcedureRepository;
+import com.shortener.url_shortener.global.util.HashGenerator;
+import com.shortener.url_shortener.global.util.TsidGenerator;
+import com.shortener.url_shortener.global.util.UrlCanonicalizer;
+
+import eu.rekawek.toxiproxy.Proxy;
+import eu.rekawek.toxiproxy.ToxiproxyClient;
+import eu.rekawek.toxiproxy.model.ToxicDirection;
+import eu.rekawek.toxiproxy.model.toxic.Latency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생성 지연 시간 비교 (direct vs stored-procedure)
+ *
+ * Toxiproxy로 DB 응답(downstream)에 지연을 넣어 추가 RTT별 createLink p50/p99 출력
+ * 실행: ./gradlew test --tests '*CreateLinkLatencyBenchmarkTest' -Dbenchmark=true
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("생성 지연 시간 비교 벤치마크")
+class CreateLinkLatencyBenchmarkTest {
+
+	private static final int[] ADDED_RTT_MILLIS = {0, 1, 5, 10};
+	private static final int REQUESTS = 200;
+	private static final int PROXY_PORT = 8666;
+
+	private static final Network NETWORK = Network.newNetwork();
+	private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+		.withDatabaseName("url_shortener_bench")
+		.withUsername("test")
+		.withPassword("test")
+		.withNetwork(NETWORK)
+		.withNetworkAliases("mysql");
+	private static final ToxiproxyContainer TOXIPROXY = new ToxiproxyContainer("ghcr.io/shopify/toxiproxy:2.5.0")
+		.withNetwork(NETWORK);
+	private static Proxy proxy;
+
+	/**
+	 * 벤치마크가 활성화되어 컨텍스트를 만들 때만 컨테이너 실행
+	 */
+	@DynamicPropertySource
+	static void setProperties(DynamicPropertyRegistry registry) throws IOException {
+		MYSQL.start();
+		TOXIPROXY.start();
+		proxy = new ToxiproxyClient(TOXIPROXY.getHost(), TOXIPROXY.getControlPort())
+			.createProxy("mysql", "0.0.0.0:" + PROXY_PORT, "mysql:3306");
+		registry.add("spring.datasource.url", () -> "jdbc:mysql://" + TOXIPROXY.getHost() + ":"
+			+ TOXIPROXY.getMappedPort(PROXY_PORT) + "/url_shortener_bench");
+		registry.add("spring.datasource.username", MYSQL::getUsername);
+		registry.add("spring.datasource.password", MYSQL::getPassword);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		TOXIPROXY.stop();
+		MYSQL.stop();
+		NETWORK.close();
+	}
+
+	@Autowired
+	private ShortUrlService shortUrlService;
+
+	@Autowired
+	private ShortUrlProcedureRepository shortUrlProcedureRepository;
+
+	@Autowired
+	private ShortUrlBloomFilter shortUrlBloomFilter;
+
+	@Autowired
+	private ShortCodeGenerator shortCodeGenerator;
+
+	@Autowired
+	private TsidGenerator tsidGenerator;
+
+	@Autowired
+	private HashGenerator hashGenerator;
+
+	@Autowired
+	private UrlCanonicalizer urlCanonicalizer;
+
+	private StoredProcedureShortUrlCreator storedProcedureCreator() {
+		StoredProcedureShortUrlCreator creator = new StoredProcedureShortUrlCreator(shortUrlService,
+			shortUrlProcedureRepository, shortUrlBloomFilter, shortCodeGenerator, tsidGenerator, hashGenerator,
+			urlCanonicalizer);
+		ReflectionTestUtils.setField(creator, "defaultExpirationDays", 7);
+		ReflectionTestUtils.setField(creator, "retry", 3);
+		ReflectionTestUtils.setField(creator, "lockTimeoutSeconds", 3);
+		ReflectionTestUtils.setField(creator, "installOnStartup", true);
+		creator.install();
+		return creator;
+	}
+
+	@Test
+	@DisplayName("RTT별 direct / stored-procedure 생성 지연 시간")
+	void compareLatency() throws IOException {
+		StoredProcedureShortUrlCreator procedure = storedProcedureCreator();
+		Latency latency = proxy.toxics().latency("latency", ToxicDirection.DOWNSTREAM, 0);
+
+		for (int rtt : ADDED_RTT_MILLIS) {
+			latency.setLatency(rtt);
+			long[] direct = measure("direct-" + rtt, shortUrlService::createLink);
+			long[] stored = measure("procedure-" + rtt, procedure::createLink);
+			System.out.printf("RTT +%2d ms | direct p50=%6.2f p99=%6.2f | procedure p50=%6.2f p99=%6.2f (ms)%n",
+				rtt, millis(direct, 0.50), millis(direct, 0.99), millis(stored, 0.50), millis(stored, 0.99));
+			if (rtt > 0) {
+				assertThat(millis(stored, 0.50)).isLessThan(millis(direct, 0.50));
+			}
+		}
+		latency.remove();
+	}
+
+	private long[] measure(String prefix, Function<String, ShortUrlCreateResponse> create) {
+		long[] elapsed = new long[REQUESTS];
+		for (int i = 0; i < REQUESTS; i++) {
+			long startedAt = System.nanoTime();
+			create.apply("https://bench.example.com/" + prefix + "/" + i);
+			elapsed[i] = System.nanoTime() - startedAt;
+		}
+		Arrays.sort(elapsed);
+		return elapsed;
+	}
+
+	private static double millis(long[] sorted, double quantile) {
+		return sorted[(int)Math.min(sorted.length - 1, Math.floor(sorted.length * quantile))] / 1_000_000.0;
+	}
+}
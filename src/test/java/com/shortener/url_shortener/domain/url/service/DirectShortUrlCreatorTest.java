@@ -0,0 +1,183 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.util.RequestDeadline;
+import io.grpc.Context;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * DirectShortUrlCreator 단위 테스트
+ *
+ * 테스트 내용:
+ * - deadline 없으면 ShortUrlService 트랜잭션 그대로 사용
+ * - deadline 있으면 남은 시간을 트랜잭션 timeout으로 설정
+ * - 만료된 요청은 트랜잭션(커넥션) 시작 전에 거절
+ * - cluster 모드: owner면 JVM 내 lock, 아니면 owner로 전달 (연결 불가 시 GET_LOCK)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DirectShortUrlCreator 단위 테스트")
+class DirectShortUrlCreatorTest {
+
+	@Mock
+	private ShortUrlService shortUrlService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private ClusterRouter clusterRouter;
+
+	private DirectShortUrlCreator creator;
+	private ScheduledExecutorService scheduler;
+
+	@BeforeEach
+	void setUp() {
+		CreateConcurrencyLimiter createConcurrencyLimiter = new CreateConcurrencyLimiter(new SimpleMeterRegistry());
+		createConcurrencyLimiter.init();
+		creator = new DirectShortUrlCreator(shortUrlService, transactionManager,
+			new RequestDeadline(new SimpleMeterRegistry()), createConcurrencyLimiter, clusterRouter);
+		scheduler = Executors.newSingleThreadScheduledExecutor();
+	}
+
+	@AfterEach
+	void tearDown() {
+		scheduler.shutdownNow();
+	}
+
+	private <T> T withDeadline(long millis, Callable<T> callable) throws Exception {
+		Context.CancellableContext context = Context.current()
+			.withDeadlineAfter(millis, TimeUnit.MILLISECONDS, scheduler);
+		try {
+			return context.call(callable);
+		} finally {
+			context.cancel(null);
+		}
+	}
+
+	@Test
+	@DisplayName("성공: deadline이 없으면 별도 트랜잭션 설정 없이 생성")
+	void noDeadline() {
+		// given
+		ShortUrlCreateResponse expected = new ShortUrlCreateResponse("aB3Xy9Km", "http://localhost/aB3Xy9Km");
+		when(shortUrlService.createLink("https://example.com")).thenReturn(expected);
+
+		// when & then
+		assertEquals(expected, creator.createLink("https://example.com"));
+		verifyNoInteractions(transactionManager);
+	}
+
+	@Test
+	@DisplayName("성공: 남은 시간(올림)을 트랜잭션 timeout으로 설정")
+	void deadline_appliedAsTransactionTimeout() throws Exception {
+		// given
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		when(shortUrlService.createLink("https://example.com"))
+			.thenReturn(new ShortUrlCreateResponse("aB3Xy9Km", "http://localhost/aB3Xy9Km"));
+
+		// when
+		withDeadline(1500, () -> creator.createLink("https://example.com"));
+
+		// then
+		ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+		verify(transactionManager).getTransaction(definition.capture());
+		assertEquals(2, definition.getValue().getTimeout());
+	}
+
+	@Test
+	@DisplayName("실패: deadline이 지났으면 트랜잭션 시작 전에 DEADLINE_EXCEEDED")
+	void expired_rejectedBeforeConnection() {
+		// when & then
+		CustomException exception = assertThrows(CustomException.class,
+			() -> withDeadline(-1, () -> creator.createLink("https://example.com")));
+		assertEquals(ErrorCode.DEADLINE_EXCEEDED, exception.getErrorCode());
+		verifyNoInteractions(transactionManager, shortUrlService);
+	}
+
+	@Test
+	@DisplayName("실패: 문장 실행 중 query timeout이면 DEADLINE_EXCEEDED")
+	void queryTimeout_toDeadlineExceeded() {
+		// given
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		when(shortUrlService.createLink("https://example.com")).thenThrow(new QueryTimeoutException("timeout"));
+
+		// when & then
+		CustomException exception = assertThrows(CustomException.class,
+			() -> withDeadline(5000, () -> creator.createLink("https://example.com")));
+		assertEquals(ErrorCode.DEADLINE_EXCEEDED, exception.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("cluster: 이 노드가 owner면 JVM 내 lock으로 생성")
+	void cluster_localOwner_usesLocalLock() {
+		// given
+		byte[] hashKey = new byte[32];
+		ShortUrlCreateResponse expected = new ShortUrlCreateResponse("aB3Xy9Km", "http://localhost/aB3Xy9Km");
+		when(clusterRouter.isEnabled()).thenReturn(true);
+		when(shortUrlService.routingKey("https://example.com")).thenReturn(hashKey);
+		when(clusterRouter.remoteOwner(hashKey)).thenReturn(Optional.empty());
+		when(shortUrlService.createLinkWithLocalLock("https://example.com")).thenReturn(expected);
+
+		// when & then
+		assertEquals(expected, creator.createLink("https://example.com"));
+		verify(shortUrlService, never()).createLink(any());
+		verify(clusterRouter, never()).forward(any(), any());
+	}
+
+	@Test
+	@DisplayName("cluster: owner가 다른 노드면 전달한 결과를 그대로 반환")
+	void cluster_remoteOwner_forwards() {
+		// given
+		byte[] hashKey = new byte[32];
+		ShortUrlCreateResponse expected = new ShortUrlCreateResponse("aB3Xy9Km", "http://localhost/aB3Xy9Km");
+		when(clusterRouter.isEnabled()).thenReturn(true);
+		when(shortUrlService.routingKey("https://example.com")).thenReturn(hashKey);
+		when(clusterRouter.remoteOwner(hashKey)).thenReturn(Optional.of("localhost:9191"));
+		when(clusterRouter.forward("localhost:9191", "https://example.com")).thenReturn(Optional.of(expected));
+
+		// when & then
+		assertEquals(expected, creator.createLink("https://example.com"));
+		verify(shortUrlService, never()).createLink(any());
+		verify(shortUrlService, never()).createLinkWithLocalLock(any());
+	}
+
+	@Test
+	@DisplayName("cluster: owner에 연결할 수 없으면 GET_LOCK으로 직접 생성")
+	void cluster_ownerUnavailable_fallsBackToDatabaseLock() {
+		// given
+		byte[] hashKey = new byte[32];
+		ShortUrlCreateResponse expected = new ShortUrlCreateResponse("aB3Xy9Km", "http://localhost/aB3Xy9Km");
+		when(clusterRouter.isEnabled()).thenReturn(true);
+		when(shortUrlService.routingKey("https://example.com")).thenReturn(hashKey);
+		when(clusterRouter.remoteOwner(hashKey)).thenReturn(Optional.of("localhost:9191"));
+		when(clusterRouter.forward("localhost:9191", "https://example.com")).thenReturn(Optional.empty());
+		when(shortUrlService.createLink("https://example.com")).thenReturn(expected);
+
+		// when & then
+		assertEquals(expected, creator.createLink("https://example.com"));
+		verify(shortUrlService, never()).createLinkWithLocalLock(any());
+	}
+}
@@ -0,0 +1,273 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchCreateResponse.Item;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.util.RequestDeadline;
+import com.shortener.url_shortener.global.util.UrlCanonicalizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * GroupCommitShortUrlCreator 단위 테스트
+ *
+ * 테스트 내용:
+ * - 동시 요청이 커밋 하나로 묶임
+ * - 최대 묶음 크기 제한
+ * - 항목별 실패 격리
+ * - 큐가 가득 차면 즉시 거절
+ * - 커밋 완료 대기 시간 제한
+ * - committer 종료 시 대기 중인 요청 실패
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GroupCommitShortUrlCreator 단위 테스트")
+class GroupCommitShortUrlCreatorTest {
+
+	@Mock
+	private ShortUrlService shortUrlService;
+
+	@Mock
+	private ShortUrlBatchService shortUrlBatchService;
+
+	private final ExecutorService callers = Executors.newFixedThreadPool(8);
+	private final List<List<String>> commits = new CopyOnWriteArrayList<>();
+	private GroupCommitShortUrlCreator creator;
+
+	private GroupCommitShortUrlCreator start(int maxBatchSize, long maxDelayMillis, int queueCapacity) {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		creator = new GroupCommitShortUrlCreator(shortUrlService, shortUrlBatchService, meterRegistry,
+			new UrlCanonicalizer(), new RequestDeadline(meterRegistry));
+		ReflectionTestUtils.setField(creator, "maxBatchSize", maxBatchSize);
+		ReflectionTestUtils.setField(creator, "maxDelayMillis", maxDelayMillis);
+		ReflectionTestUtils.setField(creator, "queueCapacity", queueCapacity);
+		ReflectionTestUtils.setField(creator, "maxWaitMillis", 5000L);
+		creator.start();
+		return creator;
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		callers.shutdownNow();
+		if (creator != null) {
+			creator.shutdown();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void succeedAll() {
+		when(shortUrlBatchService.createChunk(anyList())).thenAnswer(invocation -> {
+			List<String> urls = List.copyOf((List<String>)invocation.getArgument(0));
+			commits.add(urls);
+			Map<String, Item> results = new HashMap<>();
+			for (String url : urls) {
+				results.put(url, Item.success(url, new ShortUrlCreateResponse("c" + url.length(), "http://s/" + url),
+					true));
+			}
+			return results;
+		});
+	}
+
+	private List<Future<ShortUrlCreateResponse>> submit(List<String> urls) {
+		return urls.stream()
+			.map(url -> callers.submit(() -> creator.createLink(url)))
+			.toList();
+	}
+
+	@Test
+	@DisplayName("성공: max-delay 안에 들어온 동시 요청은 커밋 하나로 저장")
+	void concurrentRequests_sharedCommit() throws Exception {
+		// given
+		start(100, 500, 100);
+		succeedAll();
+
+		// when
+		List<Future<ShortUrlCreateResponse>> results = submit(
+			List.of("https://a.com", "https://bb.com", "https://ccc.com", "https://a.com"));
+
+		// then
+		for (Future<ShortUrlCreateResponse> result : results) {
+			assertNotNull(result.get(5, TimeUnit.SECONDS).shortCode());
+		}
+		assertEquals(1, commits.size());
+		assertEquals(3, commits.get(0).size(), "동일 URL은 한 번만 저장");
+		assertEquals(results.get(0).get().shortCode(), results.get(3).get().shortCode());
+	}
+
+	@Test
+	@DisplayName("성공: max-batch-size를 넘는 요청은 여러 커밋으로 나뉨")
+	void batchSize_bounded() throws Exception {
+		// given
+		start(2, 300, 100);
+		succeedAll();
+
+		// when
+		List<Future<ShortUrlCreateResponse>> results = submit(
+			List.of("https://a.com", "https://b.com", "https://c.com", "https://d.com", "https://e.com"));
+		for (Future<ShortUrlCreateResponse> result : results) {
+			result.get(5, TimeUnit.SECONDS);
+		}
+
+		// then
+		assertTrue(commits.size() >= 3);
+		commits.forEach(commit -> assertTrue(commit.size() <= 2));
+	}
+
+	@Test
+	@DisplayName("실패 격리: 실패한 항목의 요청만 예외")
+	@SuppressWarnings("unchecked")
+	void failedItem_isolated() throws Exception {
+		// given
+		start(100, 300, 100);
+		when(shortUrlBatchService.createChunk(anyList())).thenAnswer(invocation -> {
+			Map<String, Item> results = new HashMap<>();
+			for (String url : (List<String>)invocation.getArgument(0)) {
+				results.put(url, url.contains("bad")
+					? Item.failure(url, ErrorCode.URL_GENERATION_FAILED)
+					: Item.success(url, new ShortUrlCreateResponse("good0001", "http://s/good0001"), true));
+			}
+			return results;
+		});
+
+		// when
+		List<Future<ShortUrlCreateResponse>> results = submit(List.of("https://good.com", "https://bad.com"));
+
+		// then
+		assertEquals("good0001", results.get(0).get(5, TimeUnit.SECONDS).shortCode());
+		Exception exception = assertThrows(Exception.class, () -> results.get(1).get(5, TimeUnit.SECONDS));
+		assertInstanceOf(CustomException.class, exception.getCause());
+		assertEquals(ErrorCode.URL_GENERATION_FAILED, ((CustomException)exception.getCause()).getErrorCode());
+	}
+
+	@Test
+	@DisplayName("실패: 커밋 자체가 실패하면 묶음 전체 실패")
+	void commitFailure_failsBatch() {
+		// given
+		start(100, 50, 100);
+		when(shortUrlBatchService.createChunk(anyList())).thenThrow(new IllegalStateException("db down"));
+
+		// when & then
+		CustomException exception = assertThrows(CustomException.class, () -> creator.createLink("https://a.com"));
+		assertEquals(ErrorCode.URL_GENERATION_FAILED, exception.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("실패: 큐가 가득 차면 대기 없이 SERVER_BUSY")
+	void queueFull_rejected() throws Exception {
+		// given: committer가 첫 커밋에서 멈춰 있는 동안 큐(용량 1)를 채움
+		start(1, 0, 1);
+		CountDownLatch committing = new CountDownLatch(1);
+		CompletableFuture<Void> release = new CompletableFuture<>();
+		when(shortUrlBatchService.createChunk(anyList())).thenAnswer(invocation -> {
+			committing.countDown();
+			release.get(5, TimeUnit.SECONDS);
+			String url = invocation.<List<String>>getArgument(0).get(0);
+			return Map.of(url, Item.success(url, new ShortUrlCreateResponse("c0000001", "http://s/c0000001"), true));
+		});
+		Future<ShortUrlCreateResponse> first = callers.submit(() -> creator.createLink("https://a.com"));
+		assertTrue(committing.await(5, TimeUnit.SECONDS));
+		Future<ShortUrlCreateResponse> queued = callers.submit(() -> creator.createLink("https://b.com"));
+		Thread.sleep(100);
+
+		// when & then
+		CustomException exception = assertThrows(CustomException.class, () -> creator.createLink("https://c.com"));
+		assertEquals(ErrorCode.SERVER_BUSY, exception.getErrorCode());
+
+		release.complete(null);
+		assertNotNull(first.get(5, TimeUnit.SECONDS));
+		assertNotNull(queued.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("실패: 검증 실패는 큐에 넣지 않고 즉시 예외")
+	void invalidUrl_rejectedBeforeQueue() {
+		// given
+		start(100, 5, 100);
+		doThrow(ErrorCode.INVALID_ARGUMENT_ERROR.baseException("invalid"))
+			.when(shortUrlService).validateRedirectUrl("ftp://a.com");
+
+		// when & then
+		assertThrows(CustomException.class, () -> creator.createLink("ftp://a.com"));
+		verify(shortUrlBatchService, never()).createChunk(anyList());
+	}
+
+	@Test
+	@DisplayName("실패: 커밋이 max-wait-millis 안에 끝나지 않으면 DEADLINE_EXCEEDED, 포기한 요청은 저장하지 않음")
+	void commitTooSlow_deadlineExceeded() throws Exception {
+		// given: 첫 커밋이 끝나지 않는 동안 두 번째 요청이 대기를 포기
+		start(1, 0, 100);
+		ReflectionTestUtils.setField(creator, "maxWaitMillis", 200L);
+		CountDownLatch committing = new CountDownLatch(1);
+		CompletableFuture<Void> release = new CompletableFuture<>();
+		when(shortUrlBatchService.createChunk(anyList())).thenAnswer(invocation -> {
+			List<String> urls = List.copyOf(invocation.<List<String>>getArgument(0));
+			commits.add(urls);
+			committing.countDown();
+			release.get(5, TimeUnit.SECONDS);
+			return Map.of(urls.get(0),
+				Item.success(urls.get(0), new ShortUrlCreateResponse("c0000001", "http://s/c0000001"), true));
+		});
+		callers.submit(() -> creator.createLink("https://a.com"));
+		assertTrue(committing.await(5, TimeUnit.SECONDS));
+
+		// when
+		CustomException exception = assertThrows(CustomException.class, () -> creator.createLink("https://b.com"));
+
+		// then
+		assertEquals(ErrorCode.DEADLINE_EXCEEDED, exception.getErrorCode());
+		release.complete(null);
+		Thread.sleep(200);
+		assertEquals(List.of(List.of("https://a.com")), commits);
+	}
+
+	@Test
+	@DisplayName("실패: committer 스레드가 죽으면 대기 중인 요청은 실패, 이후 요청은 SERVER_BUSY")
+	void committerDied_pendingFailed() throws Exception {
+		// given: 첫 커밋 중 Error로 committer가 종료되기 전에 두 번째 요청이 큐에 쌓임
+		start(1, 0, 100);
+		CountDownLatch committing = new CountDownLatch(1);
+		CompletableFuture<Void> release = new CompletableFuture<>();
+		when(shortUrlBatchService.createChunk(anyList())).thenAnswer(invocation -> {
+			committing.countDown();
+			release.get(5, TimeUnit.SECONDS);
+			throw new StackOverflowError("committer bug");
+		});
+		Future<ShortUrlCreateResponse> first = callers.submit(() -> creator.createLink("https://a.com"));
+		assertTrue(committing.await(5, TimeUnit.SECONDS));
+		Future<ShortUrlCreateResponse> queued = callers.submit(() -> creator.createLink("https://b.com"));
+		Thread.sleep(100);
+
+		// when
+		release.complete(null);
+
+		// then
+		for (Future<ShortUrlCreateResponse> result : List.of(first, queued)) {
+			Exception exception = assertThrows(Exception.class, () -> result.get(1, TimeUnit.SECONDS));
+			assertInstanceOf(CustomException.class, exception.getCause());
+			assertEquals(ErrorCode.URL_GENERATION_FAILED, ((CustomException)exception.getCause()).getErrorCode());
+		}
+		CustomException exception = assertThrows(CustomException.class, () -> creator.createLink("https://c.com"));
+		assertEquals(ErrorCode.SERVER_BUSY, exception.getErrorCode());
+	}
+}
@@ -0,0 +1,263 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.entity.IdempotencyKey;
+import com.shortener.url_shortener.domain.url.repository.IdempotencyKeyRepository;
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.util.HashGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * IdempotencyService 단위 테스트
+ *
+ * 테스트 내용:
+ * - 같은 키 재시도는 생성 없이 저장된 결과 반환 (로컬 캐시, DB)
+ * - 같은 키를 다른 URL에 쓰면 실패
+ * - 같은 키의 동시 요청은 첫 요청 결과를 대기
+ * - 실패 결과는 저장하지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyService 단위 테스트")
+class IdempotencyServiceTest {
+
+	@Mock
+	private IdempotencyKeyRepository idempotencyKeyRepository;
+
+	@Mock
+	private ShortUrlService shortUrlService;
+
+	private final HashGenerator hashGenerator = new HashGenerator();
+	private final AtomicInteger created = new AtomicInteger();
+	private IdempotencyService idempotencyService;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		idempotencyService = new IdempotencyService(idempotencyKeyRepository, shortUrlService, hashGenerator,
+			meterRegistry);
+		ReflectionTestUtils.setField(idempotencyService, "ttlSeconds", 60L);
+		ReflectionTestUtils.setField(idempotencyService, "cacheSize", 2);
+		ReflectionTestUtils.setField(idempotencyService, "waitTimeoutMillis", 3000L);
+		idempotencyService.init();
+		lenient().when(shortUrlService.toShortUrl(anyString()))
+			.thenAnswer(invocation -> "http://localhost:9090/link/" + invocation.getArgument(0));
+	}
+
+	private Supplier<ShortUrlCreateResponse> creator(String shortCode) {
+		return () -> {
+			created.incrementAndGet();
+			return new ShortUrlCreateResponse(shortCode, "http://localhost:9090/link/" + shortCode);
+		};
+	}
+
+	private double replayed(String source) {
+		return meterRegistry.get("shortener.idempotency.replayed").tag("source", source).counter().count();
+	}
+
+	@Test
+	@DisplayName("성공: 같은 키 재시도는 생성/DB 조회 없이 캐시 결과 반환")
+	void retry_replayedFromCache() {
+		// when
+		ShortUrlCreateResponse first = idempotencyService.createLink("key-1", "https://a.com", creator("aaaa0001"));
+		ShortUrlCreateResponse retry = idempotencyService.createLink("key-1", "https://a.com", creator("bbbb0001"));
+
+		// then
+		assertEquals(first, retry);
+		assertEquals(1, created.get());
+		verify(idempotencyKeyRepository, times(1)).findValid(eq("key-1"), any());
+		verify(idempotencyKeyRepository, times(1)).save(any(), any());
+		assertEquals(1.0, replayed("cache"));
+	}
+
+	@Test
+	@DisplayName("성공: 로컬 캐시에 없으면 DB 결과 반환 (다른 노드가 처리한 키)")
+	void retry_replayedFromDb() {
+		// given
+		IdempotencyKey stored = new IdempotencyKey("key-1", hashGenerator.hash("https://a.com"), "aaaa0001",
+			LocalDateTime.now().plusMinutes(1));
+		when(idempotencyKeyRepository.findValid(eq("key-1"), any())).thenReturn(Optional.of(stored));
+
+		// when
+		ShortUrlCreateResponse response = idempotencyService.createLink("key-1", "https://a.com",
+			creator("bbbb0001"));
+
+		// then
+		assertEquals("aaaa0001", response.shortCode());
+		assertEquals("http://localhost:9090/link/aaaa0001", response.url());
+		assertEquals(0, created.get());
+		verify(idempotencyKeyRepository, never()).save(any(), any());
+		assertEquals(1.0, replayed("db"));
+	}
+
+	@Test
+	@DisplayName("실패: 같은 키를 다른 URL에 쓰면 IDEMPOTENCY_KEY_REUSED")
+	void reusedWithAnotherUrl() {
+		// given
+		idempotencyService.createLink("key-1", "https://a.com", creator("aaaa0001"));
+
+		// when & then
+		CustomException exception = assertThrows(CustomException.class,
+			() -> idempotencyService.createLink("key-1", "https://b.com", creator("bbbb0001")));
+		assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, exception.getErrorCode());
+		assertEquals(1, created.get());
+	}
+
+	@Test
+	@DisplayName("성공: 같은 키의 동시 요청은 한 번만 생성하고 같은 결과 반환")
+	void concurrentDuplicates_waitForFirst() throws Exception {
+		// given
+		int threads = 8;
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Supplier<ShortUrlCreateResponse> slowCreator = () -> {
+			created.incrementAndGet();
+			entered.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new ShortUrlCreateResponse("aaaa0001", "http://localhost:9090/link/aaaa0001");
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		// when
+		List<Future<ShortUrlCreateResponse>> futures = new ArrayList<>();
+		futures.add(executor.submit(() -> idempotencyService.createLink("key-1", "https://a.com", slowCreator)));
+		assertTrue(entered.await(5, TimeUnit.SECONDS));
+		for (int i = 1; i < threads; i++) {
+			futures.add(executor.submit(() -> idempotencyService.createLink("key-1", "https://a.com", slowCreator)));
+		}
+		Thread.sleep(100);
+		release.countDown();
+
+		// then
+		for (Future<ShortUrlCreateResponse> future : futures) {
+			assertEquals("aaaa0001", future.get(5, TimeUnit.SECONDS).shortCode());
+		}
+		executor.shutdown();
+		assertEquals(1, created.get());
+		verify(idempotencyKeyRepository, times(1)).save(any(), any());
+	}
+
+	@Test
+	@DisplayName("실패: 첫 요청이 끝나지 않으면 대기 시간 초과 후 IDEMPOTENCY_KEY_IN_PROGRESS")
+	void concurrentDuplicate_waitTimeout() throws Exception {
+		// given
+		ReflectionTestUtils.setField(idempotencyService, "waitTimeoutMillis", 50L);
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		Future<ShortUrlCreateResponse> first = executor.submit(() -> idempotencyService.createLink("key-1",
+			"https://a.com", () -> {
+				entered.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return new ShortUrlCreateResponse("aaaa0001", "http://localhost:9090/link/aaaa0001");
+			}));
+		assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+		// when & then
+		CustomException exception = assertThrows(CustomException.class,
+			() -> idempotencyService.createLink("key-1", "https://a.com", creator("bbbb0001")));
+		assertEquals(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS, exception.getErrorCode());
+		release.countDown();
+		assertEquals("aaaa0001", first.get(5, TimeUnit.SECONDS).shortCode());
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("성공: 실패한 요청은 저장하지 않아서 재시도 시 다시 생성")
+	void failure_notStored() {
+		// given
+		Supplier<ShortUrlCreateResponse> failing = () -> {
+			throw ErrorCode.URL_GENERATION_FAILED.baseException("lock timeout");
+		};
+		assertThrows(CustomException.class, () -> idempotencyService.createLink("key-1", "https://a.com", failing));
+
+		// when
+		ShortUrlCreateResponse retry = idempotencyService.createLink("key-1", "https://a.com", creator("aaaa0001"));
+
+		// then
+		assertEquals("aaaa0001", retry.shortCode());
+		assertEquals(1, created.get());
+		verify(idempotencyKeyRepository, times(1)).save(any(), any());
+	}
+
+	@Test
+	@DisplayName("성공: 결과 저장에 실패해도 생성 결과는 반환")
+	void saveFailure_stillReturnsResponse() {
+		// given
+		doThrow(new QueryTimeoutException("timeout")).when(idempotencyKeyRepository).save(any(), any());
+
+		// when
+		ShortUrlCreateResponse response = idempotencyService.createLink("key-1", "https://a.com",
+			creator("aaaa0001"));
+
+		// then
+		assertEquals("aaaa0001", response.shortCode());
+	}
+
+	@Test
+	@DisplayName("실패: 빈 키, 128자 초과, 공백/비ASCII 문자는 INVALID_ARGUMENT_ERROR")
+	void invalidKey() {
+		for (String key : List.of("", "a".repeat(129), "has space", "키")) {
+			CustomException exception = assertThrows(CustomException.class,
+				() -> idempotencyService.createLink(key, "https://a.com", creator("aaaa0001")));
+			assertEquals(ErrorCode.INVALID_ARGUMENT_ERROR, exception.getErrorCode());
+		}
+		assertEquals(0, created.get());
+		verifyNoInteractions(idempotencyKeyRepository);
+	}
+
+	@Test
+	@DisplayName("로컬 캐시는 cache-size를 넘으면 오래된 키부터 제거하고 DB에서 조회")
+	void cacheEviction_fallsBackToDb() {
+		// given
+		idempotencyService.createLink("key-1", "https://a.com", creator("aaaa0001"));
+		idempotencyService.createLink("key-2", "https://b.com", creator("aaaa0002"));
+		idempotencyService.createLink("key-3", "https://c.com", creator("aaaa0003"));
+		when(idempotencyKeyRepository.findValid(eq("key-1"), any())).thenReturn(Optional.of(
+			new IdempotencyKey("key-1", hashGenerator.hash("https://a.com"), "aaaa0001",
+				LocalDateTime.now().plusMinutes(1))));
+
+		// when
+		ShortUrlCreateResponse retry = idempotencyService.createLink("key-1", "https://a.com", creator("bbbb0001"));
+
+		// then
+		assertEquals("aaaa0001", retry.shortCode());
+		assertEquals(3, created.get());
+		assertEquals(1.0, replayed("db"));
+	}
+}
@@ -0,0 +1,118 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RedirectCache 단위 테스트
+ *
+ * 테스트 내용:
+ * - 조회 결과 캐시, TTL/크기 초과 시 제거
+ * - evict 전에 읽은 값은 넣지 않음 (generation)
+ * - 캐시를 끄면 항상 miss
+ */
+@DisplayName("RedirectCache 단위 테스트")
+class RedirectCacheTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private RedirectCache redirectCache;
+
+	@BeforeEach
+	void setUp() {
+		redirectCache = new RedirectCache(meterRegistry);
+		ReflectionTestUtils.setField(redirectCache, "enabled", true);
+		ReflectionTestUtils.setField(redirectCache, "cacheSize", 2);
+		redirectCache.init();
+	}
+
+	private static ShortUrl shortUrl(String shortCode) {
+		return new ShortUrl(1L, new byte[]{1}, shortCode, "https://example.com/" + shortCode,
+			LocalDateTime.now().plusDays(1));
+	}
+
+	@Test
+	@DisplayName("put한 값은 hit, 크기를 넘으면 가장 오래 안 쓴 값부터 제거")
+	void put_thenHit_lruEviction() {
+		// given
+		redirectCache.put("code0001", shortUrl("code0001"), redirectCache.generation());
+		redirectCache.put("code0002", shortUrl("code0002"), redirectCache.generation());
+		redirectCache.get("code0001");
+
+		// when
+		redirectCache.put("code0003", shortUrl("code0003"), redirectCache.generation());
+
+		// then
+		assertEquals("code0001", redirectCache.get("code0001").orElseThrow().getShortCode());
+		assertTrue(redirectCache.get("code0002").isEmpty());
+		assertTrue(redirectCache.get("code0003").isPresent());
+		assertEquals(3.0, meterRegistry.get("shortener.redirect_cache.requests").tag("result", "hit")
+			.counter().count());
+	}
+
+	@Test
+	@DisplayName("TTL이 지나면 miss")
+	void expiredEntry_miss() {
+		// given
+		ReflectionTestUtils.setField(redirectCache, "ttlSeconds", 0L);
+		redirectCache.put("code0001", shortUrl("code0001"), redirectCache.generation());
+
+		// when & then
+		assertTrue(redirectCache.get("code0001").isEmpty());
+		assertEquals(0, redirectCache.size());
+	}
+
+	@Test
+	@DisplayName("조회 중 evict가 있었으면 조회 결과를 넣지 않음")
+	void evictDuringLoad_discarded() {
+		// given
+		long generation = redirectCache.generation();
+		redirectCache.evict(List.of("code0001"));
+
+		// when
+		redirectCache.put("code0001", shortUrl("code0001"), generation);
+
+		// then
+		assertTrue(redirectCache.get("code0001").isEmpty());
+	}
+
+	@Test
+	@DisplayName("evict/clear 후 miss")
+	void evictAndClear() {
+		// given
+		redirectCache.put("code0001", shortUrl("code0001"), redirectCache.generation());
+		redirectCache.put("code0002", shortUrl("code0002"), redirectCache.generation());
+
+		// when
+		redirectCache.evict(List.of("code0001"));
+
+		// then
+		assertTrue(redirectCache.get("code0001").isEmpty());
+		assertTrue(redirectCache.get("code0002").isPresent());
+
+		redirectCache.clear();
+		assertEquals(0, redirectCache.size());
+	}
+
+	@Test
+	@DisplayName("캐시를 끄면 넣어도 miss")
+	void disabled_alwaysMiss() {
+		// given
+		ReflectionTestUtils.setField(redirectCache, "enabled", false);
+
+		// when
+		redirectCache.put("code0001", shortUrl("code0001"), redirectCache.generation());
+
+		// then
+		assertTrue(redirectCache.get("code0001").isEmpty());
+	}
+}
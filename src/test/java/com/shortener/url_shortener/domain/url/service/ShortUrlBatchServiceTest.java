@@ -0,0 +1,428 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchCreateResponse;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlBatchDeleteResponse;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+import com.shortener.url_shortener.domain.url.generator.ShortCodeGenerator;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlLockRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlRepository;
+import com.shortener.url_shortener.domain.url.service.ShortUrlService.CreateResult;
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.util.Base62Encoder;
+import com.shortener.url_shortener.global.util.HashGenerator;
+import com.shortener.url_shortener.global.util.RequestDeadline;
+import com.shortener.url_shortener.global.util.TsidGenerator;
+import com.shortener.url_shortener.global.util.UrlCanonicalizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ShortUrlBatchService 단위 테스트
+ *
+ * 테스트 내용:
+ * - 요청 순서 유지, 요청 내 중복 URL 처리
+ * - 검증 실패 항목별 에러
+ * - 기존 매핑 재사용 (hash_key IN 조회)
+ * - chunk 단위 락/insert, 실패 시 단건 경로 대체
+ * - 일괄 삭제: chunk 단위 삭제, 항목별 found/에러, 대기 URL/Bloom Filter 반영
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShortUrlBatchService 단위 테스트")
+class ShortUrlBatchServiceTest {
+
+	@Mock
+	private ShortUrlService shortUrlService;
+
+	@Mock
+	private ShortUrlRepository shortUrlRepository;
+
+	@Mock
+	private ShortUrlJpaRepository shortUrlJpaRepository;
+
+	@Mock
+	private ShortUrlLockRepository shortUrlLockRepository;
+
+	@Mock
+	private ShortUrlBloomFilter shortUrlBloomFilter;
+
+	@Mock
+	private ShortCodeGenerator shortCodeGenerator;
+
+	@Mock
+	private TsidGenerator tsidGenerator;
+
+	@Mock
+	private HashGenerator hashGenerator;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Spy
+	private UrlCanonicalizer urlCanonicalizer = new UrlCanonicalizer();
+
+	@Spy
+	private RequestDeadline requestDeadline = new RequestDeadline(new SimpleMeterRegistry());
+
+	@Spy
+	private Base62Encoder base62Encoder = new Base62Encoder();
+
+	@Mock
+	private PendingShortUrls pendingShortUrls;
+
+	@Mock
+	private UrlInvalidationLog urlInvalidationLog;
+
+	@InjectMocks
+	private ShortUrlBatchService shortUrlBatchService;
+
+	private final HashGenerator realHashGenerator = new HashGenerator();
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		ReflectionTestUtils.setField(shortUrlBatchService, "maxBatchSize", 10);
+		ReflectionTestUtils.setField(shortUrlBatchService, "chunkSize", 2);
+		ReflectionTestUtils.setField(shortUrlBatchService, "defaultExpirationDays", 7);
+		ReflectionTestUtils.setField(shortUrlBatchService, "lockTimeoutSeconds", 3);
+
+		lenient().when(transactionTemplate.execute(any()))
+			.thenAnswer(i -> ((TransactionCallback<Object>)i.getArgument(0)).doInTransaction(null));
+		lenient().when(hashGenerator.hash(anyString()))
+			.thenAnswer(i -> realHashGenerator.hash(i.<String>getArgument(0)));
+		lenient().when(shortUrlLockRepository.acquireLocks(anyList(), anyInt())).thenReturn(true);
+		lenient().when(shortUrlBloomFilter.mightContain(any())).thenReturn(true);
+		lenient().when(shortUrlJpaRepository.findByHashKeyInAndExpiredAtAfter(anyList(), any(LocalDateTime.class)))
+			.thenReturn(List.of());
+		lenient().when(shortUrlService.toShortUrl(anyString())).thenAnswer(i -> "http://localhost/" + i.getArgument(0));
+		lenient().when(tsidGenerator.nextKey()).thenReturn(1L, 2L, 3L, 4L, 5L);
+		lenient().when(shortCodeGenerator.generate()).thenReturn("code0001", "code0002", "code0003", "code0004");
+	}
+
+	@Nested
+	@DisplayName("createLinks 테스트")
+	class CreateLinksTest {
+
+		@Test
+		@DisplayName("성공: 요청 순서대로 결과 반환, 중복 URL은 같은 shortCode")
+		void createLinks_preservesOrder_andDedupes() {
+			// given
+			List<String> urls = List.of("https://a.com", "https://b.com", "https://a.com");
+
+			// when
+			ShortUrlBatchCreateResponse response = shortUrlBatchService.createLinks(urls);
+
+			// then
+			List<ShortUrlBatchCreateResponse.Item> results = response.results();
+			assertEquals(3, results.size());
+			assertEquals("https://a.com", results.get(0).redirectUrl());
+			assertEquals("code0001", results.get(0).shortCode());
+			assertEquals("code0002", results.get(1).shortCode());
+			assertEquals(results.get(0).shortCode(), results.get(2).shortCode());
+			verify(shortUrlRepository, times(1)).insertAll(anyList());
+			verify(shortCodeGenerator, times(2)).generate();
+		}
+
+		@Test
+		@DisplayName("성공: chunk-size 단위로 트랜잭션과 락 획득 분리")
+		void createLinks_splitsIntoChunks() {
+			// given
+			List<String> urls = List.of("https://a.com", "https://b.com", "https://c.com");
+
+			// when
+			shortUrlBatchService.createLinks(urls);
+
+			// then
+			verify(transactionTemplate, times(2)).execute(any());
+			verify(shortUrlLockRepository, times(2)).acquireLocks(anyList(), eq(3));
+			verify(shortUrlRepository, times(2)).insertAll(anyList());
+		}
+
+		@Test
+		@DisplayName("성공: 검증 실패 항목만 에러, 나머지는 생성")
+		void createLinks_invalidItem_isolated() {
+			// given
+			doThrow(ErrorCode.INVALID_ARGUMENT_ERROR.baseException("invalid"))
+				.when(shortUrlService).validateRedirectUrl("ftp://a.com");
+
+			// when
+			ShortUrlBatchCreateResponse response = shortUrlBatchService.createLinks(
+				List.of("ftp://a.com", "https://b.com"));
+
+			// then
+			assertFalse(response.results().get(0).succeeded());
+			assertEquals(ErrorCode.INVALID_ARGUMENT_ERROR, response.results().get(0).errorCode());
+			assertTrue(response.results().get(1).succeeded());
+		}
+
+		@Test
+		@DisplayName("성공: 기존 매핑이 있으면 insert 없이 재사용")
+		void createLinks_existingMapping_reused() {
+			// given
+			String url = "https://a.com";
+			ShortUrl existing = new ShortUrl(9L, realHashGenerator.hash(url), "existing", url,
+				LocalDateTime.now().plusDays(1));
+			when(shortUrlJpaRepository.findByHashKeyInAndExpiredAtAfter(anyList(), any(LocalDateTime.class)))
+				.thenReturn(List.of(existing));
+
+			// when
+			ShortUrlBatchCreateResponse response = shortUrlBatchService.createLinks(List.of(url));
+
+			// then
+			assertEquals("existing", response.results().get(0).shortCode());
+			verify(shortCodeGenerator, never()).generate();
+		}
+
+		@Test
+		@DisplayName("성공: Bloom Filter가 없다고 해도 다른 노드가 만든 URL이 있을 수 있어 항상 조회")
+		void createLinks_bloomFilterNegative_stillLooksUp() {
+			// given
+			lenient().when(shortUrlBloomFilter.mightContain(any())).thenReturn(false);
+
+			// when
+			shortUrlBatchService.createLinks(List.of("https://a.com"));
+
+			// then
+			verify(shortUrlJpaRepository).findByHashKeyInAndExpiredAtAfter(anyList(), any());
+			verify(shortUrlBloomFilter, times(1)).put(any());
+		}
+
+		@Test
+		@DisplayName("성공: chunk 안에서 short_code가 겹치면 다시 생성")
+		@SuppressWarnings("unchecked")
+		void createLinks_duplicateCodeInChunk_regenerated() {
+			// given
+			when(shortCodeGenerator.generate()).thenReturn("same0001", "same0001", "diff0002");
+			ArgumentCaptor<List<ShortUrl>> captor = ArgumentCaptor.forClass(List.class);
+
+			// when
+			shortUrlBatchService.createLinks(List.of("https://a.com", "https://b.com"));
+
+			// then
+			verify(shortUrlRepository).insertAll(captor.capture());
+			List<String> codes = new ArrayList<>();
+			captor.getValue().forEach(shortUrl -> codes.add(shortUrl.getShortCode()));
+			assertEquals(List.of("same0001", "diff0002"), codes);
+		}
+
+		@Test
+		@DisplayName("대체: insert 충돌 시 chunk를 단건 createLink로 처리")
+		void createLinks_conflict_fallsBackToSingleCreate() {
+			// given
+			doThrow(new DataIntegrityViolationException("duplicate"))
+				.when(shortUrlRepository).insertAll(anyList());
+			when(shortUrlService.createLinkWithResult("https://a.com"))
+				.thenReturn(new CreateResult(new ShortUrlCreateResponse("single01", "http://localhost/single01"), true));
+			when(shortUrlService.createLinkWithResult("https://b.com"))
+				.thenThrow(ErrorCode.URL_GENERATION_FAILED.baseException("conflict"));
+
+			// when
+			ShortUrlBatchCreateResponse response = shortUrlBatchService.createLinks(
+				List.of("https://a.com", "https://b.com"));
+
+			// then
+			assertEquals("single01", response.results().get(0).shortCode());
+			assertEquals(Boolean.TRUE, response.results().get(0).created());
+			assertEquals(ErrorCode.URL_GENERATION_FAILED, response.results().get(1).errorCode());
+		}
+
+		@Test
+		@DisplayName("대체: 락 획득 실패 시 해제 후 단건 경로로 처리")
+		void createLinks_lockFailure_releasesAndFallsBack() {
+			// given
+			when(shortUrlLockRepository.acquireLocks(anyList(), anyInt())).thenReturn(false);
+			when(shortUrlService.createLinkWithResult("https://a.com"))
+				.thenReturn(new CreateResult(new ShortUrlCreateResponse("single01", "http://localhost/single01"), false));
+
+			// when
+			ShortUrlBatchCreateResponse response = shortUrlBatchService.createLinks(List.of("https://a.com"));
+
+			// then
+			assertEquals("single01", response.results().get(0).shortCode());
+			assertEquals(Boolean.FALSE, response.results().get(0).created());
+			verify(shortUrlLockRepository, times(1)).releaseAllLocks();
+			verify(shortUrlRepository, never()).insertAll(anyList());
+		}
+
+		@Test
+		@DisplayName("실패: 최대 크기 초과 또는 빈 요청은 INVALID_ARGUMENT_ERROR")
+		void createLinks_invalidSize() {
+			List<String> tooMany = new ArrayList<>();
+			for (int i = 0; i < 11; i++) {
+				tooMany.add("https://example.com/" + i);
+			}
+
+			CustomException tooManyException = assertThrows(CustomException.class,
+				() -> shortUrlBatchService.createLinks(tooMany));
+			CustomException emptyException = assertThrows(CustomException.class,
+				() -> shortUrlBatchService.createLinks(List.of()));
+
+			assertEquals(ErrorCode.INVALID_ARGUMENT_ERROR, tooManyException.getErrorCode());
+			assertEquals(ErrorCode.INVALID_ARGUMENT_ERROR, emptyException.getErrorCode());
+		}
+	}
+
+	@Nested
+	@DisplayName("importLinks 테스트")
+	class ImportLinksTest {
+
+		@Test
+		@DisplayName("성공: 신규/기존 매핑/요청 내 중복을 created 값으로 구분")
+		void importLinks_marksCreated() {
+			// given
+			String existingUrl = "https://old.com";
+			ShortUrl existing = new ShortUrl(9L, realHashGenerator.hash(existingUrl), "existing", existingUrl,
+				LocalDateTime.now().plusDays(1));
+			when(shortUrlJpaRepository.findByHashKeyInAndExpiredAtAfter(anyList(), any(LocalDateTime.class)))
+				.thenReturn(List.of(existing));
+
+			// when
+			List<ShortUrlBatchCreateResponse.Item> results = shortUrlBatchService.importLinks(
+				List.of("https://new.com", existingUrl, "https://new.com"));
+
+			// then
+			assertEquals(Boolean.TRUE, results.get(0).created());
+			assertEquals(Boolean.FALSE, results.get(1).created());
+			assertEquals(Boolean.FALSE, results.get(2).created());
+			assertEquals(results.get(0).shortCode(), results.get(2).shortCode());
+		}
+
+		@Test
+		@DisplayName("성공: 최대 크기 제한 없이 chunk 단위로 처리")
+		void importLinks_ignoresMaxBatchSize() {
+			// given
+			List<String> urls = new ArrayList<>();
+			for (int i = 0; i < 12; i++) {
+				urls.add("https://example.com/" + i);
+			}
+			when(shortCodeGenerator.generate()).thenAnswer(i -> "c" + System.nanoTime());
+
+			// when
+			List<ShortUrlBatchCreateResponse.Item> results = shortUrlBatchService.importLinks(urls);
+
+			// then
+			assertEquals(12, results.size());
+			verify(transactionTemplate, times(6)).execute(any());
+		}
+	}
+
+	@Nested
+	@DisplayName("deleteLinks 테스트")
+	class DeleteLinksTest {
+
+		@Test
+		@DisplayName("성공: chunk마다 한 번씩 삭제하고 요청 순서대로 found 반환")
+		void deleteLinks_chunked_preservesOrder() {
+			// given
+			when(shortUrlRepository.deleteAllByShortCodes(List.of("code0001", "code0002")))
+				.thenReturn(List.of("code0001"));
+			when(shortUrlRepository.deleteAllByShortCodes(List.of("code0003")))
+				.thenReturn(List.of("code0003"));
+
+			// when
+			ShortUrlBatchDeleteResponse response = shortUrlBatchService.deleteLinks(
+				List.of("code0001", "code0002", "code0003", "code0001"));
+
+			// then
+			List<ShortUrlBatchDeleteResponse.Item> results = response.results();
+			assertEquals(List.of(true, false, true, true),
+				results.stream().map(ShortUrlBatchDeleteResponse.Item::found).toList());
+			verify(shortUrlRepository, times(2)).deleteAllByShortCodes(anyList());
+			verify(shortUrlBloomFilter, times(2)).recordRemovals(1);
+		}
+
+		@Test
+		@DisplayName("성공: 잘못된 short_code는 항목별 INVALID_KEY_ERROR, 나머지는 삭제")
+		void deleteLinks_invalidCode_isolated() {
+			// given
+			when(shortUrlRepository.deleteAllByShortCodes(List.of("code0001"))).thenReturn(List.of("code0001"));
+
+			// when
+			ShortUrlBatchDeleteResponse response = shortUrlBatchService.deleteLinks(List.of("bad-code", "code0001"));
+
+			// then
+			assertEquals(ErrorCode.INVALID_KEY_ERROR, response.results().get(0).errorCode());
+			assertNull(response.results().get(0).found());
+			assertEquals(Boolean.TRUE, response.results().get(1).found());
+		}
+
+		@Test
+		@DisplayName("성공: DB 반영 전 대기 중인 URL도 제거하고 found로 표시")
+		void deleteLinks_pendingUrl_found() {
+			// given
+			when(pendingShortUrls.remove("code0001")).thenReturn(true);
+			when(shortUrlRepository.deleteAllByShortCodes(List.of("code0001"))).thenReturn(List.of());
+
+			// when
+			ShortUrlBatchDeleteResponse response = shortUrlBatchService.deleteLinks(List.of("code0001"));
+
+			// then
+			assertEquals(Boolean.TRUE, response.results().get(0).found());
+			verify(pendingShortUrls).remove("code0001");
+		}
+
+		@Test
+		@DisplayName("성공: soft delete면 DELETE 대신 tombstone UPDATE, Bloom Filter 반영은 물리 삭제 때")
+		void deleteLinks_softDelete_tombstones() {
+			// given
+			ReflectionTestUtils.setField(shortUrlBatchService, "softDelete", true);
+			when(shortUrlRepository.tombstoneAllByShortCodes(List.of("code0001"))).thenReturn(List.of("code0001"));
+
+			// when
+			ShortUrlBatchDeleteResponse response = shortUrlBatchService.deleteLinks(List.of("code0001"));
+
+			// then
+			assertEquals(Boolean.TRUE, response.results().get(0).found());
+			verify(shortUrlRepository, never()).deleteAllByShortCodes(anyList());
+			verify(shortUrlBloomFilter, never()).recordRemovals(anyLong());
+			verify(urlInvalidationLog).append(Set.of("code0001"));
+		}
+
+		@Test
+		@DisplayName("실패: 최대 크기 초과 또는 빈 요청은 INVALID_ARGUMENT_ERROR")
+		void deleteLinks_invalidSize() {
+			List<String> tooMany = new ArrayList<>();
+			for (int i = 0; i < 11; i++) {
+				tooMany.add("code000" + i);
+			}
+
+			CustomException tooManyException = assertThrows(CustomException.class,
+				() -> shortUrlBatchService.deleteLinks(tooMany));
+			CustomException emptyException = assertThrows(CustomException.class,
+				() -> shortUrlBatchService.deleteLinks(List.of()));
+
+			assertEquals(ErrorCode.INVALID_ARGUMENT_ERROR, tooManyException.getErrorCode());
+			assertEquals(ErrorCode.INVALID_ARGUMENT_ERROR, emptyException.getErrorCode());
+			verifyNoInteractions(shortUrlRepository);
+		}
+	}
+}
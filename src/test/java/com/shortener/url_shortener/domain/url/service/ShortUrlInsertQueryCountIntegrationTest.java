@@ -0,0 +1,124 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.shortener.url_shortener.container.IntegrationTestBase;
+import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생성 경로 쿼리 수 통합 테스트
+ *
+ * 테스트 내용:
+ * - 할당 id 엔티티 저장 시 merge SELECT 없이 INSERT 한 번만 실행
+ * - 저장/조회된 엔티티는 기존 엔티티로 판단
+ * - 처리량 측정은 -Dbenchmark=true일 때만 실행
+ *
+ * Hibernate Statistics는 JPA가 실행한 statement만 집계 (GET_LOCK 등 JdbcTemplate 쿼리 제외)
+ */
+@DisplayName("생성 경로 쿼리 수 통합 테스트")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ShortUrlInsertQueryCountIntegrationTest extends IntegrationTestBase {
+
+	@Autowired
+	private ShortUrlService shortUrlService;
+
+	@Autowired
+	private ShortUrlJpaRepository shortUrlJpaRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	/**
+	 * merge SELECT 등 조회 쿼리를 제외한, 엔티티 저장으로 실행된 statement 수
+	 */
+	private long nonQueryStatements() {
+		return statistics.getPrepareStatementCount() - statistics.getQueryExecutionCount();
+	}
+
+	@Test
+	@DisplayName("새 URL 생성 시 SELECT 없이 INSERT 한 번만 실행")
+	void createLink_insertOnly() {
+		// when
+		shortUrlService.createLink("https://example.com/query-count");
+
+		// then
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+		assertThat(nonQueryStatements()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("새 엔티티 save는 persist, 조회한 엔티티는 기존 엔티티로 판단")
+	void save_assignedId_persistWithoutSelect() {
+		// given
+		ShortUrl shortUrl = new ShortUrl(100L, "qc000001", "https://example.com/qc",
+			LocalDateTime.now().plusDays(1));
+		assertThat(shortUrl.isNew()).isTrue();
+
+		// when
+		shortUrlJpaRepository.save(shortUrl);
+
+		// then
+		assertThat(nonQueryStatements()).isEqualTo(1);
+		assertThat(shortUrl.isNew()).isFalse();
+		assertThat(shortUrlJpaRepository.findByShortCode("qc000001").orElseThrow().isNew()).isFalse();
+	}
+
+	@Test
+	@DisplayName("연속 생성 시 생성마다 INSERT 한 번만 실행")
+	void createLink_repeated_insertOnlyEach() {
+		// given
+		int count = 20;
+
+		// when
+		for (int i = 0; i < count; i++) {
+			shortUrlService.createLink("https://example.com/repeated/" + i);
+		}
+
+		// then
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(count);
+		assertThat(nonQueryStatements()).isEqualTo(count);
+	}
+
+	@Test
+	@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+	@DisplayName("연속 생성 처리량 측정 (INSERT 전 SELECT 제거 효과 비교용, -Dbenchmark=true)")
+	void createLink_throughput() {
+		// given
+		int count = 500;
+
+		// when
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < count; i++) {
+			shortUrlService.createLink("https://example.com/throughput/" + i);
+		}
+		long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+
+		// then
+		System.out.printf("createLink x%d: %d ms (%d ops/s), statements=%d%n", count, elapsedMillis,
+			count * 1000L / elapsedMillis, nonQueryStatements());
+		assertThat(nonQueryStatements()).isEqualTo(count);
+	}
+}
@@ -0,0 +1,170 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import com.shortener.url_shortener.domain.url.repository.ShortUrlPartitionRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlPartitionRepository.Partition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * ShortUrlPartitionManager 단위 테스트
+ *
+ * 테스트 내용:
+ * - 상한이 오늘 이하인 파티션만 한 번에 DROP, 삭제 row 수 Bloom Filter 반영
+ * - 마지막 날짜 파티션 다음 날부터 오늘 + precreate-days까지 생성
+ * - 파티션이 없으면 설정에 따라 변환 또는 건너뜀, row가 있는 테이블은 변환하지 않음
+ * - feistel 생성기가 아니면 시작 실패
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShortUrlPartitionManager 단위 테스트")
+class ShortUrlPartitionManagerTest {
+
+	@Mock
+	private ShortUrlPartitionRepository shortUrlPartitionRepository;
+
+	@Mock
+	private ShortUrlBloomFilter shortUrlBloomFilter;
+
+	@InjectMocks
+	private ShortUrlPartitionManager shortUrlPartitionManager;
+
+	private final LocalDate today = LocalDate.now();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(shortUrlPartitionManager, "enabled", true);
+		ReflectionTestUtils.setField(shortUrlPartitionManager, "generator", "feistel");
+		ReflectionTestUtils.setField(shortUrlPartitionManager, "precreateDays", 3);
+	}
+
+	private Partition day(LocalDate day) {
+		return new Partition("p_" + day, day.plusDays(1));
+	}
+
+	@Test
+	@DisplayName("상한이 오늘 0시 이하인 파티션만 DDL 한 번으로 DROP")
+	void dropExpiredPartitions_onlyFullyExpired() {
+		// given
+		Partition start = new Partition("p_start", today.minusDays(2));
+		Partition twoDaysAgo = day(today.minusDays(2));
+		Partition yesterday = day(today.minusDays(1));
+		when(shortUrlPartitionRepository.findPartitions()).thenReturn(List.of(start, twoDaysAgo, yesterday,
+			day(today), day(today.plusDays(1)), new Partition(ShortUrlPartitionRepository.MAX_PARTITION, null)));
+		when(shortUrlPartitionRepository.countRows(start.name())).thenReturn(5L);
+		when(shortUrlPartitionRepository.countRows(twoDaysAgo.name())).thenReturn(100L);
+		when(shortUrlPartitionRepository.countRows(yesterday.name())).thenReturn(200L);
+
+		// when
+		long dropped = shortUrlPartitionManager.dropExpiredPartitions();
+
+		// then
+		assertEquals(305L, dropped);
+		verify(shortUrlPartitionRepository).dropPartitions(List.of(start.name(), twoDaysAgo.name(), yesterday.name()));
+		verify(shortUrlBloomFilter).recordRemovals(305L);
+	}
+
+	@Test
+	@DisplayName("만료된 파티션이 없으면 DDL 없음")
+	void dropExpiredPartitions_nothingExpired() {
+		// given
+		when(shortUrlPartitionRepository.findPartitions()).thenReturn(List.of(day(today),
+			new Partition(ShortUrlPartitionRepository.MAX_PARTITION, null)));
+
+		// when
+		long dropped = shortUrlPartitionManager.dropExpiredPartitions();
+
+		// then
+		assertEquals(0L, dropped);
+		verify(shortUrlPartitionRepository, never()).dropPartitions(anyList());
+		verify(shortUrlBloomFilter, never()).recordRemovals(anyLong());
+	}
+
+	@Test
+	@DisplayName("마지막 날짜 파티션 다음 날부터 오늘 + precreate-days까지 생성")
+	void createFuturePartitions_fillsUpToHorizon() {
+		// given
+		when(shortUrlPartitionRepository.findPartitions()).thenReturn(List.of(day(today), day(today.plusDays(1)),
+			new Partition(ShortUrlPartitionRepository.MAX_PARTITION, null)));
+
+		// when
+		int added = shortUrlPartitionManager.createFuturePartitions();
+
+		// then
+		assertEquals(2, added);
+		verify(shortUrlPartitionRepository).addPartitions(today.plusDays(2), today.plusDays(3));
+	}
+
+	@Test
+	@DisplayName("이미 충분히 만들어 두었으면 생성하지 않음")
+	void createFuturePartitions_alreadyCovered() {
+		// given
+		when(shortUrlPartitionRepository.findPartitions()).thenReturn(List.of(day(today.plusDays(3)),
+			new Partition(ShortUrlPartitionRepository.MAX_PARTITION, null)));
+
+		// when
+		int added = shortUrlPartitionManager.createFuturePartitions();
+
+		// then
+		assertEquals(0, added);
+		verify(shortUrlPartitionRepository, never()).addPartitions(any(), any());
+	}
+
+	@Test
+	@DisplayName("파티션이 없으면 convert-on-startup일 때만 변환")
+	void start_unpartitioned_convertsOnlyWhenConfigured() {
+		// given
+		when(shortUrlPartitionRepository.findPartitions()).thenReturn(List.of());
+
+		// when
+		shortUrlPartitionManager.start();
+
+		// then
+		verify(shortUrlPartitionRepository, never()).partition(any(), any());
+
+		// when
+		ReflectionTestUtils.setField(shortUrlPartitionManager, "convertOnStartup", true);
+		shortUrlPartitionManager.start();
+
+		// then
+		verify(shortUrlPartitionRepository).partition(today, today.plusDays(3));
+	}
+
+	@Test
+	@DisplayName("row가 있는 테이블은 기존 코드와 feistel 코드가 겹칠 수 있어서 변환하지 않음")
+	void start_nonEmptyTable_refusesConversion() {
+		// given
+		ReflectionTestUtils.setField(shortUrlPartitionManager, "convertOnStartup", true);
+		when(shortUrlPartitionRepository.findPartitions()).thenReturn(List.of());
+		when(shortUrlPartitionRepository.hasRows()).thenReturn(true);
+
+		// when
+		shortUrlPartitionManager.start();
+
+		// then
+		verify(shortUrlPartitionRepository, never()).partition(any(), any());
+	}
+
+	@Test
+	@DisplayName("feistel 생성기가 아니면 시작 실패 (short_code가 파티션 간 유일하지 않음)")
+	void init_requiresFeistelGenerator() {
+		// given
+		ReflectionTestUtils.setField(shortUrlPartitionManager, "generator", "random");
+
+		// when & then
+		assertThrows(IllegalStateException.class, () -> shortUrlPartitionManager.init());
+	}
+}
@@ -2,21 +2,27 @@ package com.shortener.url_shortener.domain.url.service;
 
 import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
 import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+import com.shortener.url_shortener.domain.url.generator.ShortCodeGenerator;
 import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
 import com.shortener.url_shortener.domain.url.repository.ShortUrlLockRepository;
 import com.shortener.url_shortener.global.error.CustomException;
 import com.shortener.url_shortener.global.error.ErrorCode;
 import com.shortener.url_shortener.global.util.Base62Encoder;
 import com.shortener.url_shortener.global.util.HashGenerator;
+import com.shortener.url_shortener.global.util.RequestDeadline;
 import com.shortener.url_shortener.global.util.TsidGenerator;
+import com.shortener.url_shortener.global.util.UrlCanonicalizer;
 import io.grpc.Context;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -26,11 +32,14 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.security.SecureRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -62,6 +71,30 @@ class ShortUrlServiceTest {
 	@Mock
 	private ShortUrlLockRepository shortUrlLockRepository;
 
+	@Mock
+	private ShortUrlBloomFilter shortUrlBloomFilter;
+
+	@Mock
+	private ShortCodeGenerator shortCodeGenerator;
+
+	@Mock
+	private PendingShortUrls pendingShortUrls;
+
+	@Spy
+	private UrlCanonicalizer urlCanonicalizer = new UrlCanonicalizer();
+
+	@Spy
+	private RequestDeadline requestDeadline = new RequestDeadline(new SimpleMeterRegistry());
+
+	@Spy
+	private LocalUrlLocks localUrlLocks = new LocalUrlLocks();
+
+	@Mock
+	private RedirectCache redirectCache;
+
+	@Mock
+	private UrlInvalidationLog urlInvalidationLog;
+
 	@InjectMocks
 	private ShortUrlService shortUrlService;
 
@@ -69,7 +102,6 @@ class ShortUrlServiceTest {
 	void setUp() {
 		ReflectionTestUtils.setField(shortUrlService, "redirectionBaseDomain", "http://localhost:8080");
 		ReflectionTestUtils.setField(shortUrlService, "defaultExpirationDays", 7);
-		ReflectionTestUtils.setField(shortUrlService, "hashKeySize", 8);
 		ReflectionTestUtils.setField(shortUrlService, "retry", 3);
 		ReflectionTestUtils.setField(shortUrlService, "maxUrlLength", 2048);
 		ReflectionTestUtils.setField(shortUrlService, "lockTimeoutSeconds", 3);
@@ -77,6 +109,7 @@ class ShortUrlServiceTest {
 		lenient().when(shortUrlLockRepository.acquireLock(anyString(), anyInt()))
 			.thenReturn(true);
 		lenient().doNothing().when(shortUrlLockRepository).releaseLock(anyString());
+		lenient().when(shortUrlBloomFilter.mightContain(any())).thenReturn(true);
 	}
 
 	@Nested
@@ -94,7 +127,7 @@ class ShortUrlServiceTest {
 
 			when(tsidGenerator.nextKey()).thenReturn(tsid);
 			when(hashGenerator.hash(redirectUrl)).thenReturn(hash);
-			when(base62Encoder.random(eq(8), any(SecureRandom.class))).thenReturn(shortCode);
+			when(shortCodeGenerator.generate()).thenReturn(shortCode);
 			when(shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(eq(hash), any(LocalDateTime.class)))
 				.thenReturn(List.of());
 			when(shortUrlJpaRepository.save(any(ShortUrl.class))).thenAnswer(i -> i.getArgument(0));
@@ -110,6 +143,30 @@ class ShortUrlServiceTest {
 			verify(shortUrlJpaRepository, times(1)).save(any(ShortUrl.class));
 		}
 
+		@Test
+		@DisplayName("성공: 정규화된 URL로 hash 계산 후 저장")
+		void createLink_canonicalizedBeforeHash() {
+			// given
+			ReflectionTestUtils.setField(urlCanonicalizer, "enabled", true);
+			String canonicalUrl = "http://example.com/a?b=1";
+			byte[] hash = new byte[]{1, 2, 3, 4};
+
+			when(tsidGenerator.nextKey()).thenReturn(1L);
+			when(hashGenerator.hash(canonicalUrl)).thenReturn(hash);
+			when(shortCodeGenerator.generate()).thenReturn("aB3Xy9Km");
+			when(shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(eq(hash), any(LocalDateTime.class)))
+				.thenReturn(List.of());
+			when(shortUrlJpaRepository.save(any(ShortUrl.class))).thenAnswer(i -> i.getArgument(0));
+
+			// when
+			shortUrlService.createLink("HTTP://Example.COM:80/x/../a?b=1");
+
+			// then
+			ArgumentCaptor<ShortUrl> saved = ArgumentCaptor.forClass(ShortUrl.class);
+			verify(shortUrlJpaRepository).save(saved.capture());
+			assertEquals(canonicalUrl, saved.getValue().getRedirectionUrl());
+		}
+
 		@Test
 		@DisplayName("성공: 동일 URL이 이미 존재하면 기존 shortCode 반환")
 		void createLink_existingUrl_returnsExistingShortCode() {
@@ -151,7 +208,7 @@ class ShortUrlServiceTest {
 
 			when(tsidGenerator.nextKey()).thenReturn(tsid);
 			when(hashGenerator.hash(redirectUrl)).thenReturn(hash);
-			when(base62Encoder.random(eq(8), any(SecureRandom.class)))
+			when(shortCodeGenerator.generate())
 				.thenReturn(shortCode1, shortCode2);
 			when(shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(eq(hash), any(LocalDateTime.class)))
 				.thenReturn(List.of());
@@ -293,6 +350,54 @@ class ShortUrlServiceTest {
 			assertEquals(ErrorCode.URL_GENERATION_FAILED.getMessage(), exception.getMessage());
 		}
 
+		@Test
+		@DisplayName("성공: 호출자 deadline이 설정값보다 짧으면 lock 대기를 남은 시간으로 줄임")
+		void createLink_lockTimeoutCappedByDeadline() throws Exception {
+			// given
+			String redirectUrl = "https://example.com";
+			byte[] hash = new byte[]{1, 2, 3, 4};
+			when(hashGenerator.hash(redirectUrl)).thenReturn(hash);
+			when(tsidGenerator.nextKey()).thenReturn(1L);
+			when(shortCodeGenerator.generate()).thenReturn("aB3Xy9Km");
+			when(shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(eq(hash), any(LocalDateTime.class)))
+				.thenReturn(List.of());
+			ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+			Context.CancellableContext ctx = Context.current()
+				.withDeadlineAfter(1500, TimeUnit.MILLISECONDS, scheduler);
+
+			// when
+			try {
+				ctx.call(() -> shortUrlService.createLink(redirectUrl));
+			} finally {
+				ctx.cancel(null);
+				scheduler.shutdownNow();
+			}
+
+			// then
+			verify(shortUrlLockRepository).acquireLock(anyString(), eq(1));
+		}
+
+		@Test
+		@DisplayName("실패: deadline이 이미 지났으면 lock 없이 DEADLINE_EXCEEDED 예외")
+		void createLink_deadlineExceeded_beforeLock() {
+			// given
+			String redirectUrl = "https://example.com";
+			when(hashGenerator.hash(redirectUrl)).thenReturn(new byte[]{1, 2, 3, 4});
+			ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+			Context.CancellableContext ctx = Context.current()
+				.withDeadlineAfter(-1, TimeUnit.MILLISECONDS, scheduler);
+
+			// when & then
+			try {
+				CustomException exception = assertThrows(CustomException.class,
+					() -> ctx.call(() -> shortUrlService.createLink(redirectUrl)));
+				assertEquals(ErrorCode.DEADLINE_EXCEEDED, exception.getErrorCode());
+			} finally {
+				scheduler.shutdownNow();
+			}
+			verify(shortUrlLockRepository, never()).acquireLock(anyString(), anyInt());
+		}
+
 		@Test
 		@DisplayName("실패: URL 길이가 제한을 초과하면 INVALID_ARGUMENT_ERROR 예외")
 		void createLink_exceedsMaxLength() {
@@ -318,7 +423,7 @@ class ShortUrlServiceTest {
 
 			when(tsidGenerator.nextKey()).thenReturn(tsid);
 			when(hashGenerator.hash(redirectUrl)).thenReturn(hash);
-			when(base62Encoder.random(eq(8), any(SecureRandom.class))).thenReturn(shortCode);
+			when(shortCodeGenerator.generate()).thenReturn(shortCode);
 			when(shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(eq(hash), any(LocalDateTime.class)))
 				.thenReturn(List.of());
 			when(shortUrlJpaRepository.save(any(ShortUrl.class))).thenAnswer(i -> i.getArgument(0));
@@ -331,6 +436,104 @@ class ShortUrlServiceTest {
 			assertEquals(shortCode, response.shortCode());
 		}
 
+		@Test
+		@DisplayName("성공: owner 노드에서 Bloom Filter가 확실히 없다고 하면 중복 조회 없이 저장")
+		void createLinkWithLocalLock_bloomFilterAbsent_skipsLookup() {
+			// given
+			String redirectUrl = "https://example.com/new";
+			byte[] hash = new byte[]{1, 2, 3, 4};
+			String shortCode = "aB3Xy9Km";
+
+			when(tsidGenerator.nextKey()).thenReturn(123456789L);
+			when(hashGenerator.hash(redirectUrl)).thenReturn(hash);
+			when(shortUrlBloomFilter.mightContain(hash)).thenReturn(false);
+			when(shortCodeGenerator.generate()).thenReturn(shortCode);
+			when(shortUrlJpaRepository.save(any(ShortUrl.class))).thenAnswer(i -> i.getArgument(0));
+
+			// when
+			ShortUrlCreateResponse response = shortUrlService.createLinkWithLocalLock(redirectUrl);
+
+			// then
+			assertEquals(shortCode, response.shortCode());
+			verify(shortUrlJpaRepository, never()).findByHashKeyAndExpiredAtAfter(any(), any());
+			verify(shortUrlBloomFilter).put(hash);
+		}
+
+		@Test
+		@DisplayName("성공: GET_LOCK 경로는 Bloom Filter가 없다고 해도 다른 노드가 만든 URL을 조회해서 반환")
+		void createLink_bloomFilterAbsent_stillLooksUp() {
+			// given
+			String redirectUrl = "https://example.com/other-node";
+			byte[] hash = new byte[]{1, 2, 3, 4};
+			ShortUrl existing = new ShortUrl(1L, hash, "aB3Xy9Km", redirectUrl, LocalDateTime.now().plusDays(1));
+
+			when(hashGenerator.hash(redirectUrl)).thenReturn(hash);
+			lenient().when(shortUrlBloomFilter.mightContain(hash)).thenReturn(false);
+			when(shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(eq(hash), any(LocalDateTime.class)))
+				.thenReturn(List.of(existing));
+
+			// when
+			ShortUrlCreateResponse response = shortUrlService.createLink(redirectUrl);
+
+			// then
+			assertEquals("aB3Xy9Km", response.shortCode());
+			verify(shortUrlJpaRepository, never()).save(any(ShortUrl.class));
+		}
+
+		@Test
+		@DisplayName("성공: createLinkWithResult는 기존 매핑 재사용이면 created=false, 새로 저장하면 true")
+		void createLinkWithResult_reportsCreated() {
+			// given
+			String existingUrl = "https://example.com/existing";
+			String newUrl = "https://example.com/new";
+			byte[] existingHash = new byte[]{1};
+			byte[] newHash = new byte[]{2};
+			ShortUrl existing = new ShortUrl(1L, existingHash, "aB3Xy9Km", existingUrl,
+				LocalDateTime.now().plusDays(1));
+
+			when(hashGenerator.hash(existingUrl)).thenReturn(existingHash);
+			when(hashGenerator.hash(newUrl)).thenReturn(newHash);
+			when(shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(eq(existingHash), any(LocalDateTime.class)))
+				.thenReturn(List.of(existing));
+			when(shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(eq(newHash), any(LocalDateTime.class)))
+				.thenReturn(List.of());
+			when(tsidGenerator.nextKey()).thenReturn(123456789L);
+			when(shortCodeGenerator.generate()).thenReturn("newCode1");
+			when(shortUrlJpaRepository.save(any(ShortUrl.class))).thenAnswer(i -> i.getArgument(0));
+
+			// when
+			ShortUrlService.CreateResult reused = shortUrlService.createLinkWithResult(existingUrl);
+			ShortUrlService.CreateResult created = shortUrlService.createLinkWithResult(newUrl);
+
+			// then
+			assertEquals("aB3Xy9Km", reused.response().shortCode());
+			assertFalse(reused.created());
+			assertEquals("newCode1", created.response().shortCode());
+			assertTrue(created.created());
+		}
+
+		@Test
+		@DisplayName("성공: Bloom Filter가 있을 수 있다고 했지만 동일 URL이 없으면 lookup miss 기록")
+		void createLink_bloomFilterPositive_recordsLookupMiss() {
+			// given
+			String redirectUrl = "https://example.com/new";
+			byte[] hash = new byte[]{1, 2, 3, 4};
+
+			when(tsidGenerator.nextKey()).thenReturn(123456789L);
+			when(hashGenerator.hash(redirectUrl)).thenReturn(hash);
+			when(shortCodeGenerator.generate()).thenReturn("aB3Xy9Km");
+			when(shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(eq(hash), any(LocalDateTime.class)))
+				.thenReturn(List.of());
+			when(shortUrlJpaRepository.save(any(ShortUrl.class))).thenAnswer(i -> i.getArgument(0));
+
+			// when
+			shortUrlService.createLink(redirectUrl);
+
+			// then
+			verify(shortUrlBloomFilter).recordLookupMiss();
+			verify(shortUrlBloomFilter).put(hash);
+		}
+
 		@Test
 		@DisplayName("락 해제는 트랜잭션 완료 이후 수행")
 		void createLink_releasesLockAfterCompletion() {
@@ -360,6 +563,39 @@ class ShortUrlServiceTest {
 				TransactionSynchronizationManager.clearSynchronization();
 			}
 		}
+
+		@Test
+		@DisplayName("성공: owner 노드 생성은 GET_LOCK 대신 JVM 내 lock을 잡고 트랜잭션 완료 후 해제")
+		void createLinkWithLocalLock_usesLocalLock() {
+			// given
+			String redirectUrl = "https://example.com";
+			byte[] hash = new byte[32];
+			hash[8] = 7;
+			ShortUrl existing = new ShortUrl(1L, hash, "aB3Xy9Km", redirectUrl, LocalDateTime.now().plusDays(1));
+
+			when(hashGenerator.hash(redirectUrl)).thenReturn(hash);
+			when(shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(eq(hash), any(LocalDateTime.class)))
+				.thenReturn(List.of(existing));
+
+			TransactionSynchronizationManager.initSynchronization();
+			try {
+				// when
+				ShortUrlCreateResponse response = shortUrlService.createLinkWithLocalLock(redirectUrl);
+
+				// then
+				assertEquals("aB3Xy9Km", response.shortCode());
+				verify(localUrlLocks).tryLock(hash, 3);
+				verify(shortUrlLockRepository, never()).acquireLock(anyString(), anyInt());
+				verify(localUrlLocks, never()).unlock(any());
+
+				TransactionSynchronizationManager.getSynchronizations().get(0)
+					.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+				verify(localUrlLocks).unlock(hash);
+				verify(shortUrlLockRepository, never()).releaseLock(anyString());
+			} finally {
+				TransactionSynchronizationManager.clearSynchronization();
+			}
+		}
 	}
 
 	@Nested
@@ -389,6 +625,47 @@ class ShortUrlServiceTest {
 			// then
 			assertEquals(redirectUrl, result);
 			verify(shortUrlJpaRepository, times(1)).findByShortCode(shortCode);
+			verify(redirectCache).put(shortCode, shortUrl, 0L);
+		}
+
+		@Test
+		@DisplayName("성공: 캐시 hit면 DB 조회 없이 반환")
+		void getLink_cacheHit_servedWithoutDb() {
+			// given
+			String shortCode = "aB3Xy9Km";
+			String redirectUrl = "https://example.com";
+			ShortUrl shortUrl = new ShortUrl(123456789L, new byte[]{1, 2, 3, 4}, shortCode, redirectUrl,
+				LocalDateTime.now().plusDays(7));
+
+			when(base62Encoder.isValid(shortCode)).thenReturn(true);
+			when(redirectCache.get(shortCode)).thenReturn(Optional.of(shortUrl));
+
+			// when
+			String result = shortUrlService.getLink(shortCode);
+
+			// then
+			assertEquals(redirectUrl, result);
+			verify(shortUrlJpaRepository, never()).findByShortCode(anyString());
+		}
+
+		@Test
+		@DisplayName("성공: DB 반영 전(write-behind) URL은 대기 목록에서 조회")
+		void getLink_pending_servedWithoutDb() {
+			// given
+			String shortCode = "aB3Xy9Km";
+			String redirectUrl = "https://example.com";
+			ShortUrl pending = new ShortUrl(123456789L, new byte[]{1, 2, 3, 4}, shortCode, redirectUrl,
+				LocalDateTime.now().plusDays(7));
+
+			when(base62Encoder.isValid(shortCode)).thenReturn(true);
+			when(pendingShortUrls.findByShortCode(shortCode)).thenReturn(Optional.of(pending));
+
+			// when
+			String result = shortUrlService.getLink(shortCode);
+
+			// then
+			assertEquals(redirectUrl, result);
+			verify(shortUrlJpaRepository, never()).findByShortCode(anyString());
 		}
 
 		@Test
@@ -431,6 +708,29 @@ class ShortUrlServiceTest {
 			assertEquals(ErrorCode.EXPIRED_LINK.getMessage(), exception.getMessage());
 		}
 
+		@Test
+		@DisplayName("실패: soft delete된 키는 만료가 아닌 KEY_NOT_FOUND 예외")
+		void getLink_tombstoned() {
+			// given
+			String shortCode = "deleted1";
+			ShortUrl shortUrl = new ShortUrl(
+				123456789L,
+				new byte[]{1, 2, 3, 4},
+				shortCode,
+				"https://example.com",
+				ShortUrl.TOMBSTONE_EXPIRED_AT
+			);
+
+			when(base62Encoder.isValid(shortCode)).thenReturn(true);
+			when(shortUrlJpaRepository.findByShortCode(shortCode)).thenReturn(Optional.of(shortUrl));
+
+			// when & then
+			CustomException exception = assertThrows(CustomException.class,
+				() -> shortUrlService.getLink(shortCode));
+
+			assertEquals(ErrorCode.KEY_NOT_FOUND, exception.getErrorCode());
+		}
+
 		@Test
 		@DisplayName("실패: 잘못된 키 형식 시 INVALID_KEY_ERROR 예외")
 		void getLink_invalidKeyFormat() {
@@ -467,6 +767,44 @@ class ShortUrlServiceTest {
 			// then
 			verify(base62Encoder, times(1)).isValid(shortCode);
 			verify(shortUrlJpaRepository, times(1)).deleteByShortCode(shortCode);
+			verify(shortUrlBloomFilter).recordRemovals(1);
+			verify(urlInvalidationLog).append(List.of(shortCode));
+		}
+
+		@Test
+		@DisplayName("성공: 없는 키를 지우면 무효화 로그를 남기지 않음")
+		void deleteLink_notFound_noInvalidation() {
+			// given
+			String shortCode = "aB3Xy9Km";
+
+			when(base62Encoder.isValid(shortCode)).thenReturn(true);
+			when(shortUrlJpaRepository.deleteByShortCode(shortCode)).thenReturn(0);
+
+			// when
+			shortUrlService.deleteLink(shortCode);
+
+			// then
+			verify(urlInvalidationLog, never()).append(any());
+		}
+
+		@Test
+		@DisplayName("성공: soft delete면 tombstone UPDATE만 하고 물리 삭제/Bloom Filter 반영은 하지 않음")
+		void deleteLink_softDelete_tombstones() {
+			// given
+			String shortCode = "aB3Xy9Km";
+			ReflectionTestUtils.setField(shortUrlService, "softDelete", true);
+
+			when(base62Encoder.isValid(shortCode)).thenReturn(true);
+			when(shortUrlJpaRepository.tombstoneByShortCode(eq(shortCode), eq(ShortUrl.TOMBSTONE_EXPIRED_AT),
+				any(LocalDateTime.class))).thenReturn(1);
+
+			// when
+			shortUrlService.deleteLink(shortCode);
+
+			// then
+			verify(pendingShortUrls).remove(shortCode);
+			verify(shortUrlJpaRepository, never()).deleteByShortCode(anyString());
+			verify(shortUrlBloomFilter, never()).recordRemovals(anyLong());
 		}
 
 		@Test
@@ -515,7 +853,7 @@ class ShortUrlServiceTest {
 
 			when(tsidGenerator.nextKey()).thenReturn(tsid);
 			when(hashGenerator.hash(redirectUrl)).thenReturn(hash);
-			when(base62Encoder.random(eq(8), any(SecureRandom.class))).thenReturn(shortCode);
+			when(shortCodeGenerator.generate()).thenReturn(shortCode);
 			when(shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(eq(hash), any(LocalDateTime.class)))
 				.thenReturn(List.of());
 			when(shortUrlJpaRepository.save(any(ShortUrl.class))).thenAnswer(i -> i.getArgument(0));
@@ -541,7 +879,7 @@ class ShortUrlServiceTest {
 
 			when(tsidGenerator.nextKey()).thenReturn(tsid);
 			when(hashGenerator.hash(redirectUrl)).thenReturn(hash);
-			when(base62Encoder.random(eq(8), any(SecureRandom.class))).thenReturn(shortCode);
+			when(shortCodeGenerator.generate()).thenReturn(shortCode);
 			when(shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(eq(hash), any(LocalDateTime.class)))
 				.thenReturn(List.of());
 			when(shortUrlJpaRepository.save(any(ShortUrl.class))).thenAnswer(i -> i.getArgument(0));
@@ -567,7 +905,7 @@ class ShortUrlServiceTest {
 
 			when(tsidGenerator.nextKey()).thenReturn(tsid);
 			when(hashGenerator.hash(redirectUrl)).thenReturn(hash);
-			when(base62Encoder.random(eq(8), any(SecureRandom.class))).thenReturn(shortCode);
+			when(shortCodeGenerator.generate()).thenReturn(shortCode);
 			when(shortUrlJpaRepository.findByHashKeyAndExpiredAtAfter(eq(hash), any(LocalDateTime.class)))
 				.thenReturn(List.of());
 			when(shortUrlJpaRepository.save(any(ShortUrl.class))).thenAnswer(i -> i.getArgument(0));
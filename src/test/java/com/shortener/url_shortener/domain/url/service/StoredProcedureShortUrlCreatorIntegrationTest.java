@@ -0,0 +1,124 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.shortener.url_shortener.container.IntegrationTestBase;
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlProcedureRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlProcedureRepository.Result;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlProcedureRepository.Status;
+import com.shortener.url_shortener.global.util.HashGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장 프로시저 생성 통합 테스트
+ *
+ * 테스트 내용:
+ * - 생성/중복 URL 처리
+ * - 사용 중인 후보 코드는 건너뛰고 다음 후보로 저장
+ * - 모든 후보 충돌 시 CONFLICT, lock은 항상 해제
+ * - install은 프로시저가 없거나 버전이 낮을 때만 재생성
+ */
+@DisplayName("저장 프로시저 생성 통합 테스트")
+@TestPropertySource(properties = {
+	"constant.create.mode=stored-procedure",
+	"constant.create.stored-procedure.install-on-startup=true"
+})
+class StoredProcedureShortUrlCreatorIntegrationTest extends IntegrationTestBase {
+
+	@Autowired
+	private ShortUrlCreator shortUrlCreator;
+
+	@Autowired
+	private ShortUrlProcedureRepository shortUrlProcedureRepository;
+
+	@Autowired
+	private ShortUrlJpaRepository shortUrlJpaRepository;
+
+	@Autowired
+	private HashGenerator hashGenerator;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Result call(long id, String redirectUrl, List<String> candidates) {
+		byte[] hashKey = hashGenerator.hash(redirectUrl);
+		return shortUrlProcedureRepository.createShortUrl(id, hashKey, redirectUrl, LocalDateTime.now().plusDays(1),
+			ShortUrlService.createLockName(hashKey), 3, candidates);
+	}
+
+	@Test
+	@DisplayName("성공: 새 URL 저장 후 같은 URL은 기존 코드 반환")
+	void createLink_thenDuplicate() {
+		// when
+		ShortUrlCreateResponse first = shortUrlCreator.createLink("https://example.com/procedure");
+		ShortUrlCreateResponse second = shortUrlCreator.createLink("https://example.com/procedure");
+
+		// then
+		assertThat(shortUrlCreator).isInstanceOf(StoredProcedureShortUrlCreator.class);
+		assertThat(second.shortCode()).isEqualTo(first.shortCode());
+		ShortUrl saved = shortUrlJpaRepository.findByShortCode(first.shortCode()).orElseThrow();
+		assertThat(saved.getRedirectionUrl()).isEqualTo("https://example.com/procedure");
+		assertThat(saved.getHashKey()).isEqualTo(hashGenerator.hash("https://example.com/procedure"));
+		assertThat(shortUrlJpaRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공: 사용 중인 후보 코드는 건너뛰고 다음 후보로 저장")
+	void call_skipsTakenCandidate() {
+		// given
+		assertThat(call(1L, "https://a.com", List.of("code0001")).status()).isEqualTo(Status.CREATED);
+
+		// when
+		Result result = call(2L, "https://b.com", List.of("code0001", "code0002"));
+
+		// then
+		assertThat(result).isEqualTo(new Result(Status.CREATED, "code0002"));
+	}
+
+	@Test
+	@DisplayName("실패: 모든 후보가 사용 중이면 CONFLICT, lock은 해제")
+	void call_allTaken_conflict() {
+		// given
+		call(1L, "https://a.com", List.of("code0001"));
+
+		// when
+		Result result = call(2L, "https://b.com", List.of("code0001"));
+
+		// then
+		assertThat(result.status()).isEqualTo(Status.CONFLICT);
+		assertThat(result.shortCode()).isNull();
+		String lockName = ShortUrlService.createLockName(hashGenerator.hash("https://b.com"));
+		assertThat(jdbcTemplate.queryForObject("SELECT IS_FREE_LOCK(?)", Integer.class, lockName)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공: 같은 버전이 이미 있으면 재생성하지 않고, 없거나 버전 주석이 없으면 생성")
+	void install_onlyWhenMissingOrOutdated() {
+		// when & then
+		assertThat(shortUrlProcedureRepository.install()).isFalse();
+
+		jdbcTemplate.execute("ALTER PROCEDURE create_short_url COMMENT ''");
+		assertThat(shortUrlProcedureRepository.install()).isTrue();
+
+		jdbcTemplate.execute("DROP PROCEDURE create_short_url");
+		assertThat(shortUrlProcedureRepository.install()).isTrue();
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT ROUTINE_COMMENT FROM information_schema.ROUTINES "
+				+ "WHERE ROUTINE_SCHEMA = DATABASE() AND ROUTINE_NAME = 'create_short_url'", String.class))
+			.isEqualTo("version=" + ShortUrlProcedureRepository.PROCEDURE_VERSION);
+		assertThat(call(1L, "https://a.com", List.of("code0001")).status()).isEqualTo(Status.CREATED);
+		assertThat(jdbcTemplate.queryForObject("SELECT IS_FREE_LOCK('create_short_url_install')", Integer.class))
+			.isEqualTo(1);
+	}
+}
@@ -0,0 +1,164 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+import com.shortener.url_shortener.domain.url.generator.ShortCodeGenerator;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlProcedureRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlProcedureRepository.Result;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlProcedureRepository.Status;
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import com.shortener.url_shortener.global.util.HashGenerator;
+import com.shortener.url_shortener.global.util.RequestDeadline;
+import com.shortener.url_shortener.global.util.TsidGenerator;
+import com.shortener.url_shortener.global.util.UrlCanonicalizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * StoredProcedureShortUrlCreator 단위 테스트
+ *
+ * 테스트 내용:
+ * - 후보 코드를 retry 개수만큼 만들어 프로시저 한 번에 전달
+ * - 프로시저 결과 상태별 처리
+ * - 코드 길이가 short_code 컬럼보다 길면 시작 실패
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoredProcedureShortUrlCreator 단위 테스트")
+class StoredProcedureShortUrlCreatorTest {
+
+	@Mock
+	private ShortUrlService shortUrlService;
+
+	@Mock
+	private ShortUrlProcedureRepository shortUrlProcedureRepository;
+
+	@Mock
+	private ShortUrlBloomFilter shortUrlBloomFilter;
+
+	@Mock
+	private ShortCodeGenerator shortCodeGenerator;
+
+	@Mock
+	private TsidGenerator tsidGenerator;
+
+	@Mock
+	private HashGenerator hashGenerator;
+
+	@Spy
+	private UrlCanonicalizer urlCanonicalizer = new UrlCanonicalizer();
+
+	@Spy
+	private RequestDeadline requestDeadline = new RequestDeadline(new SimpleMeterRegistry());
+
+	@InjectMocks
+	private StoredProcedureShortUrlCreator creator;
+
+	private final byte[] hashKey = new byte[32];
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(creator, "defaultExpirationDays", 7);
+		ReflectionTestUtils.setField(creator, "retry", 3);
+		ReflectionTestUtils.setField(creator, "lockTimeoutSeconds", 3);
+		ReflectionTestUtils.setField(creator, "hashLength", 8);
+		lenient().when(hashGenerator.hash(anyString())).thenReturn(hashKey);
+		lenient().when(tsidGenerator.nextKey()).thenReturn(1L);
+		lenient().when(shortCodeGenerator.generate()).thenReturn("aaaa0001", "aaaa0002", "aaaa0003");
+		lenient().when(shortUrlService.toShortUrl(anyString()))
+			.thenAnswer(invocation -> "http://localhost:9090/link/" + invocation.getArgument(0));
+	}
+
+	private void procedureReturns(Status status, String shortCode) {
+		when(shortUrlProcedureRepository.createShortUrl(anyLong(), any(), anyString(), any(LocalDateTime.class),
+			anyString(), anyInt(), anyList())).thenReturn(new Result(status, shortCode));
+	}
+
+	@Test
+	@DisplayName("성공: 새로 저장되면 Bloom Filter 갱신 후 반환")
+	void created() {
+		// given
+		procedureReturns(Status.CREATED, "aaaa0002");
+
+		// when
+		ShortUrlCreateResponse response = creator.createLink("https://example.com");
+
+		// then
+		assertEquals("aaaa0002", response.shortCode());
+		assertEquals("http://localhost:9090/link/aaaa0002", response.url());
+		verify(shortUrlProcedureRepository).createShortUrl(eq(1L), eq(hashKey), eq("https://example.com"),
+			any(LocalDateTime.class), eq(ShortUrlService.createLockName(hashKey)), eq(3),
+			eq(List.of("aaaa0001", "aaaa0002", "aaaa0003")));
+		verify(shortUrlBloomFilter).put(hashKey);
+	}
+
+	@Test
+	@DisplayName("성공: 기존 URL이면 기존 코드 반환")
+	void existing() {
+		// given
+		procedureReturns(Status.EXISTING, "oldcode1");
+
+		// when
+		ShortUrlCreateResponse response = creator.createLink("https://example.com");
+
+		// then
+		assertEquals("oldcode1", response.shortCode());
+		verify(shortUrlBloomFilter, never()).put(any());
+	}
+
+	@Test
+	@DisplayName("실패: lock 획득 실패나 후보 코드 전부 충돌 시 URL_GENERATION_FAILED")
+	void lockTimeoutOrConflict() {
+		// given
+		when(shortUrlProcedureRepository.createShortUrl(anyLong(), any(), anyString(), any(LocalDateTime.class),
+			anyString(), anyInt(), anyList()))
+			.thenReturn(new Result(Status.LOCK_TIMEOUT, null), new Result(Status.CONFLICT, null));
+
+		// when & then
+		CustomException lockTimeout = assertThrows(CustomException.class,
+			() -> creator.createLink("https://example.com"));
+		CustomException conflict = assertThrows(CustomException.class,
+			() -> creator.createLink("https://example.com"));
+		assertEquals(ErrorCode.URL_GENERATION_FAILED, lockTimeout.getErrorCode());
+		assertEquals(ErrorCode.URL_GENERATION_FAILED, conflict.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("실패: 검증 실패는 프로시저 호출 없이 예외")
+	void invalidUrl() {
+		// given
+		doThrow(ErrorCode.INVALID_ARGUMENT_ERROR.baseException("invalid"))
+			.when(shortUrlService).validateRedirectUrl("ftp://a.com");
+
+		// when & then
+		assertThrows(CustomException.class, () -> creator.createLink("ftp://a.com"));
+		verifyNoInteractions(shortUrlProcedureRepository);
+	}
+
+	@Test
+	@DisplayName("실패: constant.hash.length가 short_code 컬럼보다 길면 시작 실패")
+	void hashLengthExceedsColumn_startupFails() {
+		// given
+		ReflectionTestUtils.setField(creator, "hashLength", ShortUrl.SHORT_CODE_MAX_LENGTH + 1);
+		ReflectionTestUtils.setField(creator, "installOnStartup", true);
+
+		// when & then
+		assertThrows(IllegalStateException.class, () -> creator.install());
+		verifyNoInteractions(shortUrlProcedureRepository);
+	}
+}
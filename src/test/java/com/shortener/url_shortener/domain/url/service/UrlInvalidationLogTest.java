@@ -0,0 +1,219 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+import com.shortener.url_shortener.domain.url.entity.UrlInvalidation;
+import com.shortener.url_shortener.domain.url.repository.UrlInvalidationRepository;
+import com.shortener.url_shortener.global.util.TsidGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * UrlInvalidationLog 단위 테스트
+ *
+ * 테스트 내용:
+ * - 삭제한 short_code를 TSID id로 기록하고 이 노드 캐시 evict
+ * - 커서 이후 로그를 페이지 단위로 읽어 evict, overlap 구간부터 다시 읽음
+ * - 시작 시/너무 밀렸을 때/밀린 로그가 많을 때 캐시 전체 비움
+ * - 캐시를 끄면 기록하지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UrlInvalidationLog 단위 테스트")
+class UrlInvalidationLogTest {
+
+	private static final long CURSOR = 1_000L << 22;
+
+	@Mock
+	private UrlInvalidationRepository urlInvalidationRepository;
+
+	@Mock
+	private TsidGenerator tsidGenerator;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private RedirectCache redirectCache;
+	private UrlInvalidationLog urlInvalidationLog;
+
+	@BeforeEach
+	void setUp() {
+		redirectCache = new RedirectCache(meterRegistry);
+		ReflectionTestUtils.setField(redirectCache, "enabled", true);
+		redirectCache.init();
+
+		urlInvalidationLog = new UrlInvalidationLog(urlInvalidationRepository, tsidGenerator, redirectCache,
+			meterRegistry);
+		ReflectionTestUtils.setField(urlInvalidationLog, "pageSize", 2);
+		ReflectionTestUtils.setField(urlInvalidationLog, "overlapMillis", 100L);
+		ReflectionTestUtils.setField(urlInvalidationLog, "maxEntriesPerPoll", 4);
+	}
+
+	private void cache(String shortCode) {
+		redirectCache.put(shortCode, new ShortUrl(1L, new byte[]{1}, shortCode, "https://example.com",
+			LocalDateTime.now().plusDays(1)), redirectCache.generation());
+	}
+
+	private static UrlInvalidation invalidation(long id, String shortCode) {
+		return new UrlInvalidation(id, shortCode, LocalDateTime.now());
+	}
+
+	private void started() {
+		ReflectionTestUtils.setField(urlInvalidationLog, "cursor", CURSOR);
+		ReflectionTestUtils.setField(urlInvalidationLog, "lastPolledAtMillis", System.currentTimeMillis());
+	}
+
+	@Test
+	@DisplayName("기록: short_code마다 TSID id로 저장하고 이 노드 캐시 evict")
+	@SuppressWarnings("unchecked")
+	void append_savesAndEvictsLocally() {
+		// given
+		cache("code0001");
+		when(tsidGenerator.nextKey()).thenReturn(10L, 11L);
+
+		// when
+		urlInvalidationLog.append(List.of("code0001", "code0002"));
+
+		// then
+		ArgumentCaptor<List<UrlInvalidation>> captor = ArgumentCaptor.forClass(List.class);
+		verify(urlInvalidationRepository).saveAll(captor.capture());
+		assertEquals(List.of(10L, 11L), captor.getValue().stream().map(UrlInvalidation::getId).toList());
+		assertTrue(redirectCache.get("code0001").isEmpty());
+	}
+
+	@Test
+	@DisplayName("기록: 캐시를 끄면 저장하지 않음")
+	void append_disabled_noop() {
+		// given
+		ReflectionTestUtils.setField(redirectCache, "enabled", false);
+
+		// when
+		urlInvalidationLog.append(List.of("code0001"));
+
+		// then
+		verify(urlInvalidationRepository, never()).saveAll(anyList());
+	}
+
+	@Test
+	@DisplayName("첫 poll은 최신 id로 커서를 옮기고 캐시 전체 비움")
+	void firstPoll_startsFromLatest() {
+		// given
+		cache("code0001");
+		when(urlInvalidationRepository.findLatestId()).thenReturn(CURSOR);
+
+		// when
+		urlInvalidationLog.poll();
+
+		// then
+		assertEquals(CURSOR, ReflectionTestUtils.getField(urlInvalidationLog, "cursor"));
+		assertTrue(redirectCache.get("code0001").isEmpty());
+		verify(urlInvalidationRepository, never()).findAfter(anyLong(), anyInt());
+	}
+
+	@Test
+	@DisplayName("커서의 overlap 구간부터 페이지 단위로 읽어서 evict")
+	void poll_evictsFromOverlapWindow() {
+		// given
+		started();
+		cache("code0001");
+		cache("code0002");
+		cache("code0003");
+		long from = CURSOR - (100L << 22);
+		when(urlInvalidationRepository.findAfter(from, 2))
+			.thenReturn(List.of(invalidation(from + 1, "code0001"), invalidation(CURSOR + 1, "code0002")));
+		when(urlInvalidationRepository.findAfter(CURSOR + 1, 2)).thenReturn(List.of());
+
+		// when
+		urlInvalidationLog.poll();
+
+		// then
+		assertTrue(redirectCache.get("code0001").isEmpty());
+		assertTrue(redirectCache.get("code0002").isEmpty());
+		assertTrue(redirectCache.get("code0003").isPresent());
+		assertEquals(CURSOR + 1, ReflectionTestUtils.getField(urlInvalidationLog, "cursor"));
+	}
+
+	@Test
+	@DisplayName("overlap 구간에서 다시 읽은 로그만 있으면 커서는 그대로")
+	void poll_onlyOverlap_keepsCursor() {
+		// given
+		started();
+		when(urlInvalidationRepository.findAfter(anyLong(), eq(2)))
+			.thenReturn(List.of(invalidation(CURSOR - 1, "code0001")));
+
+		// when
+		urlInvalidationLog.poll();
+
+		// then
+		assertEquals(CURSOR, ReflectionTestUtils.getField(urlInvalidationLog, "cursor"));
+	}
+
+	@Test
+	@DisplayName("마지막 성공 poll 후 max-lag가 지났으면 캐시 전체 비움")
+	void poll_lagged_flushes() {
+		// given
+		started();
+		ReflectionTestUtils.setField(urlInvalidationLog, "lastPolledAtMillis", 0L);
+		cache("code0001");
+		when(urlInvalidationRepository.findLatestId()).thenReturn(CURSOR + 100);
+
+		// when
+		urlInvalidationLog.poll();
+
+		// then
+		assertTrue(redirectCache.get("code0001").isEmpty());
+		assertEquals(CURSOR + 100, ReflectionTestUtils.getField(urlInvalidationLog, "cursor"));
+		assertEquals(1.0, meterRegistry.get("shortener.redirect_cache.flushes").tag("reason", "lagged")
+			.counter().count());
+	}
+
+	@Test
+	@DisplayName("밀린 로그가 max-entries-per-poll보다 많으면 캐시 전체 비움")
+	void poll_backlog_flushes() {
+		// given
+		started();
+		cache("code0009");
+		when(urlInvalidationRepository.findAfter(anyLong(), eq(2))).thenAnswer(i -> {
+			long lastId = i.getArgument(0);
+			return List.of(invalidation(lastId + 1, "code0001"), invalidation(lastId + 2, "code0002"));
+		});
+		when(urlInvalidationRepository.findLatestId()).thenReturn(CURSOR + 100);
+
+		// when
+		urlInvalidationLog.poll();
+
+		// then
+		assertTrue(redirectCache.get("code0009").isEmpty());
+		assertEquals(CURSOR + 100, ReflectionTestUtils.getField(urlInvalidationLog, "cursor"));
+		assertEquals(1.0, meterRegistry.get("shortener.redirect_cache.flushes").tag("reason", "backlog")
+			.counter().count());
+	}
+
+	@Test
+	@DisplayName("조회 실패 시 커서를 옮기지 않음")
+	void poll_failure_keepsCursor() {
+		// given
+		started();
+		when(urlInvalidationRepository.findAfter(anyLong(), anyInt())).thenThrow(new RuntimeException("db down"));
+
+		// when
+		urlInvalidationLog.poll();
+
+		// then
+		assertEquals(CURSOR, ReflectionTestUtils.getField(urlInvalidationLog, "cursor"));
+	}
+}
@@ -0,0 +1,357 @@
+package com.shortener.url_shortener.domain.url.service;
+
+import com.shortener.url_shortener.domain.url.dto.response.ShortUrlCreateResponse;
+import com.shortener.url_shortener.domain.url.entity.ShortUrl;
+import com.shortener.url_shortener.domain.url.generator.ShortCodeGenerator;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlJpaRepository;
+import com.shortener.url_shortener.domain.url.repository.ShortUrlRepository;
+import com.shortener.url_shortener.global.util.HashGenerator;
+import com.shortener.url_shortener.global.util.SegmentedJournal;
+import com.shortener.url_shortener.global.util.TsidGenerator;
+import com.shortener.url_shortener.global.util.UrlCanonicalizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * WriteBehindShortUrlCreator 단위 테스트
+ *
+ * 테스트 내용:
+ * - 생성은 journal 기록만 하고 DB 쓰기 없이 반환
+ * - drain 시 INSERT 후 대기 목록에서 제거
+ * - 재시작 시 drain 안 된 레코드 재생
+ * - drain 시점 short_code 충돌 시 코드를 바꾸지 않고 그 레코드만 dead-letter로 격리, feistel 생성기 필수
+ * - drain 전 삭제된 URL은 저장하지 않음, 저장 중 삭제된 URL은 큐에서 빼기 전에 DB에서 삭제
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WriteBehindShortUrlCreator 단위 테스트")
+class WriteBehindShortUrlCreatorTest {
+
+	@Mock
+	private ShortUrlService shortUrlService;
+
+	@Mock
+	private ShortUrlRepository shortUrlRepository;
+
+	@Mock
+	private ShortUrlJpaRepository shortUrlJpaRepository;
+
+	@Mock
+	private ShortUrlBloomFilter shortUrlBloomFilter;
+
+	@Mock
+	private ShortCodeGenerator shortCodeGenerator;
+
+	@Mock
+	private TsidGenerator tsidGenerator;
+
+	@Mock
+	private HashGenerator hashGenerator;
+
+	@TempDir
+	Path journalDir;
+
+	private final List<WriteBehindShortUrlCreator> started = new ArrayList<>();
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		lenient().when(shortUrlService.toShortUrl(anyString()))
+			.thenAnswer(invocation -> "http://localhost:8080/" + invocation.getArgument(0));
+		lenient().when(hashGenerator.hash(anyString())).thenReturn(new byte[32]);
+		lenient().when(tsidGenerator.nextKey()).thenReturn(1L, 2L, 3L);
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		for (WriteBehindShortUrlCreator creator : started) {
+			creator.shutdown();
+		}
+	}
+
+	private WriteBehindShortUrlCreator start(PendingShortUrls pendingShortUrls) {
+		WriteBehindShortUrlCreator creator = new WriteBehindShortUrlCreator(shortUrlService, shortUrlRepository,
+			shortUrlJpaRepository, shortUrlBloomFilter, pendingShortUrls, shortCodeGenerator, tsidGenerator,
+			hashGenerator, meterRegistry, new UrlCanonicalizer());
+		ReflectionTestUtils.setField(creator, "defaultExpirationDays", 30);
+		ReflectionTestUtils.setField(creator, "retry", 3);
+		ReflectionTestUtils.setField(creator, "generator", "feistel");
+		ReflectionTestUtils.setField(creator, "journalDir", journalDir.toString());
+		ReflectionTestUtils.setField(creator, "deadLetterFile", deadLetterFile().toString());
+		ReflectionTestUtils.setField(creator, "segmentSizeBytes", 64 * 1024);
+		ReflectionTestUtils.setField(creator, "fsyncIntervalMillis", 1L);
+		// drain은 테스트에서 직접 호출
+		ReflectionTestUtils.setField(creator, "drainIntervalMillis", 60_000L);
+		ReflectionTestUtils.setField(creator, "drainBatchSize", 100);
+		creator.start();
+		started.add(creator);
+		return creator;
+	}
+
+	private Path deadLetterFile() {
+		return journalDir.resolveSibling(journalDir.getFileName() + "-dead-letter.tsv");
+	}
+
+	/**
+	 * drain 없이 종료 (비정상 종료 흉내)
+	 */
+	private void crash(WriteBehindShortUrlCreator creator) {
+		((ScheduledExecutorService)ReflectionTestUtils.getField(creator, "drainer")).shutdownNow();
+		((SegmentedJournal)ReflectionTestUtils.getField(creator, "journal")).close();
+		started.remove(creator);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<ShortUrl> insertedRows() {
+		ArgumentCaptor<List<ShortUrl>> captor = ArgumentCaptor.forClass(List.class);
+		verify(shortUrlRepository, atLeastOnce()).insertAll(captor.capture());
+		return captor.getAllValues().stream().flatMap(List::stream).toList();
+	}
+
+	@Test
+	@DisplayName("성공: 생성은 DB INSERT 없이 반환하고 getLink용 대기 목록에 등록")
+	void createLink_journaledWithoutInsert() {
+		// given
+		PendingShortUrls pending = new PendingShortUrls();
+		WriteBehindShortUrlCreator creator = start(pending);
+		when(shortCodeGenerator.generate()).thenReturn("abcd1234");
+
+		// when
+		ShortUrlCreateResponse response = creator.createLink("https://example.com");
+
+		// then
+		assertEquals("abcd1234", response.shortCode());
+		assertEquals("https://example.com", pending.findByShortCode("abcd1234").orElseThrow().getRedirectionUrl());
+		verify(shortUrlRepository, never()).insertAll(anyList());
+		verify(shortUrlBloomFilter).put(any());
+	}
+
+	@Test
+	@DisplayName("성공: 대기 중인 동일 URL은 같은 코드를 반환하고 한 번만 기록")
+	void createLink_pendingDuplicate() {
+		// given
+		WriteBehindShortUrlCreator creator = start(new PendingShortUrls());
+		when(shortCodeGenerator.generate()).thenReturn("abcd1234");
+
+		// when
+		String first = creator.createLink("https://example.com").shortCode();
+		String second = creator.createLink("https://example.com").shortCode();
+		creator.drain();
+
+		// then
+		assertEquals(first, second);
+		verify(shortCodeGenerator, times(1)).generate();
+		assertEquals(1, insertedRows().size());
+	}
+
+	@Test
+	@DisplayName("성공: drain 시 INSERT 후 대기 목록에서 제거")
+	void drain_insertsAndClearsPending() {
+		// given
+		PendingShortUrls pending = new PendingShortUrls();
+		WriteBehindShortUrlCreator creator = start(pending);
+		when(shortCodeGenerator.generate()).thenReturn("aaaa0001", "aaaa0002");
+		creator.createLink("https://a.com");
+		creator.createLink("https://b.com");
+
+		// when
+		creator.drain();
+
+		// then
+		verify(shortUrlRepository, times(1)).insertAll(anyList());
+		assertEquals(List.of("aaaa0001", "aaaa0002"), insertedRows().stream().map(ShortUrl::getShortCode).toList());
+		assertEquals(0, pending.size());
+		assertEquals(2.0, meterRegistry.get("shortener.write_behind.drained").counter().count());
+	}
+
+	@Test
+	@DisplayName("성공: 재시작 시 drain 안 된 레코드를 재생해서 저장")
+	void restart_replaysUndrained() {
+		// given
+		WriteBehindShortUrlCreator crashed = start(new PendingShortUrls());
+		when(shortCodeGenerator.generate()).thenReturn("aaaa0001");
+		crashed.createLink("https://a.com");
+		crash(crashed);
+		verify(shortUrlRepository, never()).insertAll(anyList());
+
+		// when
+		PendingShortUrls pending = new PendingShortUrls();
+		WriteBehindShortUrlCreator restarted = start(pending);
+
+		// then: drain 전에도 재생된 URL 조회 가능
+		assertTrue(pending.findByShortCode("aaaa0001").isPresent());
+		restarted.drain();
+		List<ShortUrl> rows = insertedRows();
+		assertEquals(1, rows.size());
+		assertEquals("https://a.com", rows.get(0).getRedirectionUrl());
+		assertEquals(0, pending.size());
+	}
+
+	@Test
+	@DisplayName("충돌: drain 시점에 다른 URL이 쓰는 코드면 코드를 바꾸지 않고 dead-letter로 격리, 나머지는 계속 drain")
+	void drain_conflict_quarantinedAndDrainContinues() throws Exception {
+		// given
+		PendingShortUrls pendingShortUrls = new PendingShortUrls();
+		WriteBehindShortUrlCreator creator = start(pendingShortUrls);
+		when(shortCodeGenerator.generate()).thenReturn("aaaa0001", "aaaa0002");
+		creator.createLink("https://a.com");
+		creator.createLink("https://b.com");
+		doAnswer(invocation -> {
+			List<ShortUrl> rows = invocation.getArgument(0);
+			if (rows.stream().anyMatch(row -> row.getShortCode().equals("aaaa0001"))) {
+				throw new DataIntegrityViolationException("duplicate");
+			}
+			return null;
+		}).when(shortUrlRepository).insertAll(anyList());
+		when(shortUrlJpaRepository.findByShortCode("aaaa0001"))
+			.thenReturn(Optional.of(new ShortUrl(9L, "aaaa0001", "https://other.com", LocalDateTime.now())));
+
+		// when
+		creator.drain();
+
+		// then
+		verify(shortCodeGenerator, times(2)).generate();
+		assertTrue(insertedRows().stream().anyMatch(row -> row.getShortCode().equals("aaaa0002")));
+		assertFalse(pendingShortUrls.containsShortCode("aaaa0001"));
+		assertEquals(0, pendingShortUrls.size());
+		assertEquals(0, ((Queue<?>)ReflectionTestUtils.getField(creator, "drainQueue")).size());
+		verify(shortUrlRepository, never()).deleteByShortCode(anyString());
+		assertEquals(1.0, meterRegistry.get("shortener.write_behind.conflicts").counter().count());
+		assertEquals(1.0, meterRegistry.get("shortener.write_behind.drained").counter().count());
+		List<String> deadLetters = Files.readAllLines(deadLetterFile());
+		assertEquals(1, deadLetters.size());
+		assertTrue(deadLetters.get(0).contains("\taaaa0001\t"));
+		assertTrue(deadLetters.get(0).endsWith("\thttps://a.com\thttps://other.com"));
+
+		// 재시작해도 격리한 레코드는 재생되지 않음
+		crash(creator);
+		PendingShortUrls restarted = new PendingShortUrls();
+		start(restarted);
+		assertEquals(0, restarted.size());
+	}
+
+	@Test
+	@DisplayName("feistel 생성기가 아니면 시작 실패 (반환한 코드가 drain 시 충돌할 수 있음)")
+	void start_requiresFeistelGenerator() {
+		// given
+		WriteBehindShortUrlCreator creator = new WriteBehindShortUrlCreator(shortUrlService, shortUrlRepository,
+			shortUrlJpaRepository, shortUrlBloomFilter, new PendingShortUrls(), shortCodeGenerator, tsidGenerator,
+			hashGenerator, meterRegistry, new UrlCanonicalizer());
+		ReflectionTestUtils.setField(creator, "generator", "random");
+
+		// when & then
+		assertThrows(IllegalStateException.class, creator::start);
+	}
+
+	@Test
+	@DisplayName("성공: drain 전에 삭제된 URL은 저장하지 않음")
+	void drain_deletedWhilePending_skipped() {
+		// given
+		PendingShortUrls pending = new PendingShortUrls();
+		WriteBehindShortUrlCreator creator = start(pending);
+		when(shortCodeGenerator.generate()).thenReturn("aaaa0001");
+		creator.createLink("https://a.com");
+		pending.remove("aaaa0001");
+
+		// when
+		creator.drain();
+
+		// then
+		verify(shortUrlRepository, never()).insertAll(anyList());
+	}
+
+	@Test
+	@DisplayName("성공: INSERT와 대기 목록 제거 사이에 삭제되면 저장한 row를 DB에서 삭제")
+	void drain_deletedWhilePersisting_rowDeleted() {
+		// given
+		PendingShortUrls pending = new PendingShortUrls();
+		WriteBehindShortUrlCreator creator = start(pending);
+		when(shortCodeGenerator.generate()).thenReturn("aaaa0001");
+		creator.createLink("https://a.com");
+		// INSERT 직후 삭제 요청이 대기 목록에서 먼저 제거
+		doAnswer(invocation -> pending.remove("aaaa0001")).when(shortUrlRepository).insertAll(anyList());
+
+		// when
+		creator.drain();
+
+		// then
+		verify(shortUrlRepository).deleteByShortCode("aaaa0001");
+		verify(shortUrlJpaRepository, never()).deleteByShortCode(anyString());
+		assertEquals(0, ((Queue<?>)ReflectionTestUtils.getField(creator, "drainQueue")).size());
+	}
+
+	@Test
+	@DisplayName("재시도: 저장 중 삭제된 row의 DELETE가 실패하면 큐에 남기고 다음 drain에서 다시 삭제")
+	void drain_deleteFailure_retriedBeforePoll() {
+		// given
+		PendingShortUrls pending = new PendingShortUrls();
+		WriteBehindShortUrlCreator creator = start(pending);
+		when(shortCodeGenerator.generate()).thenReturn("aaaa0001");
+		creator.createLink("https://a.com");
+		doAnswer(invocation -> pending.remove("aaaa0001")).when(shortUrlRepository).insertAll(anyList());
+		when(shortUrlRepository.deleteByShortCode("aaaa0001"))
+			.thenThrow(new DataAccessResourceFailureException("connection refused"))
+			.thenReturn(1);
+		Queue<?> drainQueue = (Queue<?>)ReflectionTestUtils.getField(creator, "drainQueue");
+
+		// when
+		creator.drain();
+
+		// then
+		assertEquals(1, drainQueue.size());
+
+		// when
+		creator.drain();
+
+		// then
+		verify(shortUrlRepository, times(2)).deleteByShortCode("aaaa0001");
+		verify(shortUrlRepository, times(1)).insertAll(anyList());
+		assertEquals(0, drainQueue.size());
+	}
+
+	@Test
+	@DisplayName("journal 레코드 encode/decode 왕복")
+	void encodeDecode_roundTrip() {
+		// given
+		byte[] hashKey = new byte[32];
+		hashKey[0] = 7;
+		ShortUrl shortUrl = new ShortUrl(42L, hashKey, "abcd1234", "https://example.com/경로?q=1",
+			LocalDateTime.of(2030, 1, 2, 3, 4, 5, 6_000));
+
+		// when
+		ShortUrl decoded = WriteBehindShortUrlCreator.decode(WriteBehindShortUrlCreator.encode(shortUrl));
+
+		// then
+		assertEquals(42L, decoded.getId());
+		assertArrayEquals(hashKey, decoded.getHashKey());
+		assertEquals("abcd1234", decoded.getShortCode());
+		assertEquals(shortUrl.getRedirectionUrl(), decoded.getRedirectionUrl());
+		assertEquals(shortUrl.getExpiredAt(), decoded.getExpiredAt());
+	}
+}
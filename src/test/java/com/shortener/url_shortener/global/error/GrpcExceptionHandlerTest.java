@@ -225,5 +225,18 @@ class GrpcExceptionHandlerTest {
 			// ErrorCode 기반으로 Status.CANCELLED로 변환되어야 함
 			assertEquals(Status.Code.CANCELLED, status.getCode());
 		}
+
+		@Test
+		@DisplayName("DEADLINE_EXCEEDED는 HttpStatus가 GATEWAY_TIMEOUT이지만 DEADLINE_EXCEEDED로 매핑")
+		void deadlineExceeded_overridesHttpStatus() {
+			// given
+			CustomException exception = ErrorCode.DEADLINE_EXCEEDED.baseException();
+
+			// when
+			Status status = handler.convertToStatus(exception);
+
+			// then
+			assertEquals(Status.Code.DEADLINE_EXCEEDED, status.getCode());
+		}
 	}
 }
@@ -1,5 +1,8 @@
 package com.shortener.url_shortener.global.interceptor;
 
+import com.shortener.url_shortener.domain.url.service.ClusterRouter;
+import com.shortener.url_shortener.global.error.GrpcExceptionHandler;
+import com.shortener.url_shortener.global.util.ClientRateLimiter;
 import io.grpc.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +26,7 @@ import static org.mockito.Mockito.*;
  * - API Key 검증 로직
  * - 성공/실패 케이스
  * - 에러 메시지 검증
+ * - 생성 메서드 API Key별 요청 한도
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ApiKeyInterceptor 단위 테스트")
@@ -44,6 +48,12 @@ class ApiKeyInterceptorTest {
 	@Mock
 	private MethodDescriptor<String, String> methodDescriptor;
 
+	@Mock
+	private ClientRateLimiter clientRateLimiter;
+
+	@Mock
+	private ClusterRouter clusterRouter;
+
 	@Captor
 	private ArgumentCaptor<Status> statusCaptor;
 
@@ -52,7 +62,7 @@ class ApiKeyInterceptorTest {
 
 	@BeforeEach
 	void setUp() {
-		interceptor = new ApiKeyInterceptor();
+		interceptor = new ApiKeyInterceptor(clientRateLimiter, new GrpcExceptionHandler(), clusterRouter);
 		ReflectionTestUtils.setField(interceptor, "validApiKey", VALID_API_KEY);
 
 		// Mock 설정
@@ -198,4 +208,81 @@ class ApiKeyInterceptorTest {
 			verify(serverCall, times(1)).close(any(Status.class), any(Metadata.class));
 		}
 	}
+
+	@Nested
+	@DisplayName("요청 한도 테스트")
+	class RateLimitTests {
+
+		@Test
+		@DisplayName("생성 메서드가 한도를 넘으면 RESOURCE_EXHAUSTED와 retry-after")
+		void createLink_overLimit_resourceExhausted() {
+			// given
+			Metadata headers = new Metadata();
+			headers.put(API_KEY_METADATA_KEY, VALID_API_KEY);
+			when(clientRateLimiter.tryAcquire(VALID_API_KEY)).thenReturn(300_000_000L);
+
+			// when
+			interceptor.interceptCall(serverCall, headers, next);
+
+			// then
+			verify(serverCall, times(1)).close(statusCaptor.capture(), metadataCaptor.capture());
+			verify(next, never()).startCall(any(), any());
+
+			assertEquals(Status.Code.RESOURCE_EXHAUSTED, statusCaptor.getValue().getCode());
+			assertEquals("1", metadataCaptor.getValue()
+				.get(Metadata.Key.of("retry-after", Metadata.ASCII_STRING_MARSHALLER)));
+		}
+
+		@Test
+		@DisplayName("삭제 메서드는 한도를 확인하지 않음")
+		void deleteLink_notRateLimited() {
+			// given
+			when(methodDescriptor.getFullMethodName()).thenReturn("url.UrlShortenerRpc/DeleteLink");
+			Metadata headers = new Metadata();
+			headers.put(API_KEY_METADATA_KEY, VALID_API_KEY);
+
+			// when
+			interceptor.interceptCall(serverCall, headers, next);
+
+			// then
+			verify(next, times(1)).startCall(serverCall, headers);
+			verifyNoInteractions(clientRateLimiter);
+		}
+
+		@Test
+		@DisplayName("다른 노드가 전달한 생성 요청은 한도를 다시 확인하지 않음")
+		void forwardedCreateLink_notRateLimited() {
+			// given
+			Metadata headers = new Metadata();
+			headers.put(API_KEY_METADATA_KEY, VALID_API_KEY);
+			headers.put(ClusterForwardInterceptor.FORWARDED_BY_METADATA_KEY, "localhost:9191");
+			when(clusterRouter.isTrustedForward(headers)).thenReturn(true);
+
+			// when
+			interceptor.interceptCall(serverCall, headers, next);
+
+			// then
+			verify(next, times(1)).startCall(serverCall, headers);
+			verifyNoInteractions(clientRateLimiter);
+		}
+
+		@Test
+		@DisplayName("확인되지 않은 x-forwarded-by는 무시하고 한도 확인")
+		void untrustedForwardedHeader_stillRateLimited() {
+			// given
+			Metadata headers = new Metadata();
+			headers.put(API_KEY_METADATA_KEY, VALID_API_KEY);
+			headers.put(ClusterForwardInterceptor.FORWARDED_BY_METADATA_KEY, "localhost:9191");
+			when(clusterRouter.isTrustedForward(headers)).thenReturn(false);
+			when(clientRateLimiter.tryAcquire(VALID_API_KEY)).thenReturn(1_000_000_000L);
+
+			// when
+			interceptor.interceptCall(serverCall, headers, next);
+
+			// then
+			verify(serverCall).close(statusCaptor.capture(), any(Metadata.class));
+			assertEquals(Status.Code.RESOURCE_EXHAUSTED, statusCaptor.getValue().getCode());
+			verify(next, never()).startCall(any(), any());
+		}
+	}
 }
@@ -0,0 +1,99 @@
+package com.shortener.url_shortener.global.interceptor;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.shortener.url_shortener.global.util.ClientRateLimiter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RateLimitInterceptor 단위 테스트
+ *
+ * 테스트 내용:
+ * - 요청자가 정하는 헤더가 아니라 remote address로 구분
+ * - trusted proxy에서 온 요청만 client-ip-header의 마지막 주소 사용
+ * - 생성(POST)만 제한
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitInterceptor 단위 테스트")
+class RateLimitInterceptorTest {
+
+	@Mock
+	private ClientRateLimiter clientRateLimiter;
+
+	private RateLimitInterceptor interceptor;
+
+	@BeforeEach
+	void setUp() {
+		interceptor = new RateLimitInterceptor(clientRateLimiter);
+		ReflectionTestUtils.setField(interceptor, "clientIpHeader", "X-Forwarded-For");
+		ReflectionTestUtils.setField(interceptor, "trustedProxies", List.of("10.0.0.254"));
+	}
+
+	private MockHttpServletRequest post(String remoteAddr) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/link");
+		request.setRemoteAddr(remoteAddr);
+		return request;
+	}
+
+	@Test
+	@DisplayName("X-Client-Id/X-Forwarded-For를 바꿔도 직접 연결한 주소로 제한")
+	void untrustedRemote_usesRemoteAddress() {
+		// given
+		MockHttpServletRequest request = post("203.0.113.7");
+		request.addHeader("X-Client-Id", "fresh-id");
+		request.addHeader("X-Forwarded-For", "198.51.100.1");
+
+		// when
+		interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+		// then
+		verify(clientRateLimiter).tryAcquire("203.0.113.7");
+	}
+
+	@Test
+	@DisplayName("trusted proxy에서 온 요청은 프록시가 덧붙인 마지막 주소로 제한")
+	void trustedProxy_usesLastForwardedAddress() {
+		// given
+		MockHttpServletRequest request = post("10.0.0.254");
+		request.addHeader("X-Forwarded-For", "1.2.3.4, 198.51.100.1");
+
+		// when
+		interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+		// then
+		verify(clientRateLimiter).tryAcquire("198.51.100.1");
+	}
+
+	@Test
+	@DisplayName("trusted proxy라도 헤더가 없으면 remote address 사용")
+	void trustedProxy_missingHeader_usesRemoteAddress() {
+		// when
+		interceptor.preHandle(post("10.0.0.254"), new MockHttpServletResponse(), new Object());
+
+		// then
+		verify(clientRateLimiter).tryAcquire("10.0.0.254");
+	}
+
+	@Test
+	@DisplayName("조회(GET)는 제한하지 않음")
+	void get_notLimited() {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/aB3Xy9Km");
+
+		// when & then
+		assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+		verifyNoInteractions(clientRateLimiter);
+	}
+}
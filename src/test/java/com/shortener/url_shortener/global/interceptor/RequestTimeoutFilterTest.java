@@ -0,0 +1,70 @@
+package com.shortener.url_shortener.global.interceptor;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RequestTimeoutFilter 단위 테스트
+ *
+ * 테스트 내용:
+ * - X-Request-Timeout 헤더가 요청 처리 중 Context deadline이 됨
+ * - 헤더가 없거나 잘못되면 deadline 없음
+ * - 요청이 끝나면 이전 Context로 복구
+ */
+@DisplayName("RequestTimeoutFilter 단위 테스트")
+class RequestTimeoutFilterTest {
+
+	private RequestTimeoutFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		filter = new RequestTimeoutFilter();
+	}
+
+	@AfterEach
+	void tearDown() {
+		filter.shutdown();
+	}
+
+	private Deadline deadlineDuringRequest(String header) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/link");
+		if (header != null) {
+			request.addHeader(RequestTimeoutFilter.REQUEST_TIMEOUT_HEADER, header);
+		}
+		AtomicReference<Deadline> deadline = new AtomicReference<>();
+		filter.doFilter(request, new MockHttpServletResponse(),
+			(req, res) -> deadline.set(Context.current().getDeadline()));
+		return deadline.get();
+	}
+
+	@Test
+	@DisplayName("성공: 헤더 값(밀리초)이 요청 처리 중 deadline으로 설정")
+	void headerBecomesDeadline() throws Exception {
+		Deadline deadline = deadlineDuringRequest("2000");
+
+		assertNotNull(deadline);
+		long remaining = deadline.timeRemaining(TimeUnit.MILLISECONDS);
+		assertTrue(remaining > 1000 && remaining <= 2000, "remaining: " + remaining);
+		assertNull(Context.current().getDeadline());
+	}
+
+	@Test
+	@DisplayName("헤더가 없거나 양의 정수가 아니면 deadline 없음")
+	void missingOrInvalidHeader() throws Exception {
+		assertNull(deadlineDuringRequest(null));
+		assertNull(deadlineDuringRequest("abc"));
+		assertNull(deadlineDuringRequest("0"));
+		assertNull(deadlineDuringRequest("-5"));
+	}
+}
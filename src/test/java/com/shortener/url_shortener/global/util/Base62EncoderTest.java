@@ -322,5 +322,73 @@ class Base62EncoderTest {
 			assertEquals(8, result.length());
 			assertTrue(encoder.isValid(result));
 		}
+
+		@Test
+		@DisplayName("스레드 전용 버퍼로 정해진 길이의 Base62 문자열 생성")
+		void random_threadLocalBuffer_generatesBase62String() {
+			String result = encoder.random(8);
+
+			assertEquals(8, result.length());
+			assertTrue(encoder.isValid(result));
+		}
+
+		@Test
+		@DisplayName("상위 6비트가 62 이상인 바이트는 버리고 다음 바이트 사용 (rejection sampling)")
+		void random_rejectsOutOfRangeBytes() {
+			// given: 0xFF(63), 0xF8(62)는 버려지고 0x00(0), 0xF4(61), 0x28(10)만 사용
+			SecureRandomBuffer source = new SecureRandomBuffer(new FixedBytesRandom(
+				(byte)0xFF, (byte)0x00, (byte)0xF8, (byte)0xF4, (byte)0x28), 5);
+
+			// when
+			String result = encoder.random(3, source);
+
+			// then
+			assertEquals("0Za", result);
+		}
+	}
+
+	@Nested
+	@DisplayName("고정 길이 숫자 인코딩 테스트")
+	class EncodeFixedWidthTest {
+
+		@Test
+		@DisplayName("작은 숫자는 앞자리를 0으로 채움")
+		void encodeFixedWidth_padsWithZero() {
+			assertEquals("00000000", encoder.encode(0L, 8));
+			assertEquals("0000000z", encoder.encode(35L, 8));
+			assertEquals("00000010", encoder.encode(62L, 8));
+		}
+
+		@Test
+		@DisplayName("62^8 - 1은 ZZZZZZZZ")
+		void encodeFixedWidth_maxValue() {
+			assertEquals("ZZZZZZZZ", encoder.encode(218_340_105_584_895L, 8));
+		}
+
+		@Test
+		@DisplayName("자리수를 넘거나 음수면 IllegalArgumentException")
+		void encodeFixedWidth_outOfRange() {
+			assertThrows(IllegalArgumentException.class, () -> encoder.encode(218_340_105_584_896L, 8));
+			assertThrows(IllegalArgumentException.class, () -> encoder.encode(-1L, 8));
+		}
+	}
+
+	/**
+	 * 정해진 바이트를 반복해서 채우는 테스트용 SecureRandom
+	 */
+	private static class FixedBytesRandom extends SecureRandom {
+
+		private final byte[] values;
+
+		FixedBytesRandom(byte... values) {
+			this.values = values;
+		}
+
+		@Override
+		public void nextBytes(byte[] bytes) {
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = values[i % values.length];
+			}
+		}
 	}
 }
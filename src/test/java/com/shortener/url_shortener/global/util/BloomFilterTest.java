@@ -0,0 +1,109 @@
+package com.shortener.url_shortener.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BloomFilter 단위 테스트
+ *
+ * 테스트 내용:
+ * - false negative 없음
+ * - 오탐률이 설정값 근처로 유지
+ * - 파라미터/키 검증
+ */
+@DisplayName("BloomFilter 단위 테스트")
+class BloomFilterTest {
+
+	private final HashGenerator hashGenerator = new HashGenerator();
+
+	@Nested
+	@DisplayName("포함 여부 테스트")
+	class MembershipTest {
+
+		@Test
+		@DisplayName("추가한 키는 항상 포함된다고 응답 (false negative 없음)")
+		void put_thenMightContain_alwaysTrue() {
+			// given
+			BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+			// when
+			for (int i = 0; i < 10_000; i++) {
+				filter.put(hashGenerator.hash("https://example.com/" + i));
+			}
+
+			// then
+			for (int i = 0; i < 10_000; i++) {
+				assertTrue(filter.mightContain(hashGenerator.hash("https://example.com/" + i)));
+			}
+			assertEquals(10_000, filter.insertions());
+		}
+
+		@Test
+		@DisplayName("추가하지 않은 키의 오탐률은 설정값의 2배 이내")
+		void mightContain_falsePositiveRate_withinBound() {
+			// given
+			double fpp = 0.01;
+			BloomFilter filter = BloomFilter.create(10_000, fpp);
+			for (int i = 0; i < 10_000; i++) {
+				filter.put(hashGenerator.hash("https://example.com/" + i));
+			}
+
+			// when
+			int falsePositives = 0;
+			int trials = 20_000;
+			for (int i = 0; i < trials; i++) {
+				if (filter.mightContain(hashGenerator.hash("https://other.com/" + i))) {
+					falsePositives++;
+				}
+			}
+
+			// then
+			assertTrue((double)falsePositives / trials < fpp * 2,
+				"false positives: " + falsePositives);
+			assertTrue(filter.estimatedFalsePositiveRate() < fpp * 2);
+		}
+
+		@Test
+		@DisplayName("빈 필터는 어떤 키도 포함하지 않음")
+		void emptyFilter_containsNothing() {
+			BloomFilter filter = BloomFilter.create(100, 0.01);
+
+			assertFalse(filter.mightContain(hashGenerator.hash("https://example.com")));
+			assertEquals(0.0, filter.estimatedFalsePositiveRate());
+		}
+	}
+
+	@Nested
+	@DisplayName("크기 계산 및 검증 테스트")
+	class SizingTest {
+
+		@Test
+		@DisplayName("1천만 건, 1% 오탐률이면 약 12MB, 해시 함수 7개")
+		void create_sizing() {
+			BloomFilter filter = BloomFilter.create(10_000_000, 0.01);
+
+			assertEquals(7, filter.hashFunctions());
+			assertTrue(filter.memoryBytes() > 11_000_000 && filter.memoryBytes() < 13_000_000,
+				"memory: " + filter.memoryBytes());
+		}
+
+		@Test
+		@DisplayName("잘못된 파라미터는 IllegalArgumentException")
+		void create_invalidArguments() {
+			assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+			assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 0));
+			assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1));
+		}
+
+		@Test
+		@DisplayName("16 bytes 미만 키는 IllegalArgumentException")
+		void put_shortKey() {
+			BloomFilter filter = BloomFilter.create(100, 0.01);
+
+			assertThrows(IllegalArgumentException.class, () -> filter.put(new byte[]{1, 2, 3}));
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.shortener.url_shortener.global.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ClientRateLimiter 단위 테스트
+ *
+ * 테스트 내용:
+ * - 클라이언트별로 독립된 버킷
+ * - overrides 한도 적용, 잘못된 형식은 시작 시 실패
+ * - max-clients 초과 시 새 클라이언트 거절, 백그라운드 정리 후 다시 허용
+ * - 비활성화하면 제한 없음
+ */
+@DisplayName("ClientRateLimiter 단위 테스트")
+class ClientRateLimiterTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private ClientRateLimiter limiter;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		limiter = new ClientRateLimiter(meterRegistry);
+		ReflectionTestUtils.setField(limiter, "defaultRatePerSecond", 0.001);
+		ReflectionTestUtils.setField(limiter, "defaultBurst", 2);
+	}
+
+	private int acquireAll(String clientId) {
+		int allowed = 0;
+		while (limiter.tryAcquire(clientId) == 0) {
+			allowed++;
+		}
+		return allowed;
+	}
+
+	@Test
+	@DisplayName("클라이언트마다 별도 버킷, 한도 초과는 거절 메트릭 증가")
+	void perClientBuckets() {
+		// given
+		limiter.init();
+
+		// when & then
+		assertEquals(2, acquireAll("client-a"));
+		assertEquals(2, acquireAll("client-b"));
+		assertEquals(2.0, meterRegistry.get("shortener.rate_limit.rejected").tag("reason", "limit").counter()
+			.count());
+		assertEquals(2.0, meterRegistry.get("shortener.rate_limit.clients").gauge().value());
+	}
+
+	@Test
+	@DisplayName("overrides에 있는 클라이언트는 그 한도 적용")
+	void overrides() {
+		// given
+		ReflectionTestUtils.setField(limiter, "overrides", List.of("batch-job=0.001/5", " "));
+		limiter.init();
+
+		// when & then
+		assertEquals(5, acquireAll("batch-job"));
+		assertEquals(2, acquireAll("other"));
+	}
+
+	@Test
+	@DisplayName("잘못된 overrides 형식은 시작 시 실패")
+	void invalidOverride() {
+		ReflectionTestUtils.setField(limiter, "overrides", List.of("batch-job=fast"));
+		assertThrows(IllegalArgumentException.class, () -> limiter.init());
+	}
+
+	@Test
+	@DisplayName("클라이언트 수가 max-clients면 새 클라이언트는 거절, 기존 클라이언트는 그대로")
+	void maxClients_rejectsNewClients() {
+		// given
+		ReflectionTestUtils.setField(limiter, "maxClients", 1);
+		ReflectionTestUtils.setField(limiter, "sweepIntervalMillis", 5000L);
+		limiter.init();
+		limiter.tryAcquire("client-a");
+
+		// when & then
+		assertEquals(TimeUnit.SECONDS.toNanos(5), limiter.tryAcquire("client-b"));
+		assertEquals(TimeUnit.SECONDS.toNanos(5), limiter.tryAcquire("client-c"));
+		assertEquals(0, limiter.tryAcquire("client-a"));
+		assertEquals(1.0, meterRegistry.get("shortener.rate_limit.clients").gauge().value());
+		assertEquals(2.0, meterRegistry.get("shortener.rate_limit.rejected").tag("reason", "table_full").counter()
+			.count());
+	}
+
+	@Test
+	@DisplayName("가득 찬 버킷은 정리되고 빈 자리에 새 클라이언트 허용, 사용 중인 버킷은 유지")
+	void evictIdle_freesSlots() throws InterruptedException {
+		// given
+		ReflectionTestUtils.setField(limiter, "defaultRatePerSecond", 1000.0);
+		ReflectionTestUtils.setField(limiter, "overrides", List.of("busy=0.001/2"));
+		ReflectionTestUtils.setField(limiter, "maxClients", 2);
+		limiter.init();
+		limiter.tryAcquire("idle");
+		limiter.tryAcquire("busy");
+		assertNotEquals(0, limiter.tryAcquire("client-c"));
+		TimeUnit.MILLISECONDS.sleep(10);
+
+		// when
+		int evicted = limiter.evictIdle();
+
+		// then
+		assertEquals(1, evicted);
+		assertEquals(0, limiter.tryAcquire("client-c"));
+		assertEquals(2.0, meterRegistry.get("shortener.rate_limit.clients").gauge().value());
+	}
+
+	@Test
+	@DisplayName("비활성화하면 제한 없음")
+	void disabled() {
+		// given
+		ReflectionTestUtils.setField(limiter, "enabled", false);
+		limiter.init();
+
+		// when & then
+		for (int i = 0; i < 100; i++) {
+			assertEquals(0, limiter.tryAcquire("client-a"));
+		}
+	}
+}
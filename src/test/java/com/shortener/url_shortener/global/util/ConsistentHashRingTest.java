@@ -0,0 +1,116 @@
+package com.shortener.url_shortener.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConsistentHashRing 단위 테스트
+ *
+ * 테스트 내용:
+ * - 멤버 목록 순서와 상관없이 같은 owner
+ * - key가 노드마다 고르게 분배
+ * - 노드 추가/제거 시 그 노드 몫의 key만 owner가 바뀜
+ */
+@DisplayName("ConsistentHashRing 단위 테스트")
+class ConsistentHashRingTest {
+
+	private static final int KEYS = 20_000;
+
+	private static byte[][] randomKeys() {
+		Random random = new Random(42);
+		byte[][] keys = new byte[KEYS][32];
+		for (byte[] key : keys) {
+			random.nextBytes(key);
+		}
+		return keys;
+	}
+
+	@Test
+	@DisplayName("멤버 순서가 달라도 같은 key는 같은 owner")
+	void sameOwnerRegardlessOfOrder() {
+		// given
+		ConsistentHashRing ring1 = new ConsistentHashRing(List.of("a:1", "b:1", "c:1"), 160);
+		ConsistentHashRing ring2 = new ConsistentHashRing(List.of("c:1", "a:1", "b:1"), 160);
+
+		// when & then
+		for (byte[] key : randomKeys()) {
+			assertEquals(ring1.ownerOf(key), ring2.ownerOf(key));
+		}
+	}
+
+	@Test
+	@DisplayName("노드마다 key가 고르게 분배")
+	void evenDistribution() {
+		// given
+		ConsistentHashRing ring = new ConsistentHashRing(List.of("a:1", "b:1", "c:1", "d:1"), 160);
+
+		// when
+		Map<String, Integer> counts = new HashMap<>();
+		for (byte[] key : randomKeys()) {
+			counts.merge(ring.ownerOf(key), 1, Integer::sum);
+		}
+
+		// then: 평균(25%)에서 크게 벗어나지 않음
+		assertEquals(4, counts.size());
+		for (int count : counts.values()) {
+			assertTrue(count > KEYS / 4 * 0.8 && count < KEYS / 4 * 1.2, "count: " + count);
+		}
+	}
+
+	@Test
+	@DisplayName("노드 추가 시 새 노드로 옮겨지는 key만 owner가 바뀜 (약 1/N)")
+	void addNode_movesOnlyToNewNode() {
+		// given
+		ConsistentHashRing before = new ConsistentHashRing(List.of("a:1", "b:1", "c:1"), 160);
+		ConsistentHashRing after = new ConsistentHashRing(List.of("a:1", "b:1", "c:1", "d:1"), 160);
+
+		// when
+		int moved = 0;
+		for (byte[] key : randomKeys()) {
+			String previousOwner = before.ownerOf(key);
+			String owner = after.ownerOf(key);
+			if (!previousOwner.equals(owner)) {
+				assertEquals("d:1", owner);
+				moved++;
+			}
+		}
+
+		// then
+		assertTrue(moved > KEYS / 4 * 0.8 && moved < KEYS / 4 * 1.2, "moved: " + moved);
+	}
+
+	@Test
+	@DisplayName("노드 제거 시 제거된 노드의 key만 owner가 바뀜")
+	void removeNode_movesOnlyRemovedKeys() {
+		// given
+		ConsistentHashRing before = new ConsistentHashRing(List.of("a:1", "b:1", "c:1", "d:1"), 160);
+		ConsistentHashRing after = new ConsistentHashRing(List.of("a:1", "b:1", "c:1"), 160);
+
+		// when & then
+		for (byte[] key : randomKeys()) {
+			String previousOwner = before.ownerOf(key);
+			if (!previousOwner.equals("d:1")) {
+				assertEquals(previousOwner, after.ownerOf(key));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("노드가 하나면 모든 key의 owner")
+	void singleNode() {
+		// given
+		ConsistentHashRing ring = new ConsistentHashRing(List.of("a:1"), 1);
+
+		// when & then
+		assertEquals("a:1", ring.ownerAt(Long.MIN_VALUE));
+		assertEquals("a:1", ring.ownerAt(Long.MAX_VALUE));
+		assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of(), 160));
+	}
+}
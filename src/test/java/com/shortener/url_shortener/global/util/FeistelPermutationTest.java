@@ -0,0 +1,110 @@
+package com.shortener.url_shortener.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FeistelPermutation 단위 테스트
+ *
+ * 테스트 내용:
+ * - 구간 전체에 대한 1:1 매핑 (충돌 없음)
+ * - 역변환
+ * - 키에 따라 다른 순열
+ */
+@DisplayName("FeistelPermutation 단위 테스트")
+class FeistelPermutationTest {
+
+	private static final byte[] KEY = "test-feistel-key-0123456789".getBytes(StandardCharsets.UTF_8);
+	private static final long BASE62_8_DOMAIN = 218_340_105_584_896L;
+
+	@Nested
+	@DisplayName("순열 성질 테스트")
+	class PermutationTest {
+
+		@Test
+		@DisplayName("62^2 구간 전체가 중복 없이 구간 안으로 매핑")
+		void permute_smallDomain_isBijection() {
+			// given
+			long domain = 62 * 62;
+			FeistelPermutation permutation = new FeistelPermutation(KEY, domain);
+			Set<Long> outputs = new HashSet<>();
+
+			// when
+			for (long i = 0; i < domain; i++) {
+				long output = permutation.permute(i);
+
+				// then
+				assertTrue(output >= 0 && output < domain);
+				assertTrue(outputs.add(output), "duplicate output: " + output);
+			}
+			assertEquals(domain, outputs.size());
+		}
+
+		@Test
+		@DisplayName("inverse(permute(x)) == x")
+		void inverse_restoresInput() {
+			FeistelPermutation permutation = new FeistelPermutation(KEY, BASE62_8_DOMAIN);
+
+			for (long i = 0; i < 10_000; i++) {
+				assertEquals(i, permutation.inverse(permutation.permute(i)));
+			}
+			long last = BASE62_8_DOMAIN - 1;
+			assertEquals(last, permutation.inverse(permutation.permute(last)));
+		}
+
+		@Test
+		@DisplayName("연속된 입력도 연속되지 않은 출력으로 매핑")
+		void permute_sequentialInputs_areScattered() {
+			FeistelPermutation permutation = new FeistelPermutation(KEY, BASE62_8_DOMAIN);
+
+			long first = permutation.permute(0);
+			long second = permutation.permute(1);
+
+			assertTrue(Math.abs(first - second) > 1_000_000L);
+		}
+
+		@Test
+		@DisplayName("키가 다르면 다른 순열")
+		void permute_differentKeys_differentOutputs() {
+			FeistelPermutation permutation = new FeistelPermutation(KEY, BASE62_8_DOMAIN);
+			FeistelPermutation other = new FeistelPermutation(
+				"another-feistel-key-987654".getBytes(StandardCharsets.UTF_8), BASE62_8_DOMAIN);
+
+			int same = 0;
+			for (long i = 0; i < 100; i++) {
+				if (permutation.permute(i) == other.permute(i)) {
+					same++;
+				}
+			}
+			assertTrue(same < 2);
+		}
+	}
+
+	@Nested
+	@DisplayName("검증 테스트")
+	class ValidationTest {
+
+		@Test
+		@DisplayName("짧은 키는 IllegalArgumentException")
+		void shortKey_throws() {
+			assertThrows(IllegalArgumentException.class,
+				() -> new FeistelPermutation("short".getBytes(StandardCharsets.UTF_8), BASE62_8_DOMAIN));
+		}
+
+		@Test
+		@DisplayName("구간 밖 입력은 IllegalArgumentException")
+		void outOfDomain_throws() {
+			FeistelPermutation permutation = new FeistelPermutation(KEY, 100);
+
+			assertThrows(IllegalArgumentException.class, () -> permutation.permute(100));
+			assertThrows(IllegalArgumentException.class, () -> permutation.permute(-1));
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package com.shortener.url_shortener.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GradientLimit 단위 테스트
+ *
+ * 테스트 내용:
+ * - 한도까지만 획득, 반환 후 다시 획득 가능
+ * - 지연이 안정적이면 한도 증가, 기준의 tolerance배를 넘으면 감소
+ * - 과부하 실패는 즉시 감소, 한도를 절반도 안 쓰면 증가하지 않음
+ * - min/max 범위 유지
+ */
+@DisplayName("GradientLimit 단위 테스트")
+class GradientLimitTest {
+
+	private static final long MILLIS = 1_000_000L;
+
+	private GradientLimit newLimit(int initial) {
+		return new GradientLimit(initial, 2, 100, 0.2, 1.5, 600);
+	}
+
+	/**
+	 * 한도만큼 동시에 잡은 뒤 모두 같은 처리 시간으로 반환
+	 */
+	private void fullRound(GradientLimit limit, long rttNanos) {
+		int permits = limit.getLimit();
+		int[] inFlight = new int[permits];
+		for (int i = 0; i < permits; i++) {
+			inFlight[i] = limit.tryAcquire();
+		}
+		for (int i = 0; i < permits; i++) {
+			limit.onSuccess(rttNanos, inFlight[i]);
+		}
+	}
+
+	@Test
+	@DisplayName("한도까지만 획득하고 초과하면 -1")
+	void tryAcquire_upToLimit() {
+		// given
+		GradientLimit limit = newLimit(3);
+
+		// when & then
+		assertEquals(1, limit.tryAcquire());
+		assertEquals(2, limit.tryAcquire());
+		assertEquals(3, limit.tryAcquire());
+		assertEquals(-1, limit.tryAcquire());
+
+		limit.onIgnore();
+		assertEquals(2, limit.getInFlight());
+		assertEquals(3, limit.tryAcquire());
+	}
+
+	@Test
+	@DisplayName("지연이 일정하고 한도를 다 쓰면 한도 증가")
+	void stableLatency_grows() {
+		// given
+		GradientLimit limit = newLimit(10);
+
+		// when
+		for (int i = 0; i < 5; i++) {
+			fullRound(limit, 5 * MILLIS);
+		}
+
+		// then
+		assertTrue(limit.getLimit() > 10);
+		assertEquals(0, limit.getInFlight());
+		assertEquals(5.0, limit.getLongRttMillis(), 0.001);
+	}
+
+	@Test
+	@DisplayName("지연이 기준의 tolerance배를 넘으면 한도 감소")
+	void latencyRise_shrinks() {
+		// given
+		GradientLimit limit = newLimit(20);
+		fullRound(limit, 5 * MILLIS);
+		int before = limit.getLimit();
+
+		// when
+		for (int i = 0; i < 3; i++) {
+			fullRound(limit, 50 * MILLIS);
+		}
+
+		// then
+		assertTrue(limit.getLimit() < before);
+	}
+
+	@Test
+	@DisplayName("과부하 실패는 즉시 0.9배로 감소")
+	void dropped_backsOff() {
+		// given
+		GradientLimit limit = newLimit(20);
+
+		// when
+		limit.tryAcquire();
+		limit.onDropped();
+
+		// then
+		assertEquals(18, limit.getLimit());
+		assertEquals(0, limit.getInFlight());
+	}
+
+	@Test
+	@DisplayName("한도의 절반도 쓰지 않으면 증가하지 않음")
+	void appLimited_doesNotGrow() {
+		// given
+		GradientLimit limit = newLimit(20);
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			int inFlight = limit.tryAcquire();
+			limit.onSuccess(5 * MILLIS, inFlight);
+		}
+
+		// then
+		assertEquals(20, limit.getLimit());
+	}
+
+	@Test
+	@DisplayName("한도는 min/max 범위를 벗어나지 않음")
+	void clampedToRange() {
+		// given
+		GradientLimit small = newLimit(2);
+		GradientLimit large = newLimit(100);
+
+		// when
+		for (int i = 0; i < 10; i++) {
+			small.tryAcquire();
+			small.onDropped();
+		}
+		for (int i = 0; i < 5; i++) {
+			fullRound(large, 5 * MILLIS);
+		}
+
+		// then
+		assertEquals(2, small.getLimit());
+		assertEquals(100, large.getLimit());
+	}
+
+	@Test
+	@DisplayName("잘못된 범위는 생성 시 거절")
+	void invalidRange() {
+		assertThrows(IllegalArgumentException.class, () -> new GradientLimit(1, 2, 100, 0.2, 1.5, 600));
+		assertThrows(IllegalArgumentException.class, () -> new GradientLimit(10, 20, 5, 0.2, 1.5, 600));
+	}
+}
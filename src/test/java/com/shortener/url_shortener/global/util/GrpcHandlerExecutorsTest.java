@@ -0,0 +1,103 @@
+package com.shortener.url_shortener.global.util;
+
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import io.grpc.Context;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GrpcHandlerExecutors 단위 테스트
+ *
+ * 테스트 내용:
+ * - 제출 시점 gRPC Context를 풀 스레드로 전달
+ * - 큐가 가득 차면 HANDLER_QUEUE_FULL, 거절/풀 메트릭
+ */
+@DisplayName("GrpcHandlerExecutors 단위 테스트")
+class GrpcHandlerExecutorsTest {
+
+	private static final Context.Key<String> KEY = Context.key("test-key");
+
+	private SimpleMeterRegistry meterRegistry;
+	private GrpcHandlerExecutors executors;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		executors = new GrpcHandlerExecutors(meterRegistry);
+		ReflectionTestUtils.setField(executors, "createLinkThreads", 1);
+		ReflectionTestUtils.setField(executors, "createLinkQueueCapacity", 1);
+		executors.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executors.shutdown();
+	}
+
+	@Test
+	@DisplayName("제출한 스레드의 Context 값을 풀 스레드에서 읽을 수 있음")
+	void propagatesContext() throws Exception {
+		// given
+		AtomicReference<String> seen = new AtomicReference<>();
+		CountDownLatch done = new CountDownLatch(1);
+
+		// when
+		Context.current().withValue(KEY, "value").run(() -> executors.execute(GrpcHandlerExecutors.CREATE_LINK,
+			() -> {
+				seen.set(KEY.get());
+				done.countDown();
+			}));
+
+		// then
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertEquals("value", seen.get());
+	}
+
+	@Test
+	@DisplayName("실패: 실행 중 1개 + 큐 1개가 차면 HANDLER_QUEUE_FULL, 거절 메트릭 증가")
+	void queueFull() throws Exception {
+		// given
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Runnable blocking = () -> {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		executors.execute(GrpcHandlerExecutors.CREATE_LINK, blocking);
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		executors.execute(GrpcHandlerExecutors.CREATE_LINK, blocking);
+
+		// when
+		CustomException exception = assertThrows(CustomException.class,
+			() -> executors.execute(GrpcHandlerExecutors.CREATE_LINK, blocking));
+
+		// then
+		assertEquals(ErrorCode.HANDLER_QUEUE_FULL, exception.getErrorCode());
+		assertEquals(1.0, meterRegistry.get("shortener.grpc.executor.rejected").tag("rpc", "createLink")
+			.counter().count());
+		assertEquals(1.0, meterRegistry.get("executor.queued").tag("name", "grpc.createLink").gauge().value());
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("실패: 등록되지 않은 RPC 이름")
+	void unknownRpc() {
+		assertThrows(IllegalArgumentException.class, () -> executors.execute("getLink", () -> {
+		}));
+	}
+}
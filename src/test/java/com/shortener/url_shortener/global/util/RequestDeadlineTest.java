@@ -0,0 +1,123 @@
+package com.shortener.url_shortener.global.util;
+
+import com.shortener.url_shortener.global.error.CustomException;
+import com.shortener.url_shortener.global.error.ErrorCode;
+import io.grpc.Context;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalInt;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RequestDeadline 단위 테스트
+ *
+ * 테스트 내용:
+ * - deadline 없으면 설정값 그대로 사용
+ * - lock 대기는 남은 시간 내림, 트랜잭션 timeout은 올림
+ * - 만료/취소 구분과 메트릭
+ */
+@DisplayName("RequestDeadline 단위 테스트")
+class RequestDeadlineTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private RequestDeadline requestDeadline;
+	private ScheduledExecutorService scheduler;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		requestDeadline = new RequestDeadline(meterRegistry);
+		scheduler = Executors.newSingleThreadScheduledExecutor();
+	}
+
+	@AfterEach
+	void tearDown() {
+		scheduler.shutdownNow();
+	}
+
+	private <T> T withDeadline(long millis, Callable<T> callable) throws Exception {
+		Context.CancellableContext context = Context.current()
+			.withDeadlineAfter(millis, TimeUnit.MILLISECONDS, scheduler);
+		try {
+			return context.call(callable);
+		} finally {
+			context.cancel(null);
+		}
+	}
+
+	@Test
+	@DisplayName("deadline이 없으면 설정값 그대로, 트랜잭션 timeout 없음")
+	void noDeadline() {
+		assertEquals(3, requestDeadline.lockTimeoutSeconds(3, "lock"));
+		assertEquals(OptionalInt.empty(), requestDeadline.remainingSeconds());
+		assertDoesNotThrow(() -> requestDeadline.checkNotExpired("connection"));
+	}
+
+	@Test
+	@DisplayName("남은 시간 2.5초: lock 대기 2초(내림), 트랜잭션 timeout 3초(올림)")
+	void deadlineShorterThanConfigured() throws Exception {
+		int lockTimeout = withDeadline(2500, () -> requestDeadline.lockTimeoutSeconds(3, "lock"));
+		OptionalInt remaining = withDeadline(2500, requestDeadline::remainingSeconds);
+
+		assertEquals(2, lockTimeout);
+		assertEquals(OptionalInt.of(3), remaining);
+		assertEquals(1.0, meterRegistry.get("shortener.deadline.lock_wait_reduced").summary().totalAmount());
+	}
+
+	@Test
+	@DisplayName("남은 시간이 1초 미만이면 lock은 기다리지 않고(0) 트랜잭션 timeout은 최소 1초")
+	void deadlineUnderOneSecond() throws Exception {
+		assertEquals(0, withDeadline(500, () -> requestDeadline.lockTimeoutSeconds(3, "lock")));
+		assertEquals(OptionalInt.of(1), withDeadline(500, requestDeadline::remainingSeconds));
+	}
+
+	@Test
+	@DisplayName("deadline이 설정값보다 길면 설정값 사용")
+	void deadlineLongerThanConfigured() throws Exception {
+		assertEquals(3, withDeadline(60_000, () -> requestDeadline.lockTimeoutSeconds(3, "lock")));
+		assertTrue(meterRegistry.find("shortener.deadline.lock_wait_reduced").summaries().isEmpty());
+	}
+
+	@Test
+	@DisplayName("완료 대기 시간은 설정값과 남은 시간 중 작은 값")
+	void waitMillis() throws Exception {
+		assertEquals(5000, requestDeadline.waitMillis(5000, "group_commit"));
+		assertEquals(5000, withDeadline(60_000, () -> requestDeadline.waitMillis(5000, "group_commit")));
+		assertTrue(withDeadline(500, () -> requestDeadline.waitMillis(5000, "group_commit")) <= 500);
+	}
+
+	@Test
+	@DisplayName("실패: deadline이 지났으면 DEADLINE_EXCEEDED, 단계별 메트릭 증가")
+	void expired() {
+		CustomException exception = assertThrows(CustomException.class,
+			() -> withDeadline(-1, () -> {
+				requestDeadline.checkNotExpired("connection");
+				return null;
+			}));
+
+		assertEquals(ErrorCode.DEADLINE_EXCEEDED, exception.getErrorCode());
+		assertEquals(1.0, meterRegistry.get("shortener.deadline.expired").tag("stage", "connection").counter()
+			.count());
+	}
+
+	@Test
+	@DisplayName("실패: deadline 없이 취소되면 REQUEST_CANCELLED")
+	void cancelled() {
+		Context.CancellableContext context = Context.current().withCancellation();
+		context.cancel(new RuntimeException("cancelled"));
+
+		CustomException exception = assertThrows(CustomException.class,
+			() -> context.run(() -> requestDeadline.checkNotExpired("connection")));
+
+		assertEquals(ErrorCode.REQUEST_CANCELLED, exception.getErrorCode());
+	}
+}
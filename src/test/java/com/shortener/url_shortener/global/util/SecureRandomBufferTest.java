@@ -0,0 +1,65 @@
+package com.shortener.url_shortener.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SecureRandomBuffer 단위 테스트
+ *
+ * 테스트 내용:
+ * - 블록 단위 채움
+ * - 스레드별 인스턴스 분리
+ */
+@DisplayName("SecureRandomBuffer 단위 테스트")
+class SecureRandomBufferTest {
+
+	@Test
+	@DisplayName("버퍼를 다 쓸 때만 blockSize 단위로 다시 채움")
+	void nextUnsignedByte_refillsPerBlock() {
+		// given
+		AtomicInteger refills = new AtomicInteger();
+		SecureRandom random = new SecureRandom() {
+			@Override
+			public void nextBytes(byte[] bytes) {
+				int base = refills.getAndIncrement() * bytes.length;
+				for (int i = 0; i < bytes.length; i++) {
+					bytes[i] = (byte)(base + i);
+				}
+			}
+		};
+		SecureRandomBuffer buffer = new SecureRandomBuffer(random, 4);
+
+		// when & then
+		for (int expected = 0; expected < 10; expected++) {
+			assertEquals(expected, buffer.nextUnsignedByte());
+		}
+		assertEquals(3, refills.get());
+	}
+
+	@Test
+	@DisplayName("0~255 범위의 값 반환")
+	void nextUnsignedByte_range() {
+		SecureRandomBuffer buffer = SecureRandomBuffer.current();
+
+		for (int i = 0; i < SecureRandomBuffer.DEFAULT_BLOCK_SIZE * 2; i++) {
+			int value = buffer.nextUnsignedByte();
+			assertTrue(value >= 0 && value <= 255);
+		}
+	}
+
+	@Test
+	@DisplayName("스레드마다 별도 인스턴스 사용")
+	void current_perThread() throws Exception {
+		SecureRandomBuffer mine = SecureRandomBuffer.current();
+		SecureRandomBuffer other = CompletableFuture.supplyAsync(SecureRandomBuffer::current).get();
+
+		assertSame(mine, SecureRandomBuffer.current());
+		assertNotSame(mine, other);
+	}
+}
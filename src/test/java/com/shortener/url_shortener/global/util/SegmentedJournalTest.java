@@ -0,0 +1,161 @@
+package com.shortener.url_shortener.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SegmentedJournal 단위 테스트
+ *
+ * 테스트 내용:
+ * - fsync 대기 후 재시작 시 재생
+ * - 세그먼트 전환
+ * - checkpoint 이후만 재생, 이전 세그먼트 삭제
+ * - 잘린 레코드 감지
+ */
+@DisplayName("SegmentedJournal 단위 테스트")
+class SegmentedJournalTest {
+
+	@TempDir
+	Path directory;
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private List<String> replayAll() {
+		List<String> records = new ArrayList<>();
+		try (SegmentedJournal journal = new SegmentedJournal(directory, 1024, 1)) {
+			journal.replay((position, payload) -> records.add(new String(payload, StandardCharsets.UTF_8)));
+		}
+		return records;
+	}
+
+	private long segmentCount() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(path -> path.getFileName().toString().startsWith("segment-")).count();
+		}
+	}
+
+	@Nested
+	@DisplayName("기록/재생 테스트")
+	class AppendReplayTest {
+
+		@Test
+		@DisplayName("fsync 완료된 레코드는 재시작 후 순서대로 재생")
+		void append_thenReplay_inOrder() throws Exception {
+			// given
+			try (SegmentedJournal journal = new SegmentedJournal(directory, 1024, 1)) {
+				long first = journal.append(bytes("a"));
+				long second = journal.append(bytes("b"));
+
+				// when
+				journal.awaitDurable(second);
+
+				// then
+				assertTrue(second > first);
+				assertTrue(journal.durablePosition() >= second);
+			}
+
+			assertEquals(List.of("a", "b"), replayAll());
+		}
+
+		@Test
+		@DisplayName("세그먼트가 가득 차면 다음 세그먼트로 전환")
+		void append_rollsSegment() throws Exception {
+			// given
+			byte[] payload = new byte[300];
+			List<Long> positions = new ArrayList<>();
+
+			// when
+			try (SegmentedJournal journal = new SegmentedJournal(directory, 1024, 1)) {
+				for (int i = 0; i < 5; i++) {
+					positions.add(journal.append(payload));
+				}
+				journal.awaitDurable(positions.get(4));
+			}
+
+			// then
+			assertTrue(SegmentedJournal.segmentId(positions.get(4)) > SegmentedJournal.segmentId(positions.get(0)));
+			assertEquals(5, replayAll().size());
+		}
+
+		@Test
+		@DisplayName("세그먼트보다 큰 레코드는 IllegalArgumentException")
+		void append_tooLarge() {
+			try (SegmentedJournal journal = new SegmentedJournal(directory, 1024, 1)) {
+				assertThrows(IllegalArgumentException.class, () -> journal.append(new byte[2000]));
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("checkpoint 테스트")
+	class CheckpointTest {
+
+		@Test
+		@DisplayName("checkpoint 이후 레코드만 재생하고 완료된 세그먼트는 삭제")
+		void checkpoint_skipsDrained_andDeletesSegments() throws Exception {
+			// given
+			long checkpoint;
+			try (SegmentedJournal journal = new SegmentedJournal(directory, 1024, 1)) {
+				journal.append(bytes("a"));
+				checkpoint = journal.append(bytes("b"));
+				journal.append(bytes("c"));
+			}
+
+			// when
+			try (SegmentedJournal journal = new SegmentedJournal(directory, 1024, 1)) {
+				journal.checkpoint(checkpoint);
+			}
+
+			// then
+			assertEquals(List.of("c"), replayAll());
+
+			// 모두 처리했다고 기록하면 이전 세그먼트 삭제
+			try (SegmentedJournal journal = new SegmentedJournal(directory, 1024, 1)) {
+				journal.checkpoint(journal.startPosition());
+			}
+			assertEquals(List.of(), replayAll());
+			assertEquals(2, segmentCount(), "마지막 두 실행의 빈 세그먼트만 남음");
+		}
+
+		@Test
+		@DisplayName("잘린(crc 불일치) 레코드부터는 재생하지 않음")
+		void replay_stopsAtTornRecord() throws Exception {
+			// given
+			try (SegmentedJournal journal = new SegmentedJournal(directory, 1024, 1)) {
+				journal.append(bytes("a"));
+				journal.append(bytes("b"));
+			}
+			Path segment;
+			try (Stream<Path> files = Files.list(directory)) {
+				segment = files.filter(path -> path.getFileName().toString().startsWith("segment-"))
+					.findFirst()
+					.orElseThrow();
+			}
+
+			// when: 두 번째 레코드 payload 손상 (header 8 bytes + "a" 1 byte + header 8 bytes)
+			try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+				channel.write(ByteBuffer.wrap(bytes("x")), 17);
+			}
+
+			// then
+			assertEquals(List.of("a"), replayAll());
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package com.shortener.url_shortener.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TokenBucket 단위 테스트
+ *
+ * 테스트 내용:
+ * - burst만큼 연속 허용, 이후 다음 토큰까지 남은 시간 반환
+ * - 시간이 지나면 rate만큼 다시 채워지고 burst를 넘지 않음
+ * - 여러 토큰 한 번에 획득
+ * - 동시 요청에서도 burst를 넘게 허용하지 않음
+ */
+@DisplayName("TokenBucket 단위 테스트")
+class TokenBucketTest {
+
+	private static final long SECOND = 1_000_000_000L;
+
+	@Test
+	@DisplayName("burst만큼 허용하고 다음 요청은 토큰 하나 채워질 시간 반환")
+	void burstThenReject() {
+		// given
+		TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+		// when & then
+		assertEquals(0, bucket.tryAcquire(0));
+		assertEquals(0, bucket.tryAcquire(0));
+		assertEquals(0, bucket.tryAcquire(0));
+		assertEquals(SECOND / 10, bucket.tryAcquire(0));
+		assertFalse(bucket.isFull(0));
+	}
+
+	@Test
+	@DisplayName("시간이 지나면 rate만큼 채워지고 burst 이상 쌓이지 않음")
+	void refill() {
+		// given
+		TokenBucket bucket = new TokenBucket(10, 3, 0);
+		for (int i = 0; i < 3; i++) {
+			bucket.tryAcquire(0);
+		}
+
+		// when & then
+		assertEquals(0, bucket.tryAcquire(SECOND / 10));
+		assertTrue(bucket.tryAcquire(SECOND / 10) > 0);
+
+		long later = 10 * SECOND;
+		assertTrue(bucket.isFull(later));
+		int allowed = 0;
+		while (bucket.tryAcquire(later) == 0) {
+			allowed++;
+		}
+		assertEquals(3, allowed);
+	}
+
+	@Test
+	@DisplayName("여러 토큰을 한 번에 획득하고 부족하면 모자란 만큼 기다릴 시간 반환")
+	void acquireMultiplePermits() {
+		// given
+		TokenBucket bucket = new TokenBucket(10, 5, 0);
+
+		// when & then
+		assertEquals(0, bucket.tryAcquire(0, 3));
+		assertEquals(SECOND / 10, bucket.tryAcquire(0, 3));
+		assertEquals(0, bucket.tryAcquire(SECOND / 10, 3));
+		assertEquals(SECOND * 3 / 10, bucket.tryAcquire(SECOND / 10, 3));
+	}
+
+	@Test
+	@DisplayName("동시 요청에서도 burst까지만 허용")
+	void concurrentAcquire() throws Exception {
+		// given
+		TokenBucket bucket = new TokenBucket(1, 100, 0);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger allowed = new AtomicInteger();
+
+		// when
+		for (int i = 0; i < 8; i++) {
+			executor.submit(() -> {
+				start.await();
+				for (int j = 0; j < 100; j++) {
+					if (bucket.tryAcquire(0) == 0) {
+						allowed.incrementAndGet();
+					}
+				}
+				return null;
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+		// then
+		assertEquals(100, allowed.get());
+	}
+
+	@Test
+	@DisplayName("잘못된 설정은 생성 시 거절")
+	void invalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 10, 0));
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket(10, 0, 0));
+	}
+}
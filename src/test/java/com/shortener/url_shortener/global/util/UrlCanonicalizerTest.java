@@ -0,0 +1,148 @@
+package com.shortener.url_shortener.global.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UrlCanonicalizer 단위 테스트
+ *
+ * 테스트 내용:
+ * - scheme/host 소문자, 기본 포트 제거
+ * - percent-encoding, dot-segment 정규화
+ * - query 정렬, 추적 파라미터 제거 옵션
+ * - 샘플 URL 묶음의 중복 제거율
+ */
+@DisplayName("UrlCanonicalizer 단위 테스트")
+class UrlCanonicalizerTest {
+
+	private UrlCanonicalizer canonicalizer;
+
+	@BeforeEach
+	void setUp() {
+		canonicalizer = new UrlCanonicalizer();
+		ReflectionTestUtils.setField(canonicalizer, "enabled", true);
+	}
+
+	private void enableQueryOptions() {
+		ReflectionTestUtils.setField(canonicalizer, "sortQuery", true);
+		ReflectionTestUtils.setField(canonicalizer, "stripTrackingParams", true);
+	}
+
+	@Nested
+	@DisplayName("기본 정규화 테스트")
+	class DefaultTest {
+
+		@ParameterizedTest
+		@CsvSource(delimiter = '|', value = {
+			"HTTP://Example.COM:80/a?b=1&c=2 | http://example.com/a?b=1&c=2",
+			"https://Ex.com:443              | https://ex.com",
+			"http://a.com:/p                 | http://a.com/p",
+			"http://u:P@Host.COM/p           | http://u:P@host.com/p",
+			"http://[::1]:80/                | http://[::1]/",
+			"http://a.com/a/./b/../c         | http://a.com/a/c",
+			"http://a.com/a/..               | http://a.com/",
+			"http://a.com/a/.                | http://a.com/a/",
+			"http://a.com/..                 | http://a.com/",
+			"http://a.com/%2E%2E/b           | http://a.com/b",
+			"http://a.com/%7euser/%2fx       | http://a.com/~user/%2Fx",
+			"http://a.com/?q=%e2%82%ac#Frag  | http://a.com/?q=%E2%82%AC#Frag",
+			"http://a.com?                   | http://a.com"
+		})
+		@DisplayName("표기만 다른 URL을 같은 형태로 정규화")
+		void canonicalize(String input, String expected) {
+			assertEquals(expected, canonicalizer.canonicalize(input));
+		}
+
+		@Test
+		@DisplayName("이미 정규형이면 같은 인스턴스 반환")
+		void canonical_returnsSameInstance() {
+			String url = "https://ex.com:8443/a//b?c=2&b=1";
+
+			assertSame(url, canonicalizer.canonicalize(url));
+		}
+
+		@Test
+		@DisplayName("정규화 결과를 다시 정규화해도 같음")
+		void idempotent() {
+			enableQueryOptions();
+			String once = canonicalizer.canonicalize("HTTP://A.com:80/x/%7e/../y?utm_source=a&b=2&a=1#f");
+
+			assertEquals(once, canonicalizer.canonicalize(once));
+		}
+
+		@Test
+		@DisplayName("비활성화하면 입력 그대로 반환")
+		void disabled() {
+			ReflectionTestUtils.setField(canonicalizer, "enabled", false);
+
+			assertEquals("HTTP://A.com:80/", canonicalizer.canonicalize("HTTP://A.com:80/"));
+		}
+	}
+
+	@Nested
+	@DisplayName("query 옵션 테스트")
+	class QueryOptionTest {
+
+		@Test
+		@DisplayName("파라미터 이름순 정렬, 같은 이름은 원래 순서 유지")
+		void sortQuery() {
+			ReflectionTestUtils.setField(canonicalizer, "sortQuery", true);
+
+			assertEquals("http://a.com/?a=1&b=2&b=1", canonicalizer.canonicalize("http://a.com/?b=2&a=1&b=1&&"));
+		}
+
+		@Test
+		@DisplayName("추적 파라미터 제거 (utm_* 접두사 포함)")
+		void stripTrackingParams() {
+			ReflectionTestUtils.setField(canonicalizer, "stripTrackingParams", true);
+
+			assertEquals("http://a.com/p?c=2&b=1",
+				canonicalizer.canonicalize("http://a.com/p?c=2&utm_source=x&b=1&FBCLID=1"));
+			assertEquals("http://a.com/", canonicalizer.canonicalize("http://a.com/?utm_campaign=1"));
+		}
+	}
+
+	@Test
+	@DisplayName("샘플 URL 묶음 중복 제거율 (정규화 전 12개 → 기본 8개 → query 옵션 4개)")
+	void dedupeRate_sampleCorpus() {
+		// given
+		List<String> corpus = List.of(
+			"https://example.com/a?b=1&c=2",
+			"HTTPS://example.com/a?b=1&c=2",
+			"https://Example.com:443/a?b=1&c=2",
+			"https://example.com/x/../a?c=2&b=1",
+			"https://example.com/a?b=1&c=2&utm_source=newsletter",
+			"https://example.com/a?utm_medium=email&b=1&c=2&fbclid=abc",
+			"http://shop.example.com/%7Eitem/42",
+			"http://shop.example.com/~item/42",
+			"http://SHOP.example.com:80/./~item/42",
+			"https://news.example.org/story?id=7",
+			"https://news.example.org/story?id=7&gclid=xyz",
+			"https://news.example.org/story?id=8"
+		);
+
+		// when
+		Set<String> raw = new HashSet<>(corpus);
+		Set<String> defaults = new HashSet<>();
+		corpus.forEach(url -> defaults.add(canonicalizer.canonicalize(url)));
+		enableQueryOptions();
+		Set<String> withQueryOptions = new HashSet<>();
+		corpus.forEach(url -> withQueryOptions.add(canonicalizer.canonicalize(url)));
+
+		// then
+		assertEquals(12, raw.size());
+		assertEquals(8, defaults.size());
+		assertEquals(4, withQueryOptions.size());
+	}
+}
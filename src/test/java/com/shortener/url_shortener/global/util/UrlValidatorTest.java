@@ -0,0 +1,186 @@
+package com.shortener.url_shortener.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UrlValidator 단위 테스트
+ *
+ * 테스트 내용:
+ * - 허용/거절 URL과 실패 종류
+ * - host: 도메인, IPv4, IPv6(scope, IPv4 포함), IDN(A-label)
+ * - 무작위 입력에서 기존 java.net.URI 검증과 결과가 같은지 (fuzz)
+ */
+@DisplayName("UrlValidator 단위 테스트")
+class UrlValidatorTest {
+
+	private static final int MAX_LENGTH = 2048;
+
+	/**
+	 * 기존 검증 방식 (new URI 후 scheme, host 확인)
+	 */
+	private static boolean validByUri(String url) {
+		if (url == null || url.isBlank() || url.length() > MAX_LENGTH) {
+			return false;
+		}
+		try {
+			URI uri = new URI(url);
+			String scheme = uri.getScheme();
+			if (scheme == null || !(scheme.equalsIgnoreCase("http") || scheme.equalsIgnoreCase("https"))) {
+				return false;
+			}
+			String host = uri.getHost();
+			return host != null && !host.isBlank();
+		} catch (URISyntaxException | RuntimeException e) {
+			return false;
+		}
+	}
+
+	@Nested
+	@DisplayName("허용 테스트")
+	class ValidTest {
+
+		@ParameterizedTest
+		@ValueSource(strings = {
+			"http://example.com",
+			"HTTPS://Example.COM:443/a/b?c=d&e=f#frag",
+			"http://user:pw@example.com:8080/",
+			"http://example.com./path",
+			"http://localhost",
+			"http://127.0.0.1:9090/link",
+			"http://[::1]",
+			"http://[2001:db8::1]:8080/",
+			"http://[::ffff:192.168.0.1]/",
+			"http://[1:2:3:4:5:6:7:8]",
+			"http://[fe80::1%25eth0]/",
+			"http://xn--bcher-kva.example/",
+			"http://a.com/%E2%82%AC?q=%7e",
+			"http://a.com/한글?q=값",
+			"http://a.com?",
+			"http://a.com#"
+		})
+		void valid(String url) {
+			assertEquals(UrlValidator.Result.VALID, UrlValidator.validate(url, MAX_LENGTH));
+			assertTrue(validByUri(url));
+		}
+	}
+
+	@Nested
+	@DisplayName("거절 테스트")
+	class InvalidTest {
+
+		@ParameterizedTest
+		@CsvSource(delimiter = '|', value = {
+			"'   '                          | BLANK",
+			"ftp://example.com              | INVALID_SCHEME",
+			"example.com                    | INVALID_SCHEME",
+			"javascript:alert(1)            | INVALID_SCHEME",
+			"http:example.com               | INVALID_HOST",
+			"http:///path                   | INVALID_HOST",
+			"http://                        | INVALID_HOST",
+			"http://exa_mple.com            | INVALID_HOST",
+			"http://-a.com                  | INVALID_HOST",
+			"http://a-.com                  | INVALID_HOST",
+			"http://a..com                  | INVALID_HOST",
+			"http://a.1com                  | INVALID_HOST",
+			"http://1.2.3                   | INVALID_HOST",
+			"http://256.1.1.1               | INVALID_HOST",
+			"http://a@b@c.com               | INVALID_HOST",
+			"http://a.com:8o                | INVALID_HOST",
+			"http://a.com:2147483648        | INVALID_HOST",
+			"http://[::1                    | INVALID_HOST",
+			"http://[]                      | INVALID_HOST",
+			"http://[1::2::3]               | INVALID_HOST",
+			"http://[1:2:3:4:5:6:7:8:9]     | INVALID_HOST",
+			"http://[1:2:3:4:5:6:7]         | INVALID_HOST",
+			"http://[12345::1]              | INVALID_HOST",
+			"http://[::1%]                  | INVALID_HOST",
+			"http://bücher.example          | INVALID_HOST",
+			"http://a.com/a b               | INVALID_SYNTAX",
+			"http://a.com/%zz               | INVALID_SYNTAX",
+			"http://a.com/%4                | INVALID_SYNTAX",
+			"http://a.com/<script>          | INVALID_SYNTAX",
+			"http://a.com/#a#b              | INVALID_SYNTAX"
+		})
+		void invalid(String url, UrlValidator.Result expected) {
+			assertEquals(expected, UrlValidator.validate(url, MAX_LENGTH));
+			assertFalse(validByUri(url));
+		}
+
+		@Test
+		@DisplayName("null은 BLANK, 최대 길이 초과는 TOO_LONG")
+		void blankAndTooLong() {
+			assertEquals(UrlValidator.Result.BLANK, UrlValidator.validate(null, MAX_LENGTH));
+			assertEquals(UrlValidator.Result.TOO_LONG,
+				UrlValidator.validate("http://a.com/" + "a".repeat(MAX_LENGTH), MAX_LENGTH));
+		}
+	}
+
+	@Nested
+	@DisplayName("java.net.URI 동등성 테스트")
+	class EquivalenceTest {
+
+		private static final String[] PIECES = {
+			"http://", "https://", "HTTP://", "http:", "http:/", "ftp://",
+			"a", "z", "0", "9", "255", "256", "1.2.3.4", ".", "-", "_", "~", "%", "%2", "%25", "%zz", "%41",
+			"@", "u:p@", ":", ":80", ":99999", ":2147483648", "/", "?", "#", "[", "]",
+			"[::1]", "[::]", "[fe80::1%25eth0]", "[::1%2]", "[1:2:3:4:5:6:7:8]", "[::ffff:1.2.3.4]", "[1::2::3]",
+			"ffff", "12345", "xn--bcher-kva", "한글", "é", "\u0080", " ", " ", "\t",
+			"!", "$", "&", "'", "(", ")", "*", "+", ",", ";", "=", "{", "|", "\\", "^", "`", "\"", "<",
+			"example.com", "a-b", "-a", "a-", "1.2.3", "1.2.3.4.5", "a.1", "1a", "😀"
+		};
+
+		@Test
+		@DisplayName("무작위 조합에서 허용/거절 결과가 URI 검증과 같음")
+		void randomPieces() {
+			Random random = new Random(42);
+			int validCount = 0;
+			for (int i = 0; i < 200_000; i++) {
+				StringBuilder url = new StringBuilder();
+				if (random.nextInt(4) > 0) {
+					url.append(PIECES[random.nextInt(6)]);
+				}
+				int count = random.nextInt(8);
+				for (int j = 0; j < count; j++) {
+					url.append(random.nextInt(3) == 0
+						? String.valueOf((char)(32 + random.nextInt(95)))
+						: PIECES[random.nextInt(PIECES.length)]);
+				}
+				String candidate = url.toString();
+				boolean expected = validByUri(candidate);
+				assertEquals(expected, UrlValidator.validate(candidate, MAX_LENGTH).isValid(), candidate);
+				if (expected) {
+					validCount++;
+				}
+			}
+			// 허용 입력도 충분히 섞였는지
+			assertTrue(validCount > 1000);
+		}
+
+		@Test
+		@DisplayName("authority 위주 무작위 문자열에서 허용/거절 결과가 URI 검증과 같음")
+		void randomAuthority() {
+			String alphabet = "abAB09fF:.%[]@-_~!$&'()*+,;=/?#25xné ";
+			Random random = new Random(7);
+			for (int i = 0; i < 200_000; i++) {
+				StringBuilder url = new StringBuilder(random.nextBoolean() ? "http://" : "https://");
+				int count = 1 + random.nextInt(14);
+				for (int j = 0; j < count; j++) {
+					url.append(alphabet.charAt(random.nextInt(alphabet.length())));
+				}
+				String candidate = url.toString();
+				assertEquals(validByUri(candidate), UrlValidator.validate(candidate, MAX_LENGTH).isValid(), candidate);
+			}
+		}
+	}
+}